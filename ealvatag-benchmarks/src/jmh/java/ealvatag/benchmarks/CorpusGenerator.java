@@ -0,0 +1,601 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmarks;
+
+import com.google.common.io.Files;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.ogg.util.OggCRCFactory;
+import ealvatag.audio.ogg.util.OggPageHeader;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagOptions;
+import ealvatag.tag.asf.AsfTag;
+import ealvatag.tag.asf.AsfTagTextField;
+import ealvatag.tag.flac.FlacTag;
+import ealvatag.tag.id3.AbstractID3v2Frame;
+import ealvatag.tag.id3.AbstractID3v2Tag;
+import ealvatag.tag.id3.ID3v22Frames;
+import ealvatag.tag.id3.ID3v22Tag;
+import ealvatag.tag.id3.ID3v23Frames;
+import ealvatag.tag.id3.Id3SupportingTag;
+import ealvatag.tag.id3.framebody.FrameBodyTXXX;
+import ealvatag.tag.id3.valuepair.TextEncoding;
+import ealvatag.tag.images.Artwork;
+import ealvatag.tag.images.ArtworkFactory;
+import ealvatag.tag.mp4.Mp4Tag;
+import ealvatag.tag.mp4.field.Mp4TagReverseDnsField;
+import ealvatag.tag.vorbiscomment.VorbisCommentTag;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates files of every {@link Format} with a chosen tag size, field count, artwork size, padding and audio payload length, to
+ * benchmark and soak test sizes the files in testdata don't reach.
+ * <p>
+ * The audio is a minimal stub: silent PCM, DSD or MPEG frames for WAV, AIFF, DSF and MP3, and the testdata file of the format for
+ * the others. For MP4 the payload is an extra mdat box after the template's boxes and for Ogg the template's audio pages are
+ * repeated with new sequence numbers, granule positions and checksums. FLAC and WMA keep the template's audio. The tag is written
+ * with the library's own writers. Padding is made by saving the tag with a filler field of the padding size and then saving it
+ * again without the filler, so it is whatever space the format's writer keeps when a tag shrinks.
+ * <p>
+ * Generation is deterministic: the same {@link Spec} always produces the same file.
+ */
+public final class CorpusGenerator {
+    private static final String CUSTOM_FIELD_PREFIX = "CORPUS_";
+    private static final String MP4_ISSUER = "com.ealva";
+
+    // MPEG-1 Layer III, 128 kbps, 44.1 kHz, joint stereo, no padding: 144 * 128000 / 44100 = 417 bytes
+    private static final byte[] MP3_FRAME_HEADER = {(byte)0xFF, (byte)0xFB, (byte)0x90, (byte)0x44};
+    private static final int MP3_FRAME_LENGTH = 417;
+    // about 1 MB of frames per write
+    private static final int MP3_FRAMES_PER_WRITE = 2500;
+
+    private static final int PCM_CHANNELS = 2;
+    private static final int PCM_SAMPLE_RATE = 44100;
+    private static final int PCM_BITS = 16;
+    private static final int PCM_FRAME_SIZE = PCM_CHANNELS * PCM_BITS / 8;
+    // 44100 as an 80 bit IEEE 754 extended, as AIFF stores the sample rate
+    private static final byte[] AIFF_SAMPLE_RATE_44100 = {0x40, 0x0E, (byte)0xAC, 0x44, 0, 0, 0, 0, 0, 0};
+
+    private static final int DSD_SAMPLE_RATE = 2822400;
+    private static final int DSD_BLOCK_SIZE = 4096;
+    private static final int DSD_CHUNK_SIZE = 28;
+    private static final int DSD_FMT_CHUNK_SIZE = 52;
+    private static final int DSD_DATA_HEADER_SIZE = 12;
+
+    private static final long MP4_MAX_COMPACT_BOX = 0xFFFFFFFFL;
+
+    private static final int GRANULE_POS = 6;
+    // granule position of a page on which no packet ends
+    private static final long NO_GRANULE = -1;
+
+    private final File testData;
+
+    /**
+     * @param testData directory with the template files and cover art, usually {@link Fixtures#testData()}
+     */
+    public CorpusGenerator(File testData) {
+        this.testData = testData;
+    }
+
+    /**
+     * Generate a file as described by {@code spec}
+     *
+     * @param spec      what to generate
+     * @param directory where to create it
+     * @param name      file name without the extension
+     *
+     * @return the generated file
+     *
+     * @throws Exception if the template can't be read or the tag can't be written
+     */
+    public File generate(Spec spec, File directory, String name) throws Exception {
+        final Format format = spec.format;
+        final File file = new File(directory, name + "." + format.getExtension());
+        final Random random = new Random(spec.seed);
+        switch (format) {
+            case MP3_V22:
+            case MP3_V23:
+            case MP3_V24:
+                writeMp3Stub(file, spec.payloadBytes);
+                break;
+            case WAV:
+                writeWavStub(file, spec.payloadBytes);
+                break;
+            case AIFF:
+                writeAiffStub(file, spec.payloadBytes);
+                break;
+            case DSF:
+                writeDsfStub(file, spec.payloadBytes);
+                break;
+            case MP4:
+                Files.copy(template(format), file);
+                appendMp4Payload(file, spec.payloadBytes);
+                break;
+            case OGG:
+                writeOggFromTemplate(template(format), file, spec.payloadBytes);
+                break;
+            default:
+                Files.copy(template(format), file);
+                break;
+        }
+
+        final TagOptions options = TagOptions.builder()
+                                             .id3v2Version(format.getId3v2Version())
+                                             .asfPaddingSize(spec.paddingBytes)
+                                             .build();
+        final TagOptions.Scope scope = options.enter();
+        try {
+            final AudioFile audioFile = AudioFileIO.read(file);
+            final Tag tag = audioFile.getConvertedTagOrSetNewDefault();
+            tag.setField(FieldKey.TITLE, text(random, spec.fieldLength));
+            tag.setField(FieldKey.ARTIST, text(random, spec.fieldLength));
+            tag.setField(FieldKey.ALBUM, text(random, spec.fieldLength));
+            for (int i = 0; i < spec.fieldCount; i++) {
+                addCustomField(tag, CUSTOM_FIELD_PREFIX + i, text(random, spec.fieldLength));
+            }
+            if (spec.artworkBytes > 0 && tag.getSupportedFields().contains(FieldKey.COVER_ART)) {
+                tag.setArtwork(artwork(random, spec.artworkBytes));
+            }
+            if (spec.paddingBytes > 0 && tag.getSupportedFields().contains(FieldKey.LYRICS)) {
+                tag.setField(FieldKey.LYRICS, text(random, spec.paddingBytes));
+                audioFile.save();
+                tag.deleteField(FieldKey.LYRICS);
+            }
+            audioFile.save();
+        } finally {
+            scope.close();
+        }
+        return file;
+    }
+
+    private File template(Format format) {
+        return new File(testData, format.getSourceFileName());
+    }
+
+    /**
+     * Add a text field with its own id, so each one is written as a separate frame, atom or comment
+     */
+    private static void addCustomField(Tag tag, String name, String value) throws Exception {
+        if (tag instanceof Id3SupportingTag) {
+            tag = ((Id3SupportingTag)tag).getID3Tag();
+        }
+        if (tag instanceof AbstractID3v2Tag) {
+            final AbstractID3v2Tag id3Tag = (AbstractID3v2Tag)tag;
+            final AbstractID3v2Frame frame = id3Tag.createFrame(id3Tag instanceof ID3v22Tag
+                                                                ? ID3v22Frames.FRAME_ID_V2_USER_DEFINED_INFO
+                                                                : ID3v23Frames.FRAME_ID_V3_USER_DEFINED_INFO);
+            frame.setBody(new FrameBodyTXXX(TextEncoding.ISO_8859_1, name, value));
+            id3Tag.addField(frame);
+        } else if (tag instanceof FlacTag) {
+            ((FlacTag)tag).getVorbisCommentTag().addField(name, value);
+        } else if (tag instanceof VorbisCommentTag) {
+            ((VorbisCommentTag)tag).addField(name, value);
+        } else if (tag instanceof Mp4Tag) {
+            ((Mp4Tag)tag).addField(new Mp4TagReverseDnsField(Mp4TagReverseDnsField.IDENTIFIER + ":" + MP4_ISSUER + ":" + name,
+                                                             MP4_ISSUER,
+                                                             name,
+                                                             value));
+        } else if (tag instanceof AsfTag) {
+            ((AsfTag)tag).addField(new AsfTagTextField(name, value));
+        } else {
+            throw new IllegalArgumentException("No custom fields for " + tag.getClass().getSimpleName());
+        }
+    }
+
+    private Artwork artwork(Random random, int size) throws IOException {
+        final byte[] image = Files.toByteArray(new File(testData, "coverart.jpg"));
+        final byte[] data = Arrays.copyOf(image, Math.max(size, image.length));
+        // Decoders stop at the end of image marker, so bytes after it only add to the size
+        final byte[] filler = new byte[data.length - image.length];
+        random.nextBytes(filler);
+        System.arraycopy(filler, 0, data, image.length, filler.length);
+        return ArtworkFactory.getNew().setBinaryData(data).setMimeType("image/jpeg").setPictureType(3);
+    }
+
+    private static String text(Random random, int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char)('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    private static void writeMp3Stub(File file, long payloadBytes) throws IOException {
+        final long frames = Math.max(2, payloadBytes / MP3_FRAME_LENGTH);
+        final int framesPerWrite = (int)Math.min(frames, MP3_FRAMES_PER_WRITE);
+        final ByteBuffer batch = ByteBuffer.allocate(framesPerWrite * MP3_FRAME_LENGTH);
+        for (int i = 0; i < framesPerWrite; i++) {
+            batch.position(i * MP3_FRAME_LENGTH);
+            batch.put(MP3_FRAME_HEADER);
+        }
+        try (FileChannel fc = new RandomAccessFile(file, "rw").getChannel()) {
+            for (long written = 0; written < frames; written += framesPerWrite) {
+                batch.clear();
+                batch.limit((int)Math.min(framesPerWrite, frames - written) * MP3_FRAME_LENGTH);
+                writeFully(fc, batch);
+            }
+        }
+    }
+
+    private static void writeWavStub(File file, long payloadBytes) throws IOException {
+        final long dataSize = roundUp(Math.max(PCM_FRAME_SIZE, payloadBytes), PCM_FRAME_SIZE);
+        final ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(ascii("RIFF")).putInt((int)(36 + dataSize)).put(ascii("WAVE"));
+        header.put(ascii("fmt ")).putInt(16)
+              .putShort((short)1)
+              .putShort((short)PCM_CHANNELS)
+              .putInt(PCM_SAMPLE_RATE)
+              .putInt(PCM_SAMPLE_RATE * PCM_FRAME_SIZE)
+              .putShort((short)PCM_FRAME_SIZE)
+              .putShort((short)PCM_BITS);
+        header.put(ascii("data")).putInt((int)dataSize);
+        writeSilence(file, header, dataSize);
+    }
+
+    private static void writeAiffStub(File file, long payloadBytes) throws IOException {
+        final long dataSize = roundUp(Math.max(PCM_FRAME_SIZE, payloadBytes), PCM_FRAME_SIZE);
+        final ByteBuffer header = ByteBuffer.allocate(54).order(ByteOrder.BIG_ENDIAN);
+        header.put(ascii("FORM")).putInt((int)(46 + dataSize)).put(ascii("AIFF"));
+        header.put(ascii("COMM")).putInt(18)
+              .putShort((short)PCM_CHANNELS)
+              .putInt((int)(dataSize / PCM_FRAME_SIZE))
+              .putShort((short)PCM_BITS)
+              .put(AIFF_SAMPLE_RATE_44100);
+        header.put(ascii("SSND")).putInt((int)(8 + dataSize)).putInt(0).putInt(0);
+        writeSilence(file, header, dataSize);
+    }
+
+    private static void writeDsfStub(File file, long payloadBytes) throws IOException {
+        final int blockGroup = DSD_BLOCK_SIZE * PCM_CHANNELS;
+        final long dataSize = roundUp(Math.max(blockGroup, payloadBytes), blockGroup);
+        final long fileSize = DSD_CHUNK_SIZE + DSD_FMT_CHUNK_SIZE + DSD_DATA_HEADER_SIZE + dataSize;
+        final ByteBuffer header = ByteBuffer.allocate(DSD_CHUNK_SIZE + DSD_FMT_CHUNK_SIZE + DSD_DATA_HEADER_SIZE)
+                                            .order(ByteOrder.LITTLE_ENDIAN);
+        header.put(ascii("DSD ")).putLong(DSD_CHUNK_SIZE).putLong(fileSize).putLong(0);
+        header.put(ascii("fmt ")).putLong(DSD_FMT_CHUNK_SIZE)
+              .putInt(1)                                  // format version
+              .putInt(0)                                  // DSD raw
+              .putInt(2)                                  // stereo
+              .putInt(PCM_CHANNELS)
+              .putInt(DSD_SAMPLE_RATE)
+              .putInt(1)                                  // bits per sample
+              .putLong(dataSize / PCM_CHANNELS * 8)       // samples per channel
+              .putInt(DSD_BLOCK_SIZE)
+              .putInt(0);
+        header.put(ascii("data")).putLong(DSD_DATA_HEADER_SIZE + dataSize);
+        writeSilence(file, header, dataSize);
+    }
+
+    /**
+     * Write {@code header} followed by {@code dataSize} zero bytes, which are silence for PCM and DSD. The zeros are made by extending
+     * the file, so they are sparse where the file system allows it and generating gigabytes is fast.
+     */
+    private static void writeSilence(File file, ByteBuffer header, long dataSize) throws IOException {
+        header.flip();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            writeFully(raf.getChannel(), header);
+            raf.setLength(header.limit() + dataSize);
+        }
+    }
+
+    /**
+     * Append an mdat box of {@code payloadBytes} zeros. It's not referenced by any track, so readers ignore it, but writers that move
+     * the boxes after moov have to copy it. Boxes over 4 GB use the 64 bit size.
+     */
+    private static void appendMp4Payload(File file, long payloadBytes) throws IOException {
+        if (payloadBytes <= 0) {
+            return;
+        }
+        final boolean large = payloadBytes + 8 > MP4_MAX_COMPACT_BOX;
+        final ByteBuffer header = ByteBuffer.allocate(large ? 16 : 8).order(ByteOrder.BIG_ENDIAN);
+        if (large) {
+            header.putInt(1).put(ascii("mdat")).putLong(16 + payloadBytes);
+        } else {
+            header.putInt((int)(8 + payloadBytes)).put(ascii("mdat"));
+        }
+        header.flip();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            final long start = raf.length();
+            final FileChannel fc = raf.getChannel();
+            fc.position(start);
+            writeFully(fc, header);
+            raf.setLength(start + header.limit() + payloadBytes);
+        }
+    }
+
+    /**
+     * Copy the Vorbis header pages of {@code template}, then repeat its audio pages until at least {@code payloadBytes} of audio pages
+     * are written. Each page gets the next sequence number, a granule position continuing from the previous page and a new checksum,
+     * and only the last one is marked end of stream.
+     */
+    private static void writeOggFromTemplate(File template, File file, long payloadBytes) throws IOException {
+        final List<byte[]> pages = readOggPages(Files.toByteArray(template));
+        int firstAudioPage = 0;
+        while (firstAudioPage < pages.size() && granule(pages.get(firstAudioPage)) == 0) {
+            firstAudioPage++;
+        }
+        if (firstAudioPage == pages.size()) {
+            throw new IOException(template + " has no audio pages");
+        }
+        final List<byte[]> audioPages = pages.subList(firstAudioPage, pages.size());
+        final long templateGranule = granule(audioPages.get(audioPages.size() - 1));
+
+        try (FileChannel fc = new RandomAccessFile(file, "rw").getChannel()) {
+            for (int i = 0; i < firstAudioPage; i++) {
+                writeFully(fc, ByteBuffer.wrap(pages.get(i)));
+            }
+            int sequence = firstAudioPage;
+            long granuleOffset = 0;
+            long written = 0;
+            boolean last = false;
+            while (!last) {
+                for (int i = 0; i < audioPages.size(); i++) {
+                    final byte[] page = audioPages.get(i).clone();
+                    written += page.length;
+                    last = i == audioPages.size() - 1 && written >= payloadBytes;
+                    final ByteBuffer buffer = ByteBuffer.wrap(page).order(ByteOrder.LITTLE_ENDIAN);
+                    int flags = page[OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS] & ~0x04;
+                    page[OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS] = (byte)(last ? flags | 0x04 : flags);
+                    final long granule = granule(page);
+                    if (granule != NO_GRANULE) {
+                        buffer.putLong(GRANULE_POS, granule + granuleOffset);
+                    }
+                    buffer.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, sequence++);
+                    buffer.putInt(OggPageHeader.FIELD_PAGE_CHECKSUM_POS, 0);
+                    System.arraycopy(OggCRCFactory.computeCRC(page), 0, page, OggPageHeader.FIELD_PAGE_CHECKSUM_POS, 4);
+                    writeFully(fc, ByteBuffer.wrap(page));
+                }
+                granuleOffset += templateGranule;
+            }
+        }
+    }
+
+    static List<byte[]> readOggPages(byte[] data) throws IOException {
+        final List<byte[]> pages = new ArrayList<>();
+        int position = 0;
+        while (position + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH <= data.length) {
+            if (data[position] != 'O' || data[position + 1] != 'g' || data[position + 2] != 'g' || data[position + 3] != 'S') {
+                throw new IOException("No Ogg page at " + position);
+            }
+            final int segments = data[position + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH - 1] & 0xFF;
+            int length = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + segments;
+            for (int i = 0; i < segments; i++) {
+                length += data[position + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + i] & 0xFF;
+            }
+            pages.add(Arrays.copyOfRange(data, position, position + length));
+            position += length;
+        }
+        return pages;
+    }
+
+    static long granule(byte[] page) {
+        return ByteBuffer.wrap(page).order(ByteOrder.LITTLE_ENDIAN).getLong(GRANULE_POS);
+    }
+
+    private static void writeFully(FileChannel fc, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            fc.write(buffer);
+        }
+    }
+
+    private static byte[] ascii(String id) {
+        return id.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static long roundUp(long value, long multiple) {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+
+    /**
+     * Generate a corpus: every format in each of the listed sizes.
+     * <p>
+     * Arguments: output directory, then any of {@code fields=<count>}, {@code fieldLength=<chars>}, {@code artwork=<bytes>},
+     * {@code padding=<bytes>}, {@code payload=<bytes>} and {@code seed=<long>}. Each size argument may list several values separated
+     * by commas, and a file is generated for every combination.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: CorpusGenerator <directory> [fields=n,..] [fieldLength=n,..] [artwork=n,..] [padding=n,..]"
+                               + " [payload=n,..] [seed=n]");
+            System.exit(1);
+        }
+        final File directory = new File(args[0]);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Can't create " + directory);
+        }
+        long[] fields = {Spec.DEFAULT_FIELD_COUNT};
+        long[] fieldLengths = {Spec.DEFAULT_FIELD_LENGTH};
+        long[] artwork = {0};
+        long[] padding = {0};
+        long[] payload = {Spec.DEFAULT_PAYLOAD_BYTES};
+        long seed = Spec.DEFAULT_SEED;
+        for (int i = 1; i < args.length; i++) {
+            final String[] option = args[i].split("=", 2);
+            final long[] values = parseValues(option[1]);
+            switch (option[0]) {
+                case "fields":
+                    fields = values;
+                    break;
+                case "fieldLength":
+                    fieldLengths = values;
+                    break;
+                case "artwork":
+                    artwork = values;
+                    break;
+                case "padding":
+                    padding = values;
+                    break;
+                case "payload":
+                    payload = values;
+                    break;
+                case "seed":
+                    seed = values[0];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        final CorpusGenerator generator = new CorpusGenerator(Fixtures.testData());
+        for (Format format : Format.values()) {
+            for (long fieldCount : fields) {
+                for (long fieldLength : fieldLengths) {
+                    for (long artworkBytes : artwork) {
+                        for (long paddingBytes : padding) {
+                            for (long payloadBytes : payload) {
+                                final Spec spec = Spec.builder(format)
+                                                      .fieldCount((int)fieldCount)
+                                                      .fieldLength((int)fieldLength)
+                                                      .artworkBytes((int)artworkBytes)
+                                                      .paddingBytes((int)paddingBytes)
+                                                      .payloadBytes(payloadBytes)
+                                                      .seed(seed)
+                                                      .build();
+                                final File file = generator.generate(spec, directory, spec.toString());
+                                System.out.println(file + " " + file.length());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static long[] parseValues(String list) {
+        final String[] parts = list.split(",");
+        final long[] values = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Long.parseLong(parts[i].trim());
+        }
+        return values;
+    }
+
+    /**
+     * What to generate. The MP3 formats select the ID3v2 version, which is also used for the ID3 tags of WAV, AIFF and DSF.
+     */
+    public static final class Spec {
+        public static final int DEFAULT_FIELD_COUNT = 10;
+        public static final int DEFAULT_FIELD_LENGTH = 32;
+        public static final long DEFAULT_PAYLOAD_BYTES = 64 * 1024;
+        public static final long DEFAULT_SEED = 0x5EEDL;
+
+        private final Format format;
+        private final int fieldCount;
+        private final int fieldLength;
+        private final int artworkBytes;
+        private final int paddingBytes;
+        private final long payloadBytes;
+        private final long seed;
+
+        private Spec(Builder builder) {
+            format = builder.format;
+            fieldCount = builder.fieldCount;
+            fieldLength = builder.fieldLength;
+            artworkBytes = builder.artworkBytes;
+            paddingBytes = builder.paddingBytes;
+            payloadBytes = builder.payloadBytes;
+            seed = builder.seed;
+        }
+
+        public static Builder builder(Format format) {
+            return new Builder(format);
+        }
+
+        public Format getFormat() {
+            return format;
+        }
+
+        /** @return a name describing the spec, usable as a file name */
+        @Override public String toString() {
+            return format + "-f" + fieldCount + "x" + fieldLength + "-a" + artworkBytes + "-p" + paddingBytes + "-d" + payloadBytes;
+        }
+
+        public static final class Builder {
+            private final Format format;
+            private int fieldCount = DEFAULT_FIELD_COUNT;
+            private int fieldLength = DEFAULT_FIELD_LENGTH;
+            private int artworkBytes;
+            private int paddingBytes;
+            private long payloadBytes = DEFAULT_PAYLOAD_BYTES;
+            private long seed = DEFAULT_SEED;
+
+            private Builder(Format format) {
+                this.format = format;
+            }
+
+            /** Number of custom text fields, each written as its own frame, atom or comment */
+            public Builder fieldCount(int fieldCount) {
+                this.fieldCount = checkNotNegative(fieldCount, "fieldCount");
+                return this;
+            }
+
+            /** Characters in the title, artist, album and each custom field */
+            public Builder fieldLength(int fieldLength) {
+                this.fieldLength = checkNotNegative(fieldLength, "fieldLength");
+                return this;
+            }
+
+            /** Size of the cover image, 0 for none */
+            public Builder artworkBytes(int artworkBytes) {
+                this.artworkBytes = checkNotNegative(artworkBytes, "artworkBytes");
+                return this;
+            }
+
+            /** Space to leave for the tag to grow into, 0 for whatever the writer adds by itself */
+            public Builder paddingBytes(int paddingBytes) {
+                this.paddingBytes = checkNotNegative(paddingBytes, "paddingBytes");
+                return this;
+            }
+
+            /** Length of the audio stub, the minimum that's valid for the format if smaller */
+            public Builder payloadBytes(long payloadBytes) {
+                if (payloadBytes < 0) {
+                    throw new IllegalArgumentException("payloadBytes must not be negative");
+                }
+                this.payloadBytes = payloadBytes;
+                return this;
+            }
+
+            public Builder seed(long seed) {
+                this.seed = seed;
+                return this;
+            }
+
+            public Spec build() {
+                return new Spec(this);
+            }
+
+            private static int checkNotNegative(int value, String name) {
+                if (value < 0) {
+                    throw new IllegalArgumentException(name + " must not be negative");
+                }
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmarks;
+
+import com.google.common.io.Files;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagOptions;
+import ealvatag.tag.images.ArtworkFactory;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Generates the benchmark fixtures: a copy of a testdata file of the format with a typical tag, the common text fields and a
+ * cover image, written with the format's ID3v2 version
+ */
+public final class Fixtures {
+    /** System property with the testdata directory, set by the jmh task */
+    public static final String TESTDATA_PROPERTY = "ealvatag.testdata";
+
+    private Fixtures() {
+    }
+
+    public static File testData() {
+        return new File(System.getProperty(TESTDATA_PROPERTY, "../ealvatag/testdata"));
+    }
+
+    /**
+     * @return a new temporary directory for fixtures, deleted with {@link #deleteDirectory(File)}
+     */
+    public static File createDirectory() {
+        return Files.createTempDir();
+    }
+
+    /**
+     * Create the fixture for {@code format} in {@code directory}
+     *
+     * @param format    format of the fixture
+     * @param directory where to create it
+     * @param name      file name without the extension
+     *
+     * @return the fixture file
+     *
+     * @throws Exception if the source file can't be read or the tag can't be written
+     */
+    public static File create(Format format, File directory, String name) throws Exception {
+        final File file = new File(directory, name + "." + format.getExtension());
+        Files.copy(new File(testData(), format.getSourceFileName()), file);
+
+        final TagOptions options = TagOptions.builder().id3v2Version(format.getId3v2Version()).build();
+        final TagOptions.Scope scope = options.enter();
+        try {
+            final AudioFile audioFile = AudioFileIO.read(file);
+            final Tag tag = audioFile.getConvertedTagOrSetNewDefault();
+            tag.setField(FieldKey.TITLE, "Benchmark Title");
+            tag.setField(FieldKey.ARTIST, "Benchmark Artist");
+            tag.setField(FieldKey.ALBUM, "Benchmark Album");
+            tag.setField(FieldKey.GENRE, "Rock");
+            tag.setField(FieldKey.YEAR, "2017");
+            tag.setField(FieldKey.TRACK, "3");
+            tag.setField(FieldKey.COMMENT, "Generated benchmark fixture");
+            if (tag.getSupportedFields().contains(FieldKey.COVER_ART)) {
+                tag.setArtwork(ArtworkFactory.createArtworkFromFile(new File(testData(), "coverart.jpg")));
+            }
+            audioFile.save();
+        } finally {
+            scope.close();
+        }
+        return file;
+    }
+
+    public static void deleteDirectory(File directory) throws IOException {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (!file.delete()) {
+                    throw new IOException("Could not delete " + file);
+                }
+            }
+        }
+        if (!directory.delete()) {
+            throw new IOException("Could not delete " + directory);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmarks;
+
+import com.google.common.io.Files;
+import ealvatag.tag.reference.ID3V2Version;
+
+/**
+ * The formats benchmarked, each with the file in testdata its fixture is generated from and, for MP3, the ID3v2 version of the
+ * generated tag
+ */
+public enum Format {
+    MP3_V22("testV1.mp3", ID3V2Version.ID3_V22),
+    MP3_V23("testV1.mp3", ID3V2Version.ID3_V23),
+    MP3_V24("testV1.mp3", ID3V2Version.ID3_V24),
+    MP4("test.m4a"),
+    FLAC("test.flac"),
+    OGG("test.ogg"),
+    WMA("test1.wma"),
+    WAV("test.wav"),
+    AIFF("test119.aif"),
+    DSF("test122.dsf");
+
+    private final String sourceFileName;
+    private final ID3V2Version id3v2Version;
+
+    Format(String sourceFileName) {
+        this(sourceFileName, ID3V2Version.ID3_V23);
+    }
+
+    Format(String sourceFileName, ID3V2Version id3v2Version) {
+        this.sourceFileName = sourceFileName;
+        this.id3v2Version = id3v2Version;
+    }
+
+    public String getSourceFileName() {
+        return sourceFileName;
+    }
+
+    public String getExtension() {
+        return Files.getFileExtension(sourceFileName);
+    }
+
+    /**
+     * @return version of the ID3v2 tag written to formats which use ID3
+     */
+    public ID3V2Version getId3v2Version() {
+        return id3v2Version;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmarks;
+
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+
+/**
+ * Reads a fixture of each format, with and without artwork
+ */
+@State(Scope.Benchmark)
+public class ReadBenchmark {
+    @Param public Format format;
+
+    private File directory;
+    private File file;
+
+    @Setup public void setUp() throws Exception {
+        directory = Fixtures.createDirectory();
+        file = Fixtures.create(format, directory, "read");
+    }
+
+    @TearDown public void tearDown() throws Exception {
+        Fixtures.deleteDirectory(directory);
+    }
+
+    @Benchmark public AudioFile read() throws Exception {
+        return AudioFileIO.read(file);
+    }
+
+    @Benchmark public AudioFile readIgnoreArtwork() throws Exception {
+        return AudioFileIO.readIgnoreArtwork(file);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmarks;
+
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+
+/**
+ * Saves a fixture of each format after changing its title. The title alternates between two values of the same length so every
+ * save writes a tag of the same size, as when a library edits tags in place.
+ */
+@State(Scope.Benchmark)
+public class SaveBenchmark {
+    @Param public Format format;
+
+    private File directory;
+    private AudioFile audioFile;
+    private Tag tag;
+    private TagOptions options;
+    private boolean flip;
+
+    @Setup public void setUp() throws Exception {
+        directory = Fixtures.createDirectory();
+        options = TagOptions.builder().id3v2Version(format.getId3v2Version()).build();
+        audioFile = AudioFileIO.read(Fixtures.create(format, directory, "save"), options);
+        tag = audioFile.getTag().get();
+    }
+
+    @TearDown public void tearDown() throws Exception {
+        Fixtures.deleteDirectory(directory);
+    }
+
+    @Benchmark public void save() throws Exception {
+        flip = !flip;
+        tag.setField(FieldKey.TITLE, flip ? "Benchmark Title A" : "Benchmark Title B");
+        audioFile.save(options);
+    }
+}
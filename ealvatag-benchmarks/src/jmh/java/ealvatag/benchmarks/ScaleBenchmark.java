@@ -0,0 +1,67 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmarks;
+
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+
+/**
+ * Reads files generated by the {@link CorpusGenerator} with large tags, large artwork and a large audio payload, to show how reading
+ * scales with each of them
+ */
+@State(Scope.Benchmark)
+public class ScaleBenchmark {
+    @Param public Format format;
+
+    @Param({"10", "5000"}) public int fieldCount;
+
+    @Param({"0", "10485760"}) public int artworkBytes;
+
+    @Param({"65536", "104857600"}) public long payloadBytes;
+
+    private File directory;
+    private File file;
+
+    @Setup public void setUp() throws Exception {
+        directory = Fixtures.createDirectory();
+        final CorpusGenerator.Spec spec = CorpusGenerator.Spec.builder(format)
+                                                              .fieldCount(fieldCount)
+                                                              .artworkBytes(artworkBytes)
+                                                              .payloadBytes(payloadBytes)
+                                                              .build();
+        file = new CorpusGenerator(Fixtures.testData()).generate(spec, directory, "scale");
+    }
+
+    @TearDown public void tearDown() throws Exception {
+        Fixtures.deleteDirectory(directory);
+    }
+
+    @Benchmark public AudioFile read() throws Exception {
+        return AudioFileIO.read(file);
+    }
+
+    @Benchmark public AudioFile readIgnoreArtwork() throws Exception {
+        return AudioFileIO.readIgnoreArtwork(file);
+    }
+}
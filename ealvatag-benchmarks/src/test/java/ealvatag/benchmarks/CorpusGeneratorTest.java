@@ -0,0 +1,105 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmarks;
+
+import com.google.common.io.Files;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.ogg.util.OggCRCFactory;
+import ealvatag.audio.ogg.util.OggPageHeader;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generate every {@link Format} at a small size and read it back
+ */
+public class CorpusGeneratorTest {
+    private static final int FIELD_COUNT = 3;
+    private static final int ARTWORK_BYTES = 8000;
+    // more than the audio pages of the Ogg template, so they are repeated
+    private static final long PAYLOAD_BYTES = 100 * 1024;
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test public void testEveryFormat() throws Exception {
+        final CorpusGenerator generator = new CorpusGenerator(Fixtures.testData());
+        for (Format format : Format.values()) {
+            final File file = generator.generate(spec(format, FIELD_COUNT), folder.newFolder(format + "-a"), "corpus");
+            final File again = generator.generate(spec(format, FIELD_COUNT), folder.newFolder(format + "-b"), "corpus");
+            Assert.assertTrue(format + " is deterministic", Files.equal(file, again));
+
+            final File noFields = generator.generate(spec(format, 0), folder.newFolder(format + "-c"), "corpus");
+            final Tag tag = AudioFileIO.read(file).getTag().get();
+            Assert.assertEquals(format.toString(),
+                                FIELD_COUNT,
+                                tag.getFieldCount() - AudioFileIO.read(noFields).getTag().get().getFieldCount());
+            if (tag.getSupportedFields().contains(FieldKey.COVER_ART)) {
+                Assert.assertEquals(format.toString(), ARTWORK_BYTES, tag.getFirstArtwork().get().getBinaryData().length);
+            }
+        }
+    }
+
+    @Test public void testOggPagesAreRenumbered() throws Exception {
+        final CorpusGenerator generator = new CorpusGenerator(Fixtures.testData());
+        final File file = generator.generate(spec(Format.OGG, FIELD_COUNT), folder.getRoot(), "corpus");
+        final File template = new File(Fixtures.testData(), Format.OGG.getSourceFileName());
+        final List<byte[]> pages = CorpusGenerator.readOggPages(Files.toByteArray(file));
+        final List<byte[]> templatePages = CorpusGenerator.readOggPages(Files.toByteArray(template));
+        Assert.assertTrue(pages.size() > templatePages.size());
+
+        long previousGranule = 0;
+        for (int i = 0; i < pages.size(); i++) {
+            final byte[] page = pages.get(i);
+            final ByteBuffer buffer = ByteBuffer.wrap(page).order(ByteOrder.LITTLE_ENDIAN);
+            Assert.assertEquals(i, buffer.getInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS));
+
+            final int checksumEnd = OggPageHeader.FIELD_PAGE_CHECKSUM_POS + 4;
+            final byte[] checksum = Arrays.copyOfRange(page, OggPageHeader.FIELD_PAGE_CHECKSUM_POS, checksumEnd);
+            final byte[] unchecked = page.clone();
+            Arrays.fill(unchecked, OggPageHeader.FIELD_PAGE_CHECKSUM_POS, checksumEnd, (byte)0);
+            Assert.assertArrayEquals("checksum of page " + i, OggCRCFactory.computeCRC(unchecked), checksum);
+
+            final boolean endOfStream = (page[OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS] & 0x04) != 0;
+            Assert.assertEquals("end of stream flag of page " + i, i == pages.size() - 1, endOfStream);
+
+            final long granule = CorpusGenerator.granule(page);
+            if (granule != -1) {
+                Assert.assertTrue("granule of page " + i, granule >= previousGranule);
+                previousGranule = granule;
+            }
+        }
+        Assert.assertTrue(AudioFileIO.read(file).getAudioHeader().getDuration(TimeUnit.MILLISECONDS, false) > 0);
+    }
+
+    private static CorpusGenerator.Spec spec(Format format, int fieldCount) {
+        return CorpusGenerator.Spec.builder(format)
+                                   .fieldCount(fieldCount)
+                                   .fieldLength(8)
+                                   .artworkBytes(ARTWORK_BYTES)
+                                   .payloadBytes(PAYLOAD_BYTES)
+                                   .build();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmarks;
+
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.iff.ChunkScanner;
+import ealvatag.audio.iff.ChunkSummary;
+import ealvatag.tag.FieldKey;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Read files whose audio chunk is 2 GB or more, so its size doesn't fit in a signed int. The generator extends the files
+ * without writing the silence, so they are sparse where the file system allows it.
+ */
+public class LargeChunkTest {
+    private static final long PAYLOAD_BYTES = 3L * 1024 * 1024 * 1024;
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test public void testWavDataChunkOver2GB() throws Exception {
+        final File file = generate(Format.WAV);
+        Assert.assertEquals(PAYLOAD_BYTES, scanChunkSize(file, ByteOrder.LITTLE_ENDIAN, "data"));
+        assertReadable(file, PAYLOAD_BYTES);
+    }
+
+    @Test public void testAiffSoundChunkOver2GB() throws Exception {
+        final File file = generate(Format.AIFF);
+        // the sound chunk starts with an offset and a block size
+        Assert.assertEquals(PAYLOAD_BYTES + 8, scanChunkSize(file, ByteOrder.BIG_ENDIAN, "SSND"));
+        // the whole chunk counts as audio data
+        assertReadable(file, PAYLOAD_BYTES + 8);
+    }
+
+    private File generate(Format format) throws Exception {
+        final CorpusGenerator.Spec spec = CorpusGenerator.Spec.builder(format).payloadBytes(PAYLOAD_BYTES).build();
+        return new CorpusGenerator(Fixtures.testData()).generate(spec, folder.getRoot(), "large");
+    }
+
+    private static long scanChunkSize(File file, ByteOrder byteOrder, String chunkId) throws Exception {
+        try (FileChannel fc = new RandomAccessFile(file, "r").getChannel()) {
+            // after the RIFF/FORM header
+            fc.position(12);
+            for (ChunkSummary chunk : new ChunkScanner(byteOrder).scan(fc, file.getName())) {
+                if (chunk.getChunkId().equals(chunkId)) {
+                    return chunk.getChunkSize();
+                }
+            }
+        }
+        throw new AssertionError("No " + chunkId + " chunk in " + file);
+    }
+
+    private static void assertReadable(File file, long audioDataLength) throws Exception {
+        final AudioFile audioFile = AudioFileIO.read(file);
+        Assert.assertEquals(audioDataLength, audioFile.getAudioHeader().getAudioDataLength());
+        Assert.assertFalse(audioFile.getTag().get().getFirst(FieldKey.TITLE).isEmpty());
+    }
+}
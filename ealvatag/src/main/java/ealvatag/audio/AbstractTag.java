@@ -42,6 +42,7 @@ import ealvatag.tag.Key;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagField;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.TagSnapshot;
 import ealvatag.tag.TagTextField;
 import ealvatag.tag.UnsupportedFieldException;
 import ealvatag.tag.images.Artwork;
@@ -54,9 +55,7 @@ import static ealvatag.utils.Check.checkArgNotNullOrEmpty;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This class is the default implementation for
@@ -67,12 +66,20 @@ import java.util.Map;
  */
 public abstract class AbstractTag implements TagFieldContainer {
 
-  private static final List<TagField> EMPTY_TAG_FIELD_LIST = ImmutableList.of();
-
   private boolean readOnly;
 
   protected AbstractTag(final boolean readOnly) {
+    this(readOnly, new LinkedTagFieldStore());
+  }
+
+  /**
+   * @param readOnly  is the tag read only
+   * @param fields    holds the fields of this tag. See {@link CompactTagFieldStore} for tags that edit rarely but may be held in
+   *                  memory in large numbers
+   */
+  protected AbstractTag(final boolean readOnly, final TagFieldStore fields) {
     this.readOnly = readOnly;
+    this.fields = fields;
   }
 
 
@@ -83,12 +90,11 @@ public abstract class AbstractTag implements TagFieldContainer {
   private int commonNumber = 0;
 
   /**
-   * This map stores the {@linkplain TagField#getId() ids} of the stored
-   * fields to the {@linkplain TagField fields} themselves. Because a linked hashMap is used the order
-   * that they are added in is preserved, the only exception to this rule is when two fields of the same id
-   * exist, both will be returned according to when the first item was added to the file. <br>
+   * This stores the {@linkplain TagField#getId() ids} of the stored fields to the {@linkplain TagField fields} themselves. The
+   * order that they are added in is preserved, the only exception to this rule is when two fields of the same id exist, both
+   * will be returned according to when the first item was added to the file. <br>
    */
-  private Map<String, List<TagField>> fields = new LinkedHashMap<>();
+  private final TagFieldStore fields;
 
   public List<String> getAll(String id) {
     List<String> fields = new ArrayList<>();
@@ -130,11 +136,11 @@ public abstract class AbstractTag implements TagFieldContainer {
    */
   @Override
   public boolean isEmpty() {
-    return fields.size() == 0;
+    return fields.idCount() == 0;
   }
 
   protected int getFieldsMapSize() {
-    return fields.size();
+    return fields.idCount();
   }
 
   /**
@@ -142,11 +148,10 @@ public abstract class AbstractTag implements TagFieldContainer {
    *
    * @param id the tag field key
    *
-   * @return associated list. Empty if no such field exists
+   * @return associated unmodifiable list. Empty if no such field exists
    */
   protected List<TagField> getFieldList(final String id) {
-    final List<TagField> list = fields.get(id);
-    return list == null ? EMPTY_TAG_FIELD_LIST : list;
+    return fields.get(id);
   }
 
   @Override
@@ -170,29 +175,18 @@ public abstract class AbstractTag implements TagFieldContainer {
 
   /**
    * Return field count
-   * <p>
-   * TODO:There must be a more efficient way to do this.
    *
    * @return field count
    */
   @Override
   public int getFieldCount() {
-    getAll().size();
-    Iterator it = getFields();
-    int count = 0;
-    while (it.hasNext()) {
-      count++;
-      it.next();
-    }
-    return count;
+    return fields.fieldCount();
   }
 
   public List<TagField> getAll() {
-    List<TagField> fieldList = new ArrayList<>();
-    for (List<TagField> listOfFields : fields.values()) {
-      for (TagField next : listOfFields) {
-        fieldList.add(next);
-      }
+    List<TagField> fieldList = new ArrayList<>(fields.fieldCount());
+    for (TagField next : fields) {
+      fieldList.add(next);
     }
     return fieldList;
   }
@@ -226,8 +220,8 @@ public abstract class AbstractTag implements TagFieldContainer {
 
   @Override
   public String getFirst(String id) throws IllegalArgumentException, UnsupportedFieldException {
-    List<TagField> l = getFieldList(id);
-    return (l.size() != 0) ? l.get(0).toString() : "";
+    TagField field = fields.getFirst(id);
+    return field != null ? field.toString() : "";
   }
 
   public Tag deleteField(final String id) throws IllegalArgumentException, UnsupportedFieldException {
@@ -304,58 +298,18 @@ public abstract class AbstractTag implements TagFieldContainer {
 
   @Override
   public Iterator<TagField> getFields() {
-    final Iterator<Map.Entry<String, List<TagField>>> it = this.fields.entrySet().iterator();
-    return new Iterator<TagField>() {
-      private Iterator<TagField> fieldsIt;
-
-      @Override
-      public boolean hasNext() {
-        if (fieldsIt == null) {
-          changeIt();
-        }
-        return it.hasNext() || (fieldsIt != null && fieldsIt.hasNext());
-      }
-
-      private void changeIt() {
-        if (!it.hasNext()) {
-          return;
-        }
-
-        Map.Entry<String, List<TagField>> e = it.next();
-        List<TagField> l = e.getValue();
-        fieldsIt = l.iterator();
-      }
-
-      @Override
-      public TagField next() {
-        if (!fieldsIt.hasNext()) {
-          changeIt();
-        }
-
-        return fieldsIt.next();
-      }
-
-      @Override
-      public void remove() {
-        fieldsIt.remove();
-      }
-    };
+    return fields.iterator();
   }
 
   @Override
   public ImmutableList<TagField> getFields(String id) {
-    final List<TagField> tagFields = fields.get(id);
-    if (tagFields == null) {
-      return ImmutableList.of();
-    }
-    return ImmutableList.copyOf(tagFields);
+    return ImmutableList.copyOf(fields.get(id));
   }
 
 
   @Override
   public Optional<TagField> getFirstField(String id) throws IllegalArgumentException, UnsupportedFieldException {
-    List<TagField> l = getFieldList(id);
-    return l.size() != 0 ? Optional.fromNullable(l.get(0)) : Optional.<TagField>absent();
+    return Optional.fromNullable(fields.getFirst(id));
   }
 
   @Override
@@ -364,19 +318,8 @@ public abstract class AbstractTag implements TagFieldContainer {
       return;
     }
 
-    // If there is already an existing field with same id
-    // and both are TextFields, we replace the first element
-    List<TagField> list = fields.get(field.getId());
-    if (list != null) {
-      list.set(0, field);
-      return;
-    }
-
-    // Else we put the new field in the fields.
-    list = new ArrayList<>();
-    list.add(field);
-    fields.put(field.getId(), list);
-    if (field.isCommon()) {
+    // If there is already an existing field with same id we replace the first element, else we put the new field in the fields.
+    if (fields.set(field) && field.isCommon()) {
       commonNumber++;
     }
   }
@@ -385,19 +328,9 @@ public abstract class AbstractTag implements TagFieldContainer {
     if (field == null) {
       return;
     }
-    List<TagField> list = fields.get(field.getId());
-
-    // There was no previous item
-    if (list == null) {
-      list = new ArrayList<>();
-      list.add(field);
-      fields.put(field.getId(), list);
-      if (field.isCommon()) {
-        commonNumber++;
-      }
-    } else {
-      // We append to existing list
-      list.add(field);
+    // Appended to any existing fields of the same id
+    if (fields.add(field) && field.isCommon()) {
+      commonNumber++;
     }
   }
 
@@ -422,4 +355,8 @@ public abstract class AbstractTag implements TagFieldContainer {
     checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
     return ImmutableList.copyOf(getFieldList(genericKey.name()));
   }
+
+  @Override public TagSnapshot snapshot() {
+    return TagSnapshot.of(this);
+  }
 }
@@ -18,9 +18,11 @@
 package ealvatag.audio;
 
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ListenableFuture;
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.TagOptions;
 import ealvatag.tag.reference.ID3V2Version;
 
 import java.io.File;
@@ -48,6 +50,33 @@ public interface AudioFile {
    */
   void save() throws CannotWriteException;
 
+  /**
+   * Write the tag contained in this AudioFile in the actual file on the disk, on the executor used by
+   * {@link AudioFileIO#readAsync(File)}. Don't modify the tag until the returned future completes.
+   *
+   * @return a future completing when the file is written, failing with the {@link CannotWriteException} {@link #save()} would throw
+   */
+  ListenableFuture<Void> saveAsync();
+
+  /**
+   * Write the tag contained in this AudioFile in the actual file on the disk, using {@code options} instead of the shared
+   * {@link TagOptionSingleton}
+   *
+   * @param options options for this write
+   *
+   * @throws CannotWriteException If the file could not be written/accessed, the extension wasn't recognized, or other IO error occurred.
+   */
+  void save(TagOptions options) throws CannotWriteException;
+
+  /**
+   * Same as {@link #saveAsync()}, using {@code options} for the write
+   *
+   * @param options options for this write
+   *
+   * @return a future completing when the file is written
+   */
+  ListenableFuture<Void> saveAsync(TagOptions options);
+
   void saveAs(final String fullPathWithoutExtension) throws IllegalArgumentException, CannotWriteException;
 
   /**
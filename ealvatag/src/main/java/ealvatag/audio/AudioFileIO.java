@@ -20,6 +20,10 @@ package ealvatag.audio;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import ealvatag.audio.aiff.AiffFileReader;
 import ealvatag.audio.aiff.AiffFileWriter;
 import ealvatag.audio.asf.AsfFileReader;
@@ -42,10 +46,16 @@ import ealvatag.audio.wav.WavFileReader;
 import ealvatag.audio.wav.WavFileWriter;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.tag.TagException;
+import ealvatag.tag.TagOptions;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The main entry point for the Tag Reading/Writing operations, this class will
@@ -63,20 +73,23 @@ import java.util.Locale;
  */
 @SuppressWarnings("unused") public class AudioFileIO {
 
-    private static AudioFileIO defaultInstance;
+    /** Number of threads of the default executor used by the asynchronous reads and writes */
+    public static final int DEFAULT_IO_THREADS = 4;
+    private static final long IDLE_SECONDS = 60;
+
+    private static volatile ListeningExecutorService ioExecutor;
+    private static volatile AudioFileIOListener ioListener = NullAudioFileIOListener.INSTANCE;
     private final ModificationHandler modificationHandler;
     private final ImmutableMap<String, AudioFileReaderFactory> readerFactories;
     private final ImmutableMap<String, AudioFileWriterFactory> writerFactories;
 
     static AudioFileIO instance() {
-        if (defaultInstance == null) {
-            synchronized (AudioFileIO.class) {
-                if (defaultInstance == null) {
-                    defaultInstance = new AudioFileIO();
-                }
-            }
-        }
-        return defaultInstance;
+        return Holder.INSTANCE;
+    }
+
+    /** Created on first use by the class loader, so getting the instance never takes a lock */
+    private static final class Holder {
+        static final AudioFileIO INSTANCE = new AudioFileIO();
     }
 
     /**
@@ -99,6 +112,33 @@ import java.util.Locale;
         return instance().readFile(f, false);
     }
 
+    /**
+     * Read the tag contained in the given file using {@code options} instead of the shared {@link ealvatag.tag.TagOptionSingleton}
+     *
+     * @param f       The file to read.
+     * @param options options for this read
+     *
+     * @return The AudioFile with the file tag and the file encoding info.
+     *
+     * @throws CannotReadException        If the file could not be read, the extension wasn't recognized, or an IO error occurred during the
+     *                                    read.
+     * @throws TagException               various tag exceptions (to be refactored)
+     * @throws java.io.IOException        if error reading
+     * @throws InvalidAudioFrameException if audio frame is corrupted
+     * @see AudioFile#save(TagOptions)
+     */
+    public static AudioFile read(File f, TagOptions options) throws CannotReadException,
+                                                                    IOException,
+                                                                    TagException,
+                                                                    InvalidAudioFrameException {
+        final TagOptions.Scope scope = options.enter();
+        try {
+            return instance().readFile(f, false);
+        } finally {
+            scope.close();
+        }
+    }
+
     /**
      * Read the tag contained in the given file, but ignore any artwork fields. In a memory constrained environment (Android) doing batch
      * reads, this is a very large performance improvement.
@@ -125,6 +165,90 @@ import java.util.Locale;
         return instance().readFile(f, true);
     }
 
+    /**
+     * Read the tag contained in the given file on the I/O executor, see {@link #setIoExecutor(ExecutorService)}. Many files may be
+     * in flight at once while only the executor's threads block on disk or network reads.
+     *
+     * @param f The file to read.
+     *
+     * @return a future of the AudioFile, failing with the same exceptions {@link #read(File)} throws
+     */
+    public static ListenableFuture<AudioFile> readAsync(final File f) {
+        return ioExecutor().submit(new Callable<AudioFile>() {
+            @Override public AudioFile call() throws Exception {
+                return instance().readFile(f, false);
+            }
+        });
+    }
+
+    /**
+     * Read the tag contained in the given file on the I/O executor using {@code options}
+     *
+     * @param f       The file to read.
+     * @param options options for this read
+     *
+     * @return a future of the AudioFile, failing with the same exceptions {@link #read(File, TagOptions)} throws
+     */
+    public static ListenableFuture<AudioFile> readAsync(final File f, final TagOptions options) {
+        return ioExecutor().submit(new Callable<AudioFile>() {
+            @Override public AudioFile call() throws Exception {
+                return read(f, options);
+            }
+        });
+    }
+
+    /**
+     * Read the tag contained in the given file on the I/O executor, ignoring any artwork fields.
+     *
+     * @param f The file to read.
+     *
+     * @return a future of the read-only AudioFile, failing with the same exceptions {@link #readIgnoreArtwork(File)} throws
+     *
+     * @see #readIgnoreArtwork(File)
+     * @see #readAsync(File)
+     */
+    public static ListenableFuture<AudioFile> readIgnoreArtworkAsync(final File f) {
+        return ioExecutor().submit(new Callable<AudioFile>() {
+            @Override public AudioFile call() throws Exception {
+                return instance().readFile(f, true);
+            }
+        });
+    }
+
+    /**
+     * Set the executor the asynchronous reads and writes run on, overriding the default pool of {@link #DEFAULT_IO_THREADS} daemon
+     * threads. The executor bounds how many files are read or written at the same time, so size it for the storage rather than for
+     * the number of cores. A previous executor is not shut down, that's up to whoever created it.
+     * <p>
+     * The default pool is created on first use. Its threads exit after being idle for a while, so it never needs shutting down.
+     *
+     * @param executor executor for asynchronous reads and writes, or null to go back to the default pool
+     */
+    public static void setIoExecutor(ExecutorService executor) {
+        ioExecutor = executor == null ? null : MoreExecutors.listeningDecorator(executor);
+    }
+
+    /**
+     * Set the listener told the time and I/O of each phase of every read and write, see {@link IoPhase}. Operations already
+     * started keep reporting to the previous listener.
+     *
+     * @param listener the listener, or null for the default {@link NullAudioFileIOListener} which turns the instrumentation off
+     *
+     * @see HistogramAudioFileIOListener
+     */
+    public static void setIoListener(AudioFileIOListener listener) {
+        ioListener = NullAudioFileIOListener.nullToNullInstance(listener);
+    }
+
+    public static AudioFileIOListener getIoListener() {
+        return ioListener;
+    }
+
+    static ListeningExecutorService ioExecutor() {
+        final ListeningExecutorService executor = ioExecutor;
+        return executor != null ? executor : DefaultIoExecutor.INSTANCE;
+    }
+
     /**
      * Read the tag contained in the given file.
      *
@@ -410,4 +534,23 @@ import java.util.Locale;
 //        this.modificationHandler.removeAudioFileModificationListener(listener);
 //    }
 
+    /**
+     * Holds the default I/O executor, so it's only created when an asynchronous read or write is made without an executor set
+     */
+    private static final class DefaultIoExecutor {
+        static final ListeningExecutorService INSTANCE = MoreExecutors.listeningDecorator(newDefaultIoExecutor());
+
+        private static ExecutorService newDefaultIoExecutor() {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_IO_THREADS,
+                                                                       DEFAULT_IO_THREADS,
+                                                                       IDLE_SECONDS,
+                                                                       TimeUnit.SECONDS,
+                                                                       new LinkedBlockingQueue<Runnable>(),
+                                                                       new ThreadFactoryBuilder().setDaemon(true)
+                                                                                                 .setNameFormat("ealvatag-io-%d")
+                                                                                                 .build());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
 }
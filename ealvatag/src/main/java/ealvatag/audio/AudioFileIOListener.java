@@ -0,0 +1,43 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import java.io.File;
+
+/**
+ * Receives the time and I/O spent in each {@link IoPhase} of reads and writes, set with
+ * {@link AudioFileIO#setIoListener(AudioFileIOListener)}. A phase is reported when it completes, and may be reported more than once
+ * for one operation. Calls come from whichever thread did the work, so implementations must be thread safe and should return
+ * quickly.
+ *
+ * @see HistogramAudioFileIOListener
+ */
+public interface AudioFileIOListener {
+
+    /**
+     * Notifies that {@code phase} of an operation on {@code file} completed
+     *
+     * @param file         the file read or written
+     * @param phase        the phase which completed
+     * @param nanos        time spent in the phase
+     * @param bytesRead    bytes read from the file during the phase
+     * @param bytesWritten bytes written during the phase, to the file or its temporary copy
+     * @param ioCalls      read, write, transfer and rename calls made during the phase. Formats which read through a
+     *                     {@link java.io.RandomAccessFile} rather than a channel report only the calls and bytes the library can
+     *                     observe.
+     */
+    void phaseCompleted(File file, IoPhase phase, long nanos, long bytesRead, long bytesWritten, long ioCalls);
+}
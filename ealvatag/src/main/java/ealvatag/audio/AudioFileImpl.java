@@ -21,10 +21,13 @@ package ealvatag.audio;
 import com.google.common.base.Optional;
 import com.google.common.base.Supplier;
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.TagOptions;
 import ealvatag.tag.id3.AbstractID3v2Tag;
 import ealvatag.tag.id3.ID3v22Tag;
 import ealvatag.tag.id3.ID3v23Tag;
@@ -40,6 +43,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
 
 /**
  * <p>This is the main object manipulated by the user representing an audiofile, its properties and its tag.
@@ -96,6 +100,43 @@ public class AudioFileImpl implements AudioFile {
     AudioFileIO.instance().writeFile(this);
   }
 
+  @Override public ListenableFuture<Void> saveAsync() {
+    try {
+      checkReadOnly();
+    } catch (CannotWriteException e) {
+      return Futures.immediateFailedFuture(e);
+    }
+    return AudioFileIO.ioExecutor().submit(new Callable<Void>() {
+      @Override public Void call() throws Exception {
+        save();
+        return null;
+      }
+    });
+  }
+
+  @Override public void save(final TagOptions options) throws CannotWriteException {
+    final TagOptions.Scope scope = options.enter();
+    try {
+      save();
+    } finally {
+      scope.close();
+    }
+  }
+
+  @Override public ListenableFuture<Void> saveAsync(final TagOptions options) {
+    try {
+      checkReadOnly();
+    } catch (CannotWriteException e) {
+      return Futures.immediateFailedFuture(e);
+    }
+    return AudioFileIO.ioExecutor().submit(new Callable<Void>() {
+      @Override public Void call() throws Exception {
+        save(options);
+        return null;
+      }
+    });
+  }
+
   private void checkReadOnly() throws CannotWriteException {
     if (tag != null && tag.isReadOnly()) {
       throw new CannotWriteException("Opened read only");
@@ -78,9 +78,11 @@ public abstract class AudioFileReader {
                                                             TagException,
                                                             InvalidAudioFrameException {
     LOG.log(LogLevel.TRACE, ErrorMessage.GENERAL_READ, file);
+    final IoPhaseRecorder recorder = IoPhaseRecorder.start(file);
     try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      recorder.phaseCompleted(IoPhase.OPEN);
       raf.seek(0);
-      return makeAudioFile(raf, file, extension, ignoreArtwork);
+      return makeAudioFile(raf, file, extension, ignoreArtwork, recorder);
     }
 //        catch (Exception e) {
 //            LOG.log(LogLevel.ERROR, ErrorMessage.GENERAL_READ.getMsg(file.getAbsolutePath()), e);
@@ -96,6 +98,8 @@ public abstract class AudioFileReader {
    * @param file          file information
    * @param extension     the file extension that was used to identify the file type
    * @param ignoreArtwork
+   * @param recorder      reports the phases of the read. Reads of the {@link RandomAccessFile} aren't counted, so the file length
+   *                      is reported as the bytes read
    *
    * @return an {@link AudioFile} containing the parsed header and tag
    *
@@ -105,9 +109,13 @@ public abstract class AudioFileReader {
   private AudioFile makeAudioFile(final RandomAccessFile raf,
                                   final File file,
                                   final String extension,
-                                  final boolean ignoreArtwork) throws CannotReadException, IOException {
+                                  final boolean ignoreArtwork,
+                                  final IoPhaseRecorder recorder) throws CannotReadException, IOException {
     GenericAudioHeader info = getEncodingInfo(raf);
+    recorder.phaseCompleted(IoPhase.AUDIO_HEADER);
     raf.seek(0);
-    return new AudioFileImpl(file, extension, info, getTag(raf, ignoreArtwork));
+    final TagFieldContainer tag = getTag(raf, ignoreArtwork);
+    recorder.phaseCompleted(IoPhase.TAG_READ, file.length(), 0, 0);
+    return new AudioFileImpl(file, extension, info, tag);
   }
 }
@@ -54,17 +54,32 @@ public abstract class AudioFileReader2 extends AudioFileReader {
       throws CannotReadException, IOException, TagException, InvalidAudioFrameException {
     LOG.log(DEBUG, ErrorMessage.GENERAL_READ, f);
 
-    try (FileChannel channel = new RandomAccessFile(f, "r").getChannel()) {
-      final String absolutePath = f.getAbsolutePath();
-      GenericAudioHeader info = getEncodingInfo(channel, absolutePath);
-      channel.position(0);
-      return new AudioFileImpl(f, extension, info, getTag(channel, absolutePath, ignoreArtwork));
+    final IoPhaseRecorder recorder = IoPhaseRecorder.start(f);
+    try (FileChannel channel = recorder.count(new RandomAccessFile(f, "r").getChannel())) {
+      recorder.phaseCompleted(IoPhase.OPEN);
+      return read(channel, f, extension, ignoreArtwork);
     } catch (FileNotFoundException e) {
       LOG.log(WARN, e, "Unable to read file: %s", f);
       throw e;
     }
   }
 
+  /**
+   * Reads the encoding info and then the tag from the open channel of {@code f}. Formats which can share work between the
+   * two override this, reporting their phases to {@link IoPhaseRecorder#of(FileChannel)}.
+   */
+  protected AudioFileImpl read(FileChannel channel, File f, final String extension, final boolean ignoreArtwork)
+      throws CannotReadException, IOException, TagException, InvalidAudioFrameException {
+    final String absolutePath = f.getAbsolutePath();
+    final IoPhaseRecorder recorder = IoPhaseRecorder.of(channel);
+    GenericAudioHeader info = getEncodingInfo(channel, absolutePath);
+    recorder.phaseCompleted(IoPhase.AUDIO_HEADER);
+    channel.position(0);
+    final TagFieldContainer tag = getTag(channel, absolutePath, ignoreArtwork);
+    recorder.phaseCompleted(IoPhase.TAG_READ);
+    return new AudioFileImpl(f, extension, info, tag);
+  }
+
   /**
    * Read Encoding Information
    */
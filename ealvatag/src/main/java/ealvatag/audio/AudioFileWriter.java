@@ -257,6 +257,7 @@ public abstract class AudioFileWriter {
       return;
     }
 
+    final IoPhaseRecorder recorder = IoPhaseRecorder.start(audioFile.getFile());
     RandomAccessFile raf = null;
     RandomAccessFile rafTemp = null;
     File newFile;
@@ -301,7 +302,7 @@ public abstract class AudioFileWriter {
     try {
       rafTemp = new RandomAccessFile(newFile, WRITE_MODE);
       raf = new RandomAccessFile(audioFile.getFile(), WRITE_MODE);
-
+      recorder.phaseCompleted(IoPhase.OPEN);
     }
     // Unable to write to writable file, can happen in Vista if have Create
     // Folders/Append Data set to Deny
@@ -339,6 +340,8 @@ public abstract class AudioFileWriter {
       try {
         modificationListener.fileWillBeModified(audioFile, false);
         writeTag(audioFile, audioFile.getTagFieldContainer(), raf, rafTemp);
+        // the formats write through RandomAccessFile, so only the size of a temporary copy is known, writing in place counts as 0
+        recorder.phaseCompleted(IoPhase.TAG_WRITE, 0, recorder.isRecording() ? newFile.length() : 0, 0);
         modificationListener.fileModified(audioFile, newFile);
       } catch (ModifyVetoException veto) {
         throw new CannotWriteException(veto);
@@ -388,7 +391,8 @@ public abstract class AudioFileWriter {
     if (newFile.length() > 0) {
       transferNewFileToOriginalFile(newFile,
                                     audioFile.getFile(),
-                                    TagOptionSingleton.getInstance().isPreserveFileIdentity());
+                                    TagOptionSingleton.getInstance().isPreserveFileIdentity(),
+                                    recorder);
     } else {
       // Delete the temporary file that wasn't ever used
       if (!newFile.delete()) {
@@ -418,16 +422,20 @@ public abstract class AudioFileWriter {
    * @param newFile                   new file
    * @param originalFile              original file
    * @param reuseExistingOriginalFile {@code true} or {@code false}
+   * @param recorder                  reports the copy or the rename
    *
    * @throws CannotWriteException If the file cannot be written
    */
   private void transferNewFileToOriginalFile(final File newFile,
                                              final File originalFile,
-                                             final boolean reuseExistingOriginalFile) throws CannotWriteException {
+                                             final boolean reuseExistingOriginalFile,
+                                             final IoPhaseRecorder recorder) throws CannotWriteException {
     if (reuseExistingOriginalFile) {
-      transferNewFileContentToOriginalFile(newFile, originalFile);
+      transferNewFileContentToOriginalFile(newFile, originalFile, recorder);
     } else {
       transferNewFileToNewOriginalFile(newFile, originalFile);
+      // the original renamed to a backup and the new file renamed to the original
+      recorder.phaseCompleted(IoPhase.RENAME, 0, 0, 2);
     }
   }
 
@@ -456,14 +464,15 @@ public abstract class AudioFileWriter {
    *
    * @throws CannotWriteException if the file cannot be written
    */
-  private void transferNewFileContentToOriginalFile(final File newFile, final File originalFile)
-      throws CannotWriteException {
+  private void transferNewFileContentToOriginalFile(final File newFile,
+                                                    final File originalFile,
+                                                    final IoPhaseRecorder recorder) throws CannotWriteException {
     // try to obtain exclusive lock on the file
     try (final RandomAccessFile raf = new RandomAccessFile(originalFile, "rw")) {
       final FileChannel outChannel = raf.getChannel();
       try (final FileLock lock = outChannel.tryLock()) {
         if (lock != null) {
-          transferNewFileContentToOriginalFile(newFile, originalFile, raf, outChannel);
+          transferNewFileContentToOriginalFile(newFile, originalFile, raf, outChannel, recorder);
         } else {
           // we didn't get a lock
           LOG.log(WARN, ErrorMessage.GENERAL_WRITE_FAILED_FILE_LOCKED, originalFile);
@@ -477,7 +486,7 @@ public abstract class AudioFileWriter {
         // coarse check that works on OS X:
         if ("Operation not supported".equals(e.getMessage())) {
           // transfer without lock
-          transferNewFileContentToOriginalFile(newFile, originalFile, raf, outChannel);
+          transferNewFileContentToOriginalFile(newFile, originalFile, raf, outChannel, recorder);
         } else {
           throw new CannotWriteException(e, ErrorMessage.GENERAL_WRITE_FAILED_FILE_LOCKED, originalFile);
         }
@@ -498,17 +507,21 @@ public abstract class AudioFileWriter {
   private void transferNewFileContentToOriginalFile(final File newFile,
                                                     final File originalFile,
                                                     final RandomAccessFile raf,
-                                                    final FileChannel outChannel) throws CannotWriteException {
+                                                    final FileChannel outChannel,
+                                                    final IoPhaseRecorder recorder) throws CannotWriteException {
     try (final FileChannel inChannel = new FileInputStream(newFile).getChannel()) {
       // copy contents of newFile to originalFile,
       // overwriting the old content in that file
       final long size = inChannel.size();
       long position = 0;
+      int transfers = 0;
       while (position < size) {
         position += inChannel.transferTo(position, 1024L * 1024L, outChannel);
+        transfers++;
       }
       // truncate raf, in case it used to be longer
       raf.setLength(size);
+      recorder.phaseCompleted(IoPhase.TEMP_FILE_COPY, size, size, transfers);
     } catch (FileNotFoundException e) {
       LOG.log(WARN, ErrorMessage.GENERAL_WRITE_FAILED_NEW_FILE_DOESNT_EXIST, newFile);
       throw new CannotWriteException(e, ErrorMessage.GENERAL_WRITE_FAILED_NEW_FILE_DOESNT_EXIST, newFile);
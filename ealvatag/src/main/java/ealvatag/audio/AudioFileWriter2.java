@@ -56,9 +56,13 @@ public abstract class AudioFileWriter2 extends AudioFileWriter {
   @Override
   public void delete(AudioFile af) throws CannotWriteException {
     final File file = af.getFile();
+    final IoPhaseRecorder recorder = IoPhaseRecorder.start(file);
     checkCanWriteAndSize(af, file);
-    try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
+    recorder.phaseCompleted(IoPhase.PRECHECK);
+    try (FileChannel channel = recorder.count(new RandomAccessFile(file, "rw").getChannel())) {
+      recorder.phaseCompleted(IoPhase.OPEN);
       deleteTag(af.getTag().orNull(), channel, file.getAbsolutePath());
+      recorder.phaseCompleted(IoPhase.TAG_WRITE);
     } catch (IOException e) {
       LOG.log(WARN, e, ErrorMessage.GENERAL_DELETE_FAILED, file);
       throw new CannotWriteException(e, ErrorMessage.GENERAL_DELETE_FAILED, file);
@@ -84,9 +88,13 @@ public abstract class AudioFileWriter2 extends AudioFileWriter {
   @Override
   public void write(AudioFileImpl audioFile) throws CannotWriteException {
     final File file = audioFile.getFile();
+    final IoPhaseRecorder recorder = IoPhaseRecorder.start(file);
     checkCanWriteAndSize(audioFile, file);
-    try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
+    recorder.phaseCompleted(IoPhase.PRECHECK);
+    try (FileChannel channel = recorder.count(new RandomAccessFile(file, "rw").getChannel())) {
+      recorder.phaseCompleted(IoPhase.OPEN);
       writeTag(audioFile.getTagFieldContainer(), channel, file.getAbsolutePath());
+      recorder.phaseCompleted(IoPhase.TAG_WRITE);
     } catch (FileNotFoundException e) {
       if (file.exists()) {
         // file exists, permission error
@@ -0,0 +1,273 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import ealvatag.tag.TagField;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link TagFieldStore} for tags kept in memory in large numbers. Ids are interned and held in an array in the order they were
+ * first added, which is the iteration order, with the fields in a parallel array: a lone field is stored as is, and only ids with
+ * several fields use a list. A third array indexes the ids in sorted order for binary search.
+ * <p>
+ * The arrays grow geometrically so reading a tag, which only adds, costs amortized constant time per field plus the binary
+ * search. An iterator reads the arrays as they were when it was created, so the first edit after handing one out copies them
+ * (copy-on-write) and later edits work in place again. Lists returned by {@link #get(String)} are immutable copies.
+ */
+public final class CompactTagFieldStore implements TagFieldStore {
+    private static final Interner<String> IDS = Interners.newWeakInterner();
+    private static final String[] NO_IDS = new String[0];
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final int[] NO_SORTED = new int[0];
+    private static final int MIN_CAPACITY = 8;
+
+    /** In the order first added */
+    private String[] ids = NO_IDS;
+    /** values[i] holds the fields of ids[i], either a TagField or an ArrayList of 2 or more */
+    private Object[] values = NO_VALUES;
+    /** Indexes into ids, ordered by id */
+    private int[] sorted = NO_SORTED;
+    private int size;
+    private int fieldCount;
+    /** An iterator may be reading values, so it must be copied before it, or a list in it, is changed */
+    private boolean shared;
+
+    @Override public List<TagField> get(final String id) {
+        final int position = search(id);
+        return position < 0 ? ImmutableList.<TagField>of() : ImmutableList.copyOf(asList(values[sorted[position]]));
+    }
+
+    @Override public @Nullable TagField getFirst(final String id) {
+        final int position = search(id);
+        return position < 0 ? null : first(values[sorted[position]]);
+    }
+
+    @Override public boolean set(final TagField field) {
+        final int position = search(field.getId());
+        if (position >= 0) {
+            unshare();
+            final int index = sorted[position];
+            final Object value = values[index];
+            if (value instanceof TagField) {
+                values[index] = field;
+            } else {
+                asList(value).set(0, field);
+            }
+            return false;
+        }
+        insert(-(position + 1), field);
+        return true;
+    }
+
+    @Override public boolean add(final TagField field) {
+        final int position = search(field.getId());
+        if (position >= 0) {
+            unshare();
+            final int index = sorted[position];
+            final Object value = values[index];
+            if (value instanceof TagField) {
+                final List<TagField> list = new ArrayList<>(2);
+                list.add((TagField)value);
+                list.add(field);
+                values[index] = list;
+            } else {
+                asList(value).add(field);
+            }
+            fieldCount++;
+            return false;
+        }
+        insert(-(position + 1), field);
+        return true;
+    }
+
+    @Override public void remove(final String id) {
+        final int position = search(id);
+        if (position >= 0) {
+            delete(position);
+        }
+    }
+
+    @Override public int idCount() {
+        return size;
+    }
+
+    @Override public int fieldCount() {
+        return fieldCount;
+    }
+
+    @Override public Iterator<TagField> iterator() {
+        shared = true;
+        final Object[] iterationValues = values;
+        final int iterationSize = size;
+        return new Iterator<TagField>() {
+            private int nextId;
+            private int nextField;
+            private @Nullable TagField last;
+
+            @Override public boolean hasNext() {
+                return nextId < iterationSize;
+            }
+
+            @Override public TagField next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Object value = iterationValues[nextId];
+                if (value instanceof TagField) {
+                    last = (TagField)value;
+                    nextId++;
+                } else {
+                    final List<TagField> list = asList(value);
+                    last = list.get(nextField++);
+                    if (nextField == list.size()) {
+                        nextField = 0;
+                        nextId++;
+                    }
+                }
+                return last;
+            }
+
+            @Override public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                removeField(last);
+                last = null;
+            }
+        };
+    }
+
+    /**
+     * Remove {@code field} itself, compared by identity, and not a field equal to it
+     */
+    private void removeField(final TagField field) {
+        final int position = search(field.getId());
+        if (position < 0) {
+            return;
+        }
+        final Object value = values[sorted[position]];
+        if (value == field) {
+            delete(position);
+        } else if (!(value instanceof TagField)) {
+            final List<TagField> list = asList(value);
+            for (int i = 0, listSize = list.size(); i < listSize; i++) {
+                if (list.get(i) == field) {
+                    unshare();
+                    removeFromList(sorted[position], i);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void removeFromList(final int index, final int position) {
+        final List<TagField> list = asList(values[index]);
+        list.remove(position);
+        if (list.size() == 1) {
+            values[index] = list.get(0);
+        }
+        fieldCount--;
+    }
+
+    /**
+     * @return the position of {@code id} in {@link #sorted}, or (-(insertion point) - 1) if absent
+     */
+    private int search(final String id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = ids[sorted[mid]].compareTo(id);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Appends a new id. An iterator only reads up to the size it started with so the arrays needn't be unshared.
+     */
+    private void insert(final int position, final TagField field) {
+        if (size == ids.length) {
+            final int capacity = Math.max(MIN_CAPACITY, size * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            values = Arrays.copyOf(values, capacity);
+            sorted = Arrays.copyOf(sorted, capacity);
+        }
+        ids[size] = IDS.intern(field.getId());
+        values[size] = field;
+        System.arraycopy(sorted, position, sorted, position + 1, size - position);
+        sorted[position] = size;
+        size++;
+        fieldCount++;
+    }
+
+    private void delete(final int position) {
+        unshare();
+        final int index = sorted[position];
+        fieldCount -= asList(values[index]).size();
+
+        final int after = size - index - 1;
+        System.arraycopy(ids, index + 1, ids, index, after);
+        System.arraycopy(values, index + 1, values, index, after);
+        System.arraycopy(sorted, position + 1, sorted, position, size - position - 1);
+        size--;
+        ids[size] = null;
+        values[size] = null;
+        for (int i = 0; i < size; i++) {
+            if (sorted[i] > index) {
+                sorted[i]--;
+            }
+        }
+    }
+
+    private void unshare() {
+        if (shared) {
+            final Object[] copy = Arrays.copyOf(values, values.length);
+            for (int i = 0; i < size; i++) {
+                if (!(copy[i] instanceof TagField)) {
+                    copy[i] = new ArrayList<>(asList(copy[i]));
+                }
+            }
+            values = copy;
+            shared = false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<TagField> asList(final Object value) {
+        return value instanceof TagField ? ImmutableList.of((TagField)value) : (List<TagField>)value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TagField first(final Object value) {
+        return value instanceof TagField ? (TagField)value : ((List<TagField>)value).get(0);
+    }
+}
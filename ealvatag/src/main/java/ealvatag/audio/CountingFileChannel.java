@@ -0,0 +1,144 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Counts the reads, writes and transfers of a channel, and their bytes, into an {@link IoPhaseRecorder}. Transfers between two
+ * counted channels go directly between the underlying channels so the platform can still copy without going through the heap.
+ */
+final class CountingFileChannel extends FileChannel {
+    private final FileChannel delegate;
+    private final IoPhaseRecorder recorder;
+
+    CountingFileChannel(FileChannel delegate, IoPhaseRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    IoPhaseRecorder getRecorder() {
+        return recorder;
+    }
+
+    @Override public int read(ByteBuffer dst) throws IOException {
+        final int read = delegate.read(dst);
+        recorder.countRead(read);
+        return read;
+    }
+
+    @Override public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+        final long read = delegate.read(dsts, offset, length);
+        recorder.countRead(read);
+        return read;
+    }
+
+    @Override public int write(ByteBuffer src) throws IOException {
+        final int written = delegate.write(src);
+        recorder.countWrite(written);
+        return written;
+    }
+
+    @Override public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        final long written = delegate.write(srcs, offset, length);
+        recorder.countWrite(written);
+        return written;
+    }
+
+    @Override public long position() throws IOException {
+        return delegate.position();
+    }
+
+    @Override public FileChannel position(long newPosition) throws IOException {
+        delegate.position(newPosition);
+        return this;
+    }
+
+    @Override public long size() throws IOException {
+        return delegate.size();
+    }
+
+    @Override public FileChannel truncate(long size) throws IOException {
+        delegate.truncate(size);
+        return this;
+    }
+
+    @Override public void force(boolean metaData) throws IOException {
+        delegate.force(metaData);
+    }
+
+    @Override public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        final long transferred = delegate.transferTo(position, count, unwrap(target));
+        recorder.countRead(transferred);
+        if (target instanceof CountingFileChannel) {
+            ((CountingFileChannel)target).recorder.countWrite(transferred);
+        }
+        return transferred;
+    }
+
+    @Override public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        final long transferred = delegate.transferFrom(unwrap(src), position, count);
+        recorder.countWrite(transferred);
+        if (src instanceof CountingFileChannel && src != this) {
+            ((CountingFileChannel)src).recorder.countRead(transferred);
+        }
+        return transferred;
+    }
+
+    @Override public int read(ByteBuffer dst, long position) throws IOException {
+        final int read = delegate.read(dst, position);
+        recorder.countRead(read);
+        return read;
+    }
+
+    @Override public int write(ByteBuffer src, long position) throws IOException {
+        final int written = delegate.write(src, position);
+        recorder.countWrite(written);
+        return written;
+    }
+
+    @Override public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+        // pages are read on first access, so only the call is counted
+        recorder.countRead(0);
+        return delegate.map(mode, position, size);
+    }
+
+    @Override public FileLock lock(long position, long size, boolean shared) throws IOException {
+        return delegate.lock(position, size, shared);
+    }
+
+    @Override public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+        return delegate.tryLock(position, size, shared);
+    }
+
+    @Override protected void implCloseChannel() throws IOException {
+        delegate.close();
+    }
+
+    private static WritableByteChannel unwrap(WritableByteChannel channel) {
+        return channel instanceof CountingFileChannel ? ((CountingFileChannel)channel).delegate : channel;
+    }
+
+    private static ReadableByteChannel unwrap(ReadableByteChannel channel) {
+        return channel instanceof CountingFileChannel ? ((CountingFileChannel)channel).delegate : channel;
+    }
+}
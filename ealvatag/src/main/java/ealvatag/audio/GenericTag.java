@@ -56,7 +56,7 @@ public abstract class GenericTag extends AbstractTag {
   }
 
   protected GenericTag() {
-    super(false);
+    super(false, new CompactTagFieldStore());
   }
 
   /**
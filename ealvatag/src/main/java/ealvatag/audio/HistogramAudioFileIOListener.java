@@ -0,0 +1,151 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import java.io.File;
+import java.util.EnumMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps totals and a histogram of durations for each {@link IoPhase} in memory, to be read periodically and exported to a metrics
+ * system. Durations fall in power of two buckets: bucket 0 counts durations of 0ns and bucket {@code i} counts durations from
+ * 2<sup>i-1</sup> to 2<sup>i</sup>-1 ns. Recording doesn't lock or allocate.
+ */
+public final class HistogramAudioFileIOListener implements AudioFileIOListener {
+    /** Number of buckets returned by {@link #getBuckets(IoPhase)} */
+    public static final int BUCKET_COUNT = 64;
+
+    private final EnumMap<IoPhase, PhaseStats> stats;
+
+    public HistogramAudioFileIOListener() {
+        stats = new EnumMap<>(IoPhase.class);
+        for (IoPhase phase : IoPhase.values()) {
+            stats.put(phase, new PhaseStats());
+        }
+    }
+
+    @Override public void phaseCompleted(final File file,
+                                         final IoPhase phase,
+                                         final long nanos,
+                                         final long bytesRead,
+                                         final long bytesWritten,
+                                         final long ioCalls) {
+        final PhaseStats phaseStats = stats.get(phase);
+        phaseStats.count.incrementAndGet();
+        phaseStats.nanos.addAndGet(nanos);
+        phaseStats.bytesRead.addAndGet(bytesRead);
+        phaseStats.bytesWritten.addAndGet(bytesWritten);
+        phaseStats.ioCalls.addAndGet(ioCalls);
+        phaseStats.buckets.incrementAndGet(bucketOf(nanos));
+    }
+
+    public long getCount(IoPhase phase) {
+        return stats.get(phase).count.get();
+    }
+
+    public long getTotalNanos(IoPhase phase) {
+        return stats.get(phase).nanos.get();
+    }
+
+    public long getBytesRead(IoPhase phase) {
+        return stats.get(phase).bytesRead.get();
+    }
+
+    public long getBytesWritten(IoPhase phase) {
+        return stats.get(phase).bytesWritten.get();
+    }
+
+    public long getIoCalls(IoPhase phase) {
+        return stats.get(phase).ioCalls.get();
+    }
+
+    /**
+     * @return a copy of the {@link #BUCKET_COUNT} duration buckets of {@code phase}
+     */
+    public long[] getBuckets(IoPhase phase) {
+        final AtomicLongArray buckets = stats.get(phase).buckets;
+        final long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = buckets.get(i);
+        }
+        return copy;
+    }
+
+    /**
+     * Estimate a percentile of the durations of {@code phase}
+     *
+     * @param phase      the phase
+     * @param percentile from 0 to 100
+     *
+     * @return the upper bound in nanoseconds of the bucket holding the percentile, or 0 if the phase was never reported
+     */
+    public long getPercentileNanos(IoPhase phase, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be from 0 to 100: " + percentile);
+        }
+        final long[] buckets = getBuckets(phase);
+        long total = 0;
+        for (long count : buckets) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long)Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Clear every phase. Reports arriving during the reset may be partly cleared.
+     */
+    public void reset() {
+        for (PhaseStats phaseStats : stats.values()) {
+            phaseStats.count.set(0);
+            phaseStats.nanos.set(0);
+            phaseStats.bytesRead.set(0);
+            phaseStats.bytesWritten.set(0);
+            phaseStats.ioCalls.set(0);
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                phaseStats.buckets.set(i, 0);
+            }
+        }
+    }
+
+    static int bucketOf(long nanos) {
+        return nanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(nanos);
+    }
+
+    static long upperBoundOf(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+
+    private static final class PhaseStats {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong nanos = new AtomicLong();
+        final AtomicLong bytesRead = new AtomicLong();
+        final AtomicLong bytesWritten = new AtomicLong();
+        final AtomicLong ioCalls = new AtomicLong();
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    }
+}
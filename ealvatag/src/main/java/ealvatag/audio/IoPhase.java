@@ -0,0 +1,46 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+/**
+ * The phases of a read or write reported to an {@link AudioFileIOListener}. The phases of one operation don't overlap, so their
+ * durations add up to the time spent in the library. Formats report the phases they can tell apart, for example a format which
+ * decodes its frames while reading them reports only {@link #TAG_READ}.
+ */
+public enum IoPhase {
+    /** Opening the file */
+    OPEN,
+    /** Finding and reading the audio header */
+    AUDIO_HEADER,
+    /** Reading the tag, including decoding it when the format doesn't separate the two */
+    TAG_READ,
+    /** Decoding tag frames already read into memory */
+    FRAME_DECODE,
+    /** Reading and decoding embedded artwork */
+    ARTWORK_DECODE,
+    /** Checking the file can be written before modifying it */
+    PRECHECK,
+    /**
+     * Writing the tag, into the file or into a temporary copy of it. Formats written through a {@link java.io.RandomAccessFile}
+     * (MP4, Ogg and ASF) only report the size of the temporary copy as bytes written, and 0 when they write into the file itself,
+     * so for them it's a lower bound.
+     */
+    TAG_WRITE,
+    /** Copying a temporary file over the original, when the file identity is preserved */
+    TEMP_FILE_COPY,
+    /** Replacing the original with a temporary file by renaming */
+    RENAME
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+
+/**
+ * Times the phases of one read or write and reports them to the {@link AudioFileIOListener} set when the operation started. Each
+ * report covers the time and the I/O since the previous one. While no listener is set {@link #start(File)} returns a shared
+ * recorder which does nothing, so an operation costs a volatile read and a few empty calls.
+ * <p>
+ * A recorder is used by the one thread doing the operation. Code which only has the channel gets the recorder with
+ * {@link #of(FileChannel)}.
+ */
+public final class IoPhaseRecorder {
+    private static final IoPhaseRecorder NONE = new IoPhaseRecorder(null, null);
+
+    private final AudioFileIOListener listener;
+    private final File file;
+    private long markNanos;
+    private long bytesRead;
+    private long bytesWritten;
+    private long ioCalls;
+
+    private IoPhaseRecorder(AudioFileIOListener listener, File file) {
+        this.listener = listener;
+        this.file = file;
+    }
+
+    /**
+     * Start recording an operation on {@code file}. The first phase starts now.
+     */
+    public static IoPhaseRecorder start(File file) {
+        final AudioFileIOListener listener = AudioFileIO.getIoListener();
+        if (listener == NullAudioFileIOListener.INSTANCE) {
+            return NONE;
+        }
+        final IoPhaseRecorder recorder = new IoPhaseRecorder(listener, file);
+        recorder.markNanos = System.nanoTime();
+        return recorder;
+    }
+
+    /**
+     * @return the recorder counting the I/O of {@code channel}, or one which does nothing if the channel isn't counted
+     */
+    public static IoPhaseRecorder of(FileChannel channel) {
+        return channel instanceof CountingFileChannel ? ((CountingFileChannel)channel).getRecorder() : NONE;
+    }
+
+    public boolean isRecording() {
+        return listener != null;
+    }
+
+    /**
+     * @return {@code channel} wrapped to count its reads and writes as part of the current phase, or {@code channel} itself if not
+     * recording. Closing the returned channel closes {@code channel}.
+     */
+    public FileChannel count(FileChannel channel) {
+        return listener == null ? channel : new CountingFileChannel(channel, this);
+    }
+
+    /**
+     * Report {@code phase} as completed, covering the time and counted I/O since the last report, and start the next phase
+     */
+    public void phaseCompleted(IoPhase phase) {
+        phaseCompleted(phase, 0, 0, 0);
+    }
+
+    /**
+     * Report {@code phase} as completed, adding I/O done outside a counted channel
+     *
+     * @param phase        the phase which completed
+     * @param bytesRead    bytes read other than through a counted channel
+     * @param bytesWritten bytes written other than through a counted channel
+     * @param ioCalls      calls made other than through a counted channel
+     */
+    public void phaseCompleted(IoPhase phase, long bytesRead, long bytesWritten, long ioCalls) {
+        if (listener == null) {
+            return;
+        }
+        listener.phaseCompleted(file,
+                                phase,
+                                System.nanoTime() - markNanos,
+                                this.bytesRead + bytesRead,
+                                this.bytesWritten + bytesWritten,
+                                this.ioCalls + ioCalls);
+        // the listener's own time isn't part of the next phase
+        markNanos = System.nanoTime();
+        this.bytesRead = 0;
+        this.bytesWritten = 0;
+        this.ioCalls = 0;
+    }
+
+    void countRead(long bytes) {
+        ioCalls++;
+        if (bytes > 0) {
+            bytesRead += bytes;
+        }
+    }
+
+    void countWrite(long bytes) {
+        ioCalls++;
+        if (bytes > 0) {
+            bytesWritten += bytes;
+        }
+    }
+}
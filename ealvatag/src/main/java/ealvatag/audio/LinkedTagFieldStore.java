@@ -0,0 +1,119 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.google.common.collect.ImmutableList;
+import ealvatag.tag.TagField;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link TagFieldStore} backed by a {@link LinkedHashMap} of lists, one per id. Edits are cheap but every id costs a map entry
+ * and a list. Lists returned by {@link #get(String)} are unmodifiable views which follow later edits.
+ */
+public final class LinkedTagFieldStore implements TagFieldStore {
+    private static final List<TagField> EMPTY_TAG_FIELD_LIST = ImmutableList.of();
+
+    private final Map<String, List<TagField>> fields = new LinkedHashMap<>();
+    private int fieldCount;
+
+    @Override public List<TagField> get(final String id) {
+        final List<TagField> list = fields.get(id);
+        return list == null ? EMPTY_TAG_FIELD_LIST : Collections.unmodifiableList(list);
+    }
+
+    @Override public @Nullable TagField getFirst(final String id) {
+        final List<TagField> list = fields.get(id);
+        return list == null || list.isEmpty() ? null : list.get(0);
+    }
+
+    @Override public boolean set(final TagField field) {
+        List<TagField> list = fields.get(field.getId());
+        if (list != null && !list.isEmpty()) {
+            list.set(0, field);
+            return false;
+        }
+        list = new ArrayList<>(1);
+        list.add(field);
+        fields.put(field.getId(), list);
+        fieldCount++;
+        return true;
+    }
+
+    @Override public boolean add(final TagField field) {
+        List<TagField> list = fields.get(field.getId());
+        fieldCount++;
+        if (list == null) {
+            list = new ArrayList<>(1);
+            list.add(field);
+            fields.put(field.getId(), list);
+            return true;
+        }
+        list.add(field);
+        return false;
+    }
+
+    @Override public void remove(final String id) {
+        final List<TagField> removed = fields.remove(id);
+        if (removed != null) {
+            fieldCount -= removed.size();
+        }
+    }
+
+    @Override public int idCount() {
+        return fields.size();
+    }
+
+    @Override public int fieldCount() {
+        return fieldCount;
+    }
+
+    @Override public Iterator<TagField> iterator() {
+        final Iterator<List<TagField>> listIterator = fields.values().iterator();
+        return new Iterator<TagField>() {
+            private Iterator<TagField> fieldsIt;
+
+            @Override public boolean hasNext() {
+                while (fieldsIt == null || !fieldsIt.hasNext()) {
+                    if (!listIterator.hasNext()) {
+                        return false;
+                    }
+                    fieldsIt = listIterator.next().iterator();
+                }
+                return true;
+            }
+
+            @Override public TagField next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return fieldsIt.next();
+            }
+
+            @Override public void remove() {
+                fieldsIt.remove();
+                fieldCount--;
+            }
+        };
+    }
+}
@@ -18,9 +18,12 @@
 package ealvatag.audio;
 
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.tag.NullTag;
 import ealvatag.tag.Tag;
+import ealvatag.tag.TagOptions;
 
 import java.io.File;
 
@@ -43,6 +46,16 @@ public final class NullAudioFile implements AudioFile {
 
     @Override public void save() throws CannotWriteException {}
 
+    @Override public ListenableFuture<Void> saveAsync() {
+        return Futures.immediateFuture(null);
+    }
+
+    @Override public void save(final TagOptions options) throws CannotWriteException {}
+
+    @Override public ListenableFuture<Void> saveAsync(final TagOptions options) {
+        return Futures.immediateFuture(null);
+    }
+
     @Override public void saveAs(final String fullPathWithoutExtension) throws IllegalArgumentException, CannotWriteException {}
 
     @Override public void deleteFileTag() throws CannotWriteException {}
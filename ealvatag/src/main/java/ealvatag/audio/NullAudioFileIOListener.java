@@ -0,0 +1,39 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import java.io.File;
+
+/**
+ * The default, no-op listener. While it is set, reads and writes don't time phases or count I/O.
+ */
+public final class NullAudioFileIOListener implements AudioFileIOListener {
+    public static final AudioFileIOListener INSTANCE = new NullAudioFileIOListener();
+
+    public static AudioFileIOListener nullToNullInstance(AudioFileIOListener listener) {
+        return listener == null ? INSTANCE : listener;
+    }
+
+    private NullAudioFileIOListener() {
+    }
+
+    @Override public void phaseCompleted(final File file,
+                                         final IoPhase phase,
+                                         final long nanos,
+                                         final long bytesRead,
+                                         final long bytesWritten,
+                                         final long ioCalls) {}
+}
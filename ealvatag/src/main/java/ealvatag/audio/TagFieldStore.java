@@ -0,0 +1,76 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import ealvatag.tag.TagField;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Holds the fields of an {@link AbstractTag} keyed by {@link TagField#getId()}. Ids are kept in the order they were first added
+ * and the fields of each id in the order they were added.
+ * <p>
+ * A {@link AbstractTag} subclass chooses its store at construction: {@link LinkedTagFieldStore} favours frequent edits while
+ * {@link CompactTagFieldStore} favours tags which are read once and then kept in memory.
+ */
+public interface TagFieldStore extends Iterable<TagField> {
+
+    /**
+     * @return the fields with {@code id}, empty if there are none. The list must not be modified.
+     */
+    List<TagField> get(String id);
+
+    /**
+     * @return the first field with {@code id} or null if there are none
+     */
+    @Nullable TagField getFirst(String id);
+
+    /**
+     * Replace the first field with the same id as {@code field} or, if there is none, add it
+     *
+     * @return true if {@code field} added a new id
+     */
+    boolean set(TagField field);
+
+    /**
+     * Append {@code field} to those with the same id
+     *
+     * @return true if {@code field} added a new id
+     */
+    boolean add(TagField field);
+
+    /**
+     * Remove all fields with {@code id}
+     */
+    void remove(String id);
+
+    /**
+     * @return the number of distinct ids
+     */
+    int idCount();
+
+    /**
+     * @return the total number of fields
+     */
+    int fieldCount();
+
+    /**
+     * Iterate all fields, grouped by id. {@link Iterator#remove()} removes the field last returned.
+     */
+    @Override Iterator<TagField> iterator();
+}
@@ -21,6 +21,7 @@ import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.utils.ArrayUtil;
+import ealvatag.utils.CharsetCoders;
 import ealvatag.utils.FileTypeUtil;
 import okio.Buffer;
 
@@ -236,10 +237,16 @@ public class Utils {
    * @return read result
    */
   public static String getString(final ByteBuffer buffer, final int offset, final int length, final Charset encoding) {
-    final byte[] b = new byte[length];
     buffer.position(buffer.position() + offset);
+    if (buffer.hasArray() && length <= buffer.remaining()) {
+      // decode straight from the backing array rather than copying out first
+      final int start = buffer.arrayOffset() + buffer.position();
+      buffer.position(buffer.position() + length);
+      return CharsetCoders.decode(buffer.array(), start, length, encoding);
+    }
+    final byte[] b = new byte[length];
     buffer.get(b);
-    return new String(b, 0, length, encoding);
+    return CharsetCoders.decode(b, 0, length, encoding);
   }
 
   public static String getString(final Buffer buffer, final int offset, final int length, final Charset encoding, final byte[] tempBuf) {
@@ -248,7 +255,7 @@ public class Utils {
     for (int i = offset, size = b.length; i < size; i++) {
       b[i] = buffer.getByte(i);
     }
-    return new String(b, 0, length, encoding);
+    return CharsetCoders.decode(b, 0, length, encoding);
   }
 
   /**
@@ -260,9 +267,15 @@ public class Utils {
    * @return read result
    */
   public static String getString(final ByteBuffer buffer, final Charset encoding) {
+    if (buffer.hasArray()) {
+      final int length = buffer.remaining();
+      final int start = buffer.arrayOffset() + buffer.position();
+      buffer.position(buffer.limit());
+      return CharsetCoders.decode(buffer.array(), start, length, encoding);
+    }
     final byte[] b = new byte[buffer.remaining()];
     buffer.get(b);
-    return new String(b, 0, b.length, encoding);
+    return CharsetCoders.decode(b, 0, b.length, encoding);
   }
 
   /**
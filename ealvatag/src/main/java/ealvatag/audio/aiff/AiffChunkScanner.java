@@ -0,0 +1,67 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.aiff;
+
+import ealvatag.audio.aiff.chunk.AiffChunkType;
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.iff.ChunkScanner;
+import ealvatag.audio.iff.ChunkSummary;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * Lists the chunks of an Aiff file for {@link AiffInfoReader} and {@link AiffTagReader}
+ */
+class AiffChunkScanner extends ChunkScanner {
+  private static final AiffChunkScanner INSTANCE = new AiffChunkScanner();
+
+  private AiffChunkScanner() {
+    super(ByteOrder.BIG_ENDIAN);
+  }
+
+  /**
+   * Read the FORM header at the current position of {@code fc} and list the chunks following it
+   *
+   * @param fc
+   * @param aiffAudioHeader receives the file type
+   * @param fileName
+   *
+   * @return the chunks in file order
+   *
+   * @throws CannotReadException if not an Aiff file
+   * @throws IOException
+   */
+  static List<ChunkSummary> scanChunks(FileChannel fc, AiffAudioHeader aiffAudioHeader, String fileName)
+      throws CannotReadException, IOException {
+    new AiffFileHeader().readHeader(fc, aiffAudioHeader, fileName);
+    return INSTANCE.scan(fc, fileName);
+  }
+
+  @Override
+  protected int realignment(String chunkId) {
+    final AiffChunkType chunkType = AiffChunkType.get(chunkId);
+    if (chunkType == AiffChunkType.CORRUPT_TAG_LATE) {
+      //ID3 chunk started one byte earlier, after an odd sized chunk written without its padding byte
+      return -1;
+    } else if (chunkType == AiffChunkType.CORRUPT_TAG_EARLY) {
+      return 1;
+    }
+    return 0;
+  }
+}
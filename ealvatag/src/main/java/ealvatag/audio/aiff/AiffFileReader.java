@@ -1,12 +1,18 @@
 package ealvatag.audio.aiff;
 
 import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader2;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.IoPhase;
+import ealvatag.audio.IoPhaseRecorder;
+import ealvatag.audio.iff.ChunkSummary;
 import ealvatag.tag.TagFieldContainer;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
+import java.util.List;
 
 /**
  * Reads Audio and Metadata information contained in Aiff file.
@@ -22,6 +28,23 @@ public class AiffFileReader extends AudioFileReader2
         return ir.read(channel, fileName);
     }
 
+    /**
+     * Scan the chunks once and read both the audio header and the tag from them
+     */
+    @Override
+    protected AudioFileImpl read(FileChannel channel, File f, final String extension, final boolean ignoreArtwork) throws CannotReadException, IOException
+    {
+        final String fileName = f.getAbsolutePath();
+        final AiffAudioHeader aiffAudioHeader = new AiffAudioHeader();
+        final IoPhaseRecorder recorder = IoPhaseRecorder.of(channel);
+        final List<ChunkSummary> chunks = AiffChunkScanner.scanChunks(channel, aiffAudioHeader, fileName);
+        final GenericAudioHeader info = ir.read(channel, fileName, aiffAudioHeader, chunks);
+        recorder.phaseCompleted(IoPhase.AUDIO_HEADER);
+        final TagFieldContainer tag = im.read(channel, fileName, chunks);
+        recorder.phaseCompleted(IoPhase.TAG_READ);
+        return new AudioFileImpl(f, extension, info, tag);
+    }
+
     @Override
     protected TagFieldContainer getTag(FileChannel channel, final String fileName, final boolean ignoreArtwork) throws CannotReadException, IOException
     {
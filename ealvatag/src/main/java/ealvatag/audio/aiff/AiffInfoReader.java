@@ -18,7 +18,7 @@ import ealvatag.audio.aiff.chunk.NameChunk;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.iff.Chunk;
 import ealvatag.audio.iff.ChunkHeader;
-import ealvatag.audio.iff.IffHeaderChunk;
+import ealvatag.audio.iff.ChunkSummary;
 import ealvatag.logging.EalvaTagLog;
 
 import static com.ealva.ealvalog.LogLevel.ERROR;
@@ -27,6 +27,7 @@ import static com.ealva.ealvalog.LogLevel.TRACE;
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.List;
 
 /**
  * Read Aiff chunks, except the ID3 chunk.
@@ -38,10 +39,28 @@ public class AiffInfoReader extends AiffChunkReader {
   protected GenericAudioHeader read(FileChannel fc, final String fileName) throws CannotReadException, IOException {
     LOG.log(TRACE, "$1%s Reading AIFF file size:$2%d 0x$2%x", fileName, fc.size());
     AiffAudioHeader aiffAudioHeader = new AiffAudioHeader();
-    final AiffFileHeader fileHeader = new AiffFileHeader();
-    long noOfBytes = fileHeader.readHeader(fc, aiffAudioHeader, fileName);
-    while (fc.position() < fc.size()) {
-      if (!readChunk(fc, aiffAudioHeader, fileName)) {
+    return read(fc, fileName, aiffAudioHeader, AiffChunkScanner.scanChunks(fc, aiffAudioHeader, fileName));
+  }
+
+  /**
+   * Read the audio header from the chunks found by a single scan of the file
+   *
+   * @param fc
+   * @param fileName
+   * @param aiffAudioHeader header the file type has been read into
+   * @param chunks          all chunks of the file, as listed by {@link AiffChunkScanner}
+   *
+   * @return {@code aiffAudioHeader}
+   *
+   * @throws CannotReadException
+   * @throws IOException
+   */
+  GenericAudioHeader read(FileChannel fc,
+                          final String fileName,
+                          AiffAudioHeader aiffAudioHeader,
+                          List<ChunkSummary> chunks) throws CannotReadException, IOException {
+    for (ChunkSummary chunkSummary : chunks) {
+      if (!readChunk(fc, chunkSummary, aiffAudioHeader, fileName)) {
         LOG.log(ERROR, "%s UnableToReadProcessChunk", fileName);
         break;
       }
@@ -70,34 +89,21 @@ public class AiffInfoReader extends AiffChunkReader {
    *
    * @return {@code false}, if we were not able to read a valid chunk id
    */
-  private boolean readChunk(FileChannel fc, AiffAudioHeader aiffAudioHeader, String fileName)
+  private boolean readChunk(FileChannel fc, ChunkSummary chunkSummary, AiffAudioHeader aiffAudioHeader, String fileName)
       throws IOException, CannotReadException {
     LOG.log(TRACE, "%s Reading Info Chunk", fileName);
-    final Chunk chunk;
-    final ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
-    if (!chunkHeader.readHeader(fc)) {
-      return false;
-    }
+    final ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN, chunkSummary);
 
     LOG.log(TRACE, "%s Reading Next Chunk:%s", fileName, chunkHeader);
 
-    chunk = createChunk(fc, chunkHeader, aiffAudioHeader);
+    final Chunk chunk = createChunk(fc, chunkSummary, chunkHeader, aiffAudioHeader);
 
     if (chunk != null) {
       if (!chunk.readChunk()) {
         LOG.log(ERROR, "%s ChunkReadFail:%s", fileName, chunkHeader);
         return false;
       }
-    } else {
-      if (chunkHeader.getSize() < 0) {
-        String msg = fileName + " Not a valid header, unable to read a sensible size:Header"
-            + chunkHeader.getID() + "Size:" + chunkHeader.getSize();
-        LOG.log(ERROR, msg);
-        throw new CannotReadException(msg);
-      }
-      fc.position(fc.position() + chunkHeader.getSize());
     }
-    IffHeaderChunk.ensureOnEqualBoundary(fc, chunkHeader);
     return true;
   }
 
@@ -105,6 +111,7 @@ public class AiffInfoReader extends AiffChunkReader {
    * Create a chunk. May return {@code null}, if the chunk is not of a valid type.
    *
    * @param fc
+   * @param chunkSummary
    * @param chunkHeader
    * @param aiffAudioHeader
    *
@@ -112,7 +119,10 @@ public class AiffInfoReader extends AiffChunkReader {
    *
    * @throws IOException
    */
-  private Chunk createChunk(FileChannel fc, final ChunkHeader chunkHeader, AiffAudioHeader aiffAudioHeader)
+  private Chunk createChunk(FileChannel fc,
+                            final ChunkSummary chunkSummary,
+                            final ChunkHeader chunkHeader,
+                            AiffAudioHeader aiffAudioHeader)
       throws IOException {
     final AiffChunkType chunkType = AiffChunkType.get(chunkHeader.getID());
     Chunk chunk;
@@ -120,45 +130,46 @@ public class AiffInfoReader extends AiffChunkReader {
       switch (chunkType) {
         case FORMAT_VERSION:
           chunk = new FormatVersionChunk(chunkHeader,
-                                         readChunkDataIntoBuffer(fc, chunkHeader),
+                                         readChunkDataIntoBuffer(fc, chunkSummary),
                                          aiffAudioHeader);
           break;
 
         case APPLICATION:
           chunk = new ApplicationChunk(chunkHeader,
-                                       readChunkDataIntoBuffer(fc, chunkHeader),
+                                       readChunkDataIntoBuffer(fc, chunkSummary),
                                        aiffAudioHeader);
           break;
 
         case COMMON:
-          chunk = new CommonChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkHeader), aiffAudioHeader);
+          chunk = new CommonChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkSummary), aiffAudioHeader);
           break;
 
         case COMMENTS:
-          chunk = new CommentsChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkHeader), aiffAudioHeader);
+          chunk = new CommentsChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkSummary), aiffAudioHeader);
           break;
 
         case NAME:
-          chunk = new NameChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkHeader), aiffAudioHeader);
+          chunk = new NameChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkSummary), aiffAudioHeader);
           break;
 
         case AUTHOR:
-          chunk = new AuthorChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkHeader), aiffAudioHeader);
+          chunk = new AuthorChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkSummary), aiffAudioHeader);
           break;
 
         case COPYRIGHT:
-          chunk = new CopyrightChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkHeader), aiffAudioHeader);
+          chunk = new CopyrightChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkSummary), aiffAudioHeader);
           break;
 
         case ANNOTATION:
-          chunk = new AnnotationChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkHeader), aiffAudioHeader);
+          chunk = new AnnotationChunk(chunkHeader, readChunkDataIntoBuffer(fc, chunkSummary), aiffAudioHeader);
           break;
 
         case SOUND:
           //Dont need to read chunk itself just need size
+          final long dataStart = chunkHeader.getStartLocationInFile() + ChunkHeader.CHUNK_HEADER_SIZE;
           aiffAudioHeader.setAudioDataLength(chunkHeader.getSize());
-          aiffAudioHeader.setAudioDataStartPosition(fc.position());
-          aiffAudioHeader.setAudioDataEndPosition(fc.position() + chunkHeader.getSize());
+          aiffAudioHeader.setAudioDataStartPosition(dataStart);
+          aiffAudioHeader.setAudioDataEndPosition(dataStart + chunkHeader.getSize());
 
           chunk = null;
           break;
@@ -10,7 +10,6 @@ import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.iff.Chunk;
 import ealvatag.audio.iff.ChunkHeader;
 import ealvatag.audio.iff.ChunkSummary;
-import ealvatag.audio.iff.IffHeaderChunk;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.aiff.AiffTag;
@@ -23,6 +22,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.List;
 
 /**
  * Read the AIff file chunks, until finds Aiff Common chunk and then generates AudioHeader from it
@@ -43,13 +43,24 @@ public class AiffTagReader extends AiffChunkReader {
    * @throws IOException         thrown if IO error
    */
   public AiffTag read(FileChannel channel, final String fileName) throws CannotReadException, IOException {
-    AiffAudioHeader aiffAudioHeader = new AiffAudioHeader();
-    AiffTag aiffTag = new AiffTag();
+    return read(channel, fileName, AiffChunkScanner.scanChunks(channel, new AiffAudioHeader(), fileName));
+  }
 
-    final AiffFileHeader fileHeader = new AiffFileHeader();
-    fileHeader.readHeader(channel, aiffAudioHeader, fileName);
-    while (channel.position() < channel.size()) {
-      if (!readChunk(channel, aiffTag, fileName)) {
+  /**
+   * Read editable Metadata from the chunks found by a single scan of the file
+   *
+   * @param channel  the channel from which to read
+   * @param fileName the name of the file the channel represents.
+   * @param chunks   all chunks of the file, as listed by {@link AiffChunkScanner}
+   *
+   * @return an AiffTag
+   *
+   * @throws IOException thrown if IO error
+   */
+  AiffTag read(FileChannel channel, final String fileName, List<ChunkSummary> chunks) throws IOException {
+    AiffTag aiffTag = new AiffTag();
+    for (ChunkSummary chunkSummary : chunks) {
+      if (!readChunk(channel, chunkSummary, aiffTag, fileName)) {
         LOG.log(ERROR, "%s UnableToReadProcessChunk", fileName);
         break;
       }
@@ -66,22 +77,18 @@ public class AiffTagReader extends AiffChunkReader {
    *
    * @return {@code false}, if we were not able to read a valid chunk id
    */
-  private boolean readChunk(FileChannel fc, AiffTag aiffTag, String fileName) throws IOException {
+  private boolean readChunk(FileChannel fc, ChunkSummary chunkSummary, AiffTag aiffTag, String fileName)
+      throws IOException {
     LOG.log(TRACE, "%s Reading Tag Chunk", fileName);
 
-    ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
-    if (!chunkHeader.readHeader(fc)) {
-      return false;
-    }
+    ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN, chunkSummary);
     LOG.log(TRACE, "%s Reading Chunk:%s", fileName, chunkHeader);
 
-    long startLocationOfId3TagInFile = fc.position();
+    long startLocationOfId3TagInFile = chunkHeader.getStartLocationInFile() + ChunkHeader.CHUNK_HEADER_SIZE;
     AiffChunkType chunkType = AiffChunkType.get(chunkHeader.getID());
     if (chunkType != null && chunkType == AiffChunkType.TAG) {
-      ByteBuffer chunkData = readChunkDataIntoBuffer(fc, chunkHeader);
-      aiffTag.addChunkSummary(new ChunkSummary(chunkHeader.getID(),
-                                               chunkHeader.getStartLocationInFile(),
-                                               chunkHeader.getSize()));
+      ByteBuffer chunkData = readChunkDataIntoBuffer(fc, chunkSummary);
+      aiffTag.addChunkSummary(chunkSummary);
 
       //If we haven't already for an ID3 Tag
       if (aiffTag.getID3Tag() == null) {
@@ -89,7 +96,7 @@ public class AiffTagReader extends AiffChunkReader {
         chunk.readChunk();
         aiffTag.setExistingId3Tag(true);
         aiffTag.getID3Tag().setStartLocationInFile(startLocationOfId3TagInFile);
-        aiffTag.getID3Tag().setEndLocationInFile(fc.position());
+        aiffTag.getID3Tag().setEndLocationInFile(startLocationOfId3TagInFile + chunkHeader.getSize());
       } else {
         // otherwise we discard because the first one found is the one that will be used by other apps
         LOG.log(WARN, "%s Ignoring ID3Tag because already have one: %s", fileName, chunkHeader);
@@ -104,7 +111,6 @@ public class AiffTagReader extends AiffChunkReader {
       if (aiffTag.getID3Tag() == null) {
         aiffTag.setIncorrectlyAlignedTag(true);
       }
-      fc.position(fc.position() - (ChunkHeader.CHUNK_HEADER_SIZE + 1));
       return true;
     }
     //Other Special handling for ID3Tags
@@ -115,16 +121,11 @@ public class AiffTagReader extends AiffChunkReader {
       if (aiffTag.getID3Tag() == null) {
         aiffTag.setIncorrectlyAlignedTag(true);
       }
-      fc.position(fc.position() - (ChunkHeader.CHUNK_HEADER_SIZE - 1));
       return true;
     } else {
       LOG.log(TRACE, "%s Skipping Chunk:%s", fileName, chunkHeader);
-      aiffTag.addChunkSummary(new ChunkSummary(chunkHeader.getID(),
-                                               chunkHeader.getStartLocationInFile(),
-                                               chunkHeader.getSize()));
-      fc.position(fc.position() + chunkHeader.getSize());
+      aiffTag.addChunkSummary(chunkSummary);
     }
-    IffHeaderChunk.ensureOnEqualBoundary(fc, chunkHeader);
     return true;
   }
 }
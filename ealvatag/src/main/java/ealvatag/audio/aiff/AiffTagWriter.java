@@ -29,6 +29,7 @@ import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.audio.iff.Chunk;
 import ealvatag.audio.iff.ChunkHeader;
 import ealvatag.audio.iff.ChunkSummary;
+import ealvatag.audio.iff.FillerChunks;
 import ealvatag.audio.iff.IffHeaderChunk;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.Tag;
@@ -51,6 +52,7 @@ import java.nio.channels.FileChannel;
  */
 public class AiffTagWriter {
   private static JLogger LOG = JLoggers.get(AiffTagWriter.class, EalvaTagLog.MARKER);
+  private static final FillerChunks FILLER_CHUNKS = new FillerChunks(AiffChunkType.FILLER.getCode(), ByteOrder.BIG_ENDIAN);
 
   /**
    * Delete given {@link Tag} from file.
@@ -267,7 +269,7 @@ public class AiffTagWriter {
       if (existingTag.isExistingId3Tag() && existingTag.getID3Tag().getStartLocationInFile() != null) {
         //Usual case
         if (!existingTag.isIncorrectlyAlignedTag()) {
-          final ChunkHeader chunkHeader = seekToStartOfMetadata(fc, existingTag, fileName);
+          seekToStartOfMetadata(fc, existingTag, fileName);
           LOG.log(LogLevel.INFO, " %s Current Space allocated:%d new tag requires:%d",
                   fileName,
                   existingTag.getSizeOfID3TagOnly(),
@@ -277,12 +279,24 @@ public class AiffTagWriter {
           if (isAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
             writeDataToFile(fc, bb);
           }
-          //Unusual Case where ID3 is not last chunk
+          //Unusual Case where ID3 is not last chunk, reuse its space if the new tag fits, otherwise leave it as a
+          //filler chunk and append the new tag so the sound data never moves
           else {
-            deleteTagChunk(fc, existingTag, chunkHeader, fileName);
-            fc.position(fc.size());
-            writeExtraByteIfChunkOddSize(fc, fc.size());
-            writeDataToFile(fc, bb);
+            final long startLocation = existingTag.getStartLocationInFileOfId3Chunk();
+            final long slack = FILLER_CHUNKS.slackAt(fc, existingTag.getChunkSummaryList(), startLocation);
+            final long newLength = ChunkHeader.CHUNK_HEADER_SIZE + bb.limit() + (Utils.isOddLength(bb.limit()) ? 1 : 0);
+            if (newLength == slack || newLength + ChunkHeader.CHUNK_HEADER_SIZE <= slack) {
+              LOG.log(LogLevel.DEBUG, "%s Writing ID3 chunk in place, slack:%d", fileName, slack);
+              FILLER_CHUNKS.write(fc, startLocation + newLength, startLocation + slack);
+              fc.position(startLocation);
+              writeDataToFile(fc, bb);
+            } else {
+              LOG.log(LogLevel.DEBUG, "%s ID3 chunk does not fit in slack:%d, appending", fileName, slack);
+              FILLER_CHUNKS.write(fc, startLocation, startLocation + slack);
+              fc.position(fc.size());
+              writeExtraByteIfChunkOddSize(fc, fc.size());
+              writeDataToFile(fc, bb);
+            }
           }
         }
         //Existing ID3 tag is incorrectly aligned so if we can lets delete it and any subsequentially added
@@ -1,6 +1,8 @@
 package ealvatag.audio.aiff.chunk;
 
 import ealvatag.audio.iff.ChunkHeader;
+import ealvatag.audio.iff.ChunkScanner;
+import ealvatag.audio.iff.ChunkSummary;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -30,4 +32,17 @@ public abstract class AiffChunkReader
         return chunkData;
     }
 
+    /**
+     * Read the data of a chunk found by a {@link ChunkScanner}, without moving the file pointer
+     *
+     * @param fc
+     * @param chunkSummary
+     * @return
+     * @throws java.io.IOException
+     */
+    protected ByteBuffer readChunkDataIntoBuffer(FileChannel fc, final ChunkSummary chunkSummary) throws IOException
+    {
+        return ChunkScanner.readChunkData(fc, chunkSummary, ByteOrder.BIG_ENDIAN);
+    }
+
 }
@@ -9,7 +9,7 @@ import ealvatag.tag.aiff.AiffTag;
 public class AiffChunkSummary
 {
     /**
-     * Checks that there are only id3 tags after the currently selected id3tag because this means its safe to truncate
+     * Checks that there are only id3 tags (or filler chunks) after the currently selected id3tag because this means its safe to truncate
      * the remainder of the file.
      *
      * @param tag
@@ -22,7 +22,7 @@ public class AiffChunkSummary
         {
             if(firstId3Tag)
             {
-                if(!cs.getChunkId().equals(AiffChunkType.TAG.getCode()))
+                if(!cs.getChunkId().equals(AiffChunkType.TAG.getCode()) && !cs.getChunkId().equals(AiffChunkType.FILLER.getCode()))
                 {
                     return false;
                 }
@@ -1,7 +1,6 @@
 package ealvatag.audio.aiff.chunk;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.google.common.collect.ImmutableMap;
 
 /**
  * Chunk types mark each {@link ealvatag.audio.iff.ChunkHeader}. They are <em>always</em> 4 ASCII chars long.
@@ -20,10 +19,20 @@ public enum AiffChunkType
     COPYRIGHT("(c) "),
     ANNOTATION("ANNO"),
     TAG("ID3 "),
+    FILLER("FLLR"),
     CORRUPT_TAG_LATE("D3 \u0000"),
     CORRUPT_TAG_EARLY("\u0000ID3");
 
-    private static final Map<String, AiffChunkType> CODE_TYPE_MAP = new HashMap<String, AiffChunkType>();
+    private static final ImmutableMap<String, AiffChunkType> CODE_TYPE_MAP;
+
+    static {
+        final ImmutableMap.Builder<String, AiffChunkType> builder = ImmutableMap.builder();
+        for (final AiffChunkType type : values()) {
+            builder.put(type.getCode(), type);
+        }
+        CODE_TYPE_MAP = builder.build();
+    }
+
     private String code;
 
     /**
@@ -40,12 +49,7 @@ public enum AiffChunkType
      * @param code chunk id
      * @return chunk type or {@code null} if not registered
      */
-    public synchronized static AiffChunkType get(final String code) {
-        if (CODE_TYPE_MAP.isEmpty()) {
-            for (final AiffChunkType type : values()) {
-                CODE_TYPE_MAP.put(type.getCode(), type);
-            }
-        }
+    public static AiffChunkType get(final String code) {
         return CODE_TYPE_MAP.get(code);
     }
 
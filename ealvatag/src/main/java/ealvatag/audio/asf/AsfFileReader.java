@@ -24,6 +24,8 @@ import ealvatag.audio.AudioFile;
 import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.IoPhase;
+import ealvatag.audio.IoPhaseRecorder;
 import ealvatag.audio.asf.data.AsfHeader;
 import ealvatag.audio.asf.data.AudioStreamChunk;
 import ealvatag.audio.asf.data.MetadataContainer;
@@ -34,12 +36,10 @@ import ealvatag.audio.asf.io.ChunkReader;
 import ealvatag.audio.asf.io.ContentBrandingReader;
 import ealvatag.audio.asf.io.ContentDescriptionReader;
 import ealvatag.audio.asf.io.FileHeaderReader;
-import ealvatag.audio.asf.io.FullRequestInputStream;
 import ealvatag.audio.asf.io.LanguageListReader;
 import ealvatag.audio.asf.io.MetadataReader;
 import ealvatag.audio.asf.io.StreamChunkReader;
 import ealvatag.audio.asf.util.TagConverter;
-import ealvatag.audio.asf.util.Utils;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.InvalidAudioFrameException;
 import ealvatag.logging.ErrorMessage;
@@ -50,12 +50,11 @@ import ealvatag.tag.asf.AsfTag;
 import static com.ealva.ealvalog.LogLevel.ERROR;
 import static com.ealva.ealvalog.LogLevel.WARN;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -209,8 +208,12 @@ public class AsfFileReader extends AudioFileReader {
   @Override
   public AudioFile read(final File f, final String extension, final boolean ignoreArtwork)
       throws CannotReadException, IOException, TagException, InvalidAudioFrameException {
-    try (InputStream stream = new FullRequestInputStream(new BufferedInputStream(new FileInputStream(f)))) {
-      final AsfHeader header = HEADER_READER.read(Utils.readGUID(stream), stream, 0);
+    final IoPhaseRecorder recorder = IoPhaseRecorder.start(f);
+    try (FileChannel channel = recorder.count(new FileInputStream(f).getChannel())) {
+      recorder.phaseCompleted(IoPhase.OPEN);
+      // the audio header and the tag are both read from the one ASF header
+      final AsfHeader header = HEADER_READER.read(channel);
+      recorder.phaseCompleted(IoPhase.TAG_READ);
       if (header == null) {
         throw new CannotReadException(ErrorMessage.ASF_HEADER_MISSING, f);
       }
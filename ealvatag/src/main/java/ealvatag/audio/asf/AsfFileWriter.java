@@ -28,6 +28,7 @@ import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.audio.AudioFileWriter;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.asf.AsfTag;
 
 import java.io.IOException;
@@ -37,7 +38,10 @@ import java.util.List;
 
 /**
  * This class writes given tags to ASF files containing WMA content. <br>
- * <br>
+ * If the modified header object fits in the space of the original one, using
+ * its padding, only the header object is rewritten. Otherwise a copy of the
+ * file is written, reserving {@link TagOptionSingleton#getAsfPaddingSize()}
+ * bytes of padding for later modifications.<br>
  *
  * @author Christian Laireiter
  */
@@ -89,7 +93,6 @@ public class AsfFileWriter extends AudioFileWriter
          * configured.
          */
         final AsfHeader sourceHeader = AsfHeaderReader.readTagHeader(raf);
-        raf.seek(0); // Reset for the streamer
         /*
          * Now createField modifiers for metadata descriptor and extended content
          * descriptor as implied by the given Tag.
@@ -139,7 +142,8 @@ public class AsfFileWriter extends AudioFileWriter
         {
             headerModifier.add(new AsfExtHeaderModifier(extHeaderModifier));
         }
-        new AsfStreamer().createModifiedCopy(new RandomAccessFileInputstream(raf), new RandomAccessFileOutputStream(rafTemp), headerModifier);
+        new AsfStreamer().writeModified(raf.getChannel(), rafTemp.getChannel(), headerModifier,
+                                        TagOptionSingleton.getInstance().getAsfPaddingSize());
     }
 
 }
@@ -20,14 +20,16 @@ package ealvatag.audio.asf.data;
 
 import ealvatag.audio.asf.util.Utils;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.regex.Pattern;
 
 /**
  * This class is used for representation of GUIDs and as a reference list of all
  * Known GUIDs. <br>
+ * The 16 bytes of a GUID are held as two longs, in the order they are stored in
+ * ASF files, so comparing and hashing do not touch an array.<br>
  *
  * @author Christian Laireiter
  */
@@ -154,6 +156,15 @@ import java.util.regex.Pattern;
       0x13, 0x4e, 0x45, 0x70, 0x54
   }, "Metadata Library");
 
+  /**
+   * This constant stores the GUID indicating a padding object, which reserves
+   * space in the header object or the header extension object.<br>
+   */
+  public final static GUID GUID_PADDING = new GUID(new int[]{
+      0x74, 0xd4, 0x06, 0x18, 0xdf, 0xca, 0x09, 0x45, 0xa4, 0xba, 0x9a,
+      0xab, 0xcb, 0x96, 0xaa, 0xe8
+  }, "Padding");
+
   /**
    * The GUID String values format.<br>
    */
@@ -179,12 +190,12 @@ import java.util.regex.Pattern;
                                                                          "bitrate properties");
 
   /**
-   * This map is used, to get the description of a GUID instance, which has
-   * been created by reading.<br>
-   * The map comparison is done against the {@link GUID#guidData} field. But
-   * only the {@link #KNOWN_GUIDS} have a description set.
+   * This table is used, to get the description of a GUID instance, which has
+   * been created by reading, and to return the configured instance for known
+   * GUIDs read by {@link #read(ByteBuffer)}.<br>
+   * Only the {@link #KNOWN_GUIDS} have a description set.
    */
-  private final static Map<GUID, GUID> GUID_TO_CONFIGURED;
+  private final static GUIDTable<GUID> GUID_TO_CONFIGURED;
 
   /**
    * This constant represents a GUID implementation which can be used for
@@ -235,9 +246,10 @@ import java.util.regex.Pattern;
             GUID_UNSPECIFIED,
             GUID_METADATA_LIBRARY,
             GUID_METADATA,
-            GUID_LANGUAGE_LIST
+            GUID_LANGUAGE_LIST,
+            GUID_PADDING
         };
-    GUID_TO_CONFIGURED = new HashMap<>(KNOWN_GUIDS.length);
+    GUID_TO_CONFIGURED = new GUIDTable<>(KNOWN_GUIDS.length);
     for (final GUID curr : KNOWN_GUIDS) {
       assert !GUID_TO_CONFIGURED.containsKey(curr) : "Double definition: \"" + GUID_TO_CONFIGURED.get(curr).getDescription() + "\" " +
           "<-> \"" + curr.getDescription() + "\"";
@@ -270,6 +282,45 @@ import java.util.regex.Pattern;
     return GUID_TO_CONFIGURED.get(orig);
   }
 
+  /**
+   * Reads a GUID from the current position of {@code buffer}, advancing it by
+   * {@link #GUID_LENGTH} bytes, whatever the byte order of the buffer. If the
+   * value is one of the {@link #KNOWN_GUIDS} that instance is returned and
+   * nothing is allocated.<br>
+   *
+   * @param buffer Input source.
+   *
+   * @return the GUID.
+   *
+   * @throws EOFException if fewer than {@link #GUID_LENGTH} bytes remain
+   */
+  public static GUID read(final ByteBuffer buffer) throws EOFException {
+    if (buffer.remaining() < GUID_LENGTH) {
+      throw new EOFException();
+    }
+    long high = buffer.getLong();
+    long low = buffer.getLong();
+    if (buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+      high = Long.reverseBytes(high);
+      low = Long.reverseBytes(low);
+    }
+    return valueOf(high, low);
+  }
+
+  /**
+   * Returns the GUID with the given halves, the configured instance if it is
+   * one of the {@link #KNOWN_GUIDS}.<br>
+   *
+   * @param high first 8 bytes of the GUID, the first byte being the most significant.
+   * @param low  last 8 bytes of the GUID, the first byte being the most significant.
+   *
+   * @return the GUID.
+   */
+  public static GUID valueOf(final long high, final long low) {
+    final GUID configured = GUID_TO_CONFIGURED.get(high, low);
+    return configured != null ? configured : new GUID(high, low, "");
+  }
+
   /**
    * This method searches a GUID in {@link #KNOWN_GUIDS}which is equal to the
    * given <code>guidData</code> and returns its description. <br>
@@ -328,32 +379,36 @@ import java.util.regex.Pattern;
   /**
    * Stores an optionally description of the GUID.
    */
-  private String description = "";
+  private final String description;
 
   /**
-   * An instance of this class stores the value of the wrapped GUID in this
-   * field. <br>
+   * The first 8 bytes of the GUID, the first byte being the most significant.
    */
-  private int[] guidData = null;
+  private final long high;
 
   /**
-   * Stores the hash code of the object.<br>
-   * <code>&quot;-1&quot;</code> if not determined yet.
+   * The last 8 bytes of the GUID, the first byte being the most significant.
    */
-  private int hash;
+  private final long low;
 
   /**
    * Creates an instance and assigns given <code>value</code>.<br>
    *
-   * @param value GUID, which should be assigned. (will be converted to int[])
+   * @param value GUID, which should be assigned.
    */
   public GUID(final byte[] value) {
-    assert value != null;
-    final int[] tmp = new int[value.length];
-    for (int i = 0; i < value.length; i++) {
-      tmp[i] = (0xFF & value[i]);
+    if (value == null || value.length != GUID_LENGTH) {
+      throw new IllegalArgumentException("The given guidData doesn't match the GUID specification.");
     }
-    setGUID(tmp);
+    long tmpHigh = 0;
+    long tmpLow = 0;
+    for (int i = 0; i < 8; i++) {
+      tmpHigh = tmpHigh << 8 | (value[i] & 0xFF);
+      tmpLow = tmpLow << 8 | (value[i + 8] & 0xFF);
+    }
+    this.high = tmpHigh;
+    this.low = tmpLow;
+    this.description = "";
   }
 
   /**
@@ -362,7 +417,7 @@ import java.util.regex.Pattern;
    * @param value GUID, which should be assigned.
    */
   public GUID(final int[] value) {
-    setGUID(value);
+    this(value, "");
   }
 
   /**
@@ -373,10 +428,26 @@ import java.util.regex.Pattern;
    * @param desc  Description for the GUID.
    */
   public GUID(final int[] value, final String desc) {
-    this(value);
+    if (!assertGUID(value)) {
+      throw new IllegalArgumentException("The given guidData doesn't match the GUID specification.");
+    }
     if (desc == null) {
       throw new IllegalArgumentException("Argument must not be null.");
     }
+    long tmpHigh = 0;
+    long tmpLow = 0;
+    for (int i = 0; i < 8; i++) {
+      tmpHigh = tmpHigh << 8 | (value[i] & 0xFF);
+      tmpLow = tmpLow << 8 | (value[i + 8] & 0xFF);
+    }
+    this.high = tmpHigh;
+    this.low = tmpLow;
+    this.description = desc;
+  }
+
+  private GUID(final long high, final long low, final String desc) {
+    this.high = high;
+    this.low = low;
     this.description = desc;
   }
 
@@ -388,11 +459,7 @@ import java.util.regex.Pattern;
    * @param desc       Description for the GUID.
    */
   public GUID(final String guidString, final String desc) {
-    this(parseGUID(guidString).getGUID());
-    if (desc == null) {
-      throw new IllegalArgumentException("Argument must not be null.");
-    }
-    this.description = desc;
+    this(parseGUID(guidString).getGUID(), desc);
   }
 
   /**
@@ -406,7 +473,7 @@ import java.util.regex.Pattern;
     boolean result = false;
     if (obj instanceof GUID) {
       final GUID other = (GUID)obj;
-      result = Arrays.equals(this.getGUID(), other.getGUID());
+      result = matches(other.high, other.low);
     }
     return result;
   }
@@ -419,9 +486,10 @@ import java.util.regex.Pattern;
    * @see #getGUID()
    */
   public byte[] getBytes() {
-    final byte[] result = new byte[this.guidData.length];
-    for (int i = 0; i < result.length; i++) {
-      result[i] = (byte)(this.guidData[i] & 0xFF);
+    final byte[] result = new byte[GUID_LENGTH];
+    for (int i = 0; i < 8; i++) {
+      result[i] = (byte)(this.high >>> (56 - 8 * i));
+      result[i + 8] = (byte)(this.low >>> (56 - 8 * i));
     }
     return result;
   }
@@ -439,11 +507,40 @@ import java.util.regex.Pattern;
    * @return stored GUID.
    */
   public int[] getGUID() {
-    final int[] copy = new int[this.guidData.length];
-    System.arraycopy(this.guidData, 0, copy, 0, this.guidData.length);
+    final int[] copy = new int[GUID_LENGTH];
+    for (int i = 0; i < 8; i++) {
+      copy[i] = (int)(this.high >>> (56 - 8 * i)) & 0xFF;
+      copy[i + 8] = (int)(this.low >>> (56 - 8 * i)) & 0xFF;
+    }
     return copy;
   }
 
+  /**
+   * @return the first 8 bytes of the GUID, the first byte being the most significant.
+   */
+  public long getHigh() {
+    return this.high;
+  }
+
+  /**
+   * @return the last 8 bytes of the GUID, the first byte being the most significant.
+   */
+  public long getLow() {
+    return this.low;
+  }
+
+  /**
+   * Tests whether this GUID has the given value.
+   *
+   * @param high first 8 bytes of the GUID
+   * @param low  last 8 bytes of the GUID
+   *
+   * @return <code>true</code> if both halves are equal.
+   */
+  public boolean matches(final long high, final long low) {
+    return this.high == high && this.low == low;
+  }
+
   /**
    * Convenience method to get 2digit hex values of each byte.
    *
@@ -470,19 +567,11 @@ import java.util.regex.Pattern;
    */
   @Override
   public int hashCode() {
-    if (this.hash == -1) {
-      int tmp = 0;
-      for (final int curr : getGUID()) {
-        tmp = tmp * 31 + curr;
-      }
-      this.hash = tmp;
-    }
-    return this.hash;
+    return GUIDTable.hash(this.high, this.low);
   }
 
   /**
-   * This method checks if the currently stored GUID ({@link #guidData}) is
-   * correctly filled. <br>
+   * This method checks if the currently stored GUID is correctly filled. <br>
    *
    * @return <code>true</code> if it is.
    */
@@ -508,22 +597,6 @@ import java.util.regex.Pattern;
     return result.toString();
   }
 
-  /**
-   * This method saves a copy of the given <code>value</code> as the
-   * represented value of this object. <br>
-   * The given value is checked with {@link #assertGUID(int[])}.<br>
-   *
-   * @param value GUID to assign.
-   */
-  private void setGUID(final int[] value) {
-    if (assertGUID(value)) {
-      this.guidData = new int[GUID_LENGTH];
-      System.arraycopy(value, 0, this.guidData, 0, GUID_LENGTH);
-    } else {
-      throw new IllegalArgumentException("The given guidData doesn't match the GUID specification.");
-    }
-  }
-
   /**
    * {@inheritDoc}
    */
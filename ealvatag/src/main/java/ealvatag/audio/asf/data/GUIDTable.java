@@ -0,0 +1,139 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.asf.data;
+
+/**
+ * A small open-addressed map from {@link GUID} to a value, probed linearly on the two longs of the GUID. Lookups neither hash
+ * an array nor allocate, and a lookup by raw GUID value does not need a {@link GUID} instance at all, which suits the chunk
+ * dispatch of the ASF readers where every chunk header is looked up once.<br>
+ * Instances are not thread safe while being filled. Once filled they may be read concurrently.
+ *
+ * @param <V> type of the values.
+ */
+public final class GUIDTable<V> {
+
+  private GUID[] keys;
+  private Object[] values;
+  private int size;
+
+  /**
+   * Creates a table sized for {@code expectedSize} entries without growing.
+   *
+   * @param expectedSize number of entries expected
+   */
+  public GUIDTable(final int expectedSize) {
+    int capacity = 4;
+    while (capacity < expectedSize * 2) {
+      capacity <<= 1;
+    }
+    this.keys = new GUID[capacity];
+    this.values = new Object[capacity];
+  }
+
+  static int hash(final long high, final long low) {
+    // the first bytes of a GUID are its most random ones, fold them down
+    final long mixed = (high ^ (low * 0x9E3779B97F4A7C15L)) * 0xC2B2AE3D27D4EB4FL;
+    return (int)(mixed ^ (mixed >>> 32));
+  }
+
+  /**
+   * Associates {@code value} with {@code guid}, replacing any earlier value.
+   *
+   * @param guid  the key
+   * @param value the value, not <code>null</code>
+   */
+  public void put(final GUID guid, final V value) {
+    if (guid == null || value == null) {
+      throw new IllegalArgumentException("Arguments must not be null.");
+    }
+    if ((this.size + 1) * 2 > this.keys.length) {
+      grow();
+    }
+    final int mask = this.keys.length - 1;
+    int index = hash(guid.getHigh(), guid.getLow()) & mask;
+    while (this.keys[index] != null) {
+      if (this.keys[index].matches(guid.getHigh(), guid.getLow())) {
+        this.values[index] = value;
+        return;
+      }
+      index = (index + 1) & mask;
+    }
+    this.keys[index] = guid;
+    this.values[index] = value;
+    this.size++;
+  }
+
+  /**
+   * @param guid the key
+   *
+   * @return the value for {@code guid}, <code>null</code> if there is none.
+   */
+  public V get(final GUID guid) {
+    return guid == null ? null : get(guid.getHigh(), guid.getLow());
+  }
+
+  /**
+   * Looks up the value for the GUID with the given {@linkplain GUID#getHigh() high} and {@linkplain GUID#getLow() low} halves.
+   *
+   * @param high first 8 bytes of the GUID
+   * @param low  last 8 bytes of the GUID
+   *
+   * @return the value, <code>null</code> if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  public V get(final long high, final long low) {
+    final int mask = this.keys.length - 1;
+    int index = hash(high, low) & mask;
+    GUID key;
+    while ((key = this.keys[index]) != null) {
+      if (key.matches(high, low)) {
+        return (V)this.values[index];
+      }
+      index = (index + 1) & mask;
+    }
+    return null;
+  }
+
+  /**
+   * @param guid the key
+   *
+   * @return <code>true</code> if there is a value for {@code guid}.
+   */
+  public boolean containsKey(final GUID guid) {
+    return get(guid) != null;
+  }
+
+  /**
+   * @return number of entries.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void grow() {
+    final GUID[] oldKeys = this.keys;
+    final Object[] oldValues = this.values;
+    this.keys = new GUID[oldKeys.length * 2];
+    this.values = new Object[oldKeys.length * 2];
+    this.size = 0;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != null) {
+        put(oldKeys[i], (V)oldValues[i]);
+      }
+    }
+  }
+}
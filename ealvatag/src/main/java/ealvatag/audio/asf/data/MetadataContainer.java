@@ -1,92 +1,29 @@
 package ealvatag.audio.asf.data;
 
+import com.google.common.collect.ImmutableList;
 import ealvatag.audio.asf.io.WriteableChunk;
 import ealvatag.audio.asf.util.Utils;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.math.BigInteger;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * This structure represents the &quot;Metadata Object&quot;,&quot;Metadata
  * Library Object&quot; and &quot;Extended Content Description&quot;.<br>
+ * Descriptors are kept in the order they were added, grouped by name. The
+ * lists returned are immutable and are only rebuilt after a modification, so
+ * reading them repeatedly is cheap. Instances are not thread safe.<br>
  *
  * @author Christian Laireiter
  */
 public class MetadataContainer extends Chunk implements WriteableChunk
 {
 
-    /**
-     * This class is used to uniquely identify an enclosed descriptor by its
-     * name, language index and stream number.<br>
-     * The type of the descriptor is ignored, since it just specifies the data
-     * content.
-     *
-     * @author Christian Laireiter
-     */
-    private final static class DescriptorPointer
-    {
-
-        /**
-         * The represented descriptor.
-         */
-        private MetadataDescriptor desc;
-
-        /**
-         * Creates an instance.
-         *
-         * @param descriptor the metadata descriptor to identify.
-         */
-        public DescriptorPointer(final MetadataDescriptor descriptor)
-        {
-            setDescriptor(descriptor);
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean equals(final Object obj)
-        {
-            boolean result = obj == this;
-            if (obj instanceof DescriptorPointer && !result)
-            {
-                final MetadataDescriptor other = ((DescriptorPointer) obj).desc;
-                result = this.desc.getName().equals(other.getName());
-                result &= this.desc.getLanguageIndex() == other.getLanguageIndex();
-                result &= this.desc.getStreamNumber() == other.getStreamNumber();
-            }
-            return result;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int hashCode()
-        {
-            int hashCode;
-            hashCode = this.desc.getName().hashCode();
-            hashCode = hashCode * 31 + this.desc.getLanguageIndex();
-            hashCode = hashCode * 31 + this.desc.getStreamNumber();
-            return hashCode;
-        }
-
-        /**
-         * Sets the descriptor to identify.
-         *
-         * @param descriptor the descriptor to identify.
-         * @return this instance.
-         */
-        protected DescriptorPointer setDescriptor(final MetadataDescriptor descriptor)
-        {
-            assert descriptor != null;
-            this.desc = descriptor;
-            return this;
-        }
-    }
-
     /**
      * Looks up all {@linkplain ContainerType#getContainerGUID() guids} and
      * returns the matching type.
@@ -114,21 +51,52 @@ public class MetadataContainer extends Chunk implements WriteableChunk
         return result;
     }
 
+    /**
+     * The descriptors sharing one name, and an immutable copy of them which is
+     * only built when requested after a modification.
+     */
+    private static final class NamedDescriptors
+    {
+        final List<MetadataDescriptor> list = new ArrayList<>(2);
+
+        /**
+         * Immutable copy of {@link #list}, <code>null</code> if it has to be
+         * rebuilt.
+         */
+        ImmutableList<MetadataDescriptor> view;
+
+        ImmutableList<MetadataDescriptor> getView()
+        {
+            if (this.view == null)
+            {
+                this.view = ImmutableList.copyOf(this.list);
+            }
+            return this.view;
+        }
+    }
+
     /**
      * stores the represented container type.<br>
      */
     private final ContainerType containerType;
 
     /**
-     * Stores the descriptors.
+     * Stores the descriptors by their (interned) name, in the order the names
+     * were first added. Descriptors with the same name, whatever their language
+     * index and stream number, share a list in the order they were added.
+     */
+    private final Map<String, NamedDescriptors> descriptors = new LinkedHashMap<>();
+
+    /**
+     * All descriptors in {@link #descriptors} order, <code>null</code> if it
+     * has to be rebuilt.
      */
-    private final Map<DescriptorPointer, List<MetadataDescriptor>> descriptors = new Hashtable<DescriptorPointer, List<MetadataDescriptor>>();
+    private ImmutableList<MetadataDescriptor> allDescriptors = ImmutableList.of();
 
     /**
-     * for performance reasons this instance is used to look up existing
-     * descriptors in {@link #descriptors}.<br>
+     * Number of descriptors in {@link #descriptors}.
      */
-    private final DescriptorPointer perfPoint = new DescriptorPointer(new MetadataDescriptor(""));
+    private int descriptorCount;
 
     /**
      * Creates an instance.
@@ -184,25 +152,42 @@ public class MetadataContainer extends Chunk implements WriteableChunk
         /*
          * Check for containers types capabilities.
          */
-        // Search for descriptor list by name, language and stream.
-        List<MetadataDescriptor> list;
-        synchronized (this.perfPoint)
+        // Search for descriptor list by name, then for language and stream.
+        NamedDescriptors named = this.descriptors.get(toAdd.getName());
+        if (named == null)
         {
-            list = this.descriptors.get(this.perfPoint.setDescriptor(toAdd));
+            named = new NamedDescriptors();
+            this.descriptors.put(toAdd.getName().intern(), named);
         }
-        if (list == null)
+        else if (!this.containerType.isMultiValued() && indexOf(named.list, toAdd) >= 0)
         {
-            list = new ArrayList<MetadataDescriptor>();
-            this.descriptors.put(new DescriptorPointer(toAdd), list);
+            throw new IllegalArgumentException("Container does not allow multiple values of descriptors with same name, language index and stream number");
         }
-        else
+        named.list.add(toAdd);
+        named.view = null;
+        this.descriptorCount++;
+        this.allDescriptors = null;
+    }
+
+    /**
+     * Finds the descriptor in <code>list</code> with the language index and
+     * stream number of <code>lookup</code>.
+     *
+     * @param list   descriptors with the name of <code>lookup</code>.
+     * @param lookup descriptor to look up.
+     * @return the index in <code>list</code>, <code>-1</code> if there is none.
+     */
+    private static int indexOf(final List<MetadataDescriptor> list, final MetadataDescriptor lookup)
+    {
+        for (int i = 0; i < list.size(); i++)
         {
-            if (!list.isEmpty() && !this.containerType.isMultiValued())
+            final MetadataDescriptor curr = list.get(i);
+            if (curr.getLanguageIndex() == lookup.getLanguageIndex() && curr.getStreamNumber() == lookup.getStreamNumber())
             {
-                throw new IllegalArgumentException("Container does not allow multiple values of descriptors with same name, language index and stream number");
+                return i;
             }
         }
-        list.add(toAdd);
+        return -1;
     }
 
     /**
@@ -230,7 +215,7 @@ public class MetadataContainer extends Chunk implements WriteableChunk
     {
         MetadataDescriptor desc;
         final List<MetadataDescriptor> descriptorsByName = getDescriptorsByName(key);
-        if (descriptorsByName == null || descriptorsByName.isEmpty())
+        if (descriptorsByName.isEmpty())
         {
             desc = new MetadataDescriptor(getContainerType(), key, type);
             addDescriptor(desc);
@@ -253,7 +238,8 @@ public class MetadataContainer extends Chunk implements WriteableChunk
     public final boolean containsDescriptor(final MetadataDescriptor lookup)
     {
         assert lookup != null;
-        return this.descriptors.containsKey(this.perfPoint.setDescriptor(lookup));
+        final NamedDescriptors named = this.descriptors.get(lookup.getName());
+        return named != null && indexOf(named.list, lookup) >= 0;
     }
 
     /**
@@ -289,22 +275,26 @@ public class MetadataContainer extends Chunk implements WriteableChunk
      */
     public final int getDescriptorCount()
     {
-        return this.getDescriptors().size();
+        return this.descriptorCount;
     }
 
     /**
      * Returns all stored descriptors.
      *
-     * @return stored descriptors.
+     * @return stored descriptors, an immutable list.
      */
     public final List<MetadataDescriptor> getDescriptors()
     {
-        final List<MetadataDescriptor> result = new ArrayList<MetadataDescriptor>();
-        for (final List<MetadataDescriptor> curr : this.descriptors.values())
+        if (this.allDescriptors == null)
         {
-            result.addAll(curr);
+            final ImmutableList.Builder<MetadataDescriptor> builder = ImmutableList.builder();
+            for (final NamedDescriptors curr : this.descriptors.values())
+            {
+                builder.addAll(curr.list);
+            }
+            this.allDescriptors = builder.build();
         }
-        return result;
+        return this.allDescriptors;
     }
 
     /**
@@ -312,21 +302,13 @@ public class MetadataContainer extends Chunk implements WriteableChunk
      * {@linkplain MetadataDescriptor#getName() name}.<br>
      *
      * @param name name of the descriptors to return
-     * @return list of descriptors with given name.
+     * @return list of descriptors with given name, an immutable list.
      */
     public final List<MetadataDescriptor> getDescriptorsByName(final String name)
     {
         assert name != null;
-        final List<MetadataDescriptor> result = new ArrayList<MetadataDescriptor>();
-        final Collection<List<MetadataDescriptor>> values = this.descriptors.values();
-        for (final List<MetadataDescriptor> currList : values)
-        {
-            if (!currList.isEmpty() && currList.get(0).getName().equals(name))
-            {
-                result.addAll(currList);
-            }
-        }
-        return result;
+        final NamedDescriptors named = this.descriptors.get(name);
+        return named != null ? named.getView() : ImmutableList.<MetadataDescriptor>of();
     }
 
     /**
@@ -341,13 +323,10 @@ public class MetadataContainer extends Chunk implements WriteableChunk
     {
         String result = "";
         final List<MetadataDescriptor> descs = getDescriptorsByName(name);
-        if (descs != null)
+        assert descs.size() <= 1;
+        if (!descs.isEmpty())
         {
-            assert descs.size() <= 1;
-            if (!descs.isEmpty())
-            {
-                result = descs.get(0).getString();
-            }
+            result = descs.get(0).getString();
         }
         return result;
     }
@@ -361,7 +340,7 @@ public class MetadataContainer extends Chunk implements WriteableChunk
      */
     public final boolean hasDescriptor(final String name)
     {
-        return !getDescriptorsByName(name).isEmpty();
+        return this.descriptors.containsKey(name);
     }
 
     /**
@@ -379,13 +358,10 @@ public class MetadataContainer extends Chunk implements WriteableChunk
         // Now check if there is already a value contained.
         if (result && !getContainerType().isMultiValued())
         {
-            synchronized (this.perfPoint)
+            final NamedDescriptors named = this.descriptors.get(descriptor.getName());
+            if (named != null)
             {
-                final List<MetadataDescriptor> list = this.descriptors.get(this.perfPoint.setDescriptor(descriptor));
-                if (list != null)
-                {
-                    result = list.isEmpty();
-                }
+                result = indexOf(named.list, descriptor) < 0;
             }
         }
         return result;
@@ -396,16 +372,17 @@ public class MetadataContainer extends Chunk implements WriteableChunk
      */
     public final boolean isEmpty()
     {
-        boolean result = true;
-        if (getDescriptorCount() != 0)
+        for (final NamedDescriptors curr : this.descriptors.values())
         {
-            final Iterator<MetadataDescriptor> iterator = getDescriptors().iterator();
-            while (result && iterator.hasNext())
+            for (final MetadataDescriptor descriptor : curr.list)
             {
-                result &= iterator.next().isEmpty();
+                if (!descriptor.isEmpty())
+                {
+                    return false;
+                }
             }
         }
-        return result;
+        return true;
     }
 
     /**
@@ -433,14 +410,11 @@ public class MetadataContainer extends Chunk implements WriteableChunk
     public final void removeDescriptorsByName(final String name)
     {
         assert name != null;
-        final Iterator<List<MetadataDescriptor>> iterator = this.descriptors.values().iterator();
-        while (iterator.hasNext())
+        final NamedDescriptors removed = this.descriptors.remove(name);
+        if (removed != null)
         {
-            final List<MetadataDescriptor> curr = iterator.next();
-            if (!curr.isEmpty() && curr.get(0).getName().equals(name))
-            {
-                iterator.remove();
-            }
+            this.descriptorCount -= removed.list.size();
+            this.allDescriptors = null;
         }
     }
 
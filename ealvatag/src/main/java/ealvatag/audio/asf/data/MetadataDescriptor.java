@@ -23,6 +23,7 @@ import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.asf.util.Utils;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.TagOptionSingleton;
+import ealvatag.utils.CharsetCoders;
 
 import static com.ealva.ealvalog.LogLevel.WARN;
 import static ealvatag.logging.ErrorMessage.WMA_LENGTH_OF_DATA_IS_TOO_LARGE;
@@ -30,7 +31,6 @@ import static ealvatag.logging.ErrorMessage.WMA_LENGTH_OF_DATA_IS_TOO_LARGE;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Locale;
@@ -520,11 +520,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
         result = String.valueOf(getNumber());
         break;
       case TYPE_STRING:
-        try {
-          result = new String(this.content, "UTF-16LE");
-        } catch (final UnsupportedEncodingException e) {
-          LOG.log(WARN, e, "Bad encoding");
-        }
+        result = CharsetCoders.decode(this.content, 0, this.content.length, AsfHeader.ASF_CHARSET);
         break;
       default:
         throw new IllegalStateException("Current type is not known.");
@@ -22,8 +22,15 @@ import ealvatag.audio.asf.data.AsfHeader;
 import ealvatag.audio.asf.data.GUID;
 import ealvatag.audio.asf.util.Utils;
 
-import java.io.*;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -44,6 +51,11 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
      */
     private final static GUID[] APPLYING = {GUID.GUID_HEADER};
 
+    /**
+     * GUID, length, chunk count and the 2 reserved bytes
+     */
+    private final static int HEADER_FIXED_LENGTH = 30;
+
     /**
      * ASF reader configured to extract all information.
      */
@@ -88,18 +100,6 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
         FULL_READER.setExtendedHeaderReader(extReader2);
     }
 
-    /**
-     * Creates a Stream that will read from the specified
-     * {@link RandomAccessFile};<br>
-     *
-     * @param raf data source to read from.
-     * @return a stream which accesses the source.
-     */
-    private static InputStream createStream(final RandomAccessFile raf)
-    {
-        return new FullRequestInputStream(new BufferedInputStream(new RandomAccessFileInputstream(raf)));
-    }
-
     /**
      * This method extracts the full ASF-Header from the given file.<br>
      * If no header could be extracted <code>null</code> is returned. <br>
@@ -111,15 +111,16 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
      */
     public static AsfHeader readHeader(final File file) throws IOException
     {
-        final InputStream stream = new FileInputStream(file);
-        final AsfHeader result = FULL_READER.read(Utils.readGUID(stream), stream, 0);
-        stream.close();
-        return result;
+        try (FileInputStream stream = new FileInputStream(file))
+        {
+            return FULL_READER.read(stream.getChannel());
+        }
     }
 
     /**
-     * This method tries to extract a full ASF-header out of the given stream. <br>
+     * This method tries to extract a full ASF-header out of the given file. <br>
      * If no header could be extracted <code>null</code> is returned. <br>
+     * The file pointer of <code>file</code> is not moved.
      *
      * @param file File which contains the ASF header.
      * @return AsfHeader-Wrapper, or <code>null</code> if no supported ASF
@@ -128,14 +129,14 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
      */
     public static AsfHeader readHeader(final RandomAccessFile file) throws IOException
     {
-        final InputStream stream = createStream(file);
-        return FULL_READER.read(Utils.readGUID(stream), stream, 0);
+        return FULL_READER.read(file.getChannel());
     }
 
     /**
-     * This method tries to extract an ASF-header out of the given stream, which
+     * This method tries to extract an ASF-header out of the given file, which
      * only contains information about the audio stream.<br>
      * If no header could be extracted <code>null</code> is returned. <br>
+     * The file pointer of <code>file</code> is not moved.
      *
      * @param file File which contains the ASF header.
      * @return AsfHeader-Wrapper, or <code>null</code> if no supported ASF
@@ -144,14 +145,14 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
      */
     public static AsfHeader readInfoHeader(final RandomAccessFile file) throws IOException
     {
-        final InputStream stream = createStream(file);
-        return INFO_READER.read(Utils.readGUID(stream), stream, 0);
+        return INFO_READER.read(file.getChannel());
     }
 
     /**
-     * This method tries to extract an ASF-header out of the given stream, which
+     * This method tries to extract an ASF-header out of the given file, which
      * only contains metadata.<br>
      * If no header could be extracted <code>null</code> is returned. <br>
+     * The file pointer of <code>file</code> is not moved.
      *
      * @param file File which contains the ASF header.
      * @return AsfHeader-Wrapper, or <code>null</code> if no supported ASF
@@ -160,8 +161,7 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
      */
     public static AsfHeader readTagHeader(final RandomAccessFile file) throws IOException
     {
-        final InputStream stream = createStream(file);
-        return TAG_READER.read(Utils.readGUID(stream), stream, 0);
+        return TAG_READER.read(file.getChannel());
     }
 
     /**
@@ -177,6 +177,39 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
         super(toRegister, readChunkOnce);
     }
 
+    /**
+     * Reads the header object at the start of <code>channel</code> with a single positional read, then parses the chunks within
+     * it from memory. The channel's position is not used or changed.
+     *
+     * @param channel the ASF file
+     * @return AsfHeader-Wrapper, or <code>null</code> if no supported ASF
+     * header was found.
+     * @throws IOException              Read errors, or the header is truncated
+     * @throws IllegalArgumentException If the file doesn't start with an ASF header object
+     */
+    public AsfHeader read(final FileChannel channel) throws IOException, IllegalArgumentException
+    {
+        final ByteBuffer start = ByteBuffer.allocate(GUID.GUID_LENGTH + 8).order(ByteOrder.LITTLE_ENDIAN);
+        AsfStreamer.readFully(channel, start, 0);
+        start.flip();
+        final GUID guid = Utils.readGUID(start);
+        if (!GUID.GUID_HEADER.equals(guid))
+        {
+            throw new IllegalArgumentException("provided GUID is not supported by this reader.");
+        }
+        final long headerLength = start.getLong();
+        if (headerLength < HEADER_FIXED_LENGTH || headerLength > Integer.MAX_VALUE)
+        {
+            throw new IOException("Invalid ASF header length " + headerLength);
+        }
+        // read from the length field on, the position the chunk container reader expects
+        final ByteBuffer header = ByteBuffer.allocate((int)Math.min(headerLength, channel.size()) - GUID.GUID_LENGTH)
+                                            .order(ByteOrder.LITTLE_ENDIAN);
+        AsfStreamer.readFully(channel, header, GUID.GUID_LENGTH);
+        header.flip();
+        return read(guid, header, 0);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -4,11 +4,15 @@ import ealvatag.audio.asf.data.GUID;
 import ealvatag.audio.asf.util.Utils;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * This class creates a modified copy of an ASF file.<br>
+ * This class creates a modified copy of an ASF file, or modifies its header
+ * object in place if the padding within the header allows it.<br>
  *
  * @author Christian Laireiter
  */
@@ -157,6 +161,96 @@ public class AsfStreamer
         }
     }
 
+    /**
+     * Applies the given <code>modifiers</code> to the header object of
+     * <code>source</code>. If the modified header can be made the length of the
+     * original one by resizing its padding, it is written over the original and
+     * nothing else in the file is touched. Otherwise the modified header, with at
+     * least <code>reservedPadding</code> bytes of padding if possible, followed
+     * by the rest of <code>source</code> is written to <code>copy</code>.<br>
+     * Neither channel's position is used.
+     *
+     * @param source          the ASF file, opened for writing.
+     * @param copy            the destination of the modified copy, if one is needed.
+     * @param modifiers       list of chunk modifiers to apply.
+     * @param reservedPadding bytes of padding to reserve when a copy is written.
+     * @return <code>true</code> if <code>source</code> was modified in place,
+     * <code>false</code> if the modified file was written to <code>copy</code>.
+     * @throws IOException on I/O errors.
+     */
+    public boolean writeModified(final FileChannel source, final FileChannel copy, final List<ChunkModifier> modifiers,
+                                 final int reservedPadding) throws IOException
+    {
+        final ByteBuffer start = ByteBuffer.allocate(GUID.GUID_LENGTH + 8).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(source, start, 0);
+        start.flip();
+        if (!GUID.GUID_HEADER.equals(GUID.read(start)))
+        {
+            throw new IllegalArgumentException("No ASF header object.");
+        }
+        final long headerLength = start.getLong();
+        if (headerLength < start.capacity() || headerLength > Math.min(Integer.MAX_VALUE, source.size()))
+        {
+            throw new IOException("Invalid ASF header length " + headerLength);
+        }
+        final ByteBuffer original = ByteBuffer.allocate((int) headerLength);
+        readFully(source, original, 0);
+
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream((int) headerLength);
+        createModifiedCopy(new ByteArrayInputStream(original.array()), bos, modifiers);
+        final byte[] modified = bos.toByteArray();
+
+        final byte[] inPlace = HeaderPadding.fit(modified, headerLength);
+        if (inPlace != null)
+        {
+            writeFully(source, ByteBuffer.wrap(inPlace), 0);
+            return true;
+        }
+        byte[] header = modified;
+        final long missing = reservedPadding - HeaderPadding.paddingLength(modified);
+        if (missing > 0)
+        {
+            final byte[] padded = HeaderPadding.fit(modified, modified.length + missing);
+            if (padded != null)
+            {
+                header = padded;
+            }
+        }
+        writeFully(copy, ByteBuffer.wrap(header), 0);
+        final long size = source.size();
+        long position = headerLength;
+        copy.position(header.length);
+        while (position < size)
+        {
+            position += source.transferTo(position, size - position, copy);
+        }
+        return false;
+    }
+
+    /**
+     * Fills the remaining space of {@code buffer} from {@code channel}, starting at {@code position}.
+     *
+     * @throws EOFException if the channel ends first
+     */
+    static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            if (channel.read(buffer, position + buffer.position()) < 0)
+            {
+                throw new EOFException();
+            }
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
     /**
      * This is a slight variation of
      * {@link #copyChunk(GUID, InputStream, OutputStream)}, it only handles file
@@ -0,0 +1,69 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.asf.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Presents a slice of an ASF header already in memory to the stream based {@link ChunkReader}s. Reads consume the buffer's
+ * position. As with {@link FullRequestInputStream}, a bulk read either fills the request or fails.
+ */
+final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override public int read(final byte[] bytes, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (len > buffer.remaining()) {
+            throw new IOException((len - buffer.remaining()) + " more bytes expected.");
+        }
+        buffer.get(bytes, off, len);
+        return len;
+    }
+
+    @Override public long skip(final long amount) {
+        final int skipped = (int)Math.max(0, Math.min(amount, buffer.remaining()));
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override public int available() {
+        return buffer.remaining();
+    }
+
+    @Override public boolean markSupported() {
+        return true;
+    }
+
+    @Override public synchronized void mark(final int readLimit) {
+        buffer.mark();
+    }
+
+    @Override public synchronized void reset() {
+        buffer.reset();
+    }
+}
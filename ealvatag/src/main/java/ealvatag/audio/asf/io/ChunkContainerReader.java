@@ -5,19 +5,21 @@ import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.asf.data.Chunk;
 import ealvatag.audio.asf.data.ChunkContainer;
 import ealvatag.audio.asf.data.GUID;
+import ealvatag.audio.asf.data.GUIDTable;
 import ealvatag.audio.asf.util.Utils;
 import ealvatag.logging.EalvaTagLog;
 
 import static com.ealva.ealvalog.LogLevel.ERROR;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This class represents a reader implementation, which is able to read ASF
@@ -35,26 +37,19 @@ abstract class ChunkContainerReader<ChunkType extends ChunkContainer> implements
   private static final JLogger LOG = JLoggers.get(ChunkContainerReader.class, EalvaTagLog.MARKER);
 
   /**
-   * Within this range, a {@link ChunkReader} should be aware if it fails.
+   * Length of the smallest chunk, just a GUID and the chunk length
    */
-  public final static int READ_LIMIT = 8192;
+  private static final int MIN_CHUNK_LENGTH = 24;
 
   /**
    * If <code>true</code> each chunk type will only be read once.<br>
    */
   protected final boolean eachChunkOnce;
 
-  /**
-   * If <code>true</code> due to a {@linkplain #register(Class) registered}
-   * chunk reader, all {@link InputStream} objects passed to
-   * {@link #read(GUID, InputStream, long)} must support mark/reset.
-   */
-  protected boolean hasFailingReaders = false;
-
   /**
    * Registers GUIDs to their reader classes.<br>
    */
-  protected final Map<GUID, ChunkReader> readerMap = new HashMap<>();
+  protected final GUIDTable<ChunkReader> readerMap = new GUIDTable<>(8);
 
   /**
    * Creates a reader instance, which only utilizes the given list of chunk
@@ -71,19 +66,6 @@ abstract class ChunkContainerReader<ChunkType extends ChunkContainer> implements
     }
   }
 
-  /**
-   * Checks for the constraints of this class.
-   *
-   * @param stream stream to test.
-   *
-   * @throws IllegalArgumentException If stream does not meet the requirements.
-   */
-  protected void checkStream(final InputStream stream) throws IllegalArgumentException {
-    if (this.hasFailingReaders && !stream.markSupported()) {
-      throw new IllegalArgumentException("Stream has to support mark/reset.");
-    }
-  }
-
   /**
    * This method is called by {@link #read(GUID, InputStream, long)} in order
    * to create the resulting object. Implementations of this class should now
@@ -126,7 +108,8 @@ abstract class ChunkContainerReader<ChunkType extends ChunkContainer> implements
   }
 
   /**
-   * This Method implements the reading of a chunk container.<br>
+   * This Method implements the reading of a chunk container from a stream. The container is read into memory in full and then
+   * parsed by {@link #read(GUID, ByteBuffer, long)}.<br>
    *
    * @param guid       GUID of the currently read container.
    * @param stream     Stream which contains the chunk container.
@@ -135,67 +118,114 @@ abstract class ChunkContainerReader<ChunkType extends ChunkContainer> implements
    * @return <code>null</code> if no valid data found, else a Wrapper containing all supported data.
    *
    * @throws IOException              Read errors.
-   * @throws IllegalArgumentException If one used {@link ChunkReader} could {@linkplain ChunkReader#canFail() fail} and the stream source
-   *                                  doesn't support mark/reset.
+   * @throws IllegalArgumentException If the GUID is not one this reader {@linkplain #getApplyingIds() applies to}
    */
   public ChunkType read(final GUID guid, final InputStream stream, final long chunkStart)
       throws IOException, IllegalArgumentException {
-    checkStream(stream);
-    final CountingInputStream cis = new CountingInputStream(stream);
-    if (!Arrays.asList(getApplyingIds()).contains(guid)) {
-      throw new IllegalArgumentException("provided GUID is not supported by this reader.");
+    checkGuid(guid);
+    final BigInteger chunkLen = Utils.readBig64(stream);
+    final long chunkLength = chunkLen.longValue();
+    if (chunkLength < MIN_CHUNK_LENGTH || chunkLength > Integer.MAX_VALUE) {
+      throw new IOException("Invalid chunk length " + chunkLen);
     }
-    // For Know the file pointer pointed to an ASF header chunk.
-    final BigInteger chunkLen = Utils.readBig64(cis);
+    final ByteBuffer buffer = ByteBuffer.allocate((int)chunkLength - GUID.GUID_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putLong(chunkLength);
+    while (buffer.hasRemaining()) {
+      final int read = stream.read(buffer.array(), buffer.position(), buffer.remaining());
+      if (read < 0) {
+        throw new EOFException();
+      }
+      buffer.position(buffer.position() + read);
+    }
+    buffer.rewind();
+    return read(guid, buffer, chunkStart);
+  }
+
+  /**
+   * This Method implements the reading of a chunk container held in memory. Each contained chunk is handed to its reader as a
+   * slice of {@code chunk}, so a reader can neither read past its chunk nor leave the container mispositioned, and chunks without
+   * a reader are stepped over without being read.<br>
+   *
+   * @param guid       GUID of the currently read container.
+   * @param chunk      The container, positioned just after its GUID (at the chunk length). It is read from its position to its
+   *                   limit without being modified.
+   * @param chunkStart The position of the container in the file.
+   *
+   * @return <code>null</code> if no valid data found, else a Wrapper containing all supported data.
+   *
+   * @throws IOException              Read errors or truncated data.
+   * @throws IllegalArgumentException If the GUID is not one this reader {@linkplain #getApplyingIds() applies to}
+   */
+  public ChunkType read(final GUID guid, final ByteBuffer chunk, final long chunkStart)
+      throws IOException, IllegalArgumentException {
+    checkGuid(guid);
+    // positions within buffer are relative to the end of the container's GUID
+    final ByteBuffer buffer = chunk.slice().order(ByteOrder.LITTLE_ENDIAN);
+    final long bufferStart = chunkStart + GUID.GUID_LENGTH;
+    if (buffer.remaining() < 8) {
+      throw new EOFException();
+    }
+    final BigInteger chunkLen = BigInteger.valueOf(buffer.getLong());
         /*
          * now read implementation specific information until the chunk
          * collection starts and create the resulting object.
          */
-    final ChunkType result = createContainer(chunkStart, chunkLen, cis);
-    // 16 bytes have already been for providing the GUID
-    long currentPosition = chunkStart + cis.getReadCount() + 16;
+    final ChunkType result = createContainer(chunkStart, chunkLen, new ByteBufferInputStream(buffer));
+    long currentPosition = bufferStart + buffer.position();
 
     final HashSet<GUID> alreadyRead = new HashSet<GUID>();
         /*
          * Now reading header of chuncks.
          */
     while (currentPosition < result.getChunkEnd()) {
-      final GUID currentGUID = Utils.readGUID(cis);
-      final boolean skip =
-          this.eachChunkOnce && (!isReaderAvailable(currentGUID) || !alreadyRead.add(currentGUID));
-      Chunk chunk;
-            /*
-             * If one reader tells it could fail (new method), then check the
-             * input stream for mark/reset. And use it if failed.
-             */
-      if (!skip && isReaderAvailable(currentGUID)) {
-        final ChunkReader reader = getReader(currentGUID);
-        if (reader.canFail()) {
-          cis.mark(READ_LIMIT);
-        }
-        chunk = getReader(currentGUID).read(currentGUID, cis, currentPosition);
-      } else {
-        chunk = ChunkHeaderReader.getInstance().read(currentGUID, cis, currentPosition);
+      final GUID currentGUID = Utils.readGUID(buffer);
+      if (buffer.remaining() < 8) {
+        throw new EOFException();
+      }
+      final long currentLength = buffer.getLong(buffer.position());
+      if (currentLength < MIN_CHUNK_LENGTH) {
+        throw new IOException("Invalid chunk length " + currentLength + " at " + currentPosition);
+      }
+      final ByteBuffer body = buffer.duplicate();
+      body.limit((int)Math.min(buffer.limit(), buffer.position() - GUID.GUID_LENGTH + currentLength));
+      final ChunkReader reader = getReader(currentGUID);
+      final boolean skip = this.eachChunkOnce && (reader == null || !alreadyRead.add(currentGUID));
+      Chunk chunkRead = null;
+      if (!skip && reader != null) {
+        chunkRead = readChunk(reader, currentGUID, body.slice().order(ByteOrder.LITTLE_ENDIAN), currentPosition);
+      }
+      if (chunkRead == null) {
+        // no reader, skipped, or the reader found it isn't applicable after all
+        chunkRead = new Chunk(currentGUID, currentPosition, BigInteger.valueOf(currentLength));
       }
-      if (chunk == null) {
-                /*
-                 * Reader failed
-                 */
-        cis.reset();
-      } else {
-        if (!skip) {
-          result.addChunk(chunk);
-        }
-        currentPosition = chunk.getChunkEnd();
-        // Always take into account, that 16 bytes have been read prior
-        // to calling this method
-        assert cis.getReadCount() + chunkStart + 16 == currentPosition;
+      if (!skip) {
+        result.addChunk(chunkRead);
       }
+      currentPosition = chunkRead.getChunkEnd();
+      final long next = currentPosition - bufferStart;
+      if (next > buffer.limit()) {
+        throw new EOFException();
+      }
+      buffer.position((int)next);
     }
 
     return result;
   }
 
+  private static Chunk readChunk(final ChunkReader reader, final GUID guid, final ByteBuffer body, final long position)
+      throws IOException {
+    if (reader instanceof ChunkContainerReader) {
+      return ((ChunkContainerReader<?>)reader).read(guid, body, position);
+    }
+    return reader.read(guid, new ByteBufferInputStream(body), position);
+  }
+
+  private void checkGuid(final GUID guid) throws IllegalArgumentException {
+    if (!Arrays.asList(getApplyingIds()).contains(guid)) {
+      throw new IllegalArgumentException("provided GUID is not supported by this reader.");
+    }
+  }
+
   /**
    * Registers the given reader.<br>
    *
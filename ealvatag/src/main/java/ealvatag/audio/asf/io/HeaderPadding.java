@@ -0,0 +1,204 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.asf.io;
+
+import ealvatag.audio.asf.data.GUID;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Resizes the padding objects of a serialized ASF header object, so that a
+ * modified header can take the place of the original one without moving the
+ * data object behind it.<br>
+ * Padding objects are looked for directly within the header object and within
+ * the header extension object. The sizes of the enclosing objects and the file
+ * size stored in the file properties object are adjusted along with the
+ * padding.
+ */
+final class HeaderPadding
+{
+    /**
+     * GUID and size of an object.
+     */
+    static final int OBJECT_HEADER_LENGTH = 24;
+
+    /**
+     * Offset of the first object within the header object.
+     */
+    private static final int HEADER_OBJECTS = 30;
+
+    /**
+     * Offset of the first object within the header extension object.
+     */
+    private static final int EXTENSION_OBJECTS = 46;
+
+    /**
+     * Offset of the file size within the file properties object.
+     */
+    private static final int FILE_SIZE = 40;
+
+    /**
+     * Offset of the data size within the header extension object.
+     */
+    private static final int EXTENSION_DATA_SIZE = 42;
+
+    private final byte[] header;
+    private final ByteBuffer buffer;
+    private int fileProperties = -1;
+    private int extension = -1;
+    /**
+     * The largest padding object, the one which is resized.
+     */
+    private int padding = -1;
+    private boolean paddingInExtension;
+    private long totalPadding;
+
+    private HeaderPadding(final byte[] header) throws IOException
+    {
+        this.header = header;
+        this.buffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+        if (header.length < HEADER_OBJECTS || !GUID.GUID_HEADER.equals(GUID.read(this.buffer)))
+        {
+            throw new IOException("No ASF header object.");
+        }
+        scan(HEADER_OBJECTS, header.length, false);
+    }
+
+    /**
+     * Returns the number of bytes in the padding objects of <code>header</code>.
+     *
+     * @param header a complete header object.
+     * @return the length of all padding objects including their GUID and size.
+     * @throws IOException if the header is malformed.
+     */
+    static long paddingLength(final byte[] header) throws IOException
+    {
+        return new HeaderPadding(header).totalPadding;
+    }
+
+    /**
+     * Resizes the largest padding object of <code>header</code> so that the
+     * header becomes <code>targetLength</code> bytes long. If there is no padding
+     * object, one is appended to the header object when there is room for one.
+     *
+     * @param header       a complete header object.
+     * @param targetLength the length the header must have.
+     * @return the resized header, <code>header</code> itself if it already has
+     * the length, <code>null</code> if the padding can't take up the difference.
+     * @throws IOException if the header is malformed.
+     */
+    static byte[] fit(final byte[] header, final long targetLength) throws IOException
+    {
+        if (targetLength == header.length)
+        {
+            return header;
+        }
+        if (targetLength > Integer.MAX_VALUE)
+        {
+            return null;
+        }
+        return new HeaderPadding(header).resize((int) (targetLength - header.length));
+    }
+
+    private void scan(final int start, final int end, final boolean inExtension) throws IOException
+    {
+        int position = start;
+        while (position + OBJECT_HEADER_LENGTH <= end)
+        {
+            this.buffer.position(position);
+            final GUID guid = GUID.read(this.buffer);
+            final long size = this.buffer.getLong();
+            if (size < OBJECT_HEADER_LENGTH || size > end - position)
+            {
+                throw new IOException("Invalid chunk length " + size + " at " + position);
+            }
+            if (GUID.GUID_PADDING.equals(guid))
+            {
+                this.totalPadding += size;
+                if (this.padding < 0 || size > this.buffer.getLong(this.padding + GUID.GUID_LENGTH))
+                {
+                    this.padding = position;
+                    this.paddingInExtension = inExtension;
+                }
+            }
+            else if (GUID.GUID_FILE.equals(guid) && !inExtension)
+            {
+                this.fileProperties = position;
+            }
+            else if (GUID.GUID_HEADER_EXTENSION.equals(guid) && !inExtension && size >= EXTENSION_OBJECTS)
+            {
+                this.extension = position;
+                scan(position + EXTENSION_OBJECTS, (int) (position + size), true);
+            }
+            position += (int) size;
+        }
+    }
+
+    private byte[] resize(final int delta)
+    {
+        final byte[] result;
+        if (this.padding >= 0 && this.buffer.getLong(this.padding + GUID.GUID_LENGTH) + delta >= OBJECT_HEADER_LENGTH)
+        {
+            final long size = this.buffer.getLong(this.padding + GUID.GUID_LENGTH);
+            final int end = (int) (this.padding + size);
+            result = new byte[this.header.length + delta];
+            // the padding data stays zeroed
+            System.arraycopy(this.header, 0, result, 0, this.padding + OBJECT_HEADER_LENGTH);
+            System.arraycopy(this.header, end, result, end + delta, this.header.length - end);
+            final ByteBuffer out = ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+            out.putLong(this.padding + GUID.GUID_LENGTH, size + delta);
+            if (this.paddingInExtension)
+            {
+                addLong(out, this.extension + GUID.GUID_LENGTH, delta);
+                out.putInt(this.extension + EXTENSION_DATA_SIZE, out.getInt(this.extension + EXTENSION_DATA_SIZE) + delta);
+            }
+            if (this.fileProperties >= 0)
+            {
+                addLong(out, (this.fileProperties > this.padding ? this.fileProperties + delta : this.fileProperties) + FILE_SIZE,
+                        delta);
+            }
+            out.putLong(GUID.GUID_LENGTH, result.length);
+        }
+        else if (delta >= OBJECT_HEADER_LENGTH)
+        {
+            // append a new padding object to the header object
+            result = Arrays.copyOf(this.header, this.header.length + delta);
+            final ByteBuffer out = ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+            out.position(this.header.length);
+            out.put(GUID.GUID_PADDING.getBytes());
+            out.putLong(delta);
+            out.putInt(GUID.GUID_LENGTH + 8, out.getInt(GUID.GUID_LENGTH + 8) + 1);
+            if (this.fileProperties >= 0)
+            {
+                addLong(out, this.fileProperties + FILE_SIZE, delta);
+            }
+            out.putLong(GUID.GUID_LENGTH, result.length);
+        }
+        else
+        {
+            result = null;
+        }
+        return result;
+    }
+
+    private static void addLong(final ByteBuffer buffer, final int position, final long delta)
+    {
+        buffer.putLong(position, buffer.getLong(position) + delta);
+    }
+}
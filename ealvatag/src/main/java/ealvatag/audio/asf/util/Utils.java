@@ -21,6 +21,7 @@ package ealvatag.audio.asf.util;
 import ealvatag.audio.asf.data.AsfHeader;
 import ealvatag.audio.asf.data.GUID;
 import ealvatag.logging.ErrorMessage;
+import ealvatag.utils.CharsetCoders;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -329,12 +330,10 @@ public class Utils {
                  * if, remove.
                  */
         if (strBytes[strBytes.length - 1] == 0 && strBytes[strBytes.length - 2] == 0) {
-          byte[] copy = new byte[strBytes.length - 2];
-          System.arraycopy(strBytes, 0, copy, 0, strBytes.length - 2);
-          strBytes = copy;
+          return CharsetCoders.decode(strBytes, 0, strBytes.length - 2, AsfHeader.ASF_CHARSET);
         }
       }
-      return new String(strBytes, "UTF-16LE");
+      return CharsetCoders.decode(strBytes, 0, strBytes.length, AsfHeader.ASF_CHARSET);
     }
     throw new IllegalStateException("Couldn't read the necessary amount of bytes.");
   }
@@ -356,11 +355,29 @@ public class Utils {
     if (stream == null) {
       throw new IllegalArgumentException("Argument must not be null"); //$NON-NLS-1$
     }
-    int[] binaryGuid = new int[GUID.GUID_LENGTH];
-    for (int i = 0; i < binaryGuid.length; i++) {
-      binaryGuid[i] = stream.read();
+    long high = 0;
+    for (int i = 0; i < 8; i++) {
+      high = high << 8 | (stream.read() & 0xFF);
     }
-    return new GUID(binaryGuid);
+    long low = 0;
+    for (int i = 0; i < 8; i++) {
+      low = low << 8 | (stream.read() & 0xFF);
+    }
+    return GUID.valueOf(high, low);
+  }
+
+  /**
+   * Reads a GUID from the current position of {@code buffer}, advancing it by {@link GUID#GUID_LENGTH} bytes.
+   *
+   * @param buffer Input source.
+   *
+   * @return A class wrapping the guid.
+   *
+   * @throws EOFException if fewer than {@link GUID#GUID_LENGTH} bytes remain
+   * @see GUID#read(ByteBuffer)
+   */
+  public static GUID readGUID(ByteBuffer buffer) throws EOFException {
+    return GUID.read(buffer);
   }
 
   /**
@@ -441,12 +458,10 @@ public class Utils {
              */
       if (buf.length >= 2) {
         if (buf[buf.length - 1] == 0 && buf[buf.length - 2] == 0) {
-          byte[] copy = new byte[buf.length - 2];
-          System.arraycopy(buf, 0, copy, 0, buf.length - 2);
-          buf = copy;
+          return CharsetCoders.decode(buf, 0, buf.length - 2, AsfHeader.ASF_CHARSET);
         }
       }
-      return new String(buf, AsfHeader.ASF_CHARSET.name());
+      return CharsetCoders.decode(buf, 0, buf.length, AsfHeader.ASF_CHARSET);
     }
     throw new IllegalStateException("Invalid Data for current interpretation"); //$NON-NLS-1$
   }
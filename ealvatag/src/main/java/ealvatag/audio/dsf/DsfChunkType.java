@@ -1,7 +1,6 @@
 package ealvatag.audio.dsf;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.google.common.collect.ImmutableMap;
 
 /**
  * Chunk types mark each {@link ealvatag.audio.iff.ChunkHeader}. They are <em>always</em> 4 ASCII chars long.
@@ -16,7 +15,16 @@ public enum DsfChunkType
     ID3("ID3"),
     ;
 
-    private static final Map<String, DsfChunkType> CODE_TYPE_MAP = new HashMap<String, DsfChunkType>();
+    private static final ImmutableMap<String, DsfChunkType> CODE_TYPE_MAP;
+
+    static {
+        final ImmutableMap.Builder<String, DsfChunkType> builder = ImmutableMap.builder();
+        for (final DsfChunkType type : values()) {
+            builder.put(type.getCode(), type);
+        }
+        CODE_TYPE_MAP = builder.build();
+    }
+
     private String code;
 
     /**
@@ -33,12 +41,7 @@ public enum DsfChunkType
      * @param code chunk id
      * @return chunk type or {@code null} if not registered
      */
-    public synchronized static DsfChunkType get(final String code) {
-        if (CODE_TYPE_MAP.isEmpty()) {
-            for (final DsfChunkType type : values()) {
-                CODE_TYPE_MAP.put(type.getCode(), type);
-            }
-        }
+    public static DsfChunkType get(final String code) {
         return CODE_TYPE_MAP.get(code);
     }
 
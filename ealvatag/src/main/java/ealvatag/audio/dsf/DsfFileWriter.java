@@ -27,6 +27,7 @@ import ealvatag.tag.id3.AbstractID3v2Tag;
 
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 
 /**
@@ -34,39 +35,53 @@ import java.nio.channels.FileChannel;
  */
 public class DsfFileWriter extends AudioFileWriter2
 {
+    /**
+     * Write the tag over the existing ID3 chunk at the end of the file, or append it if there is none, then truncate
+     * whatever is left of a larger old tag and patch the file length and metadata offset of the DSD chunk.
+     * <p>
+     * Only the tag and the DSD chunk are written, the audio data in front of the tag is never read or moved.
+     *
+     * @param tag
+     * @param fc
+     * @param fileName
+     * @throws CannotWriteException
+     */
     protected void writeTag(TagFieldContainer tag, FileChannel fc, final String fileName) throws CannotWriteException
     {
         try
         {
-            DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
+            DsdChunk dsd = readDsdChunk(fc);
             if (dsd != null)
             {
+                final long metadataOffset;
                 if (dsd.getMetadataOffset() > 0)
                 {
-                    fc.position(dsd.getMetadataOffset());
-                    ID3Chunk id3Chunk = ID3Chunk.readChunk(Utils.readFileDataIntoBufferLE(fc, (int) (fc.size() - fc.position())));
-                    if (id3Chunk != null)
-                    {
-                        //Remove Existing tag
-                        fc.position(dsd.getMetadataOffset());
-                        final ByteBuffer bb = convert((AbstractID3v2Tag) tag);
-                        fc.write(bb);
-                    }
-                    else
+                    if (!isID3Chunk(fc, dsd.getMetadataOffset()))
                     {
                         throw new CannotWriteException(fileName + "Could not find existing ID3v2 Tag");
                     }
+                    //Replace existing tag
+                    metadataOffset = dsd.getMetadataOffset();
                 }
                 else
                 {
-                    //Write new tag and new offset and size
-                    fc.position(fc.size());
-                    dsd.setMetadataOffset(fc.size());
-                    final ByteBuffer bb = convert((AbstractID3v2Tag) tag);
-                    fc.write(bb);
-                    dsd.setFileLength(fc.size());
-                    fc.position(0);
-                    fc.write(dsd.write());
+                    //Write new tag after the audio data
+                    metadataOffset = fc.size();
+                }
+
+                final ByteBuffer bb = convert((AbstractID3v2Tag) tag);
+                final long fileLength = metadataOffset + bb.limit();
+                writeFully(fc, bb, metadataOffset);
+                if (fc.size() > fileLength)
+                {
+                    fc.truncate(fileLength);
+                }
+
+                if (dsd.getMetadataOffset() != metadataOffset || dsd.getFileLength() != fileLength)
+                {
+                    dsd.setMetadataOffset(metadataOffset);
+                    dsd.setFileLength(fileLength);
+                    writeFully(fc, dsd.write(), 0);
                 }
             }
         }
@@ -76,6 +91,54 @@ public class DsfFileWriter extends AudioFileWriter2
         }
     }
 
+    /**
+     * @param fc
+     * @return the DSD chunk at the start of the file, null if not a dsf file
+     * @throws IOException
+     */
+    private DsdChunk readDsdChunk(FileChannel fc) throws IOException
+    {
+        final ByteBuffer header = ByteBuffer.allocate(DsdChunk.DSD_HEADER_LENGTH);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && fc.read(header, header.position()) > 0)
+        {
+            //read the whole header
+        }
+        if (header.hasRemaining())
+        {
+            return null;
+        }
+        header.flip();
+        return DsdChunk.readChunk(header);
+    }
+
+    /**
+     * Check for an ID3 tag at {@code offset} reading only its identifier, rather than the whole tag
+     *
+     * @param fc
+     * @param offset
+     * @return
+     * @throws IOException
+     */
+    private boolean isID3Chunk(FileChannel fc, long offset) throws IOException
+    {
+        final ByteBuffer identifier = ByteBuffer.allocate(DsfChunkType.ID3.getCode().length());
+        while (identifier.hasRemaining() && fc.read(identifier, offset + identifier.position()) > 0)
+        {
+            //read the whole identifier
+        }
+        identifier.flip();
+        return identifier.limit() == identifier.capacity() && ID3Chunk.readChunk(identifier) != null;
+    }
+
+    private void writeFully(FileChannel fc, ByteBuffer bb, long position) throws IOException
+    {
+        while (bb.hasRemaining())
+        {
+            position += fc.write(bb, position);
+        }
+    }
+
     /**
      * Convert ID3 tag into a ByteBuffer, also ensures always even to avoid problems
      *
@@ -135,21 +198,18 @@ public class DsfFileWriter extends AudioFileWriter2
     {
         try
         {
-            DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
+            DsdChunk dsd = readDsdChunk(fc);
             if (dsd != null)
             {
                 if (dsd.getMetadataOffset() > 0)
                 {
-                    fc.position(dsd.getMetadataOffset());
-                    ID3Chunk id3Chunk = ID3Chunk.readChunk(Utils.readFileDataIntoBufferLE(fc, (int) (fc.size() - fc.position())));
-                    if (id3Chunk != null)
+                    if (isID3Chunk(fc, dsd.getMetadataOffset()))
                     {
                         fc.truncate(dsd.getMetadataOffset());
                         //set correct value for fileLength and zero offset
                         dsd.setMetadataOffset(0);
                         dsd.setFileLength(fc.size());
-                        fc.position(0);
-                        fc.write(dsd.write());
+                        writeFully(fc, dsd.write(), 0);
                     }
                 }
                 else
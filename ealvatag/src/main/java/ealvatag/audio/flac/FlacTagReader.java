@@ -24,6 +24,8 @@ import com.ealva.ealvalog.java.JLoggers;
 import static com.ealva.ealvalog.LogLevel.TRACE;
 import static com.ealva.ealvalog.LogLevel.WARN;
 
+import ealvatag.audio.IoPhase;
+import ealvatag.audio.IoPhaseRecorder;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.flac.metadatablock.MetadataBlockDataPicture;
 import ealvatag.audio.flac.metadatablock.MetadataBlockHeader;
@@ -51,6 +53,7 @@ public class FlacTagReader {
 
 
   public FlacTag read(FileChannel fc, final String path, final boolean ignoreArtwork) throws CannotReadException, IOException {
+    final IoPhaseRecorder recorder = IoPhaseRecorder.of(fc);
     FlacStreamReader flacStream = new FlacStreamReader(fc, path + " ");
     flacStream.findStream();
 
@@ -81,7 +84,7 @@ public class FlacTagReader {
           case VORBIS_COMMENT:
             ByteBuffer commentHeaderRawPacket = ByteBuffer.allocate(mbh.getDataLength());
             fc.read(commentHeaderRawPacket);
-            tag = vorbisCommentReader.read(commentHeaderRawPacket.array(), false);
+            tag = vorbisCommentReader.read(commentHeaderRawPacket.array(), false, ignoreArtwork);
             break;
 
           case PICTURE:
@@ -90,12 +93,14 @@ public class FlacTagReader {
               LOG.log(TRACE, "%s Ignoring MetadataBlock:%s", path, mbh.getBlockType());
               fc.position(fc.position() + mbh.getDataLength());
             } else {
+              recorder.phaseCompleted(IoPhase.TAG_READ);
               try {
                 MetadataBlockDataPicture mbdp = new MetadataBlockDataPicture(mbh, fc);
                 images.add(mbdp);
               } catch (IOException | InvalidFrameException e) {
                 LOG.log(WARN, "%s Unable to read picture metablock, ignoring:%s", path, e.getMessage());
               }
+              recorder.phaseCompleted(IoPhase.ARTWORK_DECODE);
             }
             break;
 
@@ -115,7 +120,7 @@ public class FlacTagReader {
     if (tag == null) {
       tag = VorbisCommentTag.createNewTag();
     }
-    return new FlacTag(tag, images, containsArtwork && ignoreArtwork);
+    return new FlacTag(tag, images, (containsArtwork && ignoreArtwork) || tag.isReadOnly());
   }
 }
 
@@ -26,6 +26,19 @@ public class ChunkHeader {
     this.byteOrder = byteOrder;
   }
 
+  /**
+   * Header of a chunk already found by a {@link ChunkScanner}
+   *
+   * @param byteOrder
+   * @param chunkSummary
+   */
+  public ChunkHeader(ByteOrder byteOrder, ChunkSummary chunkSummary) {
+    this.byteOrder = byteOrder;
+    this.chunkId = chunkSummary.getChunkId();
+    this.size = chunkSummary.getChunkSize();
+    this.startLocationInFile = chunkSummary.getFileStartLocation();
+  }
+
   /**
    * Reads the header of a chunk.
    *
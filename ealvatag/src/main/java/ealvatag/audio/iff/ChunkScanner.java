@@ -0,0 +1,130 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.iff;
+
+import com.ealva.ealvalog.java.JLogger;
+import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.Utils;
+import ealvatag.logging.EalvaTagLog;
+
+import static com.ealva.ealvalog.LogLevel.TRACE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Walks the chunk headers of a RIFF/IFF file once, reading each header with a single positional read, and lists them as
+ * {@link ChunkSummary}s in file order.
+ * <p>
+ * The list is shared by the audio header and tag readers of a format, which then only read the data of the chunks they
+ * are interested in, instead of each of them walking every chunk header of the file.
+ */
+public class ChunkScanner {
+  private static JLogger LOG = JLoggers.get(ChunkScanner.class, EalvaTagLog.MARKER);
+
+  private final ByteOrder byteOrder;
+
+  public ChunkScanner(ByteOrder byteOrder) {
+    this.byteOrder = byteOrder;
+  }
+
+  /**
+   * Some writers forget the padding byte after an odd sized chunk, so the next chunk id is read one byte off. Subclasses
+   * recognise such ids and say where the real chunk header starts.
+   * <p>
+   * A realigned id is still listed, with the location it was found at, so readers can tell the file has misaligned chunks.
+   *
+   * @param chunkId id read from the file
+   *
+   * @return offset of the real chunk header from where {@code chunkId} was read, 0 if the chunk is aligned
+   */
+  protected int realignment(String chunkId) {
+    return 0;
+  }
+
+  /**
+   * Scan the chunks from the current position of {@code fc} to the end of the file. The position of {@code fc} is left
+   * unchanged.
+   *
+   * @param fc          channel positioned at the first chunk header
+   * @param loggingName name of the file for logging
+   *
+   * @return the chunks, the last one may extend beyond the end of a truncated file
+   *
+   * @throws IOException
+   */
+  public List<ChunkSummary> scan(FileChannel fc, String loggingName) throws IOException {
+    final List<ChunkSummary> chunks = new ArrayList<>();
+    final ByteBuffer header = ByteBuffer.allocate(ChunkHeader.CHUNK_HEADER_SIZE);
+    header.order(byteOrder);
+    final long fileSize = fc.size();
+    long position = fc.position();
+    while (position + ChunkHeader.CHUNK_HEADER_SIZE <= fileSize) {
+      header.clear();
+      while (header.hasRemaining() && fc.read(header, position + header.position()) >= 0) {
+        //read the whole header
+      }
+      header.flip();
+      final String chunkId = Utils.readFourBytesAsChars(header);
+      // sizes are unsigned, chunks of 2 GB or more are valid
+      final long chunkSize = header.getInt() & 0xFFFFFFFFL;
+      chunks.add(new ChunkSummary(chunkId, position, chunkSize));
+
+      final int realignment = realignment(chunkId);
+      if (realignment != 0) {
+        LOG.log(TRACE, "%s Realigning misaligned chunk %s at %s", loggingName, chunkId, position);
+        position += realignment;
+        continue;
+      }
+      position += ChunkHeader.CHUNK_HEADER_SIZE + chunkSize;
+      // Must come out to an even byte boundary unless at end of file
+      if (Utils.isOddLength(chunkSize) && position < fileSize) {
+        position++;
+      }
+    }
+    return chunks;
+  }
+
+  /**
+   * Read the data of a scanned chunk, without moving the position of {@code fc}
+   *
+   * @param fc
+   * @param chunk
+   * @param byteOrder
+   *
+   * @return the chunk data positioned at 0, short if the file is truncated
+   *
+   * @throws IOException if the chunk is too large to hold in memory
+   */
+  public static ByteBuffer readChunkData(FileChannel fc, ChunkSummary chunk, ByteOrder byteOrder) throws IOException {
+    final long dataStart = chunk.getFileStartLocation() + ChunkHeader.CHUNK_HEADER_SIZE;
+    final long available = Math.max(0, Math.min(chunk.getChunkSize(), fc.size() - dataStart));
+    if (available > Integer.MAX_VALUE) {
+      throw new IOException("Chunk " + chunk.getChunkId() + " of " + chunk.getChunkSize() + " bytes is too large to read");
+    }
+    final ByteBuffer chunkData = ByteBuffer.allocateDirect((int)available);
+    while (chunkData.hasRemaining() && fc.read(chunkData, dataStart + chunkData.position()) > 0) {
+      //read the whole chunk
+    }
+    chunkData.position(0);
+    chunkData.order(byteOrder);
+    return chunkData;
+  }
+}
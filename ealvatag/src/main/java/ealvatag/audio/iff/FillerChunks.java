@@ -0,0 +1,116 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.iff;
+
+import ealvatag.audio.Utils;
+import ealvatag.tag.TagOptionSingleton;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * Reuses the space of a chunk being rewritten in place, along with the filler chunks directly following it, and fills what's
+ * left over with a zeroed filler chunk which readers skip like any unknown chunk. This way a chunk which isn't the last one can
+ * be rewritten without moving the chunks after it.
+ * <p>
+ * Subclasses may count other chunks as slack, for example metadata chunks which are being replaced too.
+ */
+public class FillerChunks {
+  private final String fillerId;
+  private final ByteOrder byteOrder;
+
+  /**
+   * @param fillerId  id of the filler chunks written, and of the ones counted as slack
+   * @param byteOrder byte order of the chunk sizes
+   */
+  public FillerChunks(String fillerId, ByteOrder byteOrder) {
+    this.fillerId = fillerId;
+    this.byteOrder = byteOrder;
+  }
+
+  /**
+   * @param chunk a chunk directly following the chunk being rewritten, or following other slack chunks
+   *
+   * @return true if the chunk may be overwritten
+   */
+  protected boolean isSlack(ChunkSummary chunk) {
+    return fillerId.equals(chunk.getChunkId());
+  }
+
+  /**
+   * Find how much room there is at {@code startLocation}, that is the chunk itself plus the {@link #isSlack slack} chunks
+   * directly following it
+   *
+   * @param fc
+   * @param chunks        the chunks of the file in file order
+   * @param startLocation start of the chunk header
+   *
+   * @return number of bytes from the start location that may be overwritten, 0 if no chunk starts there
+   *
+   * @throws IOException
+   */
+  public long slackAt(FileChannel fc, List<ChunkSummary> chunks, long startLocation) throws IOException {
+    long end = -1;
+    for (ChunkSummary cs : chunks) {
+      if (end < 0) {
+        if (cs.getFileStartLocation() == startLocation) {
+          end = endInFile(cs);
+        }
+      } else if (cs.getFileStartLocation() == end && isSlack(cs)) {
+        end = endInFile(cs);
+      } else {
+        break;
+      }
+    }
+    return end < 0 ? 0 : Math.min(end, fc.size()) - startLocation;
+  }
+
+  /**
+   * Write a zero filled filler chunk covering the file from {@code startLocation} up to {@code endLocation}, so no old data is
+   * left behind in it. Nothing is written if there isn't room for a chunk header.
+   *
+   * @param fc
+   * @param startLocation
+   * @param endLocation
+   *
+   * @throws IOException
+   */
+  public void write(FileChannel fc, long startLocation, long endLocation) throws IOException {
+    if (endLocation - startLocation < ChunkHeader.CHUNK_HEADER_SIZE) {
+      return;
+    }
+    final ChunkHeader header = new ChunkHeader(byteOrder);
+    header.setID(fillerId);
+    header.setSize(endLocation - startLocation - ChunkHeader.CHUNK_HEADER_SIZE);
+    fc.position(startLocation);
+    fc.write(header.writeHeader());
+
+    final ByteBuffer zeros = ByteBuffer.allocate(
+        (int)Math.min(header.getSize(), TagOptionSingleton.getInstance().getWriteChunkSize()));
+    while (fc.position() < endLocation) {
+      zeros.clear();
+      zeros.limit((int)Math.min(zeros.capacity(), endLocation - fc.position()));
+      fc.write(zeros);
+    }
+  }
+
+  private static long endInFile(ChunkSummary cs) {
+    return cs.getEndLocation() + (Utils.isOddLength(cs.getChunkSize()) ? 1 : 0);
+  }
+}
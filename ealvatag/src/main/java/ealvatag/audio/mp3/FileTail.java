@@ -0,0 +1,232 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.mp3;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * The last few KB of a file, read once, from which the trailing metadata blocks are located: ID3v1/v1.1, Lyrics3v1, Lyrics3v2 and
+ * an APEv1/v2 footer. Every detector parses from the same in-memory window instead of seeking and reading near the end of the file
+ * itself, which costs a round trip each on network file systems.
+ */
+public final class FileTail {
+    /** Large enough to hold an ID3v1 tag plus the largest possible Lyrics3v1 block */
+    static final int TAIL_SIZE = 8192;
+
+    private static final int ID3V1_LENGTH = 128;
+    private static final byte[] ID3V1_ID = {'T', 'A', 'G'};
+    private static final byte[] LYRICS_BEGIN = {'L', 'Y', 'R', 'I', 'C', 'S', 'B', 'E', 'G', 'I', 'N'};
+    private static final byte[] LYRICS_V1_END = {'L', 'Y', 'R', 'I', 'C', 'S', 'E', 'N', 'D'};
+    private static final byte[] LYRICS_V2_END = {'L', 'Y', 'R', 'I', 'C', 'S', '2', '0', '0'};
+    private static final int LYRICS_V1_MAX_LENGTH = 5100;
+    private static final int LYRICS_V2_SIZE_LENGTH = 6;
+    private static final byte[] APE_PREAMBLE = {'A', 'P', 'E', 'T', 'A', 'G', 'E', 'X'};
+    private static final int APE_FOOTER_LENGTH = 32;
+    private static final int APE_FLAG_HAS_HEADER = 0x80000000;
+
+    private final ByteBuffer window;
+    private final long windowStart;
+    private final long fileSize;
+    private final boolean hasId3v1;
+    private final long lyrics3Start;
+    private final int lyrics3Version;
+    private final long apeStart;
+
+    private FileTail(final ByteBuffer window, final long windowStart, final long fileSize) {
+        this.window = window;
+        this.windowStart = windowStart;
+        this.fileSize = fileSize;
+
+        long end = fileSize;
+        hasId3v1 = startsWith(end - ID3V1_LENGTH, ID3V1_ID);
+        if (hasId3v1) {
+            end -= ID3V1_LENGTH;
+        }
+
+        // an APE tag may be written either side of a Lyrics3 block
+        long ape = findApeStart(end);
+        if (ape >= 0) {
+            end = ape;
+        }
+
+        long lyricsStart = -1;
+        int lyricsVersion = 0;
+        if (startsWith(end - LYRICS_V2_END.length, LYRICS_V2_END)) {
+            lyricsStart = findLyrics3v2Start(end);
+            lyricsVersion = lyricsStart >= 0 ? 2 : 0;
+        } else if (startsWith(end - LYRICS_V1_END.length, LYRICS_V1_END)) {
+            lyricsStart = findLyrics3v1Start(end);
+            lyricsVersion = lyricsStart >= 0 ? 1 : 0;
+        }
+        lyrics3Start = lyricsStart;
+        lyrics3Version = lyricsVersion;
+
+        if (ape < 0 && lyricsStart >= 0) {
+            ape = findApeStart(lyricsStart);
+        }
+        apeStart = ape;
+    }
+
+    /**
+     * Read the tail of the file with a single positional read. The channel position is not changed.
+     *
+     * @param fileChannel the file to read
+     *
+     * @return the tail, which may be shorter than {@link #TAIL_SIZE} for small files
+     *
+     * @throws IOException if there is an error reading the file
+     */
+    public static FileTail read(final FileChannel fileChannel) throws IOException {
+        final long fileSize = fileChannel.size();
+        final int length = (int)Math.min(TAIL_SIZE, fileSize);
+        final long windowStart = fileSize - length;
+        final ByteBuffer window = ByteBuffer.allocate(length);
+        while (window.hasRemaining()) {
+            if (fileChannel.read(window, windowStart + window.position()) < 0) {
+                break;
+            }
+        }
+        window.flip();
+        return new FileTail(window, windowStart, fileSize);
+    }
+
+    public boolean hasId3v1() {
+        return hasId3v1;
+    }
+
+    /**
+     * @return the 128 bytes of the ID3v1 tag, or null if there isn't one. The buffer is independent of this tail and positioned at
+     * the start of the tag.
+     */
+    public @Nullable ByteBuffer getId3v1Buffer() {
+        if (!hasId3v1) {
+            return null;
+        }
+        final ByteBuffer duplicate = window.duplicate();
+        duplicate.position((int)(fileSize - ID3V1_LENGTH - windowStart));
+        return duplicate.slice();
+    }
+
+    /**
+     * @return 1 or 2 if the file contains a Lyrics3v1 or Lyrics3v2 block, otherwise 0
+     */
+    public int getLyrics3Version() {
+        return lyrics3Version;
+    }
+
+    /**
+     * @return file offset of the Lyrics3 block, or -1 if there isn't one
+     */
+    public long getLyrics3Start() {
+        return lyrics3Start;
+    }
+
+    public boolean hasApeTag() {
+        return apeStart >= 0;
+    }
+
+    /**
+     * @return file offset of the APE tag, including its header if present, or -1 if there isn't one
+     */
+    public long getApeStart() {
+        return apeStart;
+    }
+
+    /**
+     * @return file offset of the first trailing metadata block, or the file size if there are none
+     */
+    public long getTrailingMetadataStart() {
+        long start = hasId3v1 ? fileSize - ID3V1_LENGTH : fileSize;
+        if (lyrics3Start >= 0) {
+            start = Math.min(start, lyrics3Start);
+        }
+        if (apeStart >= 0) {
+            start = Math.min(start, apeStart);
+        }
+        return start;
+    }
+
+    private long findLyrics3v2Start(final long end) {
+        final long sizeStart = end - LYRICS_V2_END.length - LYRICS_V2_SIZE_LENGTH;
+        if (!inWindow(sizeStart, LYRICS_V2_SIZE_LENGTH)) {
+            return -1;
+        }
+        long size = 0;
+        for (int i = 0; i < LYRICS_V2_SIZE_LENGTH; i++) {
+            final int digit = window.get((int)(sizeStart - windowStart) + i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            size = size * 10 + digit;
+        }
+        // the size covers everything from LYRICSBEGIN up to the size field. Blocks larger than the window are taken on trust
+        final long start = sizeStart - size;
+        if (start < 0) {
+            return -1;
+        }
+        if (inWindow(start, LYRICS_BEGIN.length) && !startsWith(start, LYRICS_BEGIN)) {
+            return -1;
+        }
+        return start;
+    }
+
+    private long findLyrics3v1Start(final long end) {
+        final long searchEnd = end - LYRICS_V1_END.length - LYRICS_BEGIN.length;
+        final long searchStart = Math.max(windowStart, end - LYRICS_V1_END.length - LYRICS_V1_MAX_LENGTH - LYRICS_BEGIN.length);
+        for (long offset = searchStart; offset <= searchEnd; offset++) {
+            if (startsWith(offset, LYRICS_BEGIN)) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    private long findApeStart(final long end) {
+        final long footerStart = end - APE_FOOTER_LENGTH;
+        if (!startsWith(footerStart, APE_PREAMBLE)) {
+            return -1;
+        }
+        final ByteBuffer footer = window.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final int footerIndex = (int)(footerStart - windowStart);
+        // version at 8, tag size (items plus footer) at 12, item count at 16, flags at 20
+        final long tagSize = footer.getInt(footerIndex + 12) & 0xFFFFFFFFL;
+        final int flags = footer.getInt(footerIndex + 20);
+        final long start = end - tagSize - ((flags & APE_FLAG_HAS_HEADER) != 0 ? APE_FOOTER_LENGTH : 0);
+        return tagSize >= APE_FOOTER_LENGTH && start >= 0 ? start : -1;
+    }
+
+    private boolean inWindow(final long offset, final int length) {
+        return offset >= windowStart && offset + length <= windowStart + window.limit();
+    }
+
+    private boolean startsWith(final long offset, final byte[] id) {
+        if (!inWindow(offset, id.length)) {
+            return false;
+        }
+        final int index = (int)(offset - windowStart);
+        for (int i = 0; i < id.length; i++) {
+            if (window.get(index + i) != id[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
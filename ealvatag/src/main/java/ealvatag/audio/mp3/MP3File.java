@@ -27,6 +27,8 @@ import com.google.common.io.Files;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.AudioFileImpl;
+import ealvatag.audio.IoPhase;
+import ealvatag.audio.IoPhaseRecorder;
 import ealvatag.audio.UnsupportedFileType;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
@@ -138,7 +140,9 @@ public class MP3File extends AudioFileImpl {
                  int loadOptions,
                  boolean ignoreArtwork) throws IOException, TagException, CannotReadException, InvalidAudioFrameException {
     super(file, extension);
-    try (FileChannel fileChannel = getReadFileChannel(file)) {
+    final IoPhaseRecorder recorder = IoPhaseRecorder.start(file);
+    try (FileChannel fileChannel = recorder.count(getReadFileChannel(file))) {
+      recorder.phaseCompleted(IoPhase.OPEN);
       FileOperator fileOperator = new FileOperator(fileChannel);
       long audioStart = 0;
       Optional<Id3v2Header> v2HeaderOptional = Optional.absent();
@@ -160,12 +164,21 @@ public class MP3File extends AudioFileImpl {
       } else {
         audioHeader = new MP3AudioHeader(fileOperator, audioStart, file.getPath());
       }
+      recorder.phaseCompleted(IoPhase.AUDIO_HEADER);
 
+      Buffer buffer = null;
       if (v2HeaderOptional.isPresent()) {
-        final Id3v2Header header = v2HeaderOptional.get();
-        Buffer buffer = new Buffer();
+        buffer = new Buffer();
         // TODO: 1/26/17 Remove the "- v2TaqHeaderSize" from the number of bytes read to see about some tag data reading too far
         fileOperator.read(v2TagHeaderSize, buffer, audioStart - v2TagHeaderSize);
+      }
+
+      //Read v1 tags (if any)
+      readV1Tag(file.getPath(), fileOperator, loadOptions);
+      recorder.phaseCompleted(IoPhase.TAG_READ);
+
+      if (v2HeaderOptional.isPresent()) {
+        final Id3v2Header header = v2HeaderOptional.get();
         switch (header.getMajorVersion()) {
           case ID3v22Tag.MAJOR_VERSION:
             setID3v2Tag(new ID3v22Tag(buffer, header, file.getPath(), ignoreArtwork));
@@ -177,11 +190,9 @@ public class MP3File extends AudioFileImpl {
             setID3v2Tag(new ID3v24Tag(buffer, header, file.getPath(), ignoreArtwork));
             break;
         }
+        recorder.phaseCompleted(IoPhase.FRAME_DECODE);
       }
 
-      //Read v1 tags (if any)
-      readV1Tag(file.getPath(), fileOperator, loadOptions);
-
       //If we have a v2 tag use that, if we do not but have v1 tag use that
       //otherwise use nothing
       //TODO:if have both should we merge
@@ -208,19 +219,32 @@ public class MP3File extends AudioFileImpl {
     if ((loadOptions & LOAD_IDV1TAG) != 0) {
       LOG.log(DEBUG, "Attempting to read id3v1tags");
 
+      // one read of the end of the file serves every trailing tag detector
+      final FileTail fileTail = FileTail.read(newFile.getFileChannel());
+      final ByteBuffer v1Buffer = fileTail.getId3v1Buffer();
+      if (v1Buffer != null) {
+        try {
+          id3v1tag = new ID3v11Tag(v1Buffer, fileName);
+        } catch (TagNotFoundException ex) {
+          LOG.log(TRACE, "No ids3v11 tag found");
+        }
 
-      try {
-        id3v1tag = new ID3v11Tag(newFile, fileName);
-      } catch (TagNotFoundException ex) {
-        LOG.log(TRACE, "No ids3v11 tag found");
+        try {
+          if (id3v1tag == null) {
+            id3v1tag = new ID3v1Tag(v1Buffer, fileName);
+          }
+        } catch (TagNotFoundException ex) {
+          LOG.log(TRACE, "No id3v1 tag found");
+        }
+      } else {
+        LOG.log(TRACE, "No id3v1 or id3v11 tag found");
       }
 
-      try {
-        if (id3v1tag == null) {
-          id3v1tag = new ID3v1Tag(newFile, fileName);
-        }
-      } catch (TagNotFoundException ex) {
-        LOG.log(TRACE, "No id3v1 tag found");
+      if (fileTail.getLyrics3Version() != 0) {
+        LOG.log(DEBUG, "%s:Lyrics3v%s block at %s is not read", fileName, fileTail.getLyrics3Version(), fileTail.getLyrics3Start());
+      }
+      if (fileTail.hasApeTag()) {
+        LOG.log(DEBUG, "%s:APE tag at %s is not read", fileName, fileTail.getApeStart());
       }
     }
   }
@@ -693,7 +717,9 @@ public class MP3File extends AudioFileImpl {
     LOG.log(TRACE, "Saving  : %s", file);
 
     //Checks before starting write
+    final IoPhaseRecorder recorder = IoPhaseRecorder.start(file);
     precheck(file);
+    recorder.phaseCompleted(IoPhase.PRECHECK);
 
     RandomAccessFile rfile = null;
     try {
@@ -737,6 +763,7 @@ public class MP3File extends AudioFileImpl {
           id3v1tag.write(rfile);
         }
       }
+      recorder.phaseCompleted(IoPhase.TAG_WRITE);
     } catch (FileNotFoundException ex) {
       LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND, file, ex);
       throw ex;
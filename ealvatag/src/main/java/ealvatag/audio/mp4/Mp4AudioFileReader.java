@@ -23,6 +23,8 @@ import ealvatag.audio.AudioFile;
 import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.IoPhase;
+import ealvatag.audio.IoPhaseRecorder;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.mp4.atom.Mp4BoxHeader;
 import ealvatag.audio.mp4.atom.Mp4FtypBox;
@@ -120,7 +122,9 @@ public class Mp4AudioFileReader extends AudioFileReader {
   public AudioFile read(final File file,
                         final String extension,
                         final boolean ignoreArtwork) throws CannotReadException, FileNotFoundException {
+    final IoPhaseRecorder recorder = IoPhaseRecorder.start(file);
     try (BufferedSource bufferedSource = Okio.buffer(Okio.source(file))) {
+      recorder.phaseCompleted(IoPhase.OPEN);
       Mp4FtypBox mp4FtypBox = new Mp4FtypBox(bufferedSource);
       LOG.log(DEBUG, "%s", mp4FtypBox);
 
@@ -131,6 +135,8 @@ public class Mp4AudioFileReader extends AudioFileReader {
         boxHeader = new Mp4BoxHeader(bufferedSource);
       }
       Mp4MoovBox moovBox = new Mp4MoovBox(boxHeader, bufferedSource, mp4FtypBox, file.length(), ignoreArtwork);
+      // header and tag are parsed in one pass of the moov box, through a source which isn't counted
+      recorder.phaseCompleted(IoPhase.TAG_READ, file.length(), 0, 0);
       return new AudioFileImpl(file, extension, moovBox.getAudioHeader(), moovBox.getMp4Tag());
     } catch (FileNotFoundException e) {
       throw e;
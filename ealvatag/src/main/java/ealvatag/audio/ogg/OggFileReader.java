@@ -49,7 +49,7 @@ public class OggFileReader extends AudioFileReader {
   }
 
   protected TagFieldContainer getTag(RandomAccessFile raf, final boolean ignoreArtwork) throws CannotReadException, IOException {
-    return vtr.read(raf);
+    return vtr.read(raf, ignoreArtwork);
   }
 
   /**
@@ -69,11 +69,19 @@ public class OggVorbisTagReader {
    * @throws IOException
    */
   public TagFieldContainer read(RandomAccessFile raf) throws CannotReadException, IOException {
+    return read(raf, false);
+  }
+
+  /**
+   * Read the Logical VorbisComment Tag from the file, optionally skipping artwork fields. The tag is read only if any were
+   * skipped.
+   */
+  public TagFieldContainer read(RandomAccessFile raf, boolean ignoreArtwork) throws CannotReadException, IOException {
     LOG.log(DEBUG, "Starting to read ogg vorbis tag from file:");
     byte[] rawVorbisCommentData = readRawPacketData(raf);
 
     //Begin tag reading
-    VorbisCommentTag tag = vorbisCommentReader.read(rawVorbisCommentData, true);
+    VorbisCommentTag tag = vorbisCommentReader.read(rawVorbisCommentData, true, ignoreArtwork);
     LOG.log(DEBUG, "CompletedReadCommentTag");
     return tag;
   }
@@ -0,0 +1,69 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.wav;
+
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.iff.ChunkScanner;
+import ealvatag.audio.iff.ChunkSummary;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * Lists the chunks of a Wav file for {@link WavInfoReader} and {@link WavTagReader}
+ */
+class WavChunkScanner extends ChunkScanner {
+  private static final WavChunkScanner INSTANCE = new WavChunkScanner();
+
+  private WavChunkScanner() {
+    super(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Check the RIFF header at the current position of {@code fc} and list the chunks following it
+   *
+   * @param fc
+   * @param loggingName
+   *
+   * @return the chunks in file order
+   *
+   * @throws CannotReadException if not a Wav file
+   * @throws IOException
+   */
+  static List<ChunkSummary> scanChunks(FileChannel fc, String loggingName) throws CannotReadException, IOException {
+    if (!WavRIFFHeader.isValidHeader(fc)) {
+      throw new CannotReadException(loggingName + " Wav RIFF Header not valid");
+    }
+    return INSTANCE.scan(fc, loggingName);
+  }
+
+  @Override
+  protected int realignment(String chunkId) {
+    final WavChunkType chunkType = WavChunkType.get(chunkId);
+    if (chunkType != null) {
+      switch (chunkType) {
+        case CORRUPT_LIST:
+        case CORRUPT_ID3_EARLY:
+        case CORRUPT_ID3_LATE:
+          //Carry on reading from the next byte, as the readers always did
+          return 1;
+      }
+    }
+    return 0;
+  }
+}
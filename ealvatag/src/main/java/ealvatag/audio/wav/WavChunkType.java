@@ -1,7 +1,6 @@
 package ealvatag.audio.wav;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.google.common.collect.ImmutableMap;
 
 /**
  * Chunk types mark each {@link ealvatag.audio.iff.ChunkHeader}. They are <em>always</em> 4 ASCII chars long.
@@ -16,12 +15,23 @@ public enum WavChunkType
     LIST("LIST", "List chunk, wraps round other chunks"),
     INFO("INFO", "Original metadata implementation"),
     ID3("id3 ", "Stores metadata in ID3 chunk"),
+    JUNK("JUNK", "Filler, reserves space for other chunks to grow into"),
+    PAD("PAD ", "Filler, reserves space for other chunks to grow into"),
     CORRUPT_LIST("iLIS", "List chunk, wraps round other chunks"),
     CORRUPT_ID3_LATE("d3 \u0000", "Stores metadata in ID3 chunk"),
     CORRUPT_ID3_EARLY("\u0000id3", "Stores metadata in ID3 chunk");
     ;
 
-    private static final Map<String, WavChunkType> CODE_TYPE_MAP = new HashMap<String, WavChunkType>();
+    private static final ImmutableMap<String, WavChunkType> CODE_TYPE_MAP;
+
+    static {
+        final ImmutableMap.Builder<String, WavChunkType> builder = ImmutableMap.builder();
+        for (final WavChunkType type : values()) {
+            builder.put(type.getCode(), type);
+        }
+        CODE_TYPE_MAP = builder.build();
+    }
+
     private String code;
     private String description;
 
@@ -31,12 +41,7 @@ public enum WavChunkType
      * @param code chunk id
      * @return chunk type or {@code null} if not registered
      */
-    public synchronized static WavChunkType get(final String code) {
-        if (CODE_TYPE_MAP.isEmpty()) {
-            for (final WavChunkType type : values()) {
-                CODE_TYPE_MAP.put(type.getCode(), type);
-            }
-        }
+    public static WavChunkType get(final String code) {
         return CODE_TYPE_MAP.get(code);
     }
 
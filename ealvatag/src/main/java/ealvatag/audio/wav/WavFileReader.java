@@ -19,14 +19,20 @@
 package ealvatag.audio.wav;
 
 import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader2;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.IoPhase;
+import ealvatag.audio.IoPhaseRecorder;
+import ealvatag.audio.iff.ChunkSummary;
 import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.wav.WavTag;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
+import java.util.List;
 
 /**
  * Reads Audio and Metadata information contained in Wav file.
@@ -43,10 +49,30 @@ public class WavFileReader extends AudioFileReader2
         return new WavInfoReader(fileName).read(channel);
     }
 
+    /**
+     * Scan the chunks once and read both the audio header and the tag from them
+     */
+    @Override
+    protected AudioFileImpl read(FileChannel channel, File f, final String extension, final boolean ignoreArtwork) throws CannotReadException, IOException
+    {
+        final String fileName = f.getAbsolutePath();
+        final IoPhaseRecorder recorder = IoPhaseRecorder.of(channel);
+        final List<ChunkSummary> chunks = WavChunkScanner.scanChunks(channel, fileName);
+        final GenericAudioHeader info = new WavInfoReader(fileName).read(channel, chunks);
+        recorder.phaseCompleted(IoPhase.AUDIO_HEADER);
+        final WavTag tag = syncTags(new WavTagReader(fileName).read(channel, chunks));
+        recorder.phaseCompleted(IoPhase.TAG_READ);
+        return new AudioFileImpl(f, extension, info, tag);
+    }
+
     @Override
     protected TagFieldContainer getTag(FileChannel channel, final String fileName, final boolean ignoreArtwork) throws IOException, CannotReadException
     {
-        WavTag tag =  new WavTagReader(fileName).read(channel);
+        return syncTags(new WavTagReader(fileName).read(channel));
+    }
+
+    private WavTag syncTags(WavTag tag)
+    {
         switch (TagOptionSingleton.getInstance().getWavOptions())
         {
             case READ_ID3_ONLY_AND_SYNC:
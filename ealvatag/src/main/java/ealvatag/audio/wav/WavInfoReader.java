@@ -21,11 +21,11 @@ package ealvatag.audio.wav;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.GenericAudioHeader;
-import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.iff.Chunk;
 import ealvatag.audio.iff.ChunkHeader;
-import ealvatag.audio.iff.IffHeaderChunk;
+import ealvatag.audio.iff.ChunkScanner;
+import ealvatag.audio.iff.ChunkSummary;
 import ealvatag.audio.wav.chunk.WavFactChunk;
 import ealvatag.audio.wav.chunk.WavFormatChunk;
 import ealvatag.logging.Hex;
@@ -38,6 +38,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.List;
 
 /**
  * Read the Wav file chunks, until finds WavFormatChunk and then generates AudioHeader from it
@@ -53,15 +54,26 @@ public class WavInfoReader {
   }
 
   public GenericAudioHeader read(FileChannel fc) throws CannotReadException, IOException {
+    return read(fc, WavChunkScanner.scanChunks(fc, loggingName));
+  }
+
+  /**
+   * Read the audio header from the chunks found by a single scan of the file
+   *
+   * @param fc
+   * @param chunks all chunks of the file, as listed by {@link WavChunkScanner}
+   *
+   * @return
+   *
+   * @throws CannotReadException
+   * @throws IOException
+   */
+  GenericAudioHeader read(FileChannel fc, List<ChunkSummary> chunks) throws CannotReadException, IOException {
     GenericAudioHeader info = new GenericAudioHeader();
-    if (WavRIFFHeader.isValidHeader(fc)) {
-      while (fc.position() < fc.size()) {
-        if (!readChunk(fc, info)) {
-          break;
-        }
+    for (ChunkSummary chunkSummary : chunks) {
+      if (!readChunk(fc, chunkSummary, info)) {
+        break;
       }
-    } else {
-      throw new CannotReadException(loggingName + " Wav RIFF Header not valid");
     }
     calculateTrackLength(info);
     return info;
@@ -94,12 +106,10 @@ public class WavInfoReader {
   /**
    * Reads a Wav Chunk.
    */
-  protected boolean readChunk(FileChannel fc, GenericAudioHeader info) throws IOException, CannotReadException {
+  protected boolean readChunk(FileChannel fc, ChunkSummary chunkSummary, GenericAudioHeader info)
+      throws IOException, CannotReadException {
     Chunk chunk;
-    ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN);
-    if (!chunkHeader.readHeader(fc)) {
-      return false;
-    }
+    ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN, chunkSummary);
 
     String id = chunkHeader.getID();
     LOG.log(DEBUG, loggingName + " Reading Chunk:" + id
@@ -111,7 +121,7 @@ public class WavInfoReader {
     if (chunkType != null) {
       switch (chunkType) {
         case FACT: {
-          ByteBuffer fmtChunkData = Utils.readFileDataIntoBufferLE(fc, (int)chunkHeader.getSize());
+          ByteBuffer fmtChunkData = ChunkScanner.readChunkData(fc, chunkSummary, ByteOrder.LITTLE_ENDIAN);
           chunk = new WavFactChunk(fmtChunkData, chunkHeader, info);
           if (!chunk.readChunk()) {
             return false;
@@ -121,15 +131,15 @@ public class WavInfoReader {
 
         case DATA: {
           //We just need this value from header dont actually need to read data itself
+          final long dataStart = chunkHeader.getStartLocationInFile() + ChunkHeader.CHUNK_HEADER_SIZE;
           info.setAudioDataLength(chunkHeader.getSize());
-          info.setAudioDataStartPosition(fc.position());
-          info.setAudioDataEndPosition(fc.position() + chunkHeader.getSize());
-          fc.position(fc.position() + chunkHeader.getSize());
+          info.setAudioDataStartPosition(dataStart);
+          info.setAudioDataEndPosition(dataStart + chunkHeader.getSize());
           break;
         }
 
         case FORMAT: {
-          ByteBuffer fmtChunkData = Utils.readFileDataIntoBufferLE(fc, (int)chunkHeader.getSize());
+          ByteBuffer fmtChunkData = ChunkScanner.readChunkData(fc, chunkSummary, ByteOrder.LITTLE_ENDIAN);
           chunk = new WavFormatChunk(fmtChunkData, chunkHeader, info);
           if (!chunk.readChunk()) {
             return false;
@@ -141,37 +151,24 @@ public class WavInfoReader {
           LOG.log(ERROR,
                   loggingName + " Found Corrupt LIST Chunk, starting at Odd Location:" + chunkHeader.getID() +
                       ":" + chunkHeader.getSize());
-          fc.position(fc.position() - (ChunkHeader.CHUNK_HEADER_SIZE - 1));
           return true;
 
         //Dont need to do anything with these just skip
         default:
           LOG.log(DEBUG, loggingName + " Skipping chunk bytes:" + chunkHeader.getSize());
-          fc.position(fc.position() + chunkHeader.getSize());
       }
     }
     //Unknown chunk type just skip
     else {
-      if (chunkHeader.getSize() < 0) {
-        String msg = loggingName + " Not a valid header, unable to read a sensible size:Header"
-            + chunkHeader.getID() + "Size:" + chunkHeader.getSize();
-        LOG.log(ERROR, msg);
-        throw new CannotReadException(msg);
-      }
       LOG.log(DEBUG, loggingName + " Skipping chunk bytes:" + chunkHeader.getSize() + " for " + chunkHeader.getID());
-
-      fc.position(fc.position() + chunkHeader.getSize());
-      if (fc.position() > fc.size()) {
-        String msg = loggingName + " Failed to move to invalid position to " + fc.position() +
+      if (chunkSummary.getEndLocation() > fc.size()) {
+        String msg = loggingName + " Failed to move to invalid position to " + chunkSummary.getEndLocation() +
             " because file length is only " + fc.size()
             + " indicates invalid chunk";
         LOG.log(ERROR, msg);
         throw new CannotReadException(msg);
       }
     }
-    IffHeaderChunk.ensureOnEqualBoundary(fc, chunkHeader);
     return true;
   }
-
-
 }
@@ -20,12 +20,11 @@ package ealvatag.audio.wav;
 
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
-import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.iff.Chunk;
 import ealvatag.audio.iff.ChunkHeader;
+import ealvatag.audio.iff.ChunkScanner;
 import ealvatag.audio.iff.ChunkSummary;
-import ealvatag.audio.iff.IffHeaderChunk;
 import ealvatag.audio.wav.chunk.WavId3Chunk;
 import ealvatag.audio.wav.chunk.WavListChunk;
 import ealvatag.logging.Hex;
@@ -41,6 +40,7 @@ import static com.ealva.ealvalog.LogLevel.WARN;
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.List;
 
 /**
  * Read the Wav file chunks, until finds WavFormatChunk and then generates AudioHeader from it
@@ -56,16 +56,27 @@ public class WavTagReader {
 
 
   public WavTag read(FileChannel fc) throws CannotReadException, IOException {
+    return read(fc, WavChunkScanner.scanChunks(fc, loggingName));
+  }
+
+  /**
+   * Read the tag from the chunks found by a single scan of the file
+   *
+   * @param fc
+   * @param chunks all chunks of the file, as listed by {@link WavChunkScanner}
+   *
+   * @return
+   *
+   * @throws CannotReadException
+   * @throws IOException
+   */
+  WavTag read(FileChannel fc, List<ChunkSummary> chunks) throws CannotReadException, IOException {
     LOG.log(DEBUG, loggingName + " Read Tag:start");
     WavTag tag = new WavTag(TagOptionSingleton.getInstance().getWavOptions());
-    if (WavRIFFHeader.isValidHeader(fc)) {
-      while (fc.position() < fc.size()) {
-        if (!readChunk(fc, tag)) {
-          break;
-        }
+    for (ChunkSummary chunkSummary : chunks) {
+      if (!readChunk(fc, chunkSummary, tag)) {
+        break;
       }
-    } else {
-      throw new CannotReadException(loggingName + " Wav RIFF Header not valid");
     }
     createDefaultMetadataTagsIfMissing(tag);
     LOG.log(DEBUG, loggingName + " Read Tag:end");
@@ -98,26 +109,22 @@ public class WavTagReader {
    *
    * @throws IOException
    */
-  protected boolean readChunk(FileChannel fc, WavTag tag) throws IOException, CannotReadException {
+  protected boolean readChunk(FileChannel fc, ChunkSummary chunkSummary, WavTag tag)
+      throws IOException, CannotReadException {
     Chunk chunk;
-    ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN);
-    if (!chunkHeader.readHeader(fc)) {
-      return false;
-    }
+    ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN, chunkSummary);
 
     String id = chunkHeader.getID();
-    LOG.log(DEBUG, loggingName + " Next Id is:" + id + ":FileLocation:" + fc.position() + ":Size:" +
-        chunkHeader.getSize());
+    LOG.log(DEBUG, loggingName + " Next Id is:" + id + ":FileLocation:" + chunkHeader.getStartLocationInFile() +
+        ":Size:" + chunkHeader.getSize());
     final WavChunkType chunkType = WavChunkType.get(id);
     if (chunkType != null) {
       switch (chunkType) {
         case LIST:
-          tag.addChunkSummary(new ChunkSummary(chunkHeader.getID(),
-                                               chunkHeader.getStartLocationInFile(),
-                                               chunkHeader.getSize()));
+          tag.addChunkSummary(chunkSummary);
           if (tag.getInfoTag() == null) {
             chunk = new WavListChunk(loggingName,
-                                     Utils.readFileDataIntoBufferLE(fc, (int)chunkHeader.getSize()),
+                                     ChunkScanner.readChunkData(fc, chunkSummary, ByteOrder.LITTLE_ENDIAN),
                                      chunkHeader,
                                      tag);
             if (!chunk.readChunk()) {
@@ -139,15 +146,12 @@ public class WavTagReader {
           if (tag.getInfoTag() == null && tag.getID3Tag() == null) {
             tag.setIncorrectlyAlignedTag(true);
           }
-          fc.position(fc.position() - (ChunkHeader.CHUNK_HEADER_SIZE - 1));
           return true;
 
         case ID3:
-          tag.addChunkSummary(new ChunkSummary(chunkHeader.getID(),
-                                               chunkHeader.getStartLocationInFile(),
-                                               chunkHeader.getSize()));
+          tag.addChunkSummary(chunkSummary);
           if (tag.getID3Tag() == null) {
-            chunk = new WavId3Chunk(Utils.readFileDataIntoBufferLE(fc, (int)chunkHeader.getSize()),
+            chunk = new WavId3Chunk(ChunkScanner.readChunkData(fc, chunkSummary, ByteOrder.LITTLE_ENDIAN),
                                     chunkHeader,
                                     tag);
             if (!chunk.readChunk()) {
@@ -169,7 +173,6 @@ public class WavTagReader {
           if (tag.getInfoTag() == null && tag.getID3Tag() == null) {
             tag.setIncorrectlyAlignedTag(true);
           }
-          fc.position(fc.position() - (ChunkHeader.CHUNK_HEADER_SIZE - 1));
           return true;
 
         case CORRUPT_ID3_LATE:
@@ -179,35 +182,23 @@ public class WavTagReader {
           if (tag.getInfoTag() == null && tag.getID3Tag() == null) {
             tag.setIncorrectlyAlignedTag(true);
           }
-          fc.position(fc.position() - (ChunkHeader.CHUNK_HEADER_SIZE - 1));
           return true;
 
         default:
-          tag.addChunkSummary(new ChunkSummary(chunkHeader.getID(),
-                                               chunkHeader.getStartLocationInFile(),
-                                               chunkHeader.getSize()));
-          fc.position(fc.position() + chunkHeader.getSize());
+          tag.addChunkSummary(chunkSummary);
       }
     }
     //Unknown chunk type just skip
     else {
-      if (chunkHeader.getSize() < 0) {
-        String msg = loggingName + " Not a valid header, unable to read a sensible size:Header"
-            + chunkHeader.getID() + "Size:" + chunkHeader.getSize();
-        LOG.log(ERROR, msg);
-        throw new CannotReadException(msg);
-      }
       LOG.log(DEBUG, loggingName + " Skipping chunk bytes:" + chunkHeader.getSize() + "for" + chunkHeader.getID());
-      fc.position(fc.position() + chunkHeader.getSize());
-      if (fc.position() > fc.size()) {
-        String msg = loggingName + " Failed to move to invalid position to " + fc.position() +
+      if (chunkSummary.getEndLocation() > fc.size()) {
+        String msg = loggingName + " Failed to move to invalid position to " + chunkSummary.getEndLocation() +
             " because file length is only " + fc.size()
             + " indicates invalid chunk";
         LOG.log(ERROR, msg);
         throw new CannotReadException(msg);
       }
     }
-    IffHeaderChunk.ensureOnEqualBoundary(fc, chunkHeader);
     return true;
   }
 }
@@ -26,6 +26,7 @@ import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.audio.iff.ChunkHeader;
 import ealvatag.audio.iff.ChunkSummary;
+import ealvatag.audio.iff.FillerChunks;
 import ealvatag.audio.iff.IffHeaderChunk;
 import ealvatag.audio.wav.chunk.WavChunkSummary;
 import ealvatag.audio.wav.chunk.WavInfoIdentifier;
@@ -291,6 +292,103 @@ public class WavTagWriter {
     fc.truncate(newLength);
   }
 
+  /**
+   * Length a chunk holding {@code dataLength} bytes takes up in the file, including its header and the padding byte that
+   * keeps the following chunk on an even boundary
+   *
+   * @param dataLength
+   *
+   * @return
+   */
+  private static long chunkLengthInFile(final long dataLength) {
+    return ChunkHeader.CHUNK_HEADER_SIZE + dataLength + (Utils.isOddLength(dataLength) ? 1 : 0);
+  }
+
+  /**
+   * The JUNK chunks used to reuse the space of a chunk. Besides the JUNK/PAD chunks directly following the chunk, its slack
+   * includes, if {@code includeMetadata}, the existing INFO and id3 chunks being replaced if they directly follow it. It stops
+   * at the first other chunk, including any other LIST or id3 chunk, so the audio data and metadata this writer doesn't manage,
+   * such as LIST/adtl cue labels, are never part of it.
+   *
+   * @param existingTag
+   * @param includeMetadata
+   *
+   * @return
+   */
+  private static FillerChunks junkChunks(final WavTag existingTag, final boolean includeMetadata) {
+    return new FillerChunks(WavChunkType.JUNK.getCode(), ByteOrder.LITTLE_ENDIAN) {
+      @Override protected boolean isSlack(final ChunkSummary chunk) {
+        return isSlackChunk(existingTag, chunk, includeMetadata);
+      }
+    };
+  }
+
+  private static boolean isSlackChunk(final WavTag existingTag, final ChunkSummary cs, final boolean includeMetadata) {
+    final String id = cs.getChunkId();
+    if (WavChunkType.JUNK.getCode().equals(id) || WavChunkType.PAD.getCode().equals(id)) {
+      return true;
+    }
+    if (!includeMetadata) {
+      return false;
+    }
+    final long start = cs.getFileStartLocation();
+    return (existingTag.isExistingInfoTag() && existingTag.getInfoTag().getStartLocationInFile() == start) ||
+        (existingTag.isExistingId3Tag() && existingTag.getStartLocationInFileOfId3Chunk() == start);
+  }
+
+  /**
+   * Make room for {@code newLength} bytes of metadata chunks replacing the chunk at {@code startLocation}, without moving
+   * any other chunk.
+   * <p>
+   * If the new chunks fit into the {@link FillerChunks#slackAt slack} of the existing chunk the remainder is turned into a JUNK chunk
+   * and the file is positioned at the start location. Otherwise the whole slack becomes a JUNK chunk and the file is
+   * positioned at its end, so the new chunks are appended after the audio data. Either way the caller just writes the new
+   * chunks at the current position, and only the RIFF size has to be updated afterwards.
+   *
+   * @param fc
+   * @param existingTag
+   * @param startLocation   start of the existing chunk header
+   * @param newLength       length of the new chunks including headers and padding bytes
+   * @param includeMetadata if metadata chunks directly following the existing chunk are also to be replaced
+   *
+   * @return true if the new chunks will be written in place
+   *
+   * @throws IOException
+   */
+  private boolean reserveInPlace(final FileChannel fc,
+                                 final WavTag existingTag,
+                                 final long startLocation,
+                                 final long newLength,
+                                 final boolean includeMetadata) throws IOException {
+    final FillerChunks junkChunks = junkChunks(existingTag, includeMetadata);
+    final long slack = junkChunks.slackAt(fc, existingTag.getChunkSummaryList(), startLocation);
+    //A JUNK chunk needs at least its header to fill the remainder
+    if (newLength == slack || newLength + ChunkHeader.CHUNK_HEADER_SIZE <= slack) {
+      LOG.log(DEBUG, loggingName + " Writing metadata in place at:" + startLocation + ":slack:" + slack);
+      junkChunks.write(fc, startLocation + newLength, startLocation + slack);
+      fc.position(startLocation);
+      return true;
+    }
+    LOG.log(DEBUG, loggingName + " Metadata does not fit at:" + startLocation + ":slack:" + slack + ", appending");
+    junkChunks.write(fc, startLocation, startLocation + slack);
+    fc.position(fc.size());
+    return false;
+  }
+
+  /**
+   * Turn the chunk at {@code startLocation}, together with the filler chunks following it, into a single JUNK chunk
+   *
+   * @param fc
+   * @param existingTag
+   * @param startLocation
+   *
+   * @throws IOException
+   */
+  private void junkChunk(final FileChannel fc, final WavTag existingTag, final long startLocation) throws IOException {
+    final FillerChunks junkChunks = junkChunks(existingTag, false);
+    junkChunks.write(fc, startLocation, startLocation + junkChunks.slackAt(fc, existingTag.getChunkSummaryList(), startLocation));
+  }
+
   /**
    * @param tag
    * @param fc
@@ -727,12 +825,32 @@ public class WavTagWriter {
             fc.truncate(fc.position());
           }
         }
-        //Both chunks are together but there is another chunk after them
+        //Both chunks are together but there is another chunk after them, reuse their space if we can
+        else if (fs.isContiguous) {
+          seekToStartOfListInfoMetadata(fc, existingTag);
+          seekToStartOfId3Metadata(fc, existingTag);
+          reserveInPlace(fc,
+                         existingTag,
+                         Math.min(existingTag.getInfoTag().getStartLocationInFile(),
+                                  existingTag.getStartLocationInFileOfId3Chunk()),
+                         bothTagsLengthInFile(infoTagBuffer, id3TagBuffer),
+                         true);
+          writeBothTags(fc, infoTagBuffer, id3TagBuffer);
+        }
+        //Chunks are apart, blank them (or drop the one at the end) and write both after the last chunk
         else {
-          ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
-          ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
-          deleteInfoTagChunk(fc, existingTag, infoChunkHeader);
-          deleteId3TagChunk(fc, existingTag, id3ChunkHeader);
+          seekToStartOfListInfoMetadata(fc, existingTag);
+          seekToStartOfId3Metadata(fc, existingTag);
+          if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
+            fc.truncate(existingTag.getInfoTag().getStartLocationInFile());
+            junkChunk(fc, existingTag, existingTag.getStartLocationInFileOfId3Chunk());
+          } else if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
+            fc.truncate(existingTag.getStartLocationInFileOfId3Chunk());
+            junkChunk(fc, existingTag, existingTag.getInfoTag().getStartLocationInFile());
+          } else {
+            junkChunk(fc, existingTag, existingTag.getInfoTag().getStartLocationInFile());
+            junkChunk(fc, existingTag, existingTag.getStartLocationInFileOfId3Chunk());
+          }
           fc.position(fc.size());
           writeBothTags(fc, infoTagBuffer, id3TagBuffer);
         }
@@ -751,13 +869,16 @@ public class WavTagWriter {
     //If only INFO chunk exists
     else if (existingTag.isExistingInfoTag() && !existingTag.isExistingId3Tag()) {
       if (!existingTag.isIncorrectlyAlignedTag()) {
-        ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
+        seekToStartOfListInfoMetadata(fc, existingTag);
         if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
           writeBothTags(fc, infoTagBuffer, id3TagBuffer);
           fc.truncate(fc.position());
         } else {
-          deleteInfoTagChunk(fc, existingTag, infoChunkHeader);
-          fc.position(fc.size());
+          reserveInPlace(fc,
+                         existingTag,
+                         existingTag.getInfoTag().getStartLocationInFile(),
+                         bothTagsLengthInFile(infoTagBuffer, id3TagBuffer),
+                         false);
           writeBothTags(fc, infoTagBuffer, id3TagBuffer);
         }
       }
@@ -775,13 +896,16 @@ public class WavTagWriter {
     //If only ID3 chunk exists
     else if (existingTag.isExistingId3Tag() && !existingTag.isExistingInfoTag()) {
       if (!existingTag.isIncorrectlyAlignedTag()) {
-        ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
+        seekToStartOfId3Metadata(fc, existingTag);
         if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
           writeBothTags(fc, infoTagBuffer, id3TagBuffer);
           fc.truncate(fc.position());
         } else {
-          deleteId3TagChunk(fc, existingTag, id3ChunkHeader);
-          fc.position(fc.size());
+          reserveInPlace(fc,
+                         existingTag,
+                         existingTag.getStartLocationInFileOfId3Chunk(),
+                         bothTagsLengthInFile(infoTagBuffer, id3TagBuffer),
+                         false);
           writeBothTags(fc, infoTagBuffer, id3TagBuffer);
         }
       }
@@ -825,6 +949,16 @@ public class WavTagWriter {
     }
   }
 
+  /**
+   * @param infoTagBuffer
+   * @param id3TagBuffer
+   *
+   * @return length of both chunks in the file when written by {@link #writeBothTags}
+   */
+  private static long bothTagsLengthInFile(ByteBuffer infoTagBuffer, ByteBuffer id3TagBuffer) {
+    return chunkLengthInFile(infoTagBuffer.limit()) + chunkLengthInFile(id3TagBuffer.limit());
+  }
+
   /**
    * Save Active chunk only, if a non-active metadata chunk exists will be removed
    *
@@ -849,20 +983,23 @@ public class WavTagWriter {
           if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
             fc.truncate(existingTag.getStartLocationInFileOfId3Chunk());
           } else {
-            ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
-            deleteId3TagChunk(fc, existingTag, id3ChunkHeader);
+            seekToStartOfId3Metadata(fc, existingTag);
+            junkChunk(fc, existingTag, existingTag.getStartLocationInFileOfId3Chunk());
           }
         }
 
         //We already have such a tag
         if (existingTag.isExistingInfoTag()) {
-          ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
+          seekToStartOfListInfoMetadata(fc, existingTag);
           if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
             writeInfoChunk(fc, existingTag.getInfoTag(), infoTagBuffer);
           } else {
-            deleteInfoTagChunk(fc, existingTag, infoChunkHeader);
-            fc.position(fc.size());
-            writeInfoDataToFile(fc, infoTagBuffer, infoTagBuffer.limit());
+            reserveInPlace(fc,
+                           existingTag,
+                           existingTag.getInfoTag().getStartLocationInFile(),
+                           chunkLengthInFile(newInfoTagSize),
+                           false);
+            writeInfoDataToFile(fc, infoTagBuffer, newInfoTagSize);
           }
         }
         //Don't have tag so have to create new
@@ -888,21 +1025,24 @@ public class WavTagWriter {
       final ByteBuffer id3TagBuffer = convertID3Chunk(wavTag, existingTag);
       if (!existingTag.isIncorrectlyAlignedTag()) {
         if (existingTag.isExistingInfoTag()) {
-          ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
+          seekToStartOfListInfoMetadata(fc, existingTag);
           if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
             fc.truncate(existingTag.getInfoTag().getStartLocationInFile());
           } else {
-            deleteInfoTagChunk(fc, existingTag, infoChunkHeader);
+            junkChunk(fc, existingTag, existingTag.getInfoTag().getStartLocationInFile());
           }
         }
 
         if (existingTag.isExistingId3Tag()) {
-          ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
+          seekToStartOfId3Metadata(fc, existingTag);
           if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
             writeID3DataToFile(fc, id3TagBuffer);
           } else {
-            deleteId3TagChunk(fc, existingTag, id3ChunkHeader);
-            fc.position(fc.size());
+            reserveInPlace(fc,
+                           existingTag,
+                           existingTag.getStartLocationInFileOfId3Chunk(),
+                           chunkLengthInFile(id3TagBuffer.limit()),
+                           false);
             writeID3DataToFile(fc, id3TagBuffer);
           }
         } else {
@@ -41,7 +41,7 @@ public class WavChunkSummary {
   }
 
   /**
-   * Checks that there are only id3 tags after the currently selected id3tag because this means its safe to truncate
+   * Checks that there are only id3 tags (or filler chunks) after the currently selected id3tag because this means its safe to truncate
    * the remainder of the file.
    *
    * @param tag
@@ -61,7 +61,9 @@ public class WavChunkSummary {
         if (
             !cs.getChunkId().equals(WavChunkType.ID3.getCode()) &&
                 !cs.getChunkId().equals(WavChunkType.LIST.getCode()) &&
-                !cs.getChunkId().equals(WavChunkType.INFO.getCode())
+                !cs.getChunkId().equals(WavChunkType.INFO.getCode()) &&
+                !cs.getChunkId().equals(WavChunkType.JUNK.getCode()) &&
+                !cs.getChunkId().equals(WavChunkType.PAD.getCode())
             ) {
           return false;
         }
@@ -1,10 +1,8 @@
 package ealvatag.audio.wav.chunk;
 
+import com.google.common.collect.ImmutableMap;
 import ealvatag.tag.FieldKey;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Known Identifiers used in an INFO Chunk together with their mapping to a generic FieldKey (if known)
  */
@@ -31,8 +29,25 @@ public enum WavInfoIdentifier
     COPYRIGHT("ICOP", null, 18),
     TWONKY_TRACKNO("itrk", null, 1), //Uses nonstandard field
     ;
-    private static final Map<String, WavInfoIdentifier> CODE_TYPE_MAP = new HashMap<String, WavInfoIdentifier>();
-    private static final Map<FieldKey, WavInfoIdentifier> FIELDKEY_TYPE_MAP = new HashMap<FieldKey, WavInfoIdentifier>();
+    private static final ImmutableMap<String, WavInfoIdentifier> CODE_TYPE_MAP;
+    private static final ImmutableMap<FieldKey, WavInfoIdentifier> FIELDKEY_TYPE_MAP;
+
+    static
+    {
+        final ImmutableMap.Builder<String, WavInfoIdentifier> codes = ImmutableMap.builder();
+        final ImmutableMap.Builder<FieldKey, WavInfoIdentifier> fieldKeys = ImmutableMap.builder();
+        for (final WavInfoIdentifier type : values())
+        {
+            codes.put(type.getCode(), type);
+            if (type.getFieldKey() != null)
+            {
+                fieldKeys.put(type.getFieldKey(), type);
+            }
+        }
+        CODE_TYPE_MAP = codes.build();
+        FIELDKEY_TYPE_MAP = fieldKeys.build();
+    }
+
     private String code;
     private FieldKey fieldKey;
     private int      preferredWriteOrder;
@@ -65,15 +80,8 @@ public enum WavInfoIdentifier
      * @param code chunk id
      * @return chunk type or {@code null} if not registered
      */
-    public synchronized static WavInfoIdentifier getByCode(final String code)
+    public static WavInfoIdentifier getByCode(final String code)
     {
-        if (CODE_TYPE_MAP.isEmpty())
-        {
-            for (final WavInfoIdentifier type : values())
-            {
-                CODE_TYPE_MAP.put(type.getCode(), type);
-            }
-        }
         return CODE_TYPE_MAP.get(code);
     }
 
@@ -83,18 +91,8 @@ public enum WavInfoIdentifier
      * @param fieldKey
      * @return chunk type or {@code null} if not registered
      */
-    public synchronized static WavInfoIdentifier getByByFieldKey(final FieldKey fieldKey)
+    public static WavInfoIdentifier getByByFieldKey(final FieldKey fieldKey)
     {
-        if (FIELDKEY_TYPE_MAP.isEmpty())
-        {
-            for (final WavInfoIdentifier type : values())
-            {
-                if (type.getFieldKey() != null)
-                {
-                    FIELDKEY_TYPE_MAP.put(type.getFieldKey(), type);
-                }
-            }
-        }
         return FIELDKEY_TYPE_MAP.get(fieldKey);
     }
 }
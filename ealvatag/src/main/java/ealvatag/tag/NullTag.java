@@ -182,4 +182,8 @@ public final class NullTag implements Tag {
   @Override public TagField createCompilationField(final boolean value) throws UnsupportedFieldException {
     return NullTagField.INSTANCE;
   }
+
+  @Override public TagSnapshot snapshot() {
+    return TagSnapshot.EMPTY;
+  }
 }
@@ -404,4 +404,14 @@ public interface Tag {
    * @throws UnsupportedFieldException if the Tag doesn't support the {@link FieldKey#IS_COMPILATION} field
    */
   TagField createCompilationField(boolean value) throws UnsupportedFieldException;
+
+  /**
+   * Take an immutable copy of this tag's generic values. Unlike the tag, which is mutable and unsynchronized, the snapshot may
+   * be shared between threads and cached.
+   *
+   * @return a snapshot of the current field values
+   *
+   * @see TagSnapshot
+   */
+  TagSnapshot snapshot();
 }
@@ -41,20 +41,28 @@ import ealvatag.utils.Check;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 @SuppressWarnings("unused")
 public class TagOptionSingleton {
 
   private static ConcurrentMap<String, TagOptionSingleton> tagOptionTable = new ConcurrentHashMap<>();
   private static String DEFAULT = "default";
-  private static String defaultOptions = DEFAULT;
+  private static volatile String defaultOptions = DEFAULT;
+  /**
+   * The options for {@link #defaultOptions}, read by {@link #getInstance()} on nearly every frame read and write, so kept in a
+   * volatile field instead of being looked up in {@link #tagOptionTable} each time
+   */
+  private static volatile TagOptionSingleton defaultInstance = getInstance(DEFAULT);
 
-  private static final Lock tagOptionTableLock = new ReentrantLock();
+  /**
+   * Default bytes of padding reserved when an ASF file is rewritten
+   */
+  public static final int DEFAULT_ASF_PADDING_SIZE = 4000;
 
+  private final boolean readOnly;
   private boolean isWriteWavForTwonky = false;
   private WavOptions wavOptions = WavOptions.READ_ID3_ONLY;
   private WavSaveOptions wavSaveOptions = WavSaveOptions.SAVE_BOTH;
@@ -239,6 +247,11 @@ public class TagOptionSingleton {
    * max size of data to copy when copying audiodata from one file to , default to 4mb
    */
   private long writeChunkSize = (4 * 1024 * 1024);
+  /**
+   * Bytes of padding reserved in the header object when an ASF file has to be rewritten, so later changes to its metadata
+   * can be written in place
+   */
+  private int asfPaddingSize = DEFAULT_ASF_PADDING_SIZE;
   private boolean isWriteMp4GenresAsText = false;
   private boolean isWriteMp3GenresAsText = false;
   private ID3V2Version id3v2Version = ID3V2Version.ID3_V23;
@@ -267,24 +280,50 @@ public class TagOptionSingleton {
     return getInstance().getID3V2Version().makeTag();
   }
 
+  /**
+   * The options of the current thread's {@link TagOptions.Scope}, if any
+   */
+  private static final ThreadLocal<TagOptionSingleton> callOptions = new ThreadLocal<>();
+
+  /**
+   * @return the options of the {@link TagOptions.Scope} the current thread is in, otherwise the options for the current instance key
+   */
   public static TagOptionSingleton getInstance() {
-    return getInstance(defaultOptions);
+    final TagOptionSingleton options = callOptions.get();
+    return options != null ? options : defaultInstance;
   }
 
-  public static TagOptionSingleton getInstance(String instanceKey) {
-    tagOptionTableLock.lock();
-    try {
-      TagOptionSingleton tagOptions = tagOptionTable.get(instanceKey);
+  /**
+   * Make {@code options} the options of the current thread, null to go back to the shared options
+   *
+   * @return the previous options of the current thread, null if there were none
+   */
+  static TagOptionSingleton setCallOptions(TagOptionSingleton options) {
+    final TagOptionSingleton previous = callOptions.get();
+    if (options == null) {
+      callOptions.remove();
+    } else {
+      callOptions.set(options);
+    }
+    return previous;
+  }
 
+  private void checkWritable() {
+    if (readOnly) {
+      throw new UnsupportedOperationException("The options of a TagOptions can't be changed, use TagOptions.toBuilder()");
+    }
+  }
+
+  public static TagOptionSingleton getInstance(String instanceKey) {
+    TagOptionSingleton tagOptions = tagOptionTable.get(instanceKey);
+    if (tagOptions == null) {
+      final TagOptionSingleton newOptions = new TagOptionSingleton();
+      tagOptions = tagOptionTable.putIfAbsent(instanceKey, newOptions);
       if (tagOptions == null) {
-        tagOptions = new TagOptionSingleton();
-        tagOptionTable.put(instanceKey, tagOptions);
+        tagOptions = newOptions;
       }
-
-      return tagOptions;
-    } finally {
-      tagOptionTableLock.unlock();
     }
+    return tagOptions;
   }
 
   public static String getInstanceKey() {
@@ -293,6 +332,7 @@ public class TagOptionSingleton {
 
   public void setInstanceKey(String instanceKey) {
     TagOptionSingleton.defaultOptions = instanceKey;
+    TagOptionSingleton.defaultInstance = getInstance(instanceKey);
   }
 
   /**
@@ -300,14 +340,78 @@ public class TagOptionSingleton {
    * values
    */
   private TagOptionSingleton() {
+    readOnly = false;
     setToDefault();
   }
 
+  /**
+   * Copy all options of {@code other}, used to snapshot the options for a {@link TagOptions}
+   *
+   * @param readOnly if the setters of the copy throw, so options in use by a {@link TagOptions.Scope} can't be changed
+   */
+  TagOptionSingleton(TagOptionSingleton other, boolean readOnly) {
+    this.readOnly = readOnly;
+    isWriteWavForTwonky = other.isWriteWavForTwonky;
+    wavOptions = other.wavOptions;
+    wavSaveOptions = other.wavSaveOptions;
+    wavSaveOrder = other.wavSaveOrder;
+    vorbisAlbumArtistSaveOptions = other.vorbisAlbumArtistSaveOptions;
+    vorbisAlbumArtistReadOptions = other.vorbisAlbumArtistReadOptions;
+    keywordMap = new HashMap<>();
+    for (Map.Entry<Class<? extends ID3v24FrameBody>, LinkedList<String>> entry : other.keywordMap.entrySet()) {
+      keywordMap.put(entry.getKey(), new LinkedList<>(entry.getValue()));
+    }
+    lyrics3SaveFieldMap = new HashMap<>(other.lyrics3SaveFieldMap);
+    parenthesisMap = new HashMap<>(other.parenthesisMap);
+    replaceWordMap = new HashMap<>(other.replaceWordMap);
+    language = other.language;
+    filenameTagSave = other.filenameTagSave;
+    id3v1Save = other.id3v1Save;
+    id3v1SaveAlbum = other.id3v1SaveAlbum;
+    id3v1SaveArtist = other.id3v1SaveArtist;
+    id3v1SaveComment = other.id3v1SaveComment;
+    id3v1SaveGenre = other.id3v1SaveGenre;
+    id3v1SaveTitle = other.id3v1SaveTitle;
+    id3v1SaveTrack = other.id3v1SaveTrack;
+    id3v1SaveYear = other.id3v1SaveYear;
+    id3v2PaddingCopyTag = other.id3v2PaddingCopyTag;
+    id3v2PaddingWillShorten = other.id3v2PaddingWillShorten;
+    id3v2Save = other.id3v2Save;
+    lyrics3KeepEmptyFieldIfRead = other.lyrics3KeepEmptyFieldIfRead;
+    lyrics3Save = other.lyrics3Save;
+    lyrics3SaveEmptyField = other.lyrics3SaveEmptyField;
+    originalSavedAfterAdjustingID3v2Padding = other.originalSavedAfterAdjustingID3v2Padding;
+    timeStampFormat = other.timeStampFormat;
+    numberMP3SyncFrame = other.numberMP3SyncFrame;
+    unsyncTags = other.unsyncTags;
+    removeTrailingTerminatorOnWrite = other.removeTrailingTerminatorOnWrite;
+    id3v23DefaultTextEncoding = other.id3v23DefaultTextEncoding;
+    id3v24DefaultTextEncoding = other.id3v24DefaultTextEncoding;
+    id3v24UnicodeTextEncoding = other.id3v24UnicodeTextEncoding;
+    resetTextEncodingForExistingFrames = other.resetTextEncodingForExistingFrames;
+    truncateTextWithoutErrors = other.truncateTextWithoutErrors;
+    padNumbers = other.padNumbers;
+    padNumberTotalLength = other.padNumberTotalLength;
+    isAndroid = other.isAndroid;
+    isAPICDescriptionITunesCompatible = other.isAPICDescriptionITunesCompatible;
+    isEncodeUTF16BomAsLittleEndian = other.isEncodeUTF16BomAsLittleEndian;
+    playerCompatability = other.playerCompatability;
+    writeChunkSize = other.writeChunkSize;
+    asfPaddingSize = other.asfPaddingSize;
+    isWriteMp4GenresAsText = other.isWriteMp4GenresAsText;
+    isWriteMp3GenresAsText = other.isWriteMp3GenresAsText;
+    id3v2Version = other.id3v2Version;
+    checkIsWritable = other.checkIsWritable;
+    preserveFileIdentity = other.preserveFileIdentity;
+    readAheadMp4 = other.readAheadMp4;
+  }
+
   public WavOptions getWavOptions() {
     return wavOptions;
   }
 
   public void setWavOptions(WavOptions wavOptions) {
+    checkWritable();
     this.wavOptions = wavOptions;
   }
 
@@ -316,6 +420,7 @@ public class TagOptionSingleton {
   }
 
   public void setWavSaveOptions(WavSaveOptions wavSaveOptions) {
+    checkWritable();
     this.wavSaveOptions = wavSaveOptions;
   }
 
@@ -324,6 +429,7 @@ public class TagOptionSingleton {
   }
 
   public void setWavSaveOrder(WavSaveOrder wavSaveOrder) {
+    checkWritable();
     this.wavSaveOrder = wavSaveOrder;
   }
 
@@ -332,10 +438,12 @@ public class TagOptionSingleton {
   }
 
   public void setVorbisAlbumArtistSaveOptions(VorbisAlbumArtistSaveOptions vorbisAlbumArtistSaveOptions) {
+    checkWritable();
     this.vorbisAlbumArtistSaveOptions = vorbisAlbumArtistSaveOptions;
   }
 
   public void setVorbisAlbumArtistReadOptions(VorbisAlbumArtistReadOptions vorbisAlbumArtistReadOptions) {
+    checkWritable();
     this.vorbisAlbumArtistReadOptions = vorbisAlbumArtistReadOptions;
   }
 
@@ -348,6 +456,7 @@ public class TagOptionSingleton {
   }
 
   public void setFilenameTagSave(boolean filenameTagSave) {
+    checkWritable();
     this.filenameTagSave = filenameTagSave;
   }
 
@@ -356,6 +465,7 @@ public class TagOptionSingleton {
   }
 
   public void setID3V2Version(ID3V2Version id3v2Version) {
+    checkWritable();
     Check.checkArgNotNull(id3v2Version);
     this.id3v2Version = id3v2Version;
   }
@@ -365,6 +475,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1Save(boolean id3v1Save) {
+    checkWritable();
     this.id3v1Save = id3v1Save;
   }
 
@@ -373,6 +484,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveAlbum(boolean id3v1SaveAlbum) {
+    checkWritable();
     this.id3v1SaveAlbum = id3v1SaveAlbum;
   }
 
@@ -381,6 +493,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveArtist(boolean id3v1SaveArtist) {
+    checkWritable();
     this.id3v1SaveArtist = id3v1SaveArtist;
   }
 
@@ -389,6 +502,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveComment(boolean id3v1SaveComment) {
+    checkWritable();
     this.id3v1SaveComment = id3v1SaveComment;
   }
 
@@ -397,6 +511,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveGenre(boolean id3v1SaveGenre) {
+    checkWritable();
     this.id3v1SaveGenre = id3v1SaveGenre;
   }
 
@@ -405,6 +520,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveTitle(boolean id3v1SaveTitle) {
+    checkWritable();
     this.id3v1SaveTitle = id3v1SaveTitle;
   }
 
@@ -413,6 +529,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveTrack(boolean id3v1SaveTrack) {
+    checkWritable();
     this.id3v1SaveTrack = id3v1SaveTrack;
   }
 
@@ -421,6 +538,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveYear(boolean id3v1SaveYear) {
+    checkWritable();
     this.id3v1SaveYear = id3v1SaveYear;
   }
 
@@ -429,6 +547,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v2PaddingCopyTag(boolean id3v2PaddingCopyTag) {
+    checkWritable();
     this.id3v2PaddingCopyTag = id3v2PaddingCopyTag;
   }
 
@@ -437,6 +556,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v2PaddingWillShorten(boolean id3v2PaddingWillShorten) {
+    checkWritable();
     this.id3v2PaddingWillShorten = id3v2PaddingWillShorten;
   }
 
@@ -445,6 +565,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v2Save(boolean id3v2Save) {
+    checkWritable();
     this.id3v2Save = id3v2Save;
   }
 
@@ -471,6 +592,7 @@ public class TagOptionSingleton {
    * @see #shouldReadAheadMp4()
    */
   public void setReadAheadMp4(final boolean readAheadMp4) {
+    checkWritable();
     this.readAheadMp4 = readAheadMp4;
   }
 
@@ -499,6 +621,7 @@ public class TagOptionSingleton {
    * @param lang language ID, [ISO-639-2] ISO/FDIS 639-2 definition
    */
   public void setLanguage(String lang) {
+    checkWritable();
     if (Languages.getInstanceOf().containsKey(lang)) {
       language = lang;
     }
@@ -509,6 +632,7 @@ public class TagOptionSingleton {
   }
 
   public void setLyrics3KeepEmptyFieldIfRead(boolean lyrics3KeepEmptyFieldIfRead) {
+    checkWritable();
     this.lyrics3KeepEmptyFieldIfRead = lyrics3KeepEmptyFieldIfRead;
   }
 
@@ -517,6 +641,7 @@ public class TagOptionSingleton {
   }
 
   public void setLyrics3Save(boolean lyrics3Save) {
+    checkWritable();
     this.lyrics3Save = lyrics3Save;
   }
 
@@ -525,6 +650,7 @@ public class TagOptionSingleton {
   }
 
   public void setLyrics3SaveEmptyField(boolean lyrics3SaveEmptyField) {
+    checkWritable();
     this.lyrics3SaveEmptyField = lyrics3SaveEmptyField;
   }
 
@@ -535,6 +661,7 @@ public class TagOptionSingleton {
    * @param save true if you want to save this specific Lyrics3 field.
    */
   public void setLyrics3SaveField(String id, boolean save) {
+    checkWritable();
     this.lyrics3SaveFieldMap.put(id, save);
   }
 
@@ -550,8 +677,11 @@ public class TagOptionSingleton {
     return lyrics3SaveFieldMap.get(id);
   }
 
+  /**
+   * @return the Lyrics3 fields to save, a copy for the options of a {@link TagOptions}
+   */
   public HashMap<String, Boolean> getLyrics3SaveFieldMap() {
-    return lyrics3SaveFieldMap;
+    return readOnly ? new HashMap<>(lyrics3SaveFieldMap) : lyrics3SaveFieldMap;
   }
 
   public String getNewReplaceWord(String oldWord) {
@@ -579,6 +709,7 @@ public class TagOptionSingleton {
    * @param numberMP3SyncFrame number of MP3 frames to sync
    */
   public void setNumberMP3SyncFrame(int numberMP3SyncFrame) {
+    checkWritable();
     this.numberMP3SyncFrame = numberMP3SyncFrame;
   }
 
@@ -599,6 +730,7 @@ public class TagOptionSingleton {
   }
 
   public void setOriginalSavedAfterAdjustingID3v2Padding(boolean originalSavedAfterAdjustingID3v2Padding) {
+    checkWritable();
     this.originalSavedAfterAdjustingID3v2Padding = originalSavedAfterAdjustingID3v2Padding;
   }
 
@@ -627,6 +759,7 @@ public class TagOptionSingleton {
    * @param tsf the new default time stamp format
    */
   public void setTimeStampFormat(byte tsf) {
+    checkWritable();
     if ((tsf == 1) || (tsf == 2)) {
       timeStampFormat = tsf;
     }
@@ -636,6 +769,7 @@ public class TagOptionSingleton {
    *
    */
   public void setToDefault() {
+    checkWritable();
     isWriteWavForTwonky = false;
     wavOptions = WavOptions.READ_ID3_UNLESS_ONLY_INFO;
     wavSaveOptions = WavSaveOptions.SAVE_BOTH;
@@ -673,6 +807,7 @@ public class TagOptionSingleton {
     isAndroid = false;
     isEncodeUTF16BomAsLittleEndian = true;
     writeChunkSize = 5000000;
+    asfPaddingSize = DEFAULT_ASF_PADDING_SIZE;
     isWriteMp4GenresAsText = false;
     padNumberTotalLength = PadNumberOption.PAD_ONE_ZERO;
     id3v2Version = ID3V2Version.ID3_V23;
@@ -797,6 +932,7 @@ public class TagOptionSingleton {
    * @param unsyncTags set whether tags are  unsynchronized when written if contain bit pattern that could be mistaken for audio marker
    */
   public void setUnsyncTags(boolean unsyncTags) {
+    checkWritable();
     this.unsyncTags = unsyncTags;
   }
 
@@ -813,6 +949,7 @@ public class TagOptionSingleton {
    * Remove unnecessary trailing null characters on write
    */
   public void setRemoveTrailingTerminatorOnWrite(boolean removeTrailingTerminatorOnWrite) {
+    checkWritable();
     this.removeTrailingTerminatorOnWrite = removeTrailingTerminatorOnWrite;
   }
 
@@ -829,6 +966,7 @@ public class TagOptionSingleton {
    * UTF16 will always be used because that is the only valid option for v23/v22
    */
   public void setId3v23DefaultTextEncoding(byte id3v23DefaultTextEncoding) {
+    checkWritable();
     if ((id3v23DefaultTextEncoding == TextEncoding.ISO_8859_1) || (id3v23DefaultTextEncoding == TextEncoding.UTF_16)) {
       this.id3v23DefaultTextEncoding = id3v23DefaultTextEncoding;
     }
@@ -847,6 +985,7 @@ public class TagOptionSingleton {
    * but by changing this value you could always used UTF8 for example whether you needed to or not
    */
   public void setId3v24DefaultTextEncoding(byte id3v24DefaultTextEncoding) {
+    checkWritable();
     if ((id3v24DefaultTextEncoding == TextEncoding.ISO_8859_1) ||
         (id3v24DefaultTextEncoding == TextEncoding.UTF_16) ||
         (id3v24DefaultTextEncoding == TextEncoding.UTF_16BE) ||
@@ -869,6 +1008,7 @@ public class TagOptionSingleton {
    * because this encoding is understand by all ID3 versions
    */
   public void setId3v24UnicodeTextEncoding(byte id3v24UnicodeTextEncoding) {
+    checkWritable();
     if ((id3v24UnicodeTextEncoding == TextEncoding.UTF_16) ||
         (id3v24UnicodeTextEncoding == TextEncoding.UTF_16BE) ||
         (id3v24UnicodeTextEncoding == TextEncoding.UTF_8)) {
@@ -891,6 +1031,7 @@ public class TagOptionSingleton {
    * the frame.
    */
   public void setResetTextEncodingForExistingFrames(boolean resetTextEncodingForExistingFrames) {
+    checkWritable();
     this.resetTextEncodingForExistingFrames = resetTextEncodingForExistingFrames;
   }
 
@@ -899,6 +1040,7 @@ public class TagOptionSingleton {
   }
 
   public void setTruncateTextWithoutErrors(boolean truncateTextWithoutErrors) {
+    checkWritable();
     this.truncateTextWithoutErrors = truncateTextWithoutErrors;
   }
 
@@ -907,6 +1049,7 @@ public class TagOptionSingleton {
   }
 
   public void setPadNumbers(boolean padNumbers) {
+    checkWritable();
     this.padNumbers = padNumbers;
   }
 
@@ -915,6 +1058,7 @@ public class TagOptionSingleton {
   }
 
   public void setAndroid(boolean android) {
+    checkWritable();
     isAndroid = android;
   }
 
@@ -927,6 +1071,7 @@ public class TagOptionSingleton {
   }
 
   public void setPlayerCompatability(int playerCompatability) {
+    checkWritable();
     this.playerCompatability = playerCompatability;
   }
 
@@ -939,9 +1084,32 @@ public class TagOptionSingleton {
   }
 
   @SuppressWarnings("SameParameterValue") public void setEncodeUTF16BomAsLittleEndian(boolean encodeUTF16BomAsLittleEndian) {
+    checkWritable();
     isEncodeUTF16BomAsLittleEndian = encodeUTF16BomAsLittleEndian;
   }
 
+  /**
+   * Bytes of padding reserved in the header object when an ASF file is rewritten, so later edits which fit in it can be
+   * written in place without copying the audio.
+   */
+  public int getAsfPaddingSize() {
+    return asfPaddingSize;
+  }
+
+  /**
+   * Sets the bytes of padding reserved in the header object when an ASF file is rewritten. With 0 no padding is added, but
+   * padding already in the file is kept.
+   *
+   * @param asfPaddingSize padding size in bytes, not negative
+   */
+  public void setAsfPaddingSize(int asfPaddingSize) {
+    checkWritable();
+    if (asfPaddingSize < 0) {
+      throw new IllegalArgumentException("asfPaddingSize must not be negative");
+    }
+    this.asfPaddingSize = asfPaddingSize;
+  }
+
   /**
    * When we have to create new audio files and shift audio data to fit in more metadata this value
    * set the maximum amount in bytes that can be transferred in one call, this is to protect against
@@ -952,6 +1120,7 @@ public class TagOptionSingleton {
   }
 
   public void setWriteChunkSize(long writeChunkSize) {
+    checkWritable();
     this.writeChunkSize = writeChunkSize;
   }
 
@@ -964,6 +1133,7 @@ public class TagOptionSingleton {
   }
 
   @SuppressWarnings("SameParameterValue") public void setWriteMp4GenresAsText(boolean writeMp4GenresAsText) {
+    checkWritable();
     isWriteMp4GenresAsText = writeMp4GenresAsText;
   }
 
@@ -976,6 +1146,7 @@ public class TagOptionSingleton {
   }
 
   public void setWriteMp3GenresAsText(boolean writeMp3GenresAsText) {
+    checkWritable();
     isWriteMp3GenresAsText = writeMp3GenresAsText;
   }
 
@@ -987,6 +1158,7 @@ public class TagOptionSingleton {
   }
 
   public void setPadNumberTotalLength(PadNumberOption padNumberTotalLength) {
+    checkWritable();
     this.padNumberTotalLength = padNumberTotalLength;
   }
 
@@ -998,6 +1170,7 @@ public class TagOptionSingleton {
   }
 
   public void setAPICDescriptionITunesCompatible(boolean APICDescriptionITunesCompatible) {
+    checkWritable();
     isAPICDescriptionITunesCompatible = APICDescriptionITunesCompatible;
   }
 
@@ -1010,6 +1183,7 @@ public class TagOptionSingleton {
   }
 
   public void setCheckIsWritable(boolean checkIsWritable) {
+    checkWritable();
     this.checkIsWritable = checkIsWritable;
   }
 
@@ -1038,6 +1212,7 @@ public class TagOptionSingleton {
    * @see #isPreserveFileIdentity()
    */
   @SuppressWarnings("SameParameterValue") public void setPreserveFileIdentity(final boolean preserveFileIdentity) {
+    checkWritable();
     this.preserveFileIdentity = preserveFileIdentity;
   }
 
@@ -1046,6 +1221,7 @@ public class TagOptionSingleton {
   }
 
   @SuppressWarnings("SameParameterValue") public void setWriteWavForTwonky(boolean isWriteWavForTwonky) {
+    checkWritable();
     this.isWriteWavForTwonky = isWriteWavForTwonky;
   }
 }
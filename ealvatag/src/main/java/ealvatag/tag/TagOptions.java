@@ -0,0 +1,454 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag;
+
+import ealvatag.audio.wav.WavOptions;
+import ealvatag.audio.wav.WavSaveOptions;
+import ealvatag.audio.wav.WavSaveOrder;
+import ealvatag.tag.options.PadNumberOption;
+import ealvatag.tag.reference.ID3V2Version;
+import ealvatag.tag.vorbiscomment.VorbisAlbumArtistReadOptions;
+import ealvatag.tag.vorbiscomment.VorbisAlbumArtistSaveOptions;
+
+/**
+ * An immutable set of the options used while reading and writing, which can be passed to a single read or write instead of
+ * changing the shared {@link TagOptionSingleton}. Different callers can use different options at the same time.
+ * <p>
+ * Build one with {@link #builder()}, which starts from the current {@link TagOptionSingleton#getInstance()} options, and pass it to
+ * {@link ealvatag.audio.AudioFileIO#read(java.io.File, TagOptions)} or {@link ealvatag.audio.AudioFile#save(TagOptions)}. For other
+ * operations, run them inside {@link #enter()}.
+ */
+public final class TagOptions {
+  private final TagOptionSingleton options;
+
+  private TagOptions(TagOptionSingleton options) {
+    this.options = options;
+  }
+
+  /**
+   * @return a builder starting from a copy of the options {@link TagOptionSingleton#getInstance()} currently returns
+   */
+  public static Builder builder() {
+    return new Builder(TagOptionSingleton.getInstance());
+  }
+
+  /**
+   * @return a builder starting from these options
+   */
+  public Builder toBuilder() {
+    return new Builder(options);
+  }
+
+  /**
+   * Use these options on the current thread until the returned scope is closed, in a finally block. While in the scope,
+   * {@link TagOptionSingleton#getInstance()} returns these options, and their setters throw {@link UnsupportedOperationException}.
+   * <p>
+   * Vorbis comments, the only fields decoded lazily, are decoded when first used, possibly after the read's scope has closed.
+   * Their decoding doesn't depend on any option.
+   *
+   * @return the scope to close
+   */
+  public Scope enter() {
+    return new Scope(TagOptionSingleton.setCallOptions(options));
+  }
+
+  public WavOptions getWavOptions() {
+    return options.getWavOptions();
+  }
+
+  public WavSaveOptions getWavSaveOptions() {
+    return options.getWavSaveOptions();
+  }
+
+  public WavSaveOrder getWavSaveOrder() {
+    return options.getWavSaveOrder();
+  }
+
+  public boolean isWriteWavForTwonky() {
+    return options.isWriteWavForTwonky();
+  }
+
+  public VorbisAlbumArtistSaveOptions getVorbisAlbumArtistSaveOptions() {
+    return options.getVorbisAlbumArtistSaveOptions();
+  }
+
+  public VorbisAlbumArtistReadOptions getVorbisAlbumArtistReadOptions() {
+    return options.getVorbisAlbumArtisReadOptions();
+  }
+
+  public ID3V2Version getID3V2Version() {
+    return options.getID3V2Version();
+  }
+
+  public boolean isId3v1Save() {
+    return options.isId3v1Save();
+  }
+
+  public boolean isId3v1SaveAlbum() {
+    return options.isId3v1SaveAlbum();
+  }
+
+  public boolean isId3v1SaveArtist() {
+    return options.isId3v1SaveArtist();
+  }
+
+  public boolean isId3v1SaveComment() {
+    return options.isId3v1SaveComment();
+  }
+
+  public boolean isId3v1SaveGenre() {
+    return options.isId3v1SaveGenre();
+  }
+
+  public boolean isId3v1SaveTitle() {
+    return options.isId3v1SaveTitle();
+  }
+
+  public boolean isId3v1SaveTrack() {
+    return options.isId3v1SaveTrack();
+  }
+
+  public boolean isId3v1SaveYear() {
+    return options.isId3v1SaveYear();
+  }
+
+  public boolean isId3v2PaddingCopyTag() {
+    return options.isId3v2PaddingCopyTag();
+  }
+
+  public boolean isId3v2PaddingWillShorten() {
+    return options.isId3v2PaddingWillShorten();
+  }
+
+  public boolean isId3v2Save() {
+    return options.isId3v2Save();
+  }
+
+  public boolean isUnsyncTags() {
+    return options.isUnsyncTags();
+  }
+
+  public boolean isRemoveTrailingTerminatorOnWrite() {
+    return options.isRemoveTrailingTerminatorOnWrite();
+  }
+
+  public byte getId3v23DefaultTextEncoding() {
+    return options.getId3v23DefaultTextEncoding();
+  }
+
+  public byte getId3v24DefaultTextEncoding() {
+    return options.getId3v24DefaultTextEncoding();
+  }
+
+  public byte getId3v24UnicodeTextEncoding() {
+    return options.getId3v24UnicodeTextEncoding();
+  }
+
+  public boolean isResetTextEncodingForExistingFrames() {
+    return options.isResetTextEncodingForExistingFrames();
+  }
+
+  public boolean isTruncateTextWithoutErrors() {
+    return options.isTruncateTextWithoutErrors();
+  }
+
+  public boolean isEncodeUTF16BomAsLittleEndian() {
+    return options.isEncodeUTF16BomAsLittleEndian();
+  }
+
+  public boolean isAPICDescriptionITunesCompatible() {
+    return options.isAPICDescriptionITunesCompatible();
+  }
+
+  public boolean isWriteMp3GenresAsText() {
+    return options.isWriteMp3GenresAsText();
+  }
+
+  public boolean isLyrics3Save() {
+    return options.isLyrics3Save();
+  }
+
+  public boolean isLyrics3SaveEmptyField() {
+    return options.isLyrics3SaveEmptyField();
+  }
+
+  public boolean isLyrics3KeepEmptyFieldIfRead() {
+    return options.isLyrics3KeepEmptyFieldIfRead();
+  }
+
+  public boolean isPadNumbers() {
+    return options.isPadNumbers();
+  }
+
+  public PadNumberOption getPadNumberTotalLength() {
+    return options.getPadNumberTotalLength();
+  }
+
+  public boolean isWriteMp4GenresAsText() {
+    return options.isWriteMp4GenresAsText();
+  }
+
+  public boolean shouldReadAheadMp4() {
+    return options.shouldReadAheadMp4();
+  }
+
+  public int getAsfPaddingSize() {
+    return options.getAsfPaddingSize();
+  }
+
+  public long getWriteChunkSize() {
+    return options.getWriteChunkSize();
+  }
+
+  public boolean isCheckIsWritable() {
+    return options.isCheckIsWritable();
+  }
+
+  public boolean isPreserveFileIdentity() {
+    return options.isPreserveFileIdentity();
+  }
+
+  public boolean isAndroid() {
+    return options.isAndroid();
+  }
+
+  /**
+   * Restores the options a thread used before {@link #enter()}
+   */
+  public static final class Scope implements AutoCloseable {
+    private final TagOptionSingleton previous;
+
+    private Scope(TagOptionSingleton previous) {
+      this.previous = previous;
+    }
+
+    @Override public void close() {
+      TagOptionSingleton.setCallOptions(previous);
+    }
+  }
+
+  public static final class Builder {
+    private final TagOptionSingleton options;
+
+    private Builder(TagOptionSingleton from) {
+      options = new TagOptionSingleton(from, false);
+    }
+
+    public Builder wavOptions(WavOptions wavOptions) {
+      options.setWavOptions(wavOptions);
+      return this;
+    }
+
+    public Builder wavSaveOptions(WavSaveOptions wavSaveOptions) {
+      options.setWavSaveOptions(wavSaveOptions);
+      return this;
+    }
+
+    public Builder wavSaveOrder(WavSaveOrder wavSaveOrder) {
+      options.setWavSaveOrder(wavSaveOrder);
+      return this;
+    }
+
+    public Builder writeWavForTwonky(boolean writeWavForTwonky) {
+      options.setWriteWavForTwonky(writeWavForTwonky);
+      return this;
+    }
+
+    public Builder vorbisAlbumArtistSaveOptions(VorbisAlbumArtistSaveOptions vorbisAlbumArtistSaveOptions) {
+      options.setVorbisAlbumArtistSaveOptions(vorbisAlbumArtistSaveOptions);
+      return this;
+    }
+
+    public Builder vorbisAlbumArtistReadOptions(VorbisAlbumArtistReadOptions vorbisAlbumArtistReadOptions) {
+      options.setVorbisAlbumArtistReadOptions(vorbisAlbumArtistReadOptions);
+      return this;
+    }
+
+    public Builder id3v2Version(ID3V2Version id3v2Version) {
+      options.setID3V2Version(id3v2Version);
+      return this;
+    }
+
+    public Builder id3v1Save(boolean id3v1Save) {
+      options.setId3v1Save(id3v1Save);
+      return this;
+    }
+
+    public Builder id3v1SaveAlbum(boolean id3v1SaveAlbum) {
+      options.setId3v1SaveAlbum(id3v1SaveAlbum);
+      return this;
+    }
+
+    public Builder id3v1SaveArtist(boolean id3v1SaveArtist) {
+      options.setId3v1SaveArtist(id3v1SaveArtist);
+      return this;
+    }
+
+    public Builder id3v1SaveComment(boolean id3v1SaveComment) {
+      options.setId3v1SaveComment(id3v1SaveComment);
+      return this;
+    }
+
+    public Builder id3v1SaveGenre(boolean id3v1SaveGenre) {
+      options.setId3v1SaveGenre(id3v1SaveGenre);
+      return this;
+    }
+
+    public Builder id3v1SaveTitle(boolean id3v1SaveTitle) {
+      options.setId3v1SaveTitle(id3v1SaveTitle);
+      return this;
+    }
+
+    public Builder id3v1SaveTrack(boolean id3v1SaveTrack) {
+      options.setId3v1SaveTrack(id3v1SaveTrack);
+      return this;
+    }
+
+    public Builder id3v1SaveYear(boolean id3v1SaveYear) {
+      options.setId3v1SaveYear(id3v1SaveYear);
+      return this;
+    }
+
+    public Builder id3v2PaddingCopyTag(boolean id3v2PaddingCopyTag) {
+      options.setId3v2PaddingCopyTag(id3v2PaddingCopyTag);
+      return this;
+    }
+
+    public Builder id3v2PaddingWillShorten(boolean id3v2PaddingWillShorten) {
+      options.setId3v2PaddingWillShorten(id3v2PaddingWillShorten);
+      return this;
+    }
+
+    public Builder id3v2Save(boolean id3v2Save) {
+      options.setId3v2Save(id3v2Save);
+      return this;
+    }
+
+    public Builder unsyncTags(boolean unsyncTags) {
+      options.setUnsyncTags(unsyncTags);
+      return this;
+    }
+
+    public Builder removeTrailingTerminatorOnWrite(boolean removeTrailingTerminatorOnWrite) {
+      options.setRemoveTrailingTerminatorOnWrite(removeTrailingTerminatorOnWrite);
+      return this;
+    }
+
+    public Builder id3v23DefaultTextEncoding(byte id3v23DefaultTextEncoding) {
+      options.setId3v23DefaultTextEncoding(id3v23DefaultTextEncoding);
+      return this;
+    }
+
+    public Builder id3v24DefaultTextEncoding(byte id3v24DefaultTextEncoding) {
+      options.setId3v24DefaultTextEncoding(id3v24DefaultTextEncoding);
+      return this;
+    }
+
+    public Builder id3v24UnicodeTextEncoding(byte id3v24UnicodeTextEncoding) {
+      options.setId3v24UnicodeTextEncoding(id3v24UnicodeTextEncoding);
+      return this;
+    }
+
+    public Builder resetTextEncodingForExistingFrames(boolean resetTextEncodingForExistingFrames) {
+      options.setResetTextEncodingForExistingFrames(resetTextEncodingForExistingFrames);
+      return this;
+    }
+
+    public Builder truncateTextWithoutErrors(boolean truncateTextWithoutErrors) {
+      options.setTruncateTextWithoutErrors(truncateTextWithoutErrors);
+      return this;
+    }
+
+    public Builder encodeUTF16BomAsLittleEndian(boolean encodeUTF16BomAsLittleEndian) {
+      options.setEncodeUTF16BomAsLittleEndian(encodeUTF16BomAsLittleEndian);
+      return this;
+    }
+
+    public Builder apicDescriptionITunesCompatible(boolean apicDescriptionITunesCompatible) {
+      options.setAPICDescriptionITunesCompatible(apicDescriptionITunesCompatible);
+      return this;
+    }
+
+    public Builder writeMp3GenresAsText(boolean writeMp3GenresAsText) {
+      options.setWriteMp3GenresAsText(writeMp3GenresAsText);
+      return this;
+    }
+
+    public Builder lyrics3Save(boolean lyrics3Save) {
+      options.setLyrics3Save(lyrics3Save);
+      return this;
+    }
+
+    public Builder lyrics3SaveEmptyField(boolean lyrics3SaveEmptyField) {
+      options.setLyrics3SaveEmptyField(lyrics3SaveEmptyField);
+      return this;
+    }
+
+    public Builder lyrics3KeepEmptyFieldIfRead(boolean lyrics3KeepEmptyFieldIfRead) {
+      options.setLyrics3KeepEmptyFieldIfRead(lyrics3KeepEmptyFieldIfRead);
+      return this;
+    }
+
+    public Builder padNumbers(boolean padNumbers) {
+      options.setPadNumbers(padNumbers);
+      return this;
+    }
+
+    public Builder padNumberTotalLength(PadNumberOption padNumberTotalLength) {
+      options.setPadNumberTotalLength(padNumberTotalLength);
+      return this;
+    }
+
+    public Builder writeMp4GenresAsText(boolean writeMp4GenresAsText) {
+      options.setWriteMp4GenresAsText(writeMp4GenresAsText);
+      return this;
+    }
+
+    public Builder readAheadMp4(boolean readAheadMp4) {
+      options.setReadAheadMp4(readAheadMp4);
+      return this;
+    }
+
+    public Builder asfPaddingSize(int asfPaddingSize) {
+      options.setAsfPaddingSize(asfPaddingSize);
+      return this;
+    }
+
+    public Builder writeChunkSize(long writeChunkSize) {
+      options.setWriteChunkSize(writeChunkSize);
+      return this;
+    }
+
+    public Builder checkIsWritable(boolean checkIsWritable) {
+      options.setCheckIsWritable(checkIsWritable);
+      return this;
+    }
+
+    public Builder preserveFileIdentity(boolean preserveFileIdentity) {
+      options.setPreserveFileIdentity(preserveFileIdentity);
+      return this;
+    }
+
+    public Builder android(boolean android) {
+      options.setAndroid(android);
+      return this;
+    }
+
+    public TagOptions build() {
+      return new TagOptions(new TagOptionSingleton(options, true));
+    }
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+
+import static ealvatag.utils.Check.CANNOT_BE_NULL;
+import static ealvatag.utils.Check.checkArgNotNull;
+
+import java.util.List;
+
+/**
+ * An immutable copy of the generic field values of a {@link Tag}, taken by {@link Tag#snapshot()}. A snapshot never changes, so
+ * it may be read from any number of threads and cached without locking or copying, regardless of what later happens to the tag
+ * it came from.
+ * <p>
+ * Only text values are captured. Artwork is reduced to {@link #hasArtwork()}; read the artwork from the tag itself if it's
+ * needed. The set of supported fields is the tag format's own immutable set, shared between every snapshot of that format.
+ */
+public final class TagSnapshot {
+    public static final TagSnapshot EMPTY = new TagSnapshot(ImmutableSet.<FieldKey>of(),
+                                                            ImmutableListMultimap.<FieldKey, String>of(),
+                                                            false);
+
+    private final ImmutableSet<FieldKey> supportedFields;
+    private final ImmutableListMultimap<FieldKey, String> values;
+    private final boolean hasArtwork;
+
+    private TagSnapshot(final ImmutableSet<FieldKey> supportedFields,
+                        final ImmutableListMultimap<FieldKey, String> values,
+                        final boolean hasArtwork) {
+        this.supportedFields = supportedFields;
+        this.values = values;
+        this.hasArtwork = hasArtwork;
+    }
+
+    /**
+     * Copy the current values of every supported field of {@code tag}. This is the common implementation of
+     * {@link Tag#snapshot()}
+     *
+     * @param tag the tag to copy. Not retained
+     *
+     * @return a new snapshot, or {@link #EMPTY} if the tag supports no fields
+     */
+    public static TagSnapshot of(final Tag tag) {
+        final ImmutableSet<FieldKey> supportedFields = checkArgNotNull(tag, CANNOT_BE_NULL, "tag").getSupportedFields();
+        if (supportedFields.isEmpty()) {
+            return EMPTY;
+        }
+        final ImmutableListMultimap.Builder<FieldKey, String> builder = ImmutableListMultimap.builder();
+        boolean hasArtwork = false;
+        for (FieldKey key : supportedFields) {
+            try {
+                if (key == FieldKey.COVER_ART) {
+                    hasArtwork = tag.hasField(key);
+                } else if (tag.hasField(key)) {
+                    final List<String> all = tag.getAll(key);
+                    for (int i = 0, size = all.size(); i < size; i++) {
+                        final String value = all.get(i);
+                        if (value != null) {
+                            builder.put(key, value);
+                        }
+                    }
+                }
+            } catch (UnsupportedFieldException ignored) {
+                // declared by the format but not available from this particular tag
+            }
+        }
+        return new TagSnapshot(supportedFields, builder.build(), hasArtwork);
+    }
+
+    /**
+     * @return the fields the tag this was taken from supports
+     *
+     * @see Tag#getSupportedFields()
+     */
+    public ImmutableSet<FieldKey> getSupportedFields() {
+        return supportedFields;
+    }
+
+    /**
+     * @return true if the tag had no text values and no artwork
+     */
+    public boolean isEmpty() {
+        return values.isEmpty() && !hasArtwork;
+    }
+
+    public boolean hasField(final FieldKey genericKey) {
+        return genericKey == FieldKey.COVER_ART ? hasArtwork : values.containsKey(genericKey);
+    }
+
+    /**
+     * @return the number of values for {@code genericKey}. Always 0 for {@link FieldKey#COVER_ART}
+     */
+    public int getFieldCount(final FieldKey genericKey) {
+        return values.get(genericKey).size();
+    }
+
+    /**
+     * @return the total number of text values
+     */
+    public int getFieldCount() {
+        return values.size();
+    }
+
+    /**
+     * @return the first value for {@code genericKey}, or an empty String if there is none
+     *
+     * @see Tag#getFirst(FieldKey)
+     */
+    public String getFirst(final FieldKey genericKey) {
+        return getValue(genericKey, 0).or("");
+    }
+
+    public Optional<String> getValue(final FieldKey genericKey) {
+        return getValue(genericKey, 0);
+    }
+
+    public Optional<String> getValue(final FieldKey genericKey, final int index) {
+        final ImmutableList<String> list = values.get(genericKey);
+        return index >= 0 && index < list.size() ? Optional.of(list.get(index)) : Optional.<String>absent();
+    }
+
+    /**
+     * @return all the values for {@code genericKey}, empty if there are none
+     */
+    public ImmutableList<String> getAll(final FieldKey genericKey) {
+        return values.get(genericKey);
+    }
+
+    public boolean hasArtwork() {
+        return hasArtwork;
+    }
+
+    /**
+     * @return every text value, keyed in supported field order
+     */
+    public ImmutableListMultimap<FieldKey, String> asMultimap() {
+        return values;
+    }
+
+    @Override public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TagSnapshot that = (TagSnapshot)o;
+        return hasArtwork == that.hasArtwork && supportedFields.equals(that.supportedFields) && values.equals(that.values);
+    }
+
+    @Override public int hashCode() {
+        int result = supportedFields.hashCode();
+        result = 31 * result + values.hashCode();
+        result = 31 * result + (hasArtwork ? 1 : 0);
+        return result;
+    }
+
+    @Override public String toString() {
+        return "TagSnapshot{" + values + (hasArtwork ? ", artwork" : "") + '}';
+    }
+}
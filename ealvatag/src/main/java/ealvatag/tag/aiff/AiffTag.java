@@ -12,6 +12,7 @@ import ealvatag.tag.Key;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagField;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.TagSnapshot;
 import ealvatag.tag.UnsupportedFieldException;
 import ealvatag.tag.id3.AbstractID3v2Tag;
 import ealvatag.tag.id3.Id3SupportingTag;
@@ -338,4 +339,7 @@ public class AiffTag implements TagFieldContainer, Id3SupportingTag {
     this.isIncorrectlyAlignedTag = isIncorrectlyAlignedTag;
   }
 
+  @Override public TagSnapshot snapshot() {
+    return TagSnapshot.of(this);
+  }
 }
@@ -5,6 +5,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import ealvatag.audio.AbstractTag;
+import ealvatag.audio.CompactTagFieldStore;
 import ealvatag.audio.asf.data.AsfHeader;
 import ealvatag.tag.FieldDataInvalidException;
 import ealvatag.tag.FieldKey;
@@ -17,6 +18,7 @@ import ealvatag.tag.images.Artwork;
 import ealvatag.tag.images.ArtworkFactory;
 import ealvatag.tag.reference.PictureTypes;
 import ealvatag.utils.Check;
+import ealvatag.utils.EnumIndexedMap;
 
 import static ealvatag.utils.Check.CANNOT_BE_NULL;
 import static ealvatag.utils.Check.checkArgNotNull;
@@ -42,7 +44,7 @@ public final class AsfTag extends AbstractTag {
    * This map contains the mapping from {@link ealvatag.tag.FieldKey} to
    * {@link AsfFieldKey}.
    */
-  private static final ImmutableMap<FieldKey, AsfFieldKey> tagFieldToAsfField = makeTagFieldMap();
+  private static final EnumIndexedMap<FieldKey, AsfFieldKey> tagFieldToAsfField = EnumIndexedMap.of(FieldKey.class, makeTagFieldMap());
   /**
    * @see #isCopyingFields()
    */
@@ -61,7 +63,7 @@ public final class AsfTag extends AbstractTag {
    * @param copy look at {@link #isCopyingFields()}.
    */
   public AsfTag(final boolean copy) {
-    super(false);
+    super(false, new CompactTagFieldStore());
     this.copyFields = copy;
   }
 
@@ -24,6 +24,7 @@ import ealvatag.utils.StandardCharsets;
 import ealvatag.tag.exceptions.IllegalCharsetException;
 import ealvatag.tag.id3.AbstractTagFrameBody;
 import ealvatag.tag.id3.valuepair.TextEncoding;
+import ealvatag.utils.CharsetCoders;
 import okio.Buffer;
 
 import static com.ealva.ealvalog.LogLevel.TRACE;
@@ -88,7 +89,7 @@ public abstract class AbstractString extends AbstractDataType {
     final byte textEncoding = this.getBody().getTextEncoding();
     final TextEncoding encoding = TextEncoding.getInstanceOf();
     final Charset charset = encoding.getCharsetForId(textEncoding);
-    CharsetEncoder encoder = charset.newEncoder();
+    CharsetEncoder encoder = CharsetCoders.encoder(charset);
 
     if (encoder.canEncode((String)value)) {
       return true;
@@ -104,34 +105,27 @@ public abstract class AbstractString extends AbstractDataType {
    * specified decoder
    */
   CharsetDecoder getCorrectDecoder(ByteBuffer inBuffer) {
-    CharsetDecoder decoder;
     if (inBuffer.remaining() <= 2) {
-      decoder = getTextEncodingCharSet().newDecoder();
-      decoder.reset();
-      return decoder;
+      return CharsetCoders.decoder(getTextEncodingCharSet());
     }
 
     if (getTextEncodingCharSet() == StandardCharsets.UTF_16) {
       if (inBuffer.getChar(0) == 0xfffe || inBuffer.getChar(0) == 0xfeff) {
         //Get the Specified Decoder
-        decoder = getTextEncodingCharSet().newDecoder();
-        decoder.reset();
+        return CharsetCoders.decoder(getTextEncodingCharSet());
       } else {
         if (inBuffer.get(0) == 0) {
-          decoder = StandardCharsets.UTF_16BE.newDecoder();
-          decoder.reset();
+          return CharsetCoders.decoder(StandardCharsets.UTF_16BE);
         } else {
-          decoder = StandardCharsets.UTF_16LE.newDecoder();
-          decoder.reset();
+          return CharsetCoders.decoder(StandardCharsets.UTF_16LE);
         }
       }
     } else {
-      decoder = getTextEncodingCharSet().newDecoder();
-      decoder.reset();
+      return CharsetCoders.decoder(getTextEncodingCharSet());
     }
-    return decoder;
   }
 
+
   /**
    * Peek into the buffer and try to determine the correct text encoding to use, starting with {@link #getTextEncodingCharSet()}
    * <p>
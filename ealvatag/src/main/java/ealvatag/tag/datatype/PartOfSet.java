@@ -5,6 +5,7 @@ import static com.ealva.ealvalog.LogLevel.ERROR;
 import static com.ealva.ealvalog.LogLevel.TRACE;
 import static com.ealva.ealvalog.LogLevel.WARN;
 
+import ealvatag.utils.CharsetCoders;
 import ealvatag.utils.StandardCharsets;
 import ealvatag.tag.InvalidDataTypeException;
 import ealvatag.tag.TagOptionSingleton;
@@ -88,7 +89,7 @@ public class PartOfSet extends AbstractString {
     LOG.log(TRACE, "Reading from array from offset:%s", offset);
 
     //Get the Specified Decoder
-    CharsetDecoder decoder = getTextEncodingCharSet().newDecoder();
+    CharsetDecoder decoder = CharsetCoders.decoder(getTextEncodingCharSet());
 
     //Decode sliced inBuffer
     ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, arr.length - offset).slice();
@@ -112,7 +113,7 @@ public class PartOfSet extends AbstractString {
 
   @Override public void read(final Buffer buffer, final int size) throws EOFException, InvalidDataTypeException {
     try {
-      value = new PartOfSetValue(buffer.readString(size, getTextEncodingCharSet()));
+      value = new PartOfSetValue(CharsetCoders.readString(buffer, size, getTextEncodingCharSet()));
       setSize(value.toString().length());
     } catch (IllegalCharsetException e) {
       throw new InvalidDataTypeException(e, "Bad charset Id");
@@ -144,11 +145,11 @@ public class PartOfSet extends AbstractString {
       final String valueWithBOM;
       final CharsetEncoder encoder;
       if (StandardCharsets.UTF_16.equals(charset)) {
-        encoder = StandardCharsets.UTF_16LE.newEncoder();
+        encoder = CharsetCoders.encoder(StandardCharsets.UTF_16LE);
         //Note remember LE BOM is ff fe but this is handled by encoder Unicode char is fe ff
         valueWithBOM = '\ufeff' + value;
       } else {
-        encoder = charset.newEncoder();
+        encoder = CharsetCoders.encoder(charset);
         valueWithBOM = value;
       }
       encoder.onMalformedInput(CodingErrorAction.IGNORE);
@@ -20,6 +20,7 @@
  */
 package ealvatag.tag.datatype;
 
+import ealvatag.utils.CharsetCoders;
 import ealvatag.utils.StandardCharsets;
 import ealvatag.tag.InvalidDataTypeException;
 import ealvatag.tag.exceptions.IllegalCharsetException;
@@ -89,7 +90,7 @@ public class StringFixedLength extends AbstractString {
   public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
     LOG.log(DEBUG, "Reading from array from offset:%s", offset);
     try {
-      final CharsetDecoder decoder = getTextEncodingCharSet().newDecoder();
+      final CharsetDecoder decoder = CharsetCoders.decoder(getTextEncodingCharSet());
 
       //Decode buffer if runs into problems should through exception which we
       //catch and then set value to empty string.
@@ -110,7 +111,7 @@ public class StringFixedLength extends AbstractString {
 
   @Override public void read(final Buffer buffer, final int size) throws EOFException, InvalidDataTypeException {
     try {
-      value = buffer.readString(this.size, getTextEncodingCharSet());
+      value = CharsetCoders.readString(buffer, this.size, getTextEncodingCharSet());
     } catch (IllegalCharsetException e) {
       throw new InvalidDataTypeException(e, "Bad charset Id");
     }
@@ -144,10 +145,10 @@ public class StringFixedLength extends AbstractString {
       final CharsetEncoder encoder;
       if (StandardCharsets.UTF_16.equals(charset)) {
         //Note remember LE BOM is ff fe but tis is handled by encoder Unicode char is fe ff
-        encoder = StandardCharsets.UTF_16LE.newEncoder();
+        encoder = CharsetCoders.encoder(StandardCharsets.UTF_16LE);
         dataBuffer = encoder.encode(CharBuffer.wrap('\ufeff' + (String)value));
       } else {
-        encoder = charset.newEncoder();
+        encoder = CharsetCoders.encoder(charset);
         dataBuffer = encoder.encode(CharBuffer.wrap((String)value));
       }
     } catch (CharacterCodingException ce) {
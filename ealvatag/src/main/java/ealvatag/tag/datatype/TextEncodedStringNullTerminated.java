@@ -1,6 +1,7 @@
 package ealvatag.tag.datatype;
 
 import com.google.common.annotations.VisibleForTesting;
+import ealvatag.utils.CharsetCoders;
 import ealvatag.utils.StandardCharsets;
 import ealvatag.tag.InvalidDataTypeException;
 import ealvatag.tag.TagOptionSingleton;
@@ -156,6 +157,9 @@ public class TextEncodedStringNullTerminated extends AbstractString {
     LOG.log(TRACE, "Text size is:%s", bufferSize);
     if (bufferSize == 0) {
       value = "";
+    } else if (nullIsOneByte && CharsetCoders.isAscii(arr, offset, bufferSize)) {
+      // pure ASCII decodes the same in Latin-1 and UTF-8, no decoder required
+      value = new String(arr, offset, bufferSize, StandardCharsets.ISO_8859_1);
     } else {
       //Decode sliced inBuffer
       ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, bufferSize).slice();
@@ -185,7 +189,7 @@ public class TextEncodedStringNullTerminated extends AbstractString {
       }
       setSize(indexOfNull + 1);
       int byteCount = nullIsOneByte ? indexOfNull : indexOfNull - 1;
-      value = buffer.readString(byteCount, charset);
+      value = CharsetCoders.readString(buffer, byteCount, charset);
       buffer.readByte();
       if (!nullIsOneByte) {
         buffer.readByte();
@@ -252,7 +256,7 @@ public class TextEncodedStringNullTerminated extends AbstractString {
     try {
       if (StandardCharsets.UTF_16.equals(charset)) {
         if (TagOptionSingleton.getInstance().isEncodeUTF16BomAsLittleEndian()) {
-          final CharsetEncoder encoder = StandardCharsets.UTF_16LE.newEncoder();
+          final CharsetEncoder encoder = CharsetCoders.encoder(StandardCharsets.UTF_16LE);
           encoder.onMalformedInput(CodingErrorAction.IGNORE);
           encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
 
@@ -261,7 +265,7 @@ public class TextEncodedStringNullTerminated extends AbstractString {
           data = new byte[bb.limit()];
           bb.get(data, 0, bb.limit());
         } else {
-          final CharsetEncoder encoder = StandardCharsets.UTF_16BE.newEncoder();
+          final CharsetEncoder encoder = CharsetCoders.encoder(StandardCharsets.UTF_16BE);
           encoder.onMalformedInput(CodingErrorAction.IGNORE);
           encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
 
@@ -271,7 +275,7 @@ public class TextEncodedStringNullTerminated extends AbstractString {
           bb.get(data, 0, bb.limit());
         }
       } else {
-        final CharsetEncoder encoder = charset.newEncoder();
+        final CharsetEncoder encoder = CharsetCoders.encoder(charset);
         encoder.onMalformedInput(CodingErrorAction.IGNORE);
         encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
 
@@ -4,6 +4,7 @@ import static com.ealva.ealvalog.LogLevel.ERROR;
 import static com.ealva.ealvalog.LogLevel.TRACE;
 import static com.ealva.ealvalog.LogLevel.WARN;
 
+import ealvatag.utils.CharsetCoders;
 import ealvatag.utils.StandardCharsets;
 import ealvatag.tag.InvalidDataTypeException;
 import ealvatag.tag.TagOptionSingleton;
@@ -82,6 +83,13 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
   public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
     LOG.log(TRACE, "Reading from array from offset:%s", offset);
 
+    final String ascii = CharsetCoders.decodeAscii(arr, offset, arr.length - offset, getTextEncodingCharSet());
+    if (ascii != null) {
+      value = ascii;
+      setSize(arr.length - offset);
+      LOG.log(TRACE, "Read SizeTerminatedString:%s size:%s", value, size);
+      return;
+    }
 
     //Decode sliced inBuffer
     ByteBuffer inBuffer;
@@ -123,7 +131,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
     try {
       final long bufferStartSize = buffer.size();
       Charset decoder = peekCorrectDecoder(buffer);
-      String outBuffer = buffer.readString(size, decoder);
+      String outBuffer = CharsetCoders.readString(buffer, size, decoder);
 
       //If using UTF16 with BOM we then search through the text removing any BOMs that could exist
       //for multiple values, BOM could be Big Endian or Little Endian
@@ -171,7 +179,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
    */
   @SuppressWarnings("WeakerAccess")
   protected ByteBuffer writeStringUTF16LEBOM(final String next, final int i, final int noOfValues) throws CharacterCodingException {
-    final CharsetEncoder encoder = StandardCharsets.UTF_16LE.newEncoder();
+    final CharsetEncoder encoder = CharsetCoders.encoder(StandardCharsets.UTF_16LE);
     encoder.onMalformedInput(CodingErrorAction.IGNORE);
     encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
 
@@ -196,7 +204,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
   @SuppressWarnings("WeakerAccess")
   protected ByteBuffer writeStringUTF16BEBOM(final String next, final int i, final int noOfValues)
       throws CharacterCodingException {
-    final CharsetEncoder encoder = StandardCharsets.UTF_16BE.newEncoder();
+    final CharsetEncoder encoder = CharsetCoders.encoder(StandardCharsets.UTF_16BE);
     encoder.onMalformedInput(CodingErrorAction.IGNORE);
     encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
 
@@ -287,7 +295,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
         } else if (StandardCharsets.UTF_16BE.equals(actualCharSet)) {
           outputBuffer.put(writeStringUTF16BEBOM(next, i, values.size()));
         } else {
-          final CharsetEncoder charsetEncoder = charset.newEncoder();
+          final CharsetEncoder charsetEncoder = CharsetCoders.encoder(charset);
           charsetEncoder.onMalformedInput(CodingErrorAction.IGNORE);
           charsetEncoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
           outputBuffer.put(writeString(charsetEncoder, next, i, values.size()));
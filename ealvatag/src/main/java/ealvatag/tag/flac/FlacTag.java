@@ -12,6 +12,7 @@ import ealvatag.tag.Key;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagField;
 import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.TagSnapshot;
 import ealvatag.tag.UnsupportedFieldException;
 import ealvatag.tag.images.Artwork;
 import ealvatag.tag.images.ArtworkFactory;
@@ -448,4 +449,7 @@ public class FlacTag implements Tag, ContainsVorbisCommentField {
     return tag.getFieldCount(genericKey);
   }
 
+  @Override public TagSnapshot snapshot() {
+    return TagSnapshot.of(this);
+  }
 }
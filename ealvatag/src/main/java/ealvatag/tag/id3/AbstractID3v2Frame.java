@@ -77,6 +77,10 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
   //Frame identifier
   protected @Nullable String identifier = "";
 
+  /** The packed form of the last identifier read, so the body lookup doesn't pack it again */
+  private int packedIdentifier = Id3FrameIds.NOT_PACKABLE;
+  private @Nullable String packedIdentifierFor;
+
   //Frame Size
   protected int frameSize;
 
@@ -85,6 +89,13 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
   //when processing many files
   protected String loggingFilename = "";
 
+  /**
+   * The frame body exactly as it was read from file, excluding the frame header and any extra header bytes. Only held
+   * while the frame is unmodified so that writing can copy these bytes rather than re-encode the body. Null if the frame
+   * was created, converted or has been handed out for modification.
+   */
+  private @Nullable Buffer originalBody;
+
   /**
    * @return size in bytes of the frameid field
    */
@@ -196,6 +207,64 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     return identifier;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned body may be modified by the caller so the frame is considered modified and will be re-encoded on write.
+   * Use {@link #peekBody()} for read only access.
+   */
+  @Override public AbstractTagFrameBody getBody() {
+    markModified();
+    return super.getBody();
+  }
+
+  @Override public void setBody(AbstractTagFrameBody frameBody) {
+    markModified();
+    super.setBody(frameBody);
+  }
+
+  /**
+   * Get the body without marking this frame as modified. The caller must not modify the returned body.
+   *
+   * @return the body of this frame
+   */
+  AbstractTagFrameBody peekBody() {
+    return frameBody;
+  }
+
+  /**
+   * @return true if this frame must be encoded from its body when written, false if the bytes originally read from file
+   * can be written as they are
+   */
+  public boolean isModified() {
+    return originalBody == null;
+  }
+
+  /**
+   * Discard any original body bytes so the frame is encoded from its body when next written
+   */
+  void markModified() {
+    originalBody = null;
+  }
+
+  /**
+   * Hold the next {@code byteCount} bytes of {@code source}, which must be the frame body as read from file, so they can
+   * be written again if the frame is not modified. The source is not consumed and segments are shared, not copied.
+   */
+  void retainOriginalBody(Buffer source, long byteCount) {
+    if (byteCount <= source.size()) {
+      originalBody = new Buffer();
+      source.copyTo(originalBody, 0, byteCount);
+    }
+  }
+
+  /**
+   * @return the frame body as read from file if the frame has not been modified since, otherwise null
+   */
+  @Nullable Buffer getOriginalBody() {
+    return originalBody;
+  }
+
   //TODO:needs implementing but not sure if this method is required at all
   public void copyContent(TagField field) {
 
@@ -327,7 +396,8 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     // Stop using reflection. Frame types added/changed rarely. Performance penalty for no good reason.
     AbstractID3v2FrameBody frameBody;
     try {
-      frameBody = Id3FrameBodyFactories.instance().make(identifier, buffer, frameSize);
+      final int packedId = identifier == packedIdentifierFor ? packedIdentifier : Id3FrameIds.pack(identifier);
+      frameBody = Id3FrameBodyFactories.makeForPackedId(packedId, identifier, buffer, frameSize);
     } catch (FrameIdentifierException e) {
       frameBody = new FrameBodyUnsupported(buffer, frameSize);
     }
@@ -339,6 +409,17 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
    * Get the next frame id, throwing an exception if unable to do this and check against just having padded data
    */
   String readIdentifier(ByteBuffer byteBuffer) throws InvalidFrameException {
+    final String knownId = Id3FrameIds.get(Id3FrameIds.peek(byteBuffer, getFrameIdSize()));
+    if (knownId != null) {
+      byteBuffer.position(byteBuffer.position() + getFrameIdSize());
+      if ((getFrameHeaderSize() - getFrameIdSize()) > byteBuffer.remaining()) {
+        LOG.log(WARN, "%s:No space to find another frame", loggingFilename);
+        throw new InvalidFrameException(loggingFilename + ":No space to find another frame");
+      }
+      identifier = knownId;
+      return identifier;
+    }
+
     byte[] buffer = new byte[getFrameIdSize()];
 
     //Read the Frame Identifier
@@ -364,7 +445,17 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     if (frameIdSize > buffer.size()) {
       return "";
     }
-    identifier = buffer.readString(frameIdSize, Charset.defaultCharset());
+    // known identifiers resolve to their canonical instance without decoding a String
+    final int packedId = Id3FrameIds.peek(buffer, frameIdSize);
+    final String knownId = Id3FrameIds.get(packedId);
+    if (knownId != null) {
+      buffer.skip(frameIdSize);
+      identifier = knownId;
+      packedIdentifier = packedId;
+      packedIdentifierFor = knownId;
+    } else {
+      identifier = buffer.readString(frameIdSize, Charset.defaultCharset());
+    }
 
     if (identifier.isEmpty()) {
       throw new PaddingException(loggingFilename + ":only padding found");
@@ -457,7 +548,7 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
 
 
   public boolean isEmpty() {
-    AbstractTagFrameBody body = this.getBody();
+    AbstractTagFrameBody body = peekBody();
     if (body == null) {
       return true;
     }
@@ -601,7 +692,7 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
    * @return Content
    */
   public String getContent() {
-    return getBody().getUserFriendlyValue();
+    return peekBody().getUserFriendlyValue();
   }
 
   /**
@@ -610,7 +701,7 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
    * @return Charset encoding.
    */
   public Charset getEncoding() {
-    final byte textEncoding = this.getBody().getTextEncoding();
+    final byte textEncoding = peekBody().getTextEncoding();
     return TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
   }
 
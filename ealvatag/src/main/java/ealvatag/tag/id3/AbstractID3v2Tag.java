@@ -41,6 +41,7 @@ import ealvatag.tag.InvalidFrameException;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagField;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.TagSnapshot;
 import ealvatag.tag.UnsupportedFieldException;
 import ealvatag.tag.datatype.DataTypes;
 import ealvatag.tag.datatype.Pair;
@@ -628,7 +629,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   }
 
   private String getTextValueForFrame(AbstractID3v2Frame frame) {
-    return frame.getBody().getUserFriendlyValue();
+    return frame.peekBody().getUserFriendlyValue();
   }
 
   @Override public Optional<String> getValue(final FieldKey genericKey) throws IllegalArgumentException {
@@ -646,9 +647,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
         //it would make no sense if it existed.
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
         if (ID3NumberTotalFields.isNumber(genericKey)) {
-          return Optional.of(((AbstractFrameBodyNumberTotal)frame.getBody()).getNumberAsText());
+          return Optional.of(((AbstractFrameBodyNumberTotal)frame.peekBody()).getNumberAsText());
         } else if (ID3NumberTotalFields.isTotal(genericKey)) {
-          return Optional.of(((AbstractFrameBodyNumberTotal)frame.getBody()).getTotalAsText());
+          return Optional.of(((AbstractFrameBodyNumberTotal)frame.peekBody()).getTotalAsText());
         }
       } else {
         return Optional.absent();
@@ -659,7 +660,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       List<TagField> fields = getFields(genericKey);
       if (fields != null && fields.size() > index) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(index);
-        return Optional.of(String.valueOf(((FrameBodyPOPM)frame.getBody()).getRating()));
+        return Optional.of(String.valueOf(((FrameBodyPOPM)frame.peekBody()).getRating()));
       } else {
         return Optional.absent();
       }
@@ -681,19 +682,19 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     if (ID3NumberTotalFields.isNumber(genericKey)) {
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        values.add(((AbstractFrameBodyNumberTotal)frame.getBody()).getNumberAsText());
+        values.add(((AbstractFrameBodyNumberTotal)frame.peekBody()).getNumberAsText());
       }
       return values;
     } else if (ID3NumberTotalFields.isTotal(genericKey)) {
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        values.add(((AbstractFrameBodyNumberTotal)frame.getBody()).getTotalAsText());
+        values.add(((AbstractFrameBodyNumberTotal)frame.peekBody()).getTotalAsText());
       }
       return values;
     } else if (genericKey == FieldKey.RATING) {
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        values.add(String.valueOf(((FrameBodyPOPM)frame.getBody()).getRating()));
+        values.add(String.valueOf(((FrameBodyPOPM)frame.peekBody()).getRating()));
       }
       return values;
     } else {
@@ -773,9 +774,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
         TagField next = it.next();
         if (next instanceof AbstractID3v2Frame) {
           AbstractID3v2Frame frame = (AbstractID3v2Frame)next;
-          if ((frame.getBody() instanceof AbstractFrameBodyTextInfo) &&
-              !(frame.getBody() instanceof FrameBodyTXXX)) {
-            AbstractFrameBodyTextInfo frameBody = (AbstractFrameBodyTextInfo)frame.getBody();
+          if ((frame.peekBody() instanceof AbstractFrameBodyTextInfo) &&
+              !(frame.peekBody() instanceof FrameBodyTXXX)) {
+            AbstractFrameBodyTextInfo frameBody = (AbstractFrameBodyTextInfo)frame.peekBody();
             count += frameBody.getNumberOfValues();
             continue;
           }
@@ -836,7 +837,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
 
     if (subFieldId != null) {
       for (TagField tagfield : list) {
-        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).getBody();
+        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).peekBody();
         if (next instanceof FrameBodyTXXX) {
           if (((FrameBodyTXXX)next).getDescription().equals(formatKey.getSubId())) {
             filteredList.add(tagfield);
@@ -875,7 +876,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       return filteredList.build();
     } else if (ID3NumberTotalFields.isNumber(genericKey)) {
       for (TagField tagfield : list) {
-        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).getBody();
+        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).peekBody();
         if (next instanceof AbstractFrameBodyNumberTotal) {
           if (((AbstractFrameBodyNumberTotal)next).getNumber() != null) {
             filteredList.add(tagfield);
@@ -885,7 +886,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       return filteredList.build();
     } else if (ID3NumberTotalFields.isTotal(genericKey)) {
       for (TagField tagfield : list) {
-        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).getBody();
+        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).peekBody();
         if (next instanceof AbstractFrameBodyNumberTotal) {
           if (((AbstractFrameBodyNumberTotal)next).getTotal() != null) {
             filteredList.add(tagfield);
@@ -1279,46 +1280,46 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     for (ListIterator<AbstractID3v2Frame> li = frames.listIterator(); li.hasNext(); ) {
       AbstractID3v2Frame nextFrame = li.next();
 
-      if (newFrame.getBody() instanceof FrameBodyTXXX) {
+      if (newFrame.peekBody() instanceof FrameBodyTXXX) {
         //Value with matching key exists so replace
-        if (((FrameBodyTXXX)newFrame.getBody()).getDescription()
-                                               .equals(((FrameBodyTXXX)nextFrame.getBody()).getDescription())) {
+        if (((FrameBodyTXXX)newFrame.peekBody()).getDescription()
+                                                .equals(((FrameBodyTXXX)nextFrame.peekBody()).getDescription())) {
           li.set(newFrame);
           frameMap.put(newFrame.getId(), frames);
           return;
         }
-      } else if (newFrame.getBody() instanceof FrameBodyWXXX) {
+      } else if (newFrame.peekBody() instanceof FrameBodyWXXX) {
         //Value with matching key exists so replace
-        if (((FrameBodyWXXX)newFrame.getBody()).getDescription()
-                                               .equals(((FrameBodyWXXX)nextFrame.getBody()).getDescription())) {
+        if (((FrameBodyWXXX)newFrame.peekBody()).getDescription()
+                                                .equals(((FrameBodyWXXX)nextFrame.peekBody()).getDescription())) {
           li.set(newFrame);
           frameMap.put(newFrame.getId(), frames);
           return;
         }
-      } else if (newFrame.getBody() instanceof FrameBodyCOMM) {
-        if (((FrameBodyCOMM)newFrame.getBody()).getDescription()
-                                               .equals(((FrameBodyCOMM)nextFrame.getBody()).getDescription())) {
+      } else if (newFrame.peekBody() instanceof FrameBodyCOMM) {
+        if (((FrameBodyCOMM)newFrame.peekBody()).getDescription()
+                                                .equals(((FrameBodyCOMM)nextFrame.peekBody()).getDescription())) {
           li.set(newFrame);
           frameMap.put(newFrame.getId(), frames);
           return;
         }
-      } else if (newFrame.getBody() instanceof FrameBodyUFID) {
-        if (((FrameBodyUFID)newFrame.getBody()).getOwner()
-                                               .equals(((FrameBodyUFID)nextFrame.getBody()).getOwner())) {
+      } else if (newFrame.peekBody() instanceof FrameBodyUFID) {
+        if (((FrameBodyUFID)newFrame.peekBody()).getOwner()
+                                                .equals(((FrameBodyUFID)nextFrame.peekBody()).getOwner())) {
           li.set(newFrame);
           frameMap.put(newFrame.getId(), frames);
           return;
         }
-      } else if (newFrame.getBody() instanceof FrameBodyUSLT) {
-        if (((FrameBodyUSLT)newFrame.getBody()).getDescription()
-                                               .equals(((FrameBodyUSLT)nextFrame.getBody()).getDescription())) {
+      } else if (newFrame.peekBody() instanceof FrameBodyUSLT) {
+        if (((FrameBodyUSLT)newFrame.peekBody()).getDescription()
+                                                .equals(((FrameBodyUSLT)nextFrame.peekBody()).getDescription())) {
           li.set(newFrame);
           frameMap.put(newFrame.getId(), frames);
           return;
         }
-      } else if (newFrame.getBody() instanceof FrameBodyPOPM) {
-        if (((FrameBodyPOPM)newFrame.getBody()).getEmailToUser()
-                                               .equals(((FrameBodyPOPM)nextFrame.getBody()).getEmailToUser())) {
+      } else if (newFrame.peekBody() instanceof FrameBodyPOPM) {
+        if (((FrameBodyPOPM)newFrame.peekBody()).getEmailToUser()
+                                                .equals(((FrameBodyPOPM)nextFrame.peekBody()).getEmailToUser())) {
           li.set(newFrame);
           frameMap.put(newFrame.getId(), frames);
           return;
@@ -1331,7 +1332,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       }
       //e.g TIPL IPLS, TMCL
       else if (newFrame.getBody() instanceof AbstractFrameBodyPairs) {
-        AbstractFrameBodyPairs frameBody = (AbstractFrameBodyPairs)newFrame.getBody();
+        AbstractFrameBodyPairs frameBody = (AbstractFrameBodyPairs)newFrame.peekBody();
         AbstractFrameBodyPairs existingFrameBody = (AbstractFrameBodyPairs)nextFrame.getBody();
         existingFrameBody.addPair(frameBody.getText());
         return;
@@ -1353,7 +1354,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * All Number/Count frames  are treated the same (TCK, TPOS, MVNM)
    */
   private void mergeNumberTotalFrames(AbstractID3v2Frame newFrame, AbstractID3v2Frame nextFrame) {
-    AbstractFrameBodyNumberTotal newBody = (AbstractFrameBodyNumberTotal)newFrame.getBody();
+    AbstractFrameBodyNumberTotal newBody = (AbstractFrameBodyNumberTotal)newFrame.peekBody();
     AbstractFrameBodyNumberTotal oldBody = (AbstractFrameBodyNumberTotal)nextFrame.getBody();
 
     if (newBody.getNumber() != null && newBody.getNumber() > 0) {
@@ -1928,7 +1929,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * Add frame to the frame map
    */
   protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next) {
-    if (next.getBody() instanceof FrameBodyEncrypted) {
+    if (next.peekBody() instanceof FrameBodyEncrypted) {
       loadFrameIntoSpecifiedMap(encryptedFrameMap, frameId, next);
     } else {
       loadFrameIntoSpecifiedMap(frameMap, frameId, next);
@@ -2118,7 +2119,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       //Get list of frames that this uses
       List<TagField> list = getFields(formatKey.getFrameId());
       for (final TagField aList : list) {
-        AbstractTagFrameBody next = ((AbstractID3v2Frame)aList).getBody();
+        AbstractTagFrameBody next = ((AbstractID3v2Frame)aList).peekBody();
 
         if (next instanceof FrameBodyTXXX) {
           if (((FrameBodyTXXX)next).getDescription().equals(formatKey.getSubId())) {
@@ -2158,7 +2159,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
         ) {
       List<TagField> list = getFields(formatKey.getFrameId());
       for (final TagField aList : list) {
-        AbstractTagFrameBody next = ((AbstractID3v2Frame)aList).getBody();
+        AbstractTagFrameBody next = ((AbstractID3v2Frame)aList).peekBody();
         if (next instanceof AbstractFrameBodyPairs) {
           for (Pair entry : ((AbstractFrameBodyPairs)next).getPairing().getMapping()) {
             if (!StandardIPLSKey.isKey(entry.getKey())) {
@@ -2180,8 +2181,8 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       for (TagField next : list) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)next;
         if (frame != null) {
-          if (frame.getBody() instanceof AbstractFrameBodyTextInfo) {
-            AbstractFrameBodyTextInfo fb = (AbstractFrameBodyTextInfo)frame.getBody();
+          if (frame.peekBody() instanceof AbstractFrameBodyTextInfo) {
+            AbstractFrameBodyTextInfo fb = (AbstractFrameBodyTextInfo)frame.peekBody();
             values.addAll(fb.getValues());
           } else {
             values.add(getTextValueForFrame(frame));
@@ -2450,7 +2451,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     List<Artwork> artworkList = new ArrayList<>(coverartList.size());
 
     for (TagField next : coverartList) {
-      AbstractArtworkFrameBody coverArt = (AbstractArtworkFrameBody)((AbstractID3v2Frame)next).getBody();
+      AbstractArtworkFrameBody coverArt = (AbstractArtworkFrameBody)((AbstractID3v2Frame)next).peekBody();
       Artwork artwork = ArtworkFactory.getNew();
       artwork.setMimeType(coverArt.getMimeType());
       artwork.setPictureType(coverArt.getPictureType());
@@ -2527,5 +2528,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     return mimeType;
   }
 
-
+  @Override public TagSnapshot snapshot() {
+    return TagSnapshot.of(this);
+  }
 }
@@ -117,6 +117,6 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
 
     @Override
     public String toString() {
-        return getBody().toString();
+        return frameBody.toString();
     }
 }
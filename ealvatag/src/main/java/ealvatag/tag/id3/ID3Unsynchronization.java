@@ -4,11 +4,10 @@ import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.mp3.MPEGFrameHeader;
 import ealvatag.logging.EalvaTagLog;
+import okio.Buffer;
 
 import static com.ealva.ealvalog.LogLevel.TRACE;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 
 /**
@@ -41,6 +40,27 @@ class ID3Unsynchronization {
     return false;
   }
 
+  /**
+   * Check if a buffer will require unsynchronization before being written as a tag. The buffer is not consumed.
+   *
+   * @param source the buffer to be examined
+   *
+   * @return true if unsynchronization is required, false otherwise
+   * @see #requiresUnsynchronization(byte[])
+   */
+  static boolean requiresUnsynchronization(Buffer source) {
+    final long last = source.size() - 1;
+    long index = source.indexOf((byte)MPEGFrameHeader.SYNC_BYTE1);
+    while (index >= 0 && index < last) {
+      if ((source.getByte(index + 1) & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2) {
+        LOG.log(TRACE, "Unsynchronisation required found bit at:%s", index);
+        return true;
+      }
+      index = source.indexOf((byte)MPEGFrameHeader.SYNC_BYTE1, index + 1);
+    }
+    return false;
+  }
+
   /**
    * Unsynchronize an array of bytes, this should only be called if the decision has already been made to
    * unsynchronize the byte array
@@ -55,40 +75,41 @@ class ID3Unsynchronization {
    * @return a unsynchronized representation of the source
    */
   static byte[] unsynchronize(byte[] abySource) {
-    ByteArrayInputStream input = new ByteArrayInputStream(abySource);
-    ByteArrayOutputStream output = new ByteArrayOutputStream(abySource.length);
-
-    int count = 0;
-    while (input.available() > 0) {
-      int firstByte = input.read();
-      count++;
-      output.write(firstByte);
-      if ((firstByte & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) {
-        // if byte is $FF, we must check the following byte if there is one
-        if (input.available() > 0) {
-          input.mark(1);  // remember where we were, if we don't need to unsynchronize
-          int secondByte = input.read();
-          if ((secondByte & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2) {
-            // we need to unsynchronize here
-            LOG.log(TRACE, "Writing unsynchronisation bit at:%s", count);
-            output.write(0);
-
-          } else if (secondByte == 0) {
-            // we need to unsynchronize here
-            LOG.log(TRACE, "Inserting zero unsynchronisation bit at:%s", count);
-            output.write(0);
-          }
-          input.reset();
-        }
+    // count the $00 to insert first so the result is allocated once at its final size
+    int inserted = 0;
+    for (int i = 0; i < abySource.length; i++) {
+      if (needsZeroAfter(abySource, i)) {
+        inserted++;
+      }
+    }
+    if (inserted == 0) {
+      return abySource;
+    }
+    LOG.log(TRACE, "Inserting %s unsynchronisation bytes", inserted);
+    final byte[] output = new byte[abySource.length + inserted];
+    int out = 0;
+    for (int i = 0; i < abySource.length; i++) {
+      output[out++] = abySource[i];
+      if (needsZeroAfter(abySource, i)) {
+        output[out++] = 0;
       }
     }
-    // if we needed to unsynchronize anything, and this tag ends with 0xff, we have to append a zero byte,
-    // which will be removed on de-unsynchronization later
-    if ((abySource[abySource.length - 1] & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) {
-      LOG.log(TRACE, "Adding unsynchronisation bit at end of stream");
-      output.write(0);
+    return output;
+  }
+
+  /**
+   * @return true if {@code source[index]} is $FF and is followed by $00, a byte >= $E0, or nothing
+   */
+  private static boolean needsZeroAfter(byte[] source, int index) {
+    if ((source[index] & MPEGFrameHeader.SYNC_BYTE1) != MPEGFrameHeader.SYNC_BYTE1) {
+      return false;
+    }
+    if (index == source.length - 1) {
+      // a trailing $FF gets a $00, which is removed on synchronization
+      return true;
     }
-    return output.toByteArray();
+    final byte next = source[index + 1];
+    return next == 0 || (next & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2;
   }
 
 
@@ -215,6 +215,19 @@ public class ID3v11Tag extends ID3v1Tag {
     }
   }
 
+  /**
+   * Read the tag from {@code tagBuffer}, which must be positioned at the start of the {@link #TAG_LENGTH} bytes of the tag
+   *
+   * @param tagBuffer       the tag bytes, typically {@link ealvatag.audio.mp3.FileTail#getId3v1Buffer()}
+   * @param loggingFilename name of the file for log messages
+   *
+   * @throws TagNotFoundException if the buffer doesn't contain a tag of this version
+   */
+  public ID3v11Tag(ByteBuffer tagBuffer, String loggingFilename) throws TagNotFoundException {
+    setLoggingFilename(loggingFilename);
+    read(tagBuffer.slice());
+  }
+
   public ID3v11Tag(FileOperator fileOperator, String loggingFilename) throws TagNotFoundException, IOException {
     FileChannel fc = fileOperator.getFileChannel();
     setLoggingFilename(loggingFilename);
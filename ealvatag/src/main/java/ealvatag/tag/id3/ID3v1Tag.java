@@ -40,6 +40,7 @@ import ealvatag.tag.TagField;
 import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagNotFoundException;
 import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.TagSnapshot;
 import ealvatag.tag.UnsupportedFieldException;
 import ealvatag.tag.images.Artwork;
 import ealvatag.tag.reference.GenreTypes;
@@ -156,6 +157,19 @@ public class ID3v1Tag extends AbstractID3v1Tag implements TagFieldContainer {
     }
   }
 
+  /**
+   * Read the tag from {@code tagBuffer}, which must be positioned at the start of the {@link #TAG_LENGTH} bytes of the tag
+   *
+   * @param tagBuffer       the tag bytes, typically {@link ealvatag.audio.mp3.FileTail#getId3v1Buffer()}
+   * @param loggingFilename name of the file for log messages
+   *
+   * @throws TagNotFoundException if the buffer doesn't contain a tag of this version
+   */
+  public ID3v1Tag(ByteBuffer tagBuffer, String loggingFilename) throws TagNotFoundException {
+    setLoggingFilename(loggingFilename);
+    read(tagBuffer.slice());
+  }
+
   public ID3v1Tag(FileOperator fileOperator, String loggingFilename) throws TagNotFoundException, IOException {
     FileChannel fileChannel = fileOperator.getFileChannel();
     setLoggingFilename(loggingFilename);
@@ -869,4 +883,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements TagFieldContainer {
     return year;
   }
 
+  @Override public TagSnapshot snapshot() {
+    return TagSnapshot.of(this);
+  }
 }
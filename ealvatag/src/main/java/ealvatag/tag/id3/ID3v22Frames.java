@@ -19,6 +19,7 @@ import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import ealvatag.tag.FieldKey;
+import ealvatag.utils.EnumIndexedMap;
 
 /**
  * Defines ID3v22 frames and collections that categorise frames within an ID3v22 tag.
@@ -111,8 +112,8 @@ public class ID3v22Frames extends ID3Frames {
 
     private static volatile ID3v22Frames instance;
 
-    private volatile ImmutableBiMap<FieldKey, ID3v22FieldKey> tagFieldToId3;
-    private volatile ImmutableBiMap<ID3v22FieldKey, FieldKey> id3ToTagField;
+    private volatile EnumIndexedMap<FieldKey, ID3v22FieldKey> tagFieldToId3;
+    private volatile EnumIndexedMap<ID3v22FieldKey, FieldKey> id3ToTagField;
     private volatile ImmutableMap<String, String> idToValue;
 
 
@@ -149,11 +150,11 @@ public class ID3v22Frames extends ID3Frames {
         return getIdToValue().get(id);
     }
 
-    private ImmutableBiMap<FieldKey, ID3v22FieldKey> getTagFieldToId3() {
+    private EnumIndexedMap<FieldKey, ID3v22FieldKey> getTagFieldToId3() {
         if (tagFieldToId3 == null) {
             synchronized (this) {
                 if (tagFieldToId3 == null) {
-                    tagFieldToId3 = makeTagFieldToId3();
+                    tagFieldToId3 = EnumIndexedMap.of(FieldKey.class, makeTagFieldToId3());
                 }
             }
         }
@@ -316,11 +317,11 @@ public class ID3v22Frames extends ID3Frames {
         return builder.build();
     }
 
-    private ImmutableBiMap<ID3v22FieldKey, FieldKey> getId3ToTagField() {
+    private EnumIndexedMap<ID3v22FieldKey, FieldKey> getId3ToTagField() {
         if (id3ToTagField == null) {
             synchronized (this) {
                 if (id3ToTagField == null) {
-                    id3ToTagField = getTagFieldToId3().inverse();
+                    id3ToTagField = EnumIndexedMap.of(ID3v22FieldKey.class, makeTagFieldToId3().inverse());
                 }
             }
         }
@@ -567,6 +567,11 @@ import java.util.NoSuchElementException;
         buffer.skip(realFrameSize);
         frameBody = null;
       } else {
+        if (!((EncodingFlags)encodingFlags).isCompression() && !((EncodingFlags)encodingFlags).isEncryption()) {
+          //Keep the body as read so an unmodified frame can be written without re-encoding
+          retainOriginalBody(buffer, realFrameSize);
+        }
+
         //Read the body data
         if (((EncodingFlags)encodingFlags).isCompression()) {
           final Buffer decompressBuffer = AbstractID3v2Frame.decompressPartOfBuffer(buffer, realFrameSize, decompressedFrameSize);
@@ -597,7 +602,8 @@ import java.util.NoSuchElementException;
   }
 
   /**
-   * Write the frame to bufferOutputStream
+   * Write the frame to bufferOutputStream. If the frame is unmodified since it was read the original body is written
+   * rather than encoding the body again.
    */
   public void write(ByteArrayOutputStream tagBuffer) {
     LOG.log(DEBUG, "Writing frame to buffer:%s", getIdentifier());
@@ -606,17 +612,25 @@ import java.util.NoSuchElementException;
     ByteBuffer headerBuffer = ByteBuffer.allocate(FRAME_HEADER_SIZE);
 
     //Write Frame Body Data
-    ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-    ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+    final Buffer originalBody = getOriginalBody();
+    ByteArrayOutputStream bodyOutputStream = null;
+    int size;
+    if (originalBody != null) {
+      size = (int)originalBody.size();
+      LOG.log(DEBUG, "Writing unmodified frame body:%s", getIdentifier());
+    } else {
+      bodyOutputStream = new ByteArrayOutputStream();
+      ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+      size = frameBody.getSize();
+    }
     //Write Frame Header write Frame ID
     if (getIdentifier().length() == 3) {
       identifier = identifier + ' ';
     }
     headerBuffer.put(getIdentifier().getBytes(StandardCharsets.ISO_8859_1), 0, FRAME_ID_SIZE);
     //Write Frame Size
-    int size = frameBody.getSize();
     LOG.log(INFO, "Frame Size Is:" + size);
-    headerBuffer.putInt(frameBody.getSize());
+    headerBuffer.putInt(size);
 
     //Write the Flags
     //Status Flags:leave as they were when we read
@@ -642,7 +656,11 @@ import java.util.NoSuchElementException;
       }
 
       //Add body to the Byte Array Output Stream
-      tagBuffer.write(bodyOutputStream.toByteArray());
+      if (bodyOutputStream != null) {
+        bodyOutputStream.writeTo(tagBuffer);
+      } else {
+        originalBody.copyTo(tagBuffer, 0, size);
+      }
     } catch (IOException ioe) {
       //This could never happen coz not writing to file, so convert to RuntimeException
       throw new RuntimeException(ioe);
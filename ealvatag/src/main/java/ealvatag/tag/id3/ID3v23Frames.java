@@ -19,6 +19,7 @@ import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import ealvatag.tag.FieldKey;
+import ealvatag.utils.EnumIndexedMap;
 
 /**
  * Defines ID3v23 frames and collections that categorise frames within an ID3v23 tag.
@@ -130,8 +131,8 @@ public class ID3v23Frames extends ID3Frames {
   /**
    * Maps from Generic key to ID3 key
    */
-  private volatile ImmutableBiMap<FieldKey, ID3v23FieldKey> tagFieldToId3;
-  private volatile ImmutableBiMap<ID3v23FieldKey, FieldKey> id3ToTagField;
+  private volatile EnumIndexedMap<FieldKey, ID3v23FieldKey> tagFieldToId3;
+  private volatile EnumIndexedMap<ID3v23FieldKey, FieldKey> id3ToTagField;
   private volatile ImmutableMap<String, String> idToValue;
 
   public static ID3v23Frames getInstanceOf() {
@@ -179,11 +180,11 @@ public class ID3v23Frames extends ID3Frames {
     return getIdToValue().get(id);
   }
 
-  private ImmutableBiMap<FieldKey, ID3v23FieldKey> getTagFieldToId3() {
+  private EnumIndexedMap<FieldKey, ID3v23FieldKey> getTagFieldToId3() {
     if (tagFieldToId3 == null) {
       synchronized (this) {
         if (tagFieldToId3 == null) {
-          tagFieldToId3 = makeTagFieldToId3();
+          tagFieldToId3 = EnumIndexedMap.of(FieldKey.class, makeTagFieldToId3());
         }
       }
     }
@@ -347,11 +348,11 @@ public class ID3v23Frames extends ID3Frames {
   /**
    * Maps from ID3 key to Generic key
    */
-  private ImmutableBiMap<ID3v23FieldKey, FieldKey> getId3ToTagField() {
+  private EnumIndexedMap<ID3v23FieldKey, FieldKey> getId3ToTagField() {
     if (id3ToTagField == null) {
       synchronized (this) {
         if (id3ToTagField == null) {
-          id3ToTagField = getTagFieldToId3().inverse();
+          id3ToTagField = EnumIndexedMap.of(ID3v23FieldKey.class, makeTagFieldToId3().inverse());
         }
       }
     }
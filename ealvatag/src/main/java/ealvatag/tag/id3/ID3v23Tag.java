@@ -15,6 +15,7 @@
  */
 package ealvatag.tag.id3;
 
+import com.google.common.base.Objects;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -327,7 +328,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
       List<String> convertedGenres = new ArrayList<>();
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        FrameBodyTCON body = (FrameBodyTCON)frame.getBody();
+        FrameBodyTCON body = (FrameBodyTCON)frame.peekBody();
 
         for (String next : body.getValues()) {
           convertedGenres.add(FrameBodyTCON.convertID3v23GenreToGeneric(next));
@@ -363,7 +364,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
       List<TagField> fields = getFields(genericKey);
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        FrameBodyTCON body = (FrameBodyTCON)frame.getBody();
+        FrameBodyTCON body = (FrameBodyTCON)frame.peekBody();
         return Optional.of(FrameBodyTCON.convertID3v23GenreToGeneric(body.getValues().get(index)));
       }
       return Optional.absent();
@@ -540,7 +541,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     if (newFrame.getIdentifier().equals(ID3v23Frames.FRAME_ID_V3_INVOLVED_PEOPLE)) {
       PairedTextEncodedStringNullTerminated.ValuePairs oldVps =
           ((FrameBodyIPLS)(existingFrame).getBody()).getPairing();
-      PairedTextEncodedStringNullTerminated.ValuePairs newVps = ((FrameBodyIPLS)newFrame.getBody()).getPairing();
+      PairedTextEncodedStringNullTerminated.ValuePairs newVps = ((FrameBodyIPLS)newFrame.peekBody()).getPairing();
       for (Pair next : newVps.getMapping()) {
         oldVps.add(next);
       }
@@ -553,8 +554,14 @@ public class ID3v23Tag extends AbstractID3v2Tag {
   }
 
   protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next) {
-    if (next.getBody() instanceof FrameBodyTCON) {
-      ((FrameBodyTCON)next.getBody()).setV23Format();
+    if (next.peekBody() instanceof FrameBodyTCON) {
+      final FrameBodyTCON body = (FrameBodyTCON)next.peekBody();
+      final String text = body.getText();
+      body.setV23Format();
+      // only changes how values are split and joined, so the original bytes can be kept unless the text changed
+      if (!Objects.equal(text, body.getText())) {
+        next.markModified();
+      }
     }
     super.loadFrameIntoMap(frameId, next);
   }
@@ -340,6 +340,11 @@ import java.util.NoSuchElementException;
           buffer.skip(realFrameSize);
           frameBody = null;
         } else {
+          if (!((EncodingFlags)encodingFlags).isCompression() && !((EncodingFlags)encodingFlags).isDataLengthIndicator()) {
+            //Keep the body as read so an unmodified frame can be written without re-encoding
+            retainOriginalBody(buffer, realFrameSize);
+          }
+
           //Read the body data
           Buffer frameBodyBuffer = buffer;
           //Do we need to synchronize the frame body
@@ -348,9 +353,7 @@ import java.util.NoSuchElementException;
             //We only want to synchronize the buffer up to the end of this frame (remember this
             //buffer contains the remainder of this tag not just this frame)
             //Create Buffer that only contains the body of this frame rather than the remainder of tag
-            frameBodyBuffer = new Buffer();
-            buffer.read(frameBodyBuffer, realFrameSize);
-            frameBodyBuffer = Id3SynchronizingSink.synchronizeBuffer(frameBodyBuffer);
+            frameBodyBuffer = Id3SynchronizingSink.synchronize(buffer, realFrameSize);
             syncSize = (int)frameBodyBuffer.size();
             LOG.log(DEBUG, "%s:Frame Size After Syncing is:%s", fileName, syncSize);
           }
@@ -525,7 +528,7 @@ import java.util.NoSuchElementException;
 
   /**
    * Write the frame. Writes the frame header but writing the data is delegated to the
-   * frame body.
+   * frame body. If the frame is unmodified since it was read the original body is written instead.
    */
   public void write(ByteArrayOutputStream tagBuffer) {
     boolean unsynchronization;
@@ -536,17 +539,31 @@ import java.util.NoSuchElementException;
     //write bodybuffer
     ByteBuffer headerBuffer = ByteBuffer.allocate(FRAME_HEADER_SIZE);
 
-    //Write Frame Body Data to a new stream
-    ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-    ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
-
-    //Does it need unsynchronizing, and are we allowing unsychronizing
-    byte[] bodyBuffer = bodyOutputStream.toByteArray();
-    unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() &&
-        ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
-    if (unsynchronization) {
-      bodyBuffer = ID3Unsynchronization.unsynchronize(bodyBuffer);
-      LOG.log(DEBUG, "bodybytebuffer:sizeafterunsynchronisation:" + bodyBuffer.length);
+    final boolean unsyncTags = TagOptionSingleton.getInstance().isUnsyncTags();
+    final Buffer originalBody = getOriginalBody();
+    byte[] bodyBuffer = null;
+    int size;
+    if (originalBody != null && canWriteOriginalBody(originalBody, unsyncTags)) {
+      //Unmodified, so the body is written exactly as read, unsynchronised or not
+      unsynchronization = ((EncodingFlags)encodingFlags).isUnsynchronised();
+      size = (int)originalBody.size();
+      LOG.log(DEBUG, "Writing unmodified frame body:%s", getIdentifier());
+    } else {
+      //Flags written below may no longer describe the original body, so encode from the body from now on
+      markModified();
+
+      //Write Frame Body Data to a new stream
+      ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
+      ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+
+      //Does it need unsynchronizing, and are we allowing unsychronizing
+      bodyBuffer = bodyOutputStream.toByteArray();
+      unsynchronization = unsyncTags && ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
+      if (unsynchronization) {
+        bodyBuffer = ID3Unsynchronization.unsynchronize(bodyBuffer);
+        LOG.log(DEBUG, "bodybytebuffer:sizeafterunsynchronisation:" + bodyBuffer.length);
+      }
+      size = bodyBuffer.length;
     }
 
     //Write Frame Header
@@ -559,7 +576,6 @@ import java.util.NoSuchElementException;
 
     //Write Frame Size based on size of body buffer (if it has been unsynced then it size
     //will have increased accordingly
-    int size = bodyBuffer.length;
     LOG.log(INFO, "Frame Size Is:" + size);
     headerBuffer.put(ID3SyncSafeInteger.valueToBuffer(size));
 
@@ -594,13 +610,29 @@ import java.util.NoSuchElementException;
       }
 
       //Add bodybuffer to the Byte Array Output Stream
-      tagBuffer.write(bodyBuffer);
+      if (bodyBuffer != null) {
+        tagBuffer.write(bodyBuffer);
+      } else {
+        originalBody.copyTo(tagBuffer, 0, size);
+      }
     } catch (IOException ioe) {
       //This could never happen coz not writing to file, so convert to RuntimeException
       throw new RuntimeException(ioe);
     }
   }
 
+  /**
+   * The original body can be written as is if it matches what encoding the body would produce with respect to
+   * unsynchronization. An unsynchronised body is only written when unsynchronization is allowed and a body that was not
+   * unsynchronised must not require it if it's allowed.
+   */
+  private boolean canWriteOriginalBody(Buffer originalBody, boolean unsyncTags) {
+    if (((EncodingFlags)encodingFlags).isUnsynchronised()) {
+      return unsyncTags;
+    }
+    return !unsyncTags || !ID3Unsynchronization.requiresUnsynchronization(originalBody);
+  }
+
   /**
    * Get Status Flags Object
    */
@@ -19,6 +19,7 @@ import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import ealvatag.tag.FieldKey;
+import ealvatag.utils.EnumIndexedMap;
 
 /**
  * Defines ID3v24 frames and collections that categorise frames.
@@ -130,8 +131,8 @@ public class ID3v24Frames extends ID3Frames {
     public static final String FRAME_ID_PERFORMER_SORT_OWNER = FRAME_ID_ARTIST_SORT_ORDER;
     public static final String FRAME_ID_TITLE_SORT_OWNER = FRAME_ID_TITLE_SORT_ORDER;
 
-    private volatile ImmutableBiMap<FieldKey, ID3v24FieldKey> tagFieldToId3;
-    private volatile ImmutableBiMap<ID3v24FieldKey, FieldKey> id3ToTagField;
+    private volatile EnumIndexedMap<FieldKey, ID3v24FieldKey> tagFieldToId3;
+    private volatile EnumIndexedMap<ID3v24FieldKey, FieldKey> id3ToTagField;
     private volatile ImmutableMap<String, String> idToValue;
 
 
@@ -285,11 +286,11 @@ public class ID3v24Frames extends ID3Frames {
         return builder.build();
     }
 
-    private ImmutableBiMap<FieldKey, ID3v24FieldKey> getTagFieldToId3() {
+    private EnumIndexedMap<FieldKey, ID3v24FieldKey> getTagFieldToId3() {
         if (tagFieldToId3 == null) {
             synchronized (this) {
                 if (tagFieldToId3 == null) {
-                    tagFieldToId3 = makeTagFieldToId3();
+                    tagFieldToId3 = EnumIndexedMap.of(FieldKey.class, makeTagFieldToId3());
                 }
             }
         }
@@ -450,11 +451,11 @@ public class ID3v24Frames extends ID3Frames {
         return builder.build();
     }
 
-    private ImmutableBiMap<ID3v24FieldKey, FieldKey> getId3ToTagField() {
+    private EnumIndexedMap<ID3v24FieldKey, FieldKey> getId3ToTagField() {
         if (id3ToTagField == null) {
             synchronized (this) {
                 if (id3ToTagField == null) {
-                    id3ToTagField = getTagFieldToId3().inverse();
+                    id3ToTagField = EnumIndexedMap.of(ID3v24FieldKey.class, makeTagFieldToId3().inverse());
                 }
             }
         }
@@ -1263,7 +1263,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
       List<String> convertedGenres = new ArrayList<>();
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        FrameBodyTCON body = (FrameBodyTCON)frame.getBody();
+        FrameBodyTCON body = (FrameBodyTCON)frame.peekBody();
 
         for (String next : body.getValues()) {
           convertedGenres.add(FrameBodyTCON.convertID3v24GenreToGeneric(next));
@@ -1281,7 +1281,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
       List<TagField> fields = getFields(genericKey);
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        FrameBodyTCON body = (FrameBodyTCON)frame.getBody();
+        FrameBodyTCON body = (FrameBodyTCON)frame.peekBody();
         return Optional.of(FrameBodyTCON.convertID3v24GenreToGeneric(body.getValues().get(index)));
       }
       return Optional.absent();
@@ -0,0 +1,141 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.id3;
+
+import com.google.common.collect.ImmutableSet;
+import ealvatag.tag.id3.framebody.Id3FrameBodyFactories;
+import ealvatag.utils.ImmutableIntMap;
+import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Registry of known ID3v2 frame identifiers keyed by their packed form: the 3 or 4 identifier bytes read as a big-endian int.
+ * Frame headers can be matched against this registry without decoding a String, and every known identifier resolves to one
+ * canonical String instance, so frames read from different tags share their identifier rather than each holding a copy.
+ */
+public final class Id3FrameIds {
+    /**
+     * Returned when an identifier cannot be packed. Valid identifiers only contain printable ASCII so never pack to zero.
+     */
+    public static final int NOT_PACKABLE = 0;
+
+    private Id3FrameIds() {
+    }
+
+    /**
+     * @return {@code frameId} packed into an int, or {@link #NOT_PACKABLE} if it isn't a 3 or 4 character printable ASCII id
+     */
+    public static int pack(final String frameId) {
+        final int length = frameId.length();
+        if (length != 3 && length != 4) {
+            return NOT_PACKABLE;
+        }
+        int packed = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = frameId.charAt(i);
+            if (!isIdentifierByte(c)) {
+                return NOT_PACKABLE;
+            }
+            packed = (packed << 8) | c;
+        }
+        return packed;
+    }
+
+    /**
+     * Pack the next {@code idSize} bytes of {@code buffer} without consuming them
+     *
+     * @return the packed id or {@link #NOT_PACKABLE} if there are too few bytes or they can't be part of an identifier
+     */
+    public static int peek(final Buffer buffer, final int idSize) {
+        if (idSize > buffer.size()) {
+            return NOT_PACKABLE;
+        }
+        int packed = 0;
+        for (int i = 0; i < idSize; i++) {
+            final int b = buffer.getByte(i) & 0xFF;
+            if (!isIdentifierByte(b)) {
+                return NOT_PACKABLE;
+            }
+            packed = (packed << 8) | b;
+        }
+        return packed;
+    }
+
+    /**
+     * Pack the {@code idSize} bytes at the current position of {@code byteBuffer} without changing its position
+     *
+     * @return the packed id or {@link #NOT_PACKABLE} if there are too few bytes or they can't be part of an identifier
+     */
+    public static int peek(final ByteBuffer byteBuffer, final int idSize) {
+        if (idSize > byteBuffer.remaining()) {
+            return NOT_PACKABLE;
+        }
+        final int position = byteBuffer.position();
+        int packed = 0;
+        for (int i = 0; i < idSize; i++) {
+            final int b = byteBuffer.get(position + i) & 0xFF;
+            if (!isIdentifierByte(b)) {
+                return NOT_PACKABLE;
+            }
+            packed = (packed << 8) | b;
+        }
+        return packed;
+    }
+
+    /**
+     * @return the canonical identifier for {@code packedId} or null if it is not a known frame identifier
+     */
+    public static @Nullable String get(final int packedId) {
+        return packedId == NOT_PACKABLE ? null : Holder.KNOWN_IDS.get(packedId);
+    }
+
+    /**
+     * @return the canonical instance of {@code frameId} if it is a known identifier, otherwise {@code frameId}
+     */
+    public static String intern(final String frameId) {
+        final String canonical = get(pack(frameId));
+        return canonical != null ? canonical : frameId;
+    }
+
+    private static boolean isIdentifierByte(final int b) {
+        return b > ' ' && b < 0x7F;
+    }
+
+    private static final class Holder {
+        static final ImmutableIntMap<String> KNOWN_IDS = makeKnownIds();
+
+        private static ImmutableIntMap<String> makeKnownIds() {
+            // most identifiers are in several of the sets, so gather them first and pack each once
+            final ImmutableSet<String> frameIds = ImmutableSet.<String>builder()
+                    .addAll(ID3v22Frames.getInstanceOf().getSupportedFrames())
+                    .addAll(ID3v23Frames.getInstanceOf().getSupportedFrames())
+                    .addAll(ID3v24Frames.getInstanceOf().getSupportedFrames())
+                    .addAll(ID3v2ChapterFrames.getInstanceOf().getSupportedFrames())
+                    .addAll(Id3FrameBodyFactories.frameIds())
+                    .build();
+            final ImmutableIntMap.Builder<String> builder = ImmutableIntMap.builder();
+            for (String frameId : frameIds) {
+                final int packed = pack(frameId);
+                if (packed != NOT_PACKABLE) {
+                    builder.put(packed, frameId);
+                }
+            }
+            return builder.build();
+        }
+    }
+}
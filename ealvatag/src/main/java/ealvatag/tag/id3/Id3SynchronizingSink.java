@@ -18,9 +18,10 @@
 package ealvatag.tag.id3;
 
 import okio.Buffer;
-import okio.BufferedSink;
 import okio.ForwardingSink;
+import okio.Sink;
 
+import java.io.EOFException;
 import java.io.IOException;
 
 /**
@@ -28,6 +29,9 @@ import java.io.IOException;
  * <p>
  * Any patterns of the form $FF $00 should be replaced by $FF
  * <p>
+ * Runs of bytes without $FF are moved to the delegate as they are, so synchronizing a buffer with few or no $FF bytes
+ * does not copy the data.
+ * <p>
  * Created by Eric A. Snell on 1/24/17.
  */
 @SuppressWarnings("WeakerAccess") public class Id3SynchronizingSink extends ForwardingSink {
@@ -36,12 +40,25 @@ import java.io.IOException;
     private static final byte ZERO = (byte)0x00;
 
     private boolean lastByteWasFF = false;
-    private BufferedSink sink;
 
     public static Buffer synchronizeBuffer(Buffer buffer) throws IOException {
+        return synchronize(buffer, buffer.size());
+    }
+
+    /**
+     * Synchronize the next {@code byteCount} bytes of {@code buffer}, which are removed from {@code buffer}
+     *
+     * @param buffer    the unsynchronized data
+     * @param byteCount number of bytes to synchronize
+     *
+     * @return a new buffer containing the synchronized bytes
+     *
+     * @throws IOException if {@code buffer} does not contain {@code byteCount} bytes
+     */
+    public static Buffer synchronize(Buffer buffer, long byteCount) throws IOException {
         Buffer syncBuffer = new Buffer();
         final Id3SynchronizingSink sink = new Id3SynchronizingSink(syncBuffer);
-        buffer.readAll(sink);
+        sink.write(buffer, byteCount);
         return syncBuffer;
     }
 
@@ -49,46 +66,49 @@ import java.io.IOException;
      * This is a {@link ForwardingSink} which transforms the stream of bytes substituting every occurrence of [0xFF, 0x00] with [0xFF]. This
      * is synchronizing an ID3 tag
      *
-     * @param delegate the {@link BufferedSink} the transformed bytes written to
+     * @param delegate the {@link Sink} the transformed bytes written to
      */
-    public Id3SynchronizingSink(final BufferedSink delegate) {
+    public Id3SynchronizingSink(final Sink delegate) {
         super(delegate);
-        sink = delegate;
     }
 
     @Override public void write(final Buffer source, final long byteCount) throws IOException {
-        for (int i = 0; i < byteCount; i++) {
-            final byte current = source.readByte();
+        lastByteWasFF = transfer(source, byteCount, delegate(), lastByteWasFF);
+    }
+
+    /**
+     * Move {@code byteCount} bytes from {@code source} to {@code sink} dropping any $00 which follows $FF.
+     *
+     * @param lastByteWasFF true if the byte preceding {@code source} was $FF
+     *
+     * @return true if the last byte moved was $FF
+     */
+    static boolean transfer(final Buffer source, final long byteCount, final Sink sink, boolean lastByteWasFF)
+            throws IOException {
+        if (byteCount > source.size()) {
+            throw new EOFException("Requested " + byteCount + " bytes but only " + source.size() + " available");
+        }
+        long remaining = byteCount;
+        while (remaining > 0) {
             if (lastByteWasFF) {
-                sink.writeByte(FF);
                 lastByteWasFF = false;
-                if (ZERO != current) {
-                    if (FF != current) {
-                        lastByteWasFF = false;
-                        sink.writeByte(current);
-                    } else {
-                        lastByteWasFF = true;
-                    }
+                if (source.getByte(0) == ZERO) {
+                    source.skip(1);
+                    remaining--;
+                    continue;
                 }
+            }
+            final long index = source.indexOf(FF, 0, remaining);
+            if (index == -1) {
+                sink.write(source, remaining);
+                remaining = 0;
             } else {
-                if (FF == current) {
-                    lastByteWasFF = true;
-                } else {
-                    sink.writeByte(current);
-                }
+                // move everything up to and including the $FF
+                sink.write(source, index + 1);
+                remaining -= index + 1;
+                lastByteWasFF = true;
             }
         }
-    }
-
-    @Override public void flush() throws IOException {
-        if (lastByteWasFF) {
-            sink.writeByte(0xFF);
-            lastByteWasFF = false;
-        }
-        sink.flush();
-    }
-
-    @Override public void close() throws IOException {
-        flush();
+        return lastByteWasFF;
     }
 }
@@ -20,6 +20,7 @@ package ealvatag.tag.id3.framebody;
 
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.utils.CharsetCoders;
 import ealvatag.utils.StandardCharsets;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
@@ -102,7 +103,7 @@ public abstract class AbstractFrameBodyUrlLink extends AbstractID3v2FrameBody {
    * If the description cannot be encoded using the current encoding change the encoder
    */
   public void write(ByteArrayOutputStream tagBuffer) {
-    CharsetEncoder encoder = StandardCharsets.ISO_8859_1.newEncoder();
+    CharsetEncoder encoder = CharsetCoders.encoder(StandardCharsets.ISO_8859_1);
     String origUrl = getUrlLink();
     if (!encoder.canEncode(origUrl)) {
       //ALL W Frames only support ISO-8859-1 for the url itself, if unable to encode let us assume
@@ -18,33 +18,47 @@
 package ealvatag.tag.id3.framebody;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import ealvatag.tag.InvalidTagException;
+import ealvatag.tag.id3.Id3FrameIds;
 import ealvatag.tag.id3.ID3v22Frames;
 import ealvatag.tag.id3.ID3v23Frames;
 import ealvatag.tag.id3.ID3v24Frames;
 import ealvatag.tag.id3.ID3v2ChapterFrames;
+import ealvatag.utils.ImmutableIntMap;
 import okio.Buffer;
 
+import java.util.Map;
+
 /**
  * This contains all the factories for Id3v2 frames
  * <p>
  * Created by Eric A. Snell on 1/25/17.
  */
 public class Id3FrameBodyFactories implements Id3FrameBodyFactory {
-    private static volatile Id3FrameBodyFactory instance;
-
     public static Id3FrameBodyFactory instance() {
-        if (instance == null) {
-            synchronized (Id3FrameBodyFactories.class) {
-                if (instance == null) {
-                    instance = new Id3FrameBodyFactories();
-                }
-            }
-        }
-        return instance;
+        return factories();
+    }
+
+    /**
+     * @return the identifiers of all frames which have a dedicated body
+     */
+    public static ImmutableSet<String> frameIds() {
+        return factories().factoryMap.keySet();
+    }
+
+    private static Id3FrameBodyFactories factories() {
+        return Holder.INSTANCE;
+    }
+
+    /** Created on first use by the class loader, so the lookup on every frame read never takes a lock */
+    private static final class Holder {
+        static final Id3FrameBodyFactories INSTANCE = new Id3FrameBodyFactories();
     }
 
     private final ImmutableMap<String, Id3FrameBodyFactory> factoryMap;
+    /** Same factories keyed by packed frame id, see {@link Id3FrameIds#pack(String)} */
+    private final ImmutableIntMap<Id3FrameBodyFactory> packedFactoryMap;
 
     private Id3FrameBodyFactories() {
         factoryMap = ImmutableMap.<String, Id3FrameBodyFactory>builder()
@@ -685,12 +699,39 @@ public class Id3FrameBodyFactories implements Id3FrameBodyFactory {
                     }
                 })
                 .build();
+
+        final ImmutableIntMap.Builder<Id3FrameBodyFactory> builder = ImmutableIntMap.builder();
+        for (Map.Entry<String, Id3FrameBodyFactory> entry : factoryMap.entrySet()) {
+            builder.put(Id3FrameIds.pack(entry.getKey()), entry.getValue());
+        }
+        packedFactoryMap = builder.build();
+    }
+
+    /**
+     * Make the body of {@code frameId}, already packed by the frame reader, so the lookup doesn't pack it again
+     *
+     * @param packedId {@code frameId} packed with {@link Id3FrameIds#pack(String)}
+     *
+     * @throws FrameIdentifierException if there is no dedicated body for the frame
+     */
+    public static AbstractID3v2FrameBody makeForPackedId(final int packedId,
+                                                         final String frameId,
+                                                         final Buffer buffer,
+                                                         final int frameSize) throws FrameIdentifierException, InvalidTagException {
+        return factories().make(packedId, frameId, buffer, frameSize);
     }
 
     @Override public AbstractID3v2FrameBody make(final String frameId,
                                                  final Buffer buffer,
                                                  final int frameSize) throws FrameIdentifierException, InvalidTagException {
-        final Id3FrameBodyFactory id3FrameBodyFactory = factoryMap.get(frameId);
+        return make(Id3FrameIds.pack(frameId), frameId, buffer, frameSize);
+    }
+
+    private AbstractID3v2FrameBody make(final int packedId,
+                                        final String frameId,
+                                        final Buffer buffer,
+                                        final int frameSize) throws FrameIdentifierException, InvalidTagException {
+        final Id3FrameBodyFactory id3FrameBodyFactory = packedFactoryMap.get(packedId);
         if (id3FrameBodyFactory == null) {
             throw new FrameIdentifierException(frameId);
         }
@@ -42,6 +42,7 @@ import ealvatag.tag.mp4.field.Mp4TagReverseDnsField;
 import ealvatag.tag.mp4.field.Mp4TagTextField;
 import ealvatag.tag.mp4.field.Mp4TagTextNumberField;
 import ealvatag.tag.mp4.field.Mp4TrackField;
+import ealvatag.utils.EnumIndexedMap;
 
 import static ealvatag.tag.mp4.Mp4FieldKey.DISCNUMBER;
 import static ealvatag.tag.mp4.Mp4FieldKey.GENRE;
@@ -64,7 +65,7 @@ import java.util.List;
  */
 public class Mp4Tag extends AbstractTag {
 
-  private static final ImmutableMap<FieldKey, Mp4FieldKey> tagFieldToMp4Field;
+  private static final EnumIndexedMap<FieldKey, Mp4FieldKey> tagFieldToMp4Field;
   private static final TagFieldSupplier TRACK_FIELD_SUPPLIER = new TagFieldSupplier();
   private static final DiscTagFieldSupplier DISC_TAG_FIELD_SUPPLIER = new DiscTagFieldSupplier();
 
@@ -221,7 +222,7 @@ public class Mp4Tag extends AbstractTag {
            .put(FieldKey.SINGLE_DISC_TRACK_NO, Mp4FieldKey.SINGLE_DISC_TRACK_NO)
            .put(FieldKey.PERIOD, Mp4FieldKey.PERIOD);
 
-    tagFieldToMp4Field = builder.build();
+    tagFieldToMp4Field = EnumIndexedMap.of(FieldKey.class, builder.build());
   }
 
   protected Mp4Tag() {
@@ -0,0 +1,98 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.vorbiscomment;
+
+import ealvatag.utils.CharsetCoders;
+import ealvatag.utils.StandardCharsets;
+
+/**
+ * Resolves the field name of a raw comment to an upper case String. Names of the {@link VorbisCommentFieldKey}s, which cover nearly
+ * every comment in practice, are matched case-insensitively against the bytes and return the shared constant without decoding.
+ */
+final class VorbisCommentKeys {
+    private static final String[] TABLE;
+    private static final int MASK;
+
+    static {
+        final VorbisCommentFieldKey[] keys = VorbisCommentFieldKey.values();
+        int capacity = 16;
+        while (capacity < keys.length * 2) {
+            capacity <<= 1;
+        }
+        TABLE = new String[capacity];
+        MASK = capacity - 1;
+        for (VorbisCommentFieldKey key : keys) {
+            final String name = key.getFieldName();
+            int index = spread(name.hashCode()) & MASK;
+            while (TABLE[index] != null && !TABLE[index].equals(name)) {
+                index = (index + 1) & MASK;
+            }
+            TABLE[index] = name;
+        }
+    }
+
+    private VorbisCommentKeys() {
+    }
+
+    /**
+     * @return the upper case field name held in {@code length} bytes of {@code bytes} starting at {@code offset}
+     */
+    static String get(final byte[] bytes, final int offset, final int length) {
+        // same hash as String.hashCode() of the upper case ASCII name
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final int b = bytes[i];
+            if (b < 0) {
+                return decode(bytes, offset, length);
+            }
+            hash = 31 * hash + toUpper(b);
+        }
+
+        int index = spread(hash) & MASK;
+        String candidate;
+        while ((candidate = TABLE[index]) != null) {
+            if (matches(candidate, bytes, offset, length)) {
+                return candidate;
+            }
+            index = (index + 1) & MASK;
+        }
+        return decode(bytes, offset, length);
+    }
+
+    private static boolean matches(final String name, final byte[] bytes, final int offset, final int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != toUpper(bytes[offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String decode(final byte[] bytes, final int offset, final int length) {
+        return CharsetCoders.decode(bytes, offset, length, StandardCharsets.UTF_8).toUpperCase();
+    }
+
+    private static int toUpper(final int b) {
+        return b >= 'a' && b <= 'z' ? b - ('a' - 'A') : b;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
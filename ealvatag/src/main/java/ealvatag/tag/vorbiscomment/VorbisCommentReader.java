@@ -25,13 +25,15 @@ import com.ealva.ealvalog.java.JLoggers;
 import static com.ealva.ealvalog.LogLevel.WARN;
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 
-import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.ogg.util.VorbisHeader;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
+import ealvatag.utils.CharsetCoders;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Create the VorbisCommentTag by reading from the raw packet data
@@ -76,50 +78,61 @@ public class VorbisCommentReader {
 
   }
 
+  /**
+   * Parse the comment packet. Lengths are read in place and each field copies only its own content from {@code rawdata}, to
+   * be decoded lazily. {@code rawdata} is not retained by the tag.
+   */
   public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit) throws IOException, CannotReadException {
+    return read(rawdata, isFramingBit, false);
+  }
+
+  /**
+   * Parse the comment packet, optionally skipping the {@link VorbisCommentFieldKey#METADATA_BLOCK_PICTURE},
+   * {@link VorbisCommentFieldKey#COVERART} and {@link VorbisCommentFieldKey#COVERARTMIME} fields. If any are skipped the tag is
+   * read only.
+   *
+   * @see #read(byte[], boolean)
+   */
+  public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit, boolean ignoreArtwork) throws IOException,
+                                                                                                  CannotReadException {
 
     VorbisCommentTag tag = new VorbisCommentTag();
 
-    byte[] b = new byte[FIELD_VENDOR_LENGTH_LENGTH];
-    System.arraycopy(rawdata, FIELD_VENDOR_LENGTH_POS, b, FIELD_VENDOR_LENGTH_POS, FIELD_VENDOR_LENGTH_LENGTH);
-    int pos = FIELD_VENDOR_LENGTH_LENGTH;
-    int vendorStringLength = Utils.getIntLE(b);
+    final ByteBuffer packet = ByteBuffer.wrap(rawdata).order(ByteOrder.LITTLE_ENDIAN);
+    int pos = FIELD_VENDOR_LENGTH_POS;
+    int vendorStringLength = packet.getInt(pos);
+    pos += FIELD_VENDOR_LENGTH_LENGTH;
 
-    b = new byte[vendorStringLength];
-    System.arraycopy(rawdata, pos, b, 0, vendorStringLength);
+    tag.setVendor(CharsetCoders.decode(rawdata, pos, vendorStringLength, VorbisHeader.CHARSET_UTF_8));
     pos += vendorStringLength;
-    tag.setVendor(new String(b, VorbisHeader.CHARSET_UTF_8));
     LOG.log(DEBUG, "Vendor is:%s", tag.getVendor());
 
-    b = new byte[FIELD_USER_COMMENT_LIST_LENGTH];
-    System.arraycopy(rawdata, pos, b, 0, FIELD_USER_COMMENT_LIST_LENGTH);
+    int userComments = packet.getInt(pos);
     pos += FIELD_USER_COMMENT_LIST_LENGTH;
-
-    int userComments = Utils.getIntLE(b);
     LOG.log(DEBUG, "Number of user comments:%s", userComments);
 
     for (int i = 0; i < userComments; i++) {
-      b = new byte[FIELD_COMMENT_LENGTH_LENGTH];
-      System.arraycopy(rawdata, pos, b, 0, FIELD_COMMENT_LENGTH_LENGTH);
+      int commentLength = packet.getInt(pos);
       pos += FIELD_COMMENT_LENGTH_LENGTH;
-
-      int commentLength = Utils.getIntLE(b);
       LOG.log(DEBUG, "Next Comment Length:%s", commentLength);
 
-      if (commentLength > JAUDIOTAGGER_MAX_COMMENT_LENGTH) {
+      // a negative length is an unsigned value beyond anything we accept
+      if (commentLength < 0 || commentLength > JAUDIOTAGGER_MAX_COMMENT_LENGTH) {
         LOG.log(WARN, ErrorMessage.VORBIS_COMMENT_LENGTH_TOO_LARGE, commentLength);
         break;
-      } else if (commentLength > rawdata.length) {
+      } else if (commentLength > rawdata.length - pos) {
         LOG.log(WARN, ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER, commentLength, rawdata.length);
         break;
       } else {
-        b = new byte[commentLength];
-        System.arraycopy(rawdata, pos, b, 0, commentLength);
+        VorbisCommentTagField fieldComment = new VorbisCommentTagField(rawdata, pos, commentLength);
         pos += commentLength;
-
-        VorbisCommentTagField fieldComment = new VorbisCommentTagField(b);
-        LOG.log(DEBUG, "Adding:%s", fieldComment.getId());
-        tag.addField(fieldComment);
+        if (ignoreArtwork && isArtworkField(fieldComment.getId())) {
+          LOG.log(DEBUG, "Ignoring:%s", fieldComment.getId());
+          tag.setArtworkIgnored();
+        } else {
+          LOG.log(DEBUG, "Adding:%s", fieldComment.getId());
+          tag.addField(fieldComment);
+        }
       }
     }
 
@@ -131,5 +144,11 @@ public class VorbisCommentReader {
     }
     return tag;
   }
+
+  private static boolean isArtworkField(final String id) {
+    return VorbisCommentFieldKey.METADATA_BLOCK_PICTURE.getFieldName().equals(id) ||
+        VorbisCommentFieldKey.COVERART.getFieldName().equals(id) ||
+        VorbisCommentFieldKey.COVERARTMIME.getFieldName().equals(id);
+  }
 }
 
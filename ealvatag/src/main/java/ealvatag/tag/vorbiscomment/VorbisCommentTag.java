@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import ealvatag.utils.StandardCharsets;
 import ealvatag.audio.AbstractTag;
+import ealvatag.audio.CompactTagFieldStore;
 import ealvatag.audio.flac.metadatablock.MetadataBlockDataPicture;
 import ealvatag.audio.ogg.util.VorbisHeader;
 import ealvatag.tag.FieldDataInvalidException;
@@ -37,6 +38,7 @@ import ealvatag.tag.UnsupportedFieldException;
 import ealvatag.tag.images.Artwork;
 import ealvatag.tag.images.ArtworkFactory;
 import ealvatag.tag.vorbiscomment.util.Base64Coder;
+import ealvatag.utils.EnumIndexedMap;
 
 import static ealvatag.tag.vorbiscomment.VorbisCommentFieldKey.VENDOR;
 import static ealvatag.utils.Check.AT_LEAST_ONE_REQUIRED;
@@ -58,7 +60,8 @@ public class VorbisCommentTag extends AbstractTag implements ContainsVorbisComme
   //This is the vendor string that will be written if no other is supplied. Should be the name of the software
   //that actually encoded the file in the first place.
   private static final String DEFAULT_VENDOR = "ealvatag";
-  private static final ImmutableMap<FieldKey, VorbisCommentFieldKey> tagFieldToOggField = makeFieldMap();
+  private static final EnumIndexedMap<FieldKey, VorbisCommentFieldKey> tagFieldToOggField =
+      EnumIndexedMap.of(FieldKey.class, makeFieldMap());
 
   /**
    * Use to construct a new tag properly initialized
@@ -74,7 +77,7 @@ public class VorbisCommentTag extends AbstractTag implements ContainsVorbisComme
    * which should be done when created by end user
    */
   public VorbisCommentTag() {
-    super(false);
+    super(false, new CompactTagFieldStore());
   }
 
   private static ImmutableMap<FieldKey, VorbisCommentFieldKey> makeFieldMap() {
@@ -312,10 +315,11 @@ public class VorbisCommentTag extends AbstractTag implements ContainsVorbisComme
     List<Artwork> artworkList = new ArrayList<>(1);
 
     //Read Old Format
-    if (getArtworkBinaryData() != null & getArtworkBinaryData().length > 0) {
+    final byte[] oldFormatData = getArtworkBinaryData();
+    if (oldFormatData.length > 0) {
       Artwork artwork = ArtworkFactory.getNew();
       artwork.setMimeType(getArtworkMimeType());
-      artwork.setBinaryData(getArtworkBinaryData());
+      artwork.setBinaryData(oldFormatData);
       artworkList.add(artwork);
     }
 
@@ -324,7 +328,7 @@ public class VorbisCommentTag extends AbstractTag implements ContainsVorbisComme
     for (TagField tagField : metadataBlockPics) {
 
       try {
-        byte[] imageBinaryData = Base64Coder.decode(((TagTextField)tagField).getContent());
+        byte[] imageBinaryData = decodeBase64(tagField);
         MetadataBlockDataPicture coverArt = new MetadataBlockDataPicture(ByteBuffer.wrap(imageBinaryData));
         Artwork artwork = ArtworkFactory.createArtworkFromMetadataBlockDataPicture(coverArt);
         artworkList.add(artwork);
@@ -343,8 +347,22 @@ public class VorbisCommentTag extends AbstractTag implements ContainsVorbisComme
    * Retrieve artwork raw data when using the deprecated COVERART format
    */
   byte[] getArtworkBinaryData() {
-    String base64data = this.getFirst(VorbisCommentFieldKey.COVERART);
-    return Base64Coder.decode(base64data.toCharArray());
+    List<TagField> coverArt = get(VorbisCommentFieldKey.COVERART);
+    return coverArt.isEmpty() ? new byte[0] : decodeBase64(coverArt.get(0));
+  }
+
+  private static byte[] decodeBase64(TagField tagField) {
+    if (tagField instanceof VorbisCommentTagField) {
+      return ((VorbisCommentTagField)tagField).getBase64DecodedContent();
+    }
+    return Base64Coder.decode(((TagTextField)tagField).getContent());
+  }
+
+  /**
+   * Artwork fields were skipped while reading, so this tag must not be written back
+   */
+  void setArtworkIgnored() {
+    setReadOnly();
   }
 
   public String getFirst(VorbisCommentFieldKey vorbisCommentKey) throws IllegalArgumentException {
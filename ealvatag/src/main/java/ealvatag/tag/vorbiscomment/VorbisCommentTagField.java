@@ -18,9 +18,11 @@
  */
 package ealvatag.tag.vorbiscomment;
 
+import ealvatag.utils.CharsetCoders;
 import ealvatag.utils.StandardCharsets;
 import ealvatag.tag.TagField;
 import ealvatag.tag.TagTextField;
+import ealvatag.tag.vorbiscomment.util.Base64Coder;
 
 import static ealvatag.tag.vorbiscomment.VorbisCommentFieldKey.ALBUM;
 import static ealvatag.tag.vorbiscomment.VorbisCommentFieldKey.ARTIST;
@@ -31,8 +33,11 @@ import static ealvatag.tag.vorbiscomment.VorbisCommentFieldKey.GENRE;
 import static ealvatag.tag.vorbiscomment.VorbisCommentFieldKey.TITLE;
 import static ealvatag.tag.vorbiscomment.VorbisCommentFieldKey.TRACKNUMBER;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 
 /**
  * This class represents the name and content of a tag entry in ogg-files.
@@ -54,8 +59,15 @@ public class VorbisCommentTagField implements TagTextField {
 
     /**
      * Stores the content of the tag field. <br>
+     * Null until first requested when the field was read from a packet, see {@link #undecoded}
      */
-    private String content;
+    private @Nullable String content;
+
+    /**
+     * The UTF-8 content copied from the packet this field was read from, until the content is decoded or set. Only the
+     * field's own bytes are kept so the packet, and any artwork in it, can be collected once the tag is read.
+     */
+    private @Nullable byte[] undecoded;
 
     /**
      * Stores the id (name) of the tag field. <br>
@@ -75,21 +87,36 @@ public class VorbisCommentTagField implements TagTextField {
      * @throws UnsupportedEncodingException If the data doesn't conform "UTF-8" specification.
      */
     public VorbisCommentTagField(byte[] raw) throws UnsupportedEncodingException {
-        String field = new String(raw, "UTF-8");
-        int i = field.indexOf("=");
-        if (i == -1) {
+        this(raw, 0, raw.length);
+    }
+
+    /**
+     * Creates an instance from a comment within a packet. The name is resolved immediately and the content bytes are copied
+     * to be decoded when first requested.
+     *
+     * @param packet the packet containing the comment
+     * @param offset start of the comment within {@code packet}, after its length
+     * @param length length of the comment
+     */
+    VorbisCommentTagField(byte[] packet, int offset, int length) {
+        int separator = -1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (packet[i] == '=') {
+                separator = i;
+                break;
+            }
+        }
+        final int contentOffset;
+        if (separator == -1) {
             //Beware that ogg ID, must be capitalized and contain no space..
             this.id = ERRONEOUS_ID;
-            this.content = field;
+            contentOffset = offset;
         } else {
-            this.id = field.substring(0, i).toUpperCase();
-            if (field.length() > i) {
-                this.content = field.substring(i + 1);
-            } else {
-                //We have "XXXXXX=" with nothing after the "="
-                this.content = "";
-            }
+            this.id = VorbisCommentKeys.get(packet, offset, separator - offset);
+            //We may have "XXXXXX=" with nothing after the "="
+            contentOffset = separator + 1;
         }
+        this.undecoded = Arrays.copyOfRange(packet, contentOffset, offset + length);
         checkCommon();
     }
 
@@ -138,13 +165,34 @@ public class VorbisCommentTagField implements TagTextField {
     @Override
     public void copyContent(TagField field) {
         if (field instanceof TagTextField) {
-            this.content = ((TagTextField)field).getContent();
+            setContent(((TagTextField)field).getContent());
         }
     }
 
     @Override
     public String getContent() {
-        return content;
+        // read undecoded first, it is only cleared once content has been published
+        final byte[] source = undecoded;
+        String result = content;
+        if (result == null && source != null) {
+            result = content = CharsetCoders.decode(source, 0, source.length, StandardCharsets.UTF_8);
+            undecoded = null;
+        }
+        return result;
+    }
+
+    /**
+     * Decode the Base64 content of a picture field. A field read from a packet is decoded straight from its bytes, so the
+     * encoded image is never held as a String.
+     *
+     * @throws IllegalArgumentException if the content is not valid Base64
+     */
+    byte[] getBase64DecodedContent() {
+        final byte[] source = undecoded;
+        if (content == null && source != null) {
+            return Base64Coder.decode(source, 0, source.length);
+        }
+        return Base64Coder.decode(getContent());
     }
 
     @Override
@@ -161,7 +209,7 @@ public class VorbisCommentTagField implements TagTextField {
     public byte[] getRawContent() throws UnsupportedEncodingException {
         byte[] size = new byte[VorbisCommentReader.FIELD_COMMENT_LENGTH_LENGTH];
         byte[] idBytes = this.id.getBytes(StandardCharsets.ISO_8859_1);
-        byte[] contentBytes = this.content.getBytes(StandardCharsets.UTF_8);
+        byte[] contentBytes = getContent().getBytes(StandardCharsets.UTF_8);
         byte[] b = new byte[4 + idBytes.length + 1 + contentBytes.length];
 
         int length = idBytes.length + 1 + contentBytes.length;
@@ -204,12 +252,17 @@ public class VorbisCommentTagField implements TagTextField {
 
     @Override
     public boolean isEmpty() {
-        return this.content.equals("");
+        final byte[] source = undecoded;
+        if (content == null && source != null) {
+            return source.length == 0;
+        }
+        return content == null || content.equals("");
     }
 
     @Override
     public void setContent(String s) {
         this.content = s;
+        this.undecoded = null;
     }
 
     @Override
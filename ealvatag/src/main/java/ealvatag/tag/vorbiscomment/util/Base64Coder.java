@@ -158,4 +158,66 @@ public class Base64Coder
         }
         return out;
     }
+
+    /**
+     * Decodes Base64 data held as ASCII bytes, such as the UTF-8 content of a Vorbis comment, without first converting it to
+     * characters.
+     *
+     * @param in     an array containing the Base64 encoded data.
+     * @param offset start of the encoded data within {@code in}.
+     * @param length number of encoded bytes.
+     * @return An array containing the decoded data bytes.
+     * @throws IllegalArgumentException if the input is not valid Base64 encoded data.
+     */
+    public static byte[] decode(final byte[] in, final int offset, final int length)
+    {
+        if (length % 4 != 0)
+        {
+            throw new IllegalArgumentException("Length of Base64 encoded input string is not a multiple of 4.");
+        }
+        int iLen = length;
+        while (iLen > 0 && in[offset + iLen - 1] == '=')
+        {
+            iLen--;
+        }
+        final int oLen = (iLen * 3) / 4;
+        final byte[] out = new byte[oLen];
+        final int iEnd = offset + iLen;
+        int ip = offset;
+        int op = 0;
+        while (ip < iEnd)
+        {
+            final int i0 = in[ip++];
+            final int i1 = in[ip++];
+            if(i0==13 && i1==10) continue;
+            final int i2 = ip < iEnd ? in[ip++] : 'A';
+            final int i3 = ip < iEnd ? in[ip++] : 'A';
+            // bytes above 127 are negative
+            if (i0 < 0 || i1 < 0 || i2 < 0 || i3 < 0)
+            {
+                throw new IllegalArgumentException("Illegal character in Base64 encoded data.");
+            }
+            final int b0 = map2[i0];
+            final int b1 = map2[i1];
+            final int b2 = map2[i2];
+            final int b3 = map2[i3];
+            if (b0 < 0 || b1 < 0 || b2 < 0 || b3 < 0)
+            {
+                throw new IllegalArgumentException("Illegal character in Base64 encoded data.");
+            }
+            final int o0 = (b0 << 2) | (b1 >>> 4);
+            final int o1 = ((b1 & 0xf) << 4) | (b2 >>> 2);
+            final int o2 = ((b2 & 3) << 6) | b3;
+            out[op++] = (byte) o0;
+            if (op < oLen)
+            {
+                out[op++] = (byte) o1;
+            }
+            if (op < oLen)
+            {
+                out[op++] = (byte) o2;
+            }
+        }
+        return out;
+    }
 }
@@ -35,6 +35,7 @@ import ealvatag.tag.Tag;
 import ealvatag.tag.TagField;
 import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.TagSnapshot;
 import ealvatag.tag.UnsupportedFieldException;
 import ealvatag.tag.id3.AbstractID3v2Tag;
 import ealvatag.tag.id3.Id3SupportingTag;
@@ -519,4 +520,8 @@ public class WavTag implements TagFieldContainer, Id3SupportingTag {
   public void setIncorrectlyAlignedTag(boolean isIncorrectlyAlignedTag) {
     this.isIncorrectlyAlignedTag = isIncorrectlyAlignedTag;
   }
+
+  @Override public TagSnapshot snapshot() {
+    return TagSnapshot.of(this);
+  }
 }
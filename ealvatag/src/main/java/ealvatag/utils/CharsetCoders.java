@@ -0,0 +1,140 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.utils;
+
+import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread cached {@link CharsetDecoder}s and {@link CharsetEncoder}s, plus an ASCII fast path for single byte compatible
+ * encodings. Creating a coder is far more expensive than resetting one and text fields are decoded one after another for every
+ * frame of every tag read.
+ * <p>
+ * A coder returned from here is reset, reports malformed and unmappable input, and belongs to the calling thread. Use it and
+ * let it go: don't keep a reference or hand it to another thread, and don't hold it across a call that may itself decode text.
+ */
+public final class CharsetCoders {
+    private static final ThreadLocal<Map<Charset, CharsetDecoder>> DECODERS = new ThreadLocal<Map<Charset, CharsetDecoder>>() {
+        @Override protected Map<Charset, CharsetDecoder> initialValue() {
+            return new HashMap<>(8);
+        }
+    };
+
+    private static final ThreadLocal<Map<Charset, CharsetEncoder>> ENCODERS = new ThreadLocal<Map<Charset, CharsetEncoder>>() {
+        @Override protected Map<Charset, CharsetEncoder> initialValue() {
+            return new HashMap<>(8);
+        }
+    };
+
+    private CharsetCoders() {
+    }
+
+    /**
+     * @return this thread's decoder for {@code charset}, reset and reporting coding errors
+     */
+    public static CharsetDecoder decoder(final Charset charset) {
+        final Map<Charset, CharsetDecoder> decoders = DECODERS.get();
+        CharsetDecoder decoder = decoders.get(charset);
+        if (decoder == null) {
+            decoder = charset.newDecoder();
+            decoders.put(charset, decoder);
+        }
+        decoder.reset();
+        decoder.onMalformedInput(CodingErrorAction.REPORT);
+        decoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+        return decoder;
+    }
+
+    /**
+     * @return this thread's encoder for {@code charset}, reset and reporting coding errors
+     */
+    public static CharsetEncoder encoder(final Charset charset) {
+        final Map<Charset, CharsetEncoder> encoders = ENCODERS.get();
+        CharsetEncoder encoder = encoders.get(charset);
+        if (encoder == null) {
+            encoder = charset.newEncoder();
+            encoders.put(charset, encoder);
+        }
+        encoder.reset();
+        encoder.onMalformedInput(CodingErrorAction.REPORT);
+        encoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+        return encoder;
+    }
+
+    /**
+     * Decode {@code length} bytes of {@code bytes} starting at {@code offset}. Malformed input is replaced, as with
+     * {@link String#String(byte[], int, int, Charset)}.
+     */
+    public static String decode(final byte[] bytes, final int offset, final int length, final Charset charset) {
+        final String ascii = decodeAscii(bytes, offset, length, charset);
+        return ascii != null ? ascii : new String(bytes, offset, length, charset);
+    }
+
+    /**
+     * Read and decode {@code byteCount} bytes from {@code buffer}, as {@link Buffer#readString(long, Charset)} does, but through
+     * the ASCII fast path for ISO-8859-1 and US-ASCII, which Okio decodes from a copied array anyway. UTF-8 is left to Okio, which
+     * decodes it straight from the buffer's segments. Tag frames are read from a {@link Buffer}, so this is the path most text
+     * takes.
+     *
+     * @throws EOFException if {@code buffer} holds fewer than {@code byteCount} bytes
+     */
+    public static String readString(final Buffer buffer, final long byteCount, final Charset charset) throws EOFException {
+        if (!(StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.US_ASCII.equals(charset)) ||
+            byteCount > Integer.MAX_VALUE) {
+            return buffer.readString(byteCount, charset);
+        }
+        final byte[] bytes = buffer.readByteArray(byteCount);
+        return decode(bytes, 0, bytes.length, charset);
+    }
+
+    /**
+     * Decode without a {@link CharsetDecoder} when {@code charset} encodes ASCII as single bytes and the range is pure ASCII.
+     *
+     * @return the decoded String, or null if the fast path does not apply and the caller must decode normally
+     */
+    public static @Nullable String decodeAscii(final byte[] bytes, final int offset, final int length, final Charset charset) {
+        if (!isAsciiCompatible(charset) || !isAscii(bytes, offset, length)) {
+            return null;
+        }
+        // every ASCII byte maps to the same char in Latin-1, which is the cheapest decode the platform offers
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @return true if ASCII text is encoded identically, one byte per char, in {@code charset}
+     */
+    public static boolean isAsciiCompatible(final Charset charset) {
+        return StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.UTF_8.equals(charset) ||
+               StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    public static boolean isAscii(final byte[] bytes, final int offset, final int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.utils;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * An immutable map from enum keys to values where a lookup is an array index by {@link Enum#ordinal()} rather than a hash. Used
+ * for the fixed mappings from {@link ealvatag.tag.FieldKey} to the keys of each tag format, which are consulted on every generic
+ * get or set.
+ * <p>
+ * The source map is kept so {@link #keySet()} iterates in the order the mappings were declared.
+ */
+public final class EnumIndexedMap<K extends Enum<K>, V> {
+    private final ImmutableMap<K, V> map;
+    private final Object[] values;
+
+    private EnumIndexedMap(final Class<K> keyType, final ImmutableMap<K, V> map) {
+        this.map = map;
+        this.values = new Object[keyType.getEnumConstants().length];
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            values[entry.getKey().ordinal()] = entry.getValue();
+        }
+    }
+
+    public static <K extends Enum<K>, V> EnumIndexedMap<K, V> of(final Class<K> keyType, final ImmutableMap<K, V> map) {
+        return new EnumIndexedMap<>(keyType, map);
+    }
+
+    /**
+     * @return the value associated with {@code key}, or null if there is no mapping or {@code key} is null
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(@Nullable final K key) {
+        return key == null ? null : (V)values[key.ordinal()];
+    }
+
+    public boolean containsKey(@Nullable final K key) {
+        return get(key) != null;
+    }
+
+    public ImmutableSet<K> keySet() {
+        return map.keySet();
+    }
+
+    public ImmutableMap<K, V> asMap() {
+        return map;
+    }
+}
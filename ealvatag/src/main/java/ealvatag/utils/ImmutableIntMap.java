@@ -0,0 +1,120 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.utils;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * An immutable open-addressed map from primitive int keys to values. Lookups neither box the key nor allocate, which makes it
+ * suitable for hot parse paths keyed by packed identifiers (eg. 4 byte frame IDs read as a big-endian int).
+ */
+public final class ImmutableIntMap<V> {
+    private final int[] keys;
+    private final Object[] values;
+    private final int mask;
+    private final int size;
+
+    private ImmutableIntMap(final int[] keys, final Object[] values, final int size) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean containsKey(final int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return the value associated with {@code key} or null if there is no mapping
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(final int key) {
+        int index = hash(key) & mask;
+        Object value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                return (V)value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int hash(final int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    public static final class Builder<V> {
+        private int[] keys = new int[16];
+        private Object[] values = new Object[16];
+        private int count;
+
+        private Builder() {
+        }
+
+        /**
+         * Add a mapping. A later put for the same key replaces the earlier value.
+         */
+        public Builder<V> put(final int key, final V value) {
+            Check.checkArgNotNull(value);
+            // duplicates are resolved when the table is built, so adding stays constant time
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                values = Arrays.copyOf(values, count * 2);
+            }
+            keys[count] = key;
+            values[count] = value;
+            count++;
+            return this;
+        }
+
+        public ImmutableIntMap<V> build() {
+            // keep the load factor at or below 0.5 so probe sequences stay short
+            int capacity = 4;
+            while (capacity < count * 2) {
+                capacity <<= 1;
+            }
+            final int[] tableKeys = new int[capacity];
+            final Object[] tableValues = new Object[capacity];
+            final int mask = capacity - 1;
+            int size = 0;
+            for (int i = 0; i < count; i++) {
+                int index = hash(keys[i]) & mask;
+                while (tableValues[index] != null && tableKeys[index] != keys[i]) {
+                    index = (index + 1) & mask;
+                }
+                if (tableValues[index] == null) {
+                    tableKeys[index] = keys[i];
+                    size++;
+                }
+                tableValues[index] = values[i];
+            }
+            return new ImmutableIntMap<>(tableKeys, tableValues, size);
+        }
+    }
+}
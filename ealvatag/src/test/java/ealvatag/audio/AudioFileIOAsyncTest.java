@@ -0,0 +1,113 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import ealvatag.TestUtil;
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.NullTag;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads and writes through the asynchronous {@link AudioFileIO} API
+ */
+public class AudioFileIOAsyncTest {
+
+    @After public void tearDown() {
+        AudioFileIO.setIoExecutor(null);
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testReadAsyncManyFiles() throws Exception {
+        final String[] names = {"test.m4a", "testV1.mp3", "test.flac", "test.ogg", "test.wav", "test119.aif"};
+        List<ListenableFuture<AudioFile>> futures = new ArrayList<>();
+        for (String name : names) {
+            futures.add(AudioFileIO.readAsync(TestUtil.copyAudioToTmp(name)));
+        }
+        for (int i = 0; i < names.length; i++) {
+            AudioFile audioFile = futures.get(i).get();
+            Assert.assertEquals(names[i], audioFile.getFile().getName());
+            Assert.assertTrue(audioFile.getAudioHeader().getSampleRate() > 0);
+        }
+    }
+
+    @Test public void testReadAsyncFailure() throws Exception {
+        try {
+            AudioFileIO.readAsync(new File("testdata", "no-such-file.mp3")).get();
+            Assert.fail("Expected read of missing file to fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof CannotReadException || e.getCause() instanceof java.io.IOException);
+        }
+    }
+
+    @Test public void testSaveAsync() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("testV1.mp3");
+        AudioFile audioFile = AudioFileIO.readAsync(testFile).get();
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.ARTIST, "async artist");
+        audioFile.saveAsync().get();
+
+        audioFile = AudioFileIO.read(testFile);
+        Assert.assertEquals("async artist", audioFile.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.ARTIST));
+    }
+
+    @Test public void testSaveAsyncReadOnly() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.m4a");
+        AudioFile audioFile = AudioFileIO.readIgnoreArtworkAsync(testFile).get();
+        Assert.assertTrue(audioFile.readOnly());
+        try {
+            audioFile.saveAsync().get();
+            Assert.fail("Expected save of read only file to fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof CannotWriteException);
+        }
+    }
+
+    @Test public void testSetIoExecutorOverridesDefault() throws Exception {
+        final ListeningExecutorService defaultExecutor = AudioFileIO.ioExecutor();
+        Assert.assertSame(defaultExecutor, AudioFileIO.ioExecutor());
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AudioFileIO.setIoExecutor(executor);
+            final Thread[] readThread = new Thread[1];
+            AudioFileIO.ioExecutor().submit(new Runnable() {
+                @Override public void run() {
+                    readThread[0] = Thread.currentThread();
+                }
+            }).get();
+            Assert.assertFalse(readThread[0].getName().startsWith("ealvatag-io-"));
+            Assert.assertNotNull(AudioFileIO.readAsync(TestUtil.copyAudioToTmp("testV1.mp3")).get());
+
+            AudioFileIO.setIoExecutor(null);
+            Assert.assertSame(defaultExecutor, AudioFileIO.ioExecutor());
+            Assert.assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import ealvatag.TestUtil;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagOptions;
+import ealvatag.tag.images.ArtworkFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+
+/**
+ * Phases reported to an {@link AudioFileIOListener} while reading and writing
+ */
+public class AudioFileIOListenerTest {
+
+    @After public void tearDown() {
+        AudioFileIO.setIoListener(null);
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testDefaultListenerIsNull() {
+        Assert.assertSame(NullAudioFileIOListener.INSTANCE, AudioFileIO.getIoListener());
+        AudioFileIO.setIoListener(new HistogramAudioFileIOListener());
+        AudioFileIO.setIoListener(null);
+        Assert.assertSame(NullAudioFileIOListener.INSTANCE, AudioFileIO.getIoListener());
+        Assert.assertFalse(IoPhaseRecorder.start(new File("any.mp3")).isRecording());
+    }
+
+    @Test public void testReadMp3Phases() throws Exception {
+        final File file = TestUtil.copyAudioToTmp("testV1.mp3");
+        final HistogramAudioFileIOListener listener = new HistogramAudioFileIOListener();
+        AudioFileIO.setIoListener(listener);
+        AudioFileIO.read(file);
+
+        Assert.assertEquals(1, listener.getCount(IoPhase.OPEN));
+        Assert.assertEquals(1, listener.getCount(IoPhase.AUDIO_HEADER));
+        Assert.assertEquals(1, listener.getCount(IoPhase.TAG_READ));
+        Assert.assertTrue(listener.getBytesRead(IoPhase.AUDIO_HEADER) > 0);
+        Assert.assertTrue(listener.getIoCalls(IoPhase.TAG_READ) > 0);
+        Assert.assertEquals(0, listener.getBytesWritten(IoPhase.TAG_READ));
+        Assert.assertEquals(0, listener.getCount(IoPhase.TAG_WRITE));
+    }
+
+    @Test public void testReadMp4Phases() throws Exception {
+        final File file = TestUtil.copyAudioToTmp("test.m4a", new File("testIoListenerRead.m4a"));
+        final HistogramAudioFileIOListener listener = new HistogramAudioFileIOListener();
+        AudioFileIO.setIoListener(listener);
+        AudioFileIO.read(file);
+
+        Assert.assertEquals(1, listener.getCount(IoPhase.OPEN));
+        Assert.assertEquals(1, listener.getCount(IoPhase.TAG_READ));
+        Assert.assertEquals(file.length(), listener.getBytesRead(IoPhase.TAG_READ));
+        Assert.assertEquals(0, listener.getBytesWritten(IoPhase.TAG_READ));
+    }
+
+    @Test public void testReadOggPhases() throws Exception {
+        final File file = TestUtil.copyAudioToTmp("test.ogg", new File("testIoListenerRead.ogg"));
+        final HistogramAudioFileIOListener listener = new HistogramAudioFileIOListener();
+        AudioFileIO.setIoListener(listener);
+        AudioFileIO.read(file);
+
+        Assert.assertEquals(1, listener.getCount(IoPhase.OPEN));
+        Assert.assertEquals(1, listener.getCount(IoPhase.AUDIO_HEADER));
+        Assert.assertEquals(1, listener.getCount(IoPhase.TAG_READ));
+        Assert.assertEquals(file.length(), listener.getBytesRead(IoPhase.TAG_READ));
+    }
+
+    @Test public void testReadAsfPhases() throws Exception {
+        final File file = TestUtil.copyAudioToTmp("test1.wma", new File("testIoListenerRead.wma"));
+        final HistogramAudioFileIOListener listener = new HistogramAudioFileIOListener();
+        AudioFileIO.setIoListener(listener);
+        AudioFileIO.read(file);
+
+        Assert.assertEquals(1, listener.getCount(IoPhase.OPEN));
+        Assert.assertEquals(1, listener.getCount(IoPhase.TAG_READ));
+        Assert.assertTrue(listener.getBytesRead(IoPhase.TAG_READ) > 0);
+        Assert.assertTrue(listener.getIoCalls(IoPhase.TAG_READ) > 0);
+    }
+
+    @Test public void testReadFlacArtworkPhase() throws Exception {
+        final File coverArt = new File("testdata/coverart.jpg");
+        final File file = TestUtil.copyAudioToTmp("test.flac", new File("testIoListener.flac"));
+        AudioFile audioFile = AudioFileIO.read(file);
+        final Tag tag = audioFile.getTagOrSetNewDefault();
+        tag.deleteArtwork();
+        tag.setArtwork(ArtworkFactory.createArtworkFromFile(coverArt));
+        audioFile.save();
+
+        final HistogramAudioFileIOListener listener = new HistogramAudioFileIOListener();
+        AudioFileIO.setIoListener(listener);
+        AudioFileIO.read(file);
+        Assert.assertEquals(1, listener.getCount(IoPhase.ARTWORK_DECODE));
+        Assert.assertTrue(listener.getBytesRead(IoPhase.ARTWORK_DECODE) > coverArt.length());
+
+        listener.reset();
+        AudioFileIO.readIgnoreArtwork(file);
+        Assert.assertEquals(0, listener.getCount(IoPhase.ARTWORK_DECODE));
+        Assert.assertEquals(1, listener.getCount(IoPhase.TAG_READ));
+    }
+
+    @Test public void testWritePhases() throws Exception {
+        final File file = TestUtil.copyAudioToTmp("test.m4a", new File("testIoListener.m4a"));
+        final AudioFile audioFile = AudioFileIO.read(file);
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, "Listener Title");
+
+        final HistogramAudioFileIOListener listener = new HistogramAudioFileIOListener();
+        AudioFileIO.setIoListener(listener);
+        audioFile.save();
+
+        Assert.assertEquals(1, listener.getCount(IoPhase.OPEN));
+        Assert.assertEquals(1, listener.getCount(IoPhase.TAG_WRITE));
+        Assert.assertEquals(0, listener.getCount(IoPhase.TAG_READ));
+        Assert.assertTrue(listener.getBytesWritten(IoPhase.TAG_WRITE) > 0);
+        Assert.assertEquals(1, listener.getCount(IoPhase.RENAME) + listener.getCount(IoPhase.TEMP_FILE_COPY));
+    }
+
+    @Test public void testWriteByteCountsMatchFileSize() throws Exception {
+        final File file = TestUtil.copyAudioToTmp("test.m4a", new File("testIoListenerBytes.m4a"));
+        final AudioFile audioFile = AudioFileIO.read(file);
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, "Listener Title");
+
+        final HistogramAudioFileIOListener listener = new HistogramAudioFileIOListener();
+        AudioFileIO.setIoListener(listener);
+        audioFile.save(TagOptions.builder().preserveFileIdentity(true).build());
+
+        // the tag is written into a temporary copy, which then replaces the content of the original
+        Assert.assertEquals(1, listener.getCount(IoPhase.TEMP_FILE_COPY));
+        Assert.assertEquals(file.length(), listener.getBytesWritten(IoPhase.TAG_WRITE));
+        Assert.assertEquals(file.length(), listener.getBytesRead(IoPhase.TEMP_FILE_COPY));
+        Assert.assertEquals(file.length(), listener.getBytesWritten(IoPhase.TEMP_FILE_COPY));
+    }
+
+    @Test public void testWriteInPlaceByteCounts() throws Exception {
+        final File file = TestUtil.copyAudioToTmp("test.flac", new File("testIoListenerBytes.flac"));
+        final long length = file.length();
+        final AudioFile audioFile = AudioFileIO.read(file);
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, "Listener Title");
+
+        final HistogramAudioFileIOListener listener = new HistogramAudioFileIOListener();
+        AudioFileIO.setIoListener(listener);
+        audioFile.save();
+
+        Assert.assertEquals(1, listener.getCount(IoPhase.PRECHECK));
+        Assert.assertEquals(length, file.length());
+        final long written = listener.getBytesWritten(IoPhase.TAG_WRITE);
+        Assert.assertTrue(written > 0);
+        Assert.assertTrue(written < length);
+        Assert.assertEquals(0, listener.getCount(IoPhase.TEMP_FILE_COPY) + listener.getCount(IoPhase.RENAME));
+    }
+
+    @Test public void testHistogramBuckets() {
+        final HistogramAudioFileIOListener listener = new HistogramAudioFileIOListener();
+        final File file = new File("any.mp3");
+        listener.phaseCompleted(file, IoPhase.OPEN, 0, 0, 0, 1);
+        listener.phaseCompleted(file, IoPhase.OPEN, 1000, 10, 0, 1);
+        listener.phaseCompleted(file, IoPhase.OPEN, 1000000, 20, 5, 2);
+
+        Assert.assertEquals(3, listener.getCount(IoPhase.OPEN));
+        Assert.assertEquals(1001000, listener.getTotalNanos(IoPhase.OPEN));
+        Assert.assertEquals(30, listener.getBytesRead(IoPhase.OPEN));
+        Assert.assertEquals(5, listener.getBytesWritten(IoPhase.OPEN));
+        Assert.assertEquals(4, listener.getIoCalls(IoPhase.OPEN));
+
+        final long[] buckets = listener.getBuckets(IoPhase.OPEN);
+        Assert.assertEquals(1, buckets[0]);
+        Assert.assertEquals(1, buckets[HistogramAudioFileIOListener.bucketOf(1000)]);
+        Assert.assertEquals(0, listener.getPercentileNanos(IoPhase.OPEN, 0));
+        Assert.assertEquals(1023, listener.getPercentileNanos(IoPhase.OPEN, 50));
+        Assert.assertTrue(listener.getPercentileNanos(IoPhase.OPEN, 100) >= 1000000);
+        Assert.assertEquals(0, listener.getPercentileNanos(IoPhase.RENAME, 99));
+
+        listener.reset();
+        Assert.assertEquals(0, listener.getCount(IoPhase.OPEN));
+        Assert.assertEquals(0, listener.getBuckets(IoPhase.OPEN)[0]);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import ealvatag.tag.TagField;
+import ealvatag.tag.vorbiscomment.VorbisCommentTagField;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Check {@link CompactTagFieldStore} behaves as the {@link LinkedTagFieldStore} it stands in for
+ */
+public class CompactTagFieldStoreTest {
+    private static final TagField ARTIST = new VorbisCommentTagField("ARTIST", "a");
+    private static final TagField ARTIST_2 = new VorbisCommentTagField("ARTIST", "b");
+    private static final TagField ALBUM = new VorbisCommentTagField("ALBUM", "c");
+    private static final TagField TITLE = new VorbisCommentTagField("TITLE", "d");
+
+    @Test
+    public void iteratesInInsertionOrder() throws Exception {
+        for (TagFieldStore store : new TagFieldStore[]{new CompactTagFieldStore(), new LinkedTagFieldStore()}) {
+            assertThat(store.add(TITLE), is(true));
+            assertThat(store.add(ARTIST), is(true));
+            assertThat(store.add(ALBUM), is(true));
+            assertThat(store.add(ARTIST_2), is(false));
+
+            assertThat(toList(store.iterator()).toString(), equalTo("[d, a, b, c]"));
+            assertThat(store.idCount(), is(3));
+            assertThat(store.fieldCount(), is(4));
+        }
+    }
+
+    @Test
+    public void setReplacesFirst() throws Exception {
+        CompactTagFieldStore store = new CompactTagFieldStore();
+        store.add(ARTIST);
+        store.add(ARTIST_2);
+        assertThat(store.set(ALBUM), is(true));
+        assertThat(store.set(new VorbisCommentTagField("ARTIST", "e")), is(false));
+
+        assertThat(store.get("ARTIST").toString(), equalTo("[e, b]"));
+        assertThat(store.getFirst("ALBUM"), sameInstance(ALBUM));
+        assertThat(store.getFirst("TITLE"), nullValue());
+        assertThat(store.get("TITLE").size(), is(0));
+        assertThat(store.fieldCount(), is(3));
+    }
+
+    @Test
+    public void removeId() throws Exception {
+        CompactTagFieldStore store = new CompactTagFieldStore();
+        store.add(TITLE);
+        store.add(ARTIST);
+        store.add(ARTIST_2);
+        store.add(ALBUM);
+        store.remove("ARTIST");
+        store.remove("COMMENT");
+
+        assertThat(toList(store.iterator()).toString(), equalTo("[d, c]"));
+        assertThat(store.idCount(), is(2));
+        assertThat(store.fieldCount(), is(2));
+    }
+
+    @Test
+    public void iteratorRemovesLastReturned() throws Exception {
+        CompactTagFieldStore store = new CompactTagFieldStore();
+        store.add(ARTIST);
+        store.add(ARTIST_2);
+        store.add(ALBUM);
+
+        Iterator<TagField> it = store.iterator();
+        while (it.hasNext()) {
+            if (it.next() != ALBUM) {
+                it.remove();
+            }
+        }
+
+        assertThat(toList(store.iterator()).toString(), equalTo("[c]"));
+        assertThat(store.idCount(), is(1));
+        assertThat(store.fieldCount(), is(1));
+    }
+
+    @Test
+    public void listsHandedOutAreUnaffectedByEdits() throws Exception {
+        CompactTagFieldStore store = new CompactTagFieldStore();
+        store.add(ARTIST);
+        List<TagField> artists = store.get("ARTIST");
+        Iterator<TagField> it = store.iterator();
+        store.add(ARTIST_2);
+        store.add(ALBUM);
+
+        assertThat(artists.size(), is(1));
+        assertThat(toList(it).size(), is(1));
+    }
+
+    @Test
+    public void iteratorSeesFieldsOfRepeatedIdAsTheyWere() throws Exception {
+        CompactTagFieldStore store = new CompactTagFieldStore();
+        store.add(ARTIST);
+        store.add(ARTIST_2);
+        Iterator<TagField> it = store.iterator();
+        store.add(new VorbisCommentTagField("ARTIST", "e"));
+        store.set(TITLE);
+
+        assertThat(toList(it).toString(), equalTo("[a, b]"));
+        assertThat(toList(store.iterator()).toString(), equalTo("[a, b, e, d]"));
+    }
+
+    @Test
+    public void iteratorRemovesByIdentity() throws Exception {
+        TagField first = new EqualByContent("ARTIST", "a");
+        TagField second = new EqualByContent("ARTIST", "a");
+        for (TagFieldStore store : new TagFieldStore[]{new CompactTagFieldStore(), new LinkedTagFieldStore()}) {
+            store.add(first);
+            store.add(second);
+            Iterator<TagField> it = store.iterator();
+            it.next();
+            it.next();
+            it.remove();
+
+            assertThat(store.getFirst("ARTIST"), sameInstance(first));
+            assertThat(store.fieldCount(), is(1));
+        }
+    }
+
+    @Test
+    public void manyIds() throws Exception {
+        CompactTagFieldStore store = new CompactTagFieldStore();
+        for (int i = 999; i >= 0; i--) {
+            store.add(new VorbisCommentTagField("ID" + i, String.valueOf(i)));
+            store.add(new VorbisCommentTagField("ID" + i, String.valueOf(-i)));
+        }
+        store.remove("ID500");
+
+        assertThat(store.idCount(), is(999));
+        assertThat(store.fieldCount(), is(1998));
+        assertThat(store.get("ID7").toString(), equalTo("[7, -7]"));
+        assertThat(store.get("ID500").size(), is(0));
+        Iterator<TagField> it = store.iterator();
+        assertThat(it.next().getId(), equalTo("ID999"));
+        assertThat(it.next().getId(), equalTo("ID999"));
+        assertThat(it.next().getId(), equalTo("ID998"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void linkedListsAreUnmodifiable() throws Exception {
+        LinkedTagFieldStore store = new LinkedTagFieldStore();
+        store.add(ARTIST);
+        store.get("ARTIST").add(ARTIST_2);
+    }
+
+    private static List<TagField> toList(Iterator<TagField> it) {
+        List<TagField> list = new ArrayList<>();
+        while (it.hasNext()) {
+            list.add(it.next());
+        }
+        return list;
+    }
+
+    private static final class EqualByContent extends VorbisCommentTagField {
+        EqualByContent(String fieldId, String fieldContent) {
+            super(fieldId, fieldContent);
+        }
+
+        @Override public boolean equals(Object obj) {
+            return obj instanceof EqualByContent && getContent().equals(((EqualByContent)obj).getContent());
+        }
+
+        @Override public int hashCode() {
+            return getContent().hashCode();
+        }
+    }
+}
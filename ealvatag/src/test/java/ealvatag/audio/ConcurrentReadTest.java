@@ -0,0 +1,114 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import ealvatag.TestUtil;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagField;
+import okio.ByteString;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many threads reading files of every format at once, all starting together to hit the lazily initialised lookups at the same time.
+ * Every read must see the same audio header and tag fields as a single threaded read of the same file made afterwards.
+ */
+public class ConcurrentReadTest {
+    private static final int THREADS = 64;
+    private static final int READS = 10000;
+
+    @After public void tearDown() {
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testConcurrentReads() throws Exception {
+        final String[] names = {"test.m4a", "testV1.mp3", "test.flac", "test.ogg", "test.wav", "test119.aif", "test122.dsf", "test1.wma"};
+        final List<File> files = new ArrayList<>();
+        for (String name : names) {
+            files.add(TestUtil.copyAudioToTmp(name));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<String>> futures = new ArrayList<>(READS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < READS; i++) {
+                final File file = files.get(i % files.size());
+                futures.add(executor.submit(new Callable<String>() {
+                    @Override public String call() throws Exception {
+                        start.await();
+                        return describe(AudioFileIO.read(file));
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final List<String> expected = new ArrayList<>();
+        for (File file : files) {
+            expected.add(describe(AudioFileIO.read(file)));
+        }
+        for (int i = 0; i < READS; i++) {
+            Assert.assertEquals(files.get(i % files.size()).getName(), expected.get(i % files.size()), futures.get(i).get());
+        }
+    }
+
+    /**
+     * @return the audio header and every tag field of {@code audioFile}, in the order the tag holds them
+     */
+    private static String describe(AudioFile audioFile) throws UnsupportedEncodingException {
+        final AudioHeader header = audioFile.getAudioHeader();
+        final StringBuilder builder = new StringBuilder()
+                .append(header.getEncodingType()).append(' ')
+                .append(header.getFormat()).append(' ')
+                .append(header.getBitRate()).append(' ')
+                .append(header.getSampleRate()).append(' ')
+                .append(header.getChannelCount()).append(' ')
+                .append(header.getBitsPerSample()).append(' ')
+                .append(header.isVariableBitRate()).append(' ')
+                .append(header.isLossless()).append(' ')
+                .append(header.getNoOfSamples()).append(' ')
+                .append(header.getAudioDataLength()).append(' ')
+                .append(header.getDuration(TimeUnit.MILLISECONDS, false)).append('\n');
+        final Tag tag = audioFile.getTag().orNull();
+        if (tag != null) {
+            final Iterator<TagField> fields = tag.getFields();
+            while (fields.hasNext()) {
+                final TagField field = fields.next();
+                builder.append(field.getId()).append('=').append(ByteString.of(field.getRawContent()).hex()).append('\n');
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -3,6 +3,8 @@ package ealvatag.audio.asf.data;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Locale;
 
 /**
@@ -26,6 +28,24 @@ public class GUIDTest {
         }
     }
 
+    /**
+     * Test method for
+     * {@link ealvatag.audio.asf.data.GUID#read(java.nio.ByteBuffer)}.
+     */
+    @Test public void testRead() throws Exception {
+        for (GUID curr : GUID.KNOWN_GUIDS) {
+            final ByteBuffer buffer = ByteBuffer.wrap(curr.getBytes()).order(ByteOrder.LITTLE_ENDIAN);
+            Assert.assertSame(curr, GUID.read(buffer));
+            Assert.assertFalse(buffer.hasRemaining());
+            Assert.assertSame(curr, GUID.read(ByteBuffer.wrap(curr.getBytes())));
+        }
+        final GUID unknown = GUID.parseGUID("01234567-89ab-cdef-0123-456789abcdef");
+        final GUID read = GUID.read(ByteBuffer.wrap(unknown.getBytes()).order(ByteOrder.LITTLE_ENDIAN));
+        Assert.assertEquals(unknown, read);
+        Assert.assertEquals(unknown.hashCode(), read.hashCode());
+        Assert.assertEquals("01234567-89ab-cdef-0123-456789abcdef", read.toString());
+    }
+
     /**
      * Test method for
      * {@link ealvatag.audio.asf.data.GUID#parseGUID(java.lang.String)}.
@@ -138,4 +138,45 @@ public class MetadataContainerTest extends AbstractMetadataContainer<MetadataCon
         }
     }
 
+    /**
+     * Test method for
+     * {@link ealvatag.audio.asf.data.MetadataContainer#getDescriptors()}
+     * .
+     */
+    @Test public void testDescriptorOrderAndViews() {
+        final MetadataContainer container = new MetadataContainer(ContainerType.METADATA_LIBRARY_OBJECT);
+        final MetadataDescriptor b = new MetadataDescriptor(ContainerType.METADATA_LIBRARY_OBJECT, "b", MetadataDescriptor.TYPE_STRING);
+        final MetadataDescriptor a = new MetadataDescriptor(ContainerType.METADATA_LIBRARY_OBJECT, "a", MetadataDescriptor.TYPE_STRING);
+        final MetadataDescriptor b2 = new MetadataDescriptor(ContainerType.METADATA_LIBRARY_OBJECT, "b", MetadataDescriptor.TYPE_STRING);
+        container.addDescriptor(b);
+        container.addDescriptor(a);
+        container.addDescriptor(b2);
+
+        final List<MetadataDescriptor> all = container.getDescriptors();
+        Assert.assertEquals(Arrays.asList(b, b2, a), all);
+        Assert.assertSame(all, container.getDescriptors());
+        final List<MetadataDescriptor> named = container.getDescriptorsByName("b");
+        Assert.assertEquals(Arrays.asList(b, b2), named);
+        Assert.assertSame(named, container.getDescriptorsByName("b"));
+        Assert.assertEquals(3, container.getDescriptorCount());
+        try {
+            all.clear();
+            Assert.fail("Exception expected");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        final MetadataDescriptor b3 = new MetadataDescriptor(ContainerType.METADATA_LIBRARY_OBJECT, "b", MetadataDescriptor.TYPE_STRING);
+        container.addDescriptor(b3);
+        Assert.assertEquals(Arrays.asList(b, b2, b3), container.getDescriptorsByName("b"));
+        Assert.assertEquals(Arrays.asList(b, b2), named);
+
+        container.removeDescriptorsByName("b");
+        Assert.assertEquals(Arrays.asList(a), container.getDescriptors());
+        Assert.assertEquals(1, container.getDescriptorCount());
+        Assert.assertTrue(container.getDescriptorsByName("b").isEmpty());
+        Assert.assertEquals(3, all.size());
+        Assert.assertEquals(2, named.size());
+    }
+
 }
@@ -5,6 +5,7 @@ import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.logging.EalvaTagLog;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -17,9 +18,12 @@ import java.util.List;
 public final class MetadataContainerUtils {
     private static JLogger LOG = JLoggers.get(MetadataContainerUtils.class, EalvaTagLog.MARKER);
 
-    public static boolean equals(List<MetadataDescriptor> l1,
-                                 List<MetadataDescriptor> l2) {
+    public static boolean equals(List<MetadataDescriptor> descriptors1,
+                                 List<MetadataDescriptor> descriptors2) {
         boolean result = true;// l1.size() == l2.size();
+        // containers return immutable lists
+        final List<MetadataDescriptor> l1 = new ArrayList<>(descriptors1);
+        final List<MetadataDescriptor> l2 = new ArrayList<>(descriptors2);
         Collections.sort(l1, new MetadataDescriptorComparator());
         Collections.sort(l2, new MetadataDescriptorComparator());
         for (int i = 0; result && i < l1.size(); i++) {
@@ -0,0 +1,95 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.asf.io;
+
+import ealvatag.audio.asf.data.AsfHeader;
+import ealvatag.audio.asf.util.Utils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Check the positional, in memory header parse against reading through a stream
+ */
+public class AsfHeaderReaderTest {
+    private static final File TEST_FILE = new File("testdata", "test1.wma");
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void channelReadMatchesStreamRead() throws Exception {
+        List<Class<? extends ChunkReader>> readers = new ArrayList<>();
+        readers.add(ContentDescriptionReader.class);
+        readers.add(ContentBrandingReader.class);
+        readers.add(LanguageListReader.class);
+        readers.add(MetadataReader.class);
+        readers.add(FileHeaderReader.class);
+        readers.add(StreamChunkReader.class);
+        readers.add(EncodingChunkReader.class);
+        readers.add(EncryptionChunkReader.class);
+        readers.add(StreamBitratePropertiesReader.class);
+        AsfHeaderReader reader = new AsfHeaderReader(readers, false);
+        reader.setExtendedHeaderReader(new AsfExtHeaderReader(readers, false));
+
+        AsfHeader fromStream;
+        try (InputStream stream = new FullRequestInputStream(new FileInputStream(TEST_FILE))) {
+            fromStream = reader.read(Utils.readGUID(stream), stream, 0);
+        }
+        AsfHeader fromChannel;
+        try (FileInputStream stream = new FileInputStream(TEST_FILE)) {
+            fromChannel = reader.read(stream.getChannel());
+        }
+
+        assertThat(fromChannel.prettyPrint(""), is(equalTo(fromStream.prettyPrint(""))));
+        assertThat(fromChannel.getFileHeader() != null, is(true));
+    }
+
+    @Test
+    public void filePointerIsNotMoved() throws Exception {
+        try (RandomAccessFile raf = new RandomAccessFile(TEST_FILE, "r")) {
+            raf.seek(7);
+            AsfHeader header = AsfHeaderReader.readTagHeader(raf);
+            assertThat(header.findContentDescription() != null, is(true));
+            assertThat(raf.getFilePointer(), is(7L));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedHeaderFails() throws Exception {
+        byte[] start = new byte[1024];
+        try (RandomAccessFile raf = new RandomAccessFile(TEST_FILE, "r")) {
+            raf.readFully(start);
+        }
+        File truncated = folder.newFile("truncated.wma");
+        try (FileOutputStream out = new FileOutputStream(truncated)) {
+            out.write(start);
+        }
+        AsfHeaderReader.readHeader(truncated);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.asf.io;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.asf.data.AsfHeader;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+/**
+ * Check that metadata changes are written within the padding of the header object when they fit
+ */
+public class HeaderPaddingTest {
+
+    @After
+    public void tearDown() {
+        TagOptionSingleton.getInstance().setAsfPaddingSize(TagOptionSingleton.DEFAULT_ASF_PADDING_SIZE);
+        TestUtil.deleteTestDataTemp();
+    }
+
+    /**
+     * A comment too large for the padding in the test files
+     */
+    private static String largeComment() {
+        final StringBuilder result = new StringBuilder();
+        while (result.length() < 5000) {
+            result.append("does not fit ");
+        }
+        return result.toString();
+    }
+
+    private static byte[] readHeaderObject(final File file) throws Exception {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            final AsfHeader header = AsfHeaderReader.readHeader(raf);
+            final byte[] result = new byte[header.getChunkLength().intValue()];
+            raf.seek(0);
+            raf.readFully(result);
+            return result;
+        }
+    }
+
+    private static void assertFileSizeMatches(final File file) throws Exception {
+        final AsfHeader header = AsfHeaderReader.readHeader(file);
+        assertThat(header.getFileHeader().getFileSize().longValue(), is(file.length()));
+    }
+
+    @Test
+    public void rewriteReservesPadding() throws Exception {
+        TagOptionSingleton.getInstance().setAsfPaddingSize(8192);
+        final File file = TestUtil.copyAudioToTmp("test1.wma", new File("testPaddingReserved.wma"));
+        final long before = HeaderPadding.paddingLength(readHeaderObject(file));
+        final AudioFile audioFile = AudioFileIO.read(file);
+        audioFile.getTag().get().setField(FieldKey.COMMENT, largeComment());
+        audioFile.save();
+
+        final long after = HeaderPadding.paddingLength(readHeaderObject(file));
+        assertThat(before < 8192, is(true));
+        assertThat(after >= 8192, is(true));
+        assertFileSizeMatches(file);
+        assertThat(AudioFileIO.read(file).getTag().get().getFirst(FieldKey.COMMENT), is(equalTo(largeComment())));
+    }
+
+    @Test
+    public void changesWithinPaddingAreWrittenInPlace() throws Exception {
+        final File file = TestUtil.copyAudioToTmp("test1.wma", new File("testPaddingInPlace.wma"));
+        AudioFile audioFile = AudioFileIO.read(file);
+        audioFile.getTag().get().setField(FieldKey.TITLE, "first title");
+        audioFile.save();
+        final long length = file.length();
+        final long padding = HeaderPadding.paddingLength(readHeaderObject(file));
+
+        audioFile = AudioFileIO.read(file);
+        audioFile.getTag().get().setField(FieldKey.TITLE, "a somewhat longer second title");
+        audioFile.getTag().get().setField(FieldKey.COMMENT, "and a comment");
+        audioFile.save();
+
+        assertThat(file.length(), is(length));
+        assertThat(HeaderPadding.paddingLength(readHeaderObject(file)) < padding, is(true));
+        assertFileSizeMatches(file);
+        audioFile = AudioFileIO.read(file);
+        assertThat(audioFile.getTag().get().getFirst(FieldKey.TITLE), is(equalTo("a somewhat longer second title")));
+        assertThat(audioFile.getTag().get().getFirst(FieldKey.COMMENT), is(equalTo("and a comment")));
+
+        audioFile.getTag().get().deleteField(FieldKey.COMMENT);
+        audioFile.save();
+
+        assertThat(file.length(), is(length));
+        assertThat(HeaderPadding.paddingLength(readHeaderObject(file)) > padding, is(false));
+        assertFileSizeMatches(file);
+        assertThat(AudioFileIO.read(file).getTag().get().getAll(FieldKey.COMMENT).isEmpty(), is(true));
+    }
+
+    @Test
+    public void noPaddingReservedWhenDisabled() throws Exception {
+        TagOptionSingleton.getInstance().setAsfPaddingSize(0);
+        final File file = TestUtil.copyAudioToTmp("test1.wma", new File("testPaddingDisabled.wma"));
+        final long length = file.length();
+        final long before = HeaderPadding.paddingLength(readHeaderObject(file));
+        final AudioFile audioFile = AudioFileIO.read(file);
+        audioFile.getTag().get().setField(FieldKey.COMMENT, largeComment());
+        audioFile.save();
+
+        assertThat(file.length() > length, is(true));
+        assertThat(HeaderPadding.paddingLength(readHeaderObject(file)), is(before));
+        assertFileSizeMatches(file);
+    }
+}
@@ -19,6 +19,8 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import java.util.concurrent.TimeUnit;
 
 public class DsfAudioFileTest {
@@ -85,6 +87,41 @@ public class DsfAudioFileTest {
 
     }
 
+    @Test public void testWriteLargerDsfTagUpdatesDsdChunk() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test122.dsf", new File("test122writelarger.dsf"));
+        final long metadataOffset = readDsdChunk(testFile).getMetadataOffset();
+        Assert.assertTrue(metadataOffset > 0);
+
+        AudioFile f = AudioFileIO.read(testFile);
+        StringBuilder comment = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            comment.append("comment ");
+        }
+        f.getTag().or(NullTag.INSTANCE).setField(FieldKey.COMMENT, comment.toString());
+        f.save();
+
+        //Tag replaced where it was, file length in DSD chunk follows the larger tag
+        DsdChunk dsd = readDsdChunk(testFile);
+        Assert.assertEquals(metadataOffset, dsd.getMetadataOffset());
+        Assert.assertEquals(testFile.length(), dsd.getFileLength());
+        Assert.assertTrue(testFile.length() > metadataOffset + comment.length());
+        f = AudioFileIO.read(testFile);
+        Assert.assertEquals(comment.toString(), f.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.COMMENT));
+        Assert.assertEquals("test3", f.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.TITLE));
+
+        f.deleteFileTag();
+        dsd = readDsdChunk(testFile);
+        Assert.assertEquals(0, dsd.getMetadataOffset());
+        Assert.assertEquals(metadataOffset, testFile.length());
+        Assert.assertEquals(testFile.length(), dsd.getFileLength());
+    }
+
+    private static DsdChunk readDsdChunk(File file) throws Exception {
+        try (FileChannel fc = new RandomAccessFile(file, "r").getChannel()) {
+            return DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
+        }
+    }
+
     @Test public void testDeleteDsfTag() {
         Exception exceptionCaught = null;
 
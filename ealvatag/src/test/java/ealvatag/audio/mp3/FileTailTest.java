@@ -0,0 +1,163 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.mp3;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * Test locating trailing metadata blocks with {@link FileTail}
+ */
+public class FileTailTest {
+    private static final Charset ASCII = Charset.forName("US-ASCII");
+    private static final int AUDIO_LENGTH = 10000;
+
+    @Rule public final TemporaryFolder tempDir = new TemporaryFolder();
+
+    private RandomAccessFile randomAccessFile;
+    private ByteArrayOutputStream contents;
+
+    @Before public void setUp() throws Exception {
+        randomAccessFile = new RandomAccessFile(tempDir.newFile(), "rw");
+        contents = new ByteArrayOutputStream();
+        contents.write(new byte[AUDIO_LENGTH]);
+    }
+
+    @After public void tearDown() throws Exception {
+        randomAccessFile.close();
+    }
+
+    @Test public void noTrailingTags() throws Exception {
+        FileTail tail = readTail();
+        assertFalse(tail.hasId3v1());
+        assertNull(tail.getId3v1Buffer());
+        assertEquals(0, tail.getLyrics3Version());
+        assertFalse(tail.hasApeTag());
+        assertEquals(AUDIO_LENGTH, tail.getTrailingMetadataStart());
+    }
+
+    @Test public void smallFile() throws Exception {
+        contents.reset();
+        contents.write("TA".getBytes(ASCII));
+        FileTail tail = readTail();
+        assertFalse(tail.hasId3v1());
+        assertEquals(2, tail.getTrailingMetadataStart());
+    }
+
+    @Test public void id3v1Only() throws Exception {
+        writeId3v1();
+        FileTail tail = readTail();
+        assertTrue(tail.hasId3v1());
+        ByteBuffer v1 = tail.getId3v1Buffer();
+        assertNotNull(v1);
+        assertEquals(128, v1.remaining());
+        assertEquals('T', v1.get(0));
+        assertEquals(AUDIO_LENGTH, tail.getTrailingMetadataStart());
+    }
+
+    @Test public void lyrics3v2BeforeId3v1() throws Exception {
+        String lyrics = "LYRICSBEGININD00002" + "10";
+        contents.write(lyrics.getBytes(ASCII));
+        contents.write(String.format("%06d", lyrics.length()).getBytes(ASCII));
+        contents.write("LYRICS200".getBytes(ASCII));
+        writeId3v1();
+
+        FileTail tail = readTail();
+        assertTrue(tail.hasId3v1());
+        assertEquals(2, tail.getLyrics3Version());
+        assertEquals(AUDIO_LENGTH, tail.getLyrics3Start());
+        assertEquals(AUDIO_LENGTH, tail.getTrailingMetadataStart());
+    }
+
+    @Test public void lyrics3v1() throws Exception {
+        contents.write("LYRICSBEGINsome words LYRICSEND".getBytes(ASCII));
+        FileTail tail = readTail();
+        assertFalse(tail.hasId3v1());
+        assertEquals(1, tail.getLyrics3Version());
+        assertEquals(AUDIO_LENGTH, tail.getLyrics3Start());
+    }
+
+    @Test public void apeWithHeaderBeforeId3v1() throws Exception {
+        int itemsLength = 20;
+        writeApeBlock(itemsLength, true);
+        writeId3v1();
+
+        FileTail tail = readTail();
+        assertTrue(tail.hasId3v1());
+        assertTrue(tail.hasApeTag());
+        assertEquals(AUDIO_LENGTH, tail.getApeStart());
+        assertEquals(AUDIO_LENGTH, tail.getTrailingMetadataStart());
+    }
+
+    @Test public void apeBeforeLyrics3v2() throws Exception {
+        writeApeBlock(10, false);
+        String lyrics = "LYRICSBEGININD00002" + "10";
+        contents.write(lyrics.getBytes(ASCII));
+        contents.write(String.format("%06d", lyrics.length()).getBytes(ASCII));
+        contents.write("LYRICS200".getBytes(ASCII));
+
+        FileTail tail = readTail();
+        assertEquals(2, tail.getLyrics3Version());
+        assertEquals(AUDIO_LENGTH + 10 + 32, tail.getLyrics3Start());
+        assertEquals(AUDIO_LENGTH, tail.getApeStart());
+        assertEquals(AUDIO_LENGTH, tail.getTrailingMetadataStart());
+    }
+
+    private void writeId3v1() throws IOException {
+        byte[] tag = new byte[128];
+        System.arraycopy("TAG".getBytes(ASCII), 0, tag, 0, 3);
+        contents.write(tag);
+    }
+
+    private void writeApeBlock(int itemsLength, boolean withHeader) throws IOException {
+        if (withHeader) {
+            contents.write(apeHeaderOrFooter(itemsLength, true));
+        }
+        contents.write(new byte[itemsLength]);
+        contents.write(apeHeaderOrFooter(itemsLength, withHeader));
+    }
+
+    private byte[] apeHeaderOrFooter(int itemsLength, boolean hasHeader) {
+        ByteBuffer buffer = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("APETAGEX".getBytes(ASCII));
+        buffer.putInt(2000);
+        buffer.putInt(itemsLength + 32);
+        buffer.putInt(0);
+        buffer.putInt(hasHeader ? 0x80000000 : 0);
+        return buffer.array();
+    }
+
+    private FileTail readTail() throws IOException {
+        randomAccessFile.write(contents.toByteArray());
+        return FileTail.read(randomAccessFile.getChannel());
+    }
+}
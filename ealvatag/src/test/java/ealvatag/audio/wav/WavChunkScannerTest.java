@@ -0,0 +1,61 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.wav;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.iff.ChunkSummary;
+import ealvatag.tag.wav.WavTag;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WavChunkScannerTest {
+    @After public void tearDown() {
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testScanListsEveryChunkOnce() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test125.wav");
+        try (FileChannel fc = new RandomAccessFile(testFile, "r").getChannel()) {
+            List<ChunkSummary> chunks = WavChunkScanner.scanChunks(fc, testFile.getName());
+            Assert.assertEquals(12, fc.position());
+
+            List<String> ids = new ArrayList<>();
+            for (ChunkSummary chunk : chunks) {
+                ids.add(chunk.getChunkId());
+            }
+            Assert.assertEquals("[fmt , fact, data, id3 , LIST]", ids.toString());
+            Assert.assertEquals(12, chunks.get(0).getFileStartLocation());
+            //id3 chunk has an odd size, LIST chunk starts after its padding byte
+            Assert.assertEquals(chunks.get(3).getEndLocation() + 1, chunks.get(4).getFileStartLocation());
+            Assert.assertEquals(fc.size(), chunks.get(4).getEndLocation());
+
+            //Both readers work from the same list
+            Assert.assertEquals(926184, new WavInfoReader(testFile.getName()).read(fc, chunks).getAudioDataLength());
+            WavTag tag = new WavTagReader(testFile.getName()).read(fc, chunks);
+            Assert.assertTrue(tag.isExistingId3Tag());
+            Assert.assertTrue(tag.isExistingInfoTag());
+            Assert.assertEquals(chunks.get(3).getFileStartLocation(), tag.getStartLocationInFileOfId3Chunk());
+            Assert.assertEquals(chunks.get(4).getFileStartLocation(), tag.getInfoTag().getStartLocationInFile().longValue());
+        }
+    }
+}
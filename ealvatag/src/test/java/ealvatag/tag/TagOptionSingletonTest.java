@@ -0,0 +1,51 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag;
+
+import ealvatag.tag.reference.ID3V2Version;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Switching between named option instances
+ */
+public class TagOptionSingletonTest {
+
+    @After public void tearDown() {
+        TagOptionSingleton.getInstance().setInstanceKey("default");
+    }
+
+    @Test public void testGetInstanceIsStable() {
+        Assert.assertSame(TagOptionSingleton.getInstance(), TagOptionSingleton.getInstance());
+        Assert.assertSame(TagOptionSingleton.getInstance("default"), TagOptionSingleton.getInstance());
+        Assert.assertSame(TagOptionSingleton.getInstance("other"), TagOptionSingleton.getInstance("other"));
+        Assert.assertNotSame(TagOptionSingleton.getInstance("other"), TagOptionSingleton.getInstance());
+    }
+
+    @Test public void testSetInstanceKeyChangesDefault() {
+        final TagOptionSingleton other = TagOptionSingleton.getInstance("testSetInstanceKey");
+        other.setID3V2Version(ID3V2Version.ID3_V24);
+
+        TagOptionSingleton.getInstance().setInstanceKey("testSetInstanceKey");
+        Assert.assertEquals("testSetInstanceKey", TagOptionSingleton.getInstanceKey());
+        Assert.assertSame(other, TagOptionSingleton.getInstance());
+        Assert.assertEquals(ID3V2Version.ID3_V24, TagOptionSingleton.getInstance().getID3V2Version());
+
+        TagOptionSingleton.getInstance().setInstanceKey("default");
+        Assert.assertSame(TagOptionSingleton.getInstance("default"), TagOptionSingleton.getInstance());
+    }
+}
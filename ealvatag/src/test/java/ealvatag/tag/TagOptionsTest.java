@@ -0,0 +1,108 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.reference.ID3V2Version;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+
+/**
+ * Per call options which don't change the shared {@link TagOptionSingleton}
+ */
+public class TagOptionsTest {
+
+    @After public void tearDown() {
+        TagOptionSingleton.getInstance().setToDefault();
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testBuildIsSnapshot() {
+        TagOptionSingleton.getInstance().setUnsyncTags(false);
+        TagOptions.Builder builder = TagOptions.builder().unsyncTags(true);
+        TagOptions options = builder.build();
+
+        TagOptionSingleton.getInstance().setID3V2Version(ID3V2Version.ID3_V22);
+        builder.unsyncTags(false);
+
+        Assert.assertTrue(options.isUnsyncTags());
+        Assert.assertEquals(ID3V2Version.ID3_V23, options.getID3V2Version());
+        Assert.assertFalse(options.toBuilder().unsyncTags(false).build().isUnsyncTags());
+        Assert.assertTrue(options.isUnsyncTags());
+    }
+
+    @Test public void testScope() {
+        final TagOptionSingleton shared = TagOptionSingleton.getInstance();
+        TagOptions options = TagOptions.builder().id3v2Version(ID3V2Version.ID3_V24).build();
+        final TagOptions.Scope scope = options.enter();
+        try {
+            Assert.assertEquals(ID3V2Version.ID3_V24, TagOptionSingleton.getInstance().getID3V2Version());
+            final TagOptions.Scope innerScope = options.toBuilder().id3v2Version(ID3V2Version.ID3_V22).build().enter();
+            try {
+                Assert.assertEquals(ID3V2Version.ID3_V22, TagOptionSingleton.getInstance().getID3V2Version());
+            } finally {
+                innerScope.close();
+            }
+            Assert.assertEquals(ID3V2Version.ID3_V24, TagOptionSingleton.getInstance().getID3V2Version());
+        } finally {
+            scope.close();
+        }
+        Assert.assertSame(shared, TagOptionSingleton.getInstance());
+        Assert.assertEquals(ID3V2Version.ID3_V23, TagOptionSingleton.getInstance().getID3V2Version());
+    }
+
+    @Test public void testScopedOptionsAreReadOnly() {
+        final TagOptions.Scope scope = TagOptions.builder().build().enter();
+        try {
+            final TagOptionSingleton scoped = TagOptionSingleton.getInstance();
+            try {
+                scoped.setId3v1Save(false);
+                Assert.fail("Expected the scope's options to be read only");
+            } catch (UnsupportedOperationException expected) {
+            }
+            try {
+                scoped.setToDefault();
+                Assert.fail("Expected the scope's options to be read only");
+            } catch (UnsupportedOperationException expected) {
+            }
+            scoped.getLyrics3SaveFieldMap().clear();
+            Assert.assertFalse(scoped.getLyrics3SaveFieldMap().isEmpty());
+            Assert.assertTrue(scoped.isId3v1Save());
+        } finally {
+            scope.close();
+        }
+        TagOptionSingleton.getInstance().setId3v1Save(false);
+        Assert.assertFalse(TagOptionSingleton.getInstance().isId3v1Save());
+    }
+
+    @Test public void testSaveWithOptions() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("testV1.mp3", new File("testSaveWithOptions.mp3"));
+        AudioFile audioFile = AudioFileIO.read(testFile, TagOptions.builder().build());
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.ARTIST, "artist");
+        audioFile.save(TagOptions.builder().id3v1Save(false).build());
+
+        MP3File mp3File = (MP3File)AudioFileIO.read(testFile);
+        Assert.assertFalse(mp3File.hasID3v1Tag());
+        Assert.assertTrue(mp3File.hasID3v2Tag());
+        Assert.assertTrue(TagOptionSingleton.getInstance().isId3v1Save());
+    }
+}
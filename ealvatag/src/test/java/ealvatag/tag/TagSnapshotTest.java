@@ -0,0 +1,62 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag;
+
+import ealvatag.tag.vorbiscomment.VorbisCommentTag;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Check {@link Tag#snapshot()} captures values and is unaffected by later edits
+ */
+public class TagSnapshotTest {
+
+    @Test
+    public void snapshotIsIndependentOfTag() throws Exception {
+        Tag tag = VorbisCommentTag.createNewTag();
+        tag.setField(FieldKey.ARTIST, "Artist");
+        tag.addField(FieldKey.ARTIST, "Second");
+        tag.setField(FieldKey.TITLE, "Title");
+
+        TagSnapshot snapshot = tag.snapshot();
+        tag.setField(FieldKey.TITLE, "Changed");
+        tag.deleteField(FieldKey.ARTIST);
+
+        assertThat(snapshot.getFirst(FieldKey.TITLE), is("Title"));
+        assertThat(snapshot.getAll(FieldKey.ARTIST).toString(), equalTo("[Artist, Second]"));
+        assertThat(snapshot.getValue(FieldKey.ARTIST, 1).get(), is("Second"));
+        assertThat(snapshot.getValue(FieldKey.ARTIST, 2).isPresent(), is(false));
+        assertThat(snapshot.getFirst(FieldKey.ALBUM), is(""));
+        assertThat(snapshot.hasField(FieldKey.ALBUM), is(false));
+        assertThat(snapshot.hasArtwork(), is(false));
+        assertThat(snapshot.getFirst(FieldKey.ENCODER), is("ealvatag")); // the vendor
+        assertThat(snapshot.getFieldCount(), is(4));
+        assertThat(snapshot.getSupportedFields(), sameInstance(tag.getSupportedFields()));
+
+        assertThat(tag.snapshot().getFirst(FieldKey.TITLE), is("Changed"));
+        assertThat(tag.snapshot().equals(snapshot), is(false));
+    }
+
+    @Test
+    public void nullTagSnapshotIsEmpty() throws Exception {
+        assertThat(NullTag.INSTANCE.snapshot(), sameInstance(TagSnapshot.EMPTY));
+        assertThat(TagSnapshot.EMPTY.isEmpty(), is(true));
+    }
+}
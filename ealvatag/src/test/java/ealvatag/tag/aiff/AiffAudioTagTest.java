@@ -310,14 +310,33 @@ public class AiffAudioTagTest {
         assertEquals("Warmplayer", tag.getFirst(FieldKey.ARTIST));
         assertEquals(10274L, ((AiffTag)tag).getSizeOfID3TagIncludingChunkHeader());
         assertEquals(10266L, ((AiffTag)tag).getSizeOfID3TagOnly());
-        assertEquals(882054L, ((AiffTag)tag).getStartLocationInFileOfId3Chunk());
+        // Tag still fits into its padding so it is rewritten where it was
+        assertEquals(12L, ((AiffTag)tag).getStartLocationInFileOfId3Chunk());
+        assertEquals(oldChunkIds, readChunkIds(testFile));
+
+        // Tag no longer fits, old chunk is left as filler and the tag goes to the end, sound data does not move
+        final long fileLength = testFile.length();
+        final StringBuilder comment = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            comment.append("comment ");
+        }
+        tag.setField(FieldKey.COMMENT, comment.toString());
+        f.save();
+
+        f = AudioFileIO.read(testFile);
+        tag = f.getTag().or(NullTag.INSTANCE);
+        assertEquals("Warmplayer", tag.getFirst(FieldKey.ARTIST));
+        assertEquals(comment.toString(), tag.getFirst(FieldKey.COMMENT));
+        assertEquals(fileLength, ((AiffTag)tag).getStartLocationInFileOfId3Chunk());
+        assertEquals(testFile.length() - 8, readAIFFFormSize(testFile));
 
         final List<String> newChunkIds = readChunkIds(testFile);
-        assertEquals(AiffChunkType.COMMON.getCode(), newChunkIds.get(0));
-        assertEquals(AiffChunkType.SOUND.getCode(), newChunkIds.get(1));
+        assertEquals(AiffChunkType.FILLER.getCode(), newChunkIds.get(0));
+        assertEquals(AiffChunkType.COMMON.getCode(), newChunkIds.get(1));
+        assertEquals(AiffChunkType.SOUND.getCode(), newChunkIds.get(2));
         // ID3 TAG should be at end
-        assertEquals(AiffChunkType.TAG.getCode(), newChunkIds.get(2));
-        Assert.assertTrue(newChunkIds.size() == 3);
+        assertEquals(AiffChunkType.TAG.getCode(), newChunkIds.get(3));
+        Assert.assertTrue(newChunkIds.size() == 4);
     }
 
     private static int readAIFFFormSize(final File file) throws IOException {
@@ -0,0 +1,180 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.id3;
+
+import com.google.common.collect.Lists;
+import ealvatag.tag.id3.framebody.FrameBodyTIT2;
+import ealvatag.tag.id3.framebody.FrameBodyTXXX;
+import ealvatag.tag.id3.valuepair.TextEncoding;
+import okio.Buffer;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Test frames read from file are written from their original bytes until modified
+ */
+public class ID3v24FrameWriteTest {
+    /**
+     * A TIT2 body the library wouldn't write itself: ISO-8859-1 "title" followed by two null bytes. Re-encoding drops the nulls.
+     */
+    private static final byte[] NON_CANONICAL_TITLE_BODY = {0x00, 't', 'i', 't', 'l', 'e', 0x00, 0x00};
+
+    @Test
+    public void testUnmodifiedFrameWritesOriginalBody() throws Exception {
+        final byte[] original = writeFrame(makeTitleFrame("title"));
+
+        ID3v24Frame frame = readFrame(original);
+        assertThat(frame.isModified(), is(false));
+        assertThat(frame.getContent(), is(equalTo("title")));
+        assertThat(frame.isModified(), is(false));
+        assertThat(writeFrame(frame), is(equalTo(original)));
+    }
+
+    @Test
+    public void testUnmodifiedNonCanonicalFrameWritesOriginalBytes() throws Exception {
+        final byte[] original = v24Frame(NON_CANONICAL_TITLE_BODY);
+        assertThat(writeFrame(makeTitleFrame("title")), is(not(equalTo(original))));
+
+        ID3v24Frame frame = readFrame(original);
+        assertThat(frame.getContent(), is(equalTo("title")));
+        assertThat(writeFrame(frame), is(equalTo(original)));
+    }
+
+    @Test
+    public void testEditedNonCanonicalFrameIsEncoded() throws Exception {
+        ID3v24Frame frame = readFrame(v24Frame(NON_CANONICAL_TITLE_BODY));
+        // the same text, so only re-encoding changes the bytes
+        ((FrameBodyTIT2)frame.getBody()).setText("title");
+        assertThat(frame.isModified(), is(true));
+        assertThat(writeFrame(frame), is(equalTo(writeFrame(makeTitleFrame("title")))));
+    }
+
+    @Test
+    public void testModifiedFrameIsEncoded() throws Exception {
+        final byte[] original = writeFrame(makeTitleFrame("title"));
+
+        ID3v24Frame frame = readFrame(original);
+        ((FrameBodyTIT2)frame.getBody()).setText("another title");
+        assertThat(frame.isModified(), is(true));
+
+        final byte[] modified = writeFrame(frame);
+        assertThat(modified, is(not(equalTo(original))));
+        assertThat(readFrame(modified).getContent(), is(equalTo("another title")));
+    }
+
+    @Test
+    public void testCreatedFrameIsModified() throws Exception {
+        assertThat(makeTitleFrame("title").isModified(), is(true));
+        assertThat(new ID3v23Frame(ID3v23Frames.FRAME_ID_V3_TITLE).isModified(), is(true));
+    }
+
+    @Test
+    public void testV23UnmodifiedNonCanonicalFrameWritesOriginalBytes() throws Exception {
+        final byte[] original = v23Frame(NON_CANONICAL_TITLE_BODY);
+
+        ID3v23Frame frame = readV23Frame(original);
+        assertThat(frame.isModified(), is(false));
+        assertThat(frame.getContent(), is(equalTo("title")));
+        assertThat(frame.isModified(), is(false));
+        assertThat(writeFrame(frame), is(equalTo(original)));
+    }
+
+    @Test
+    public void testV23EditedNonCanonicalFrameIsEncoded() throws Exception {
+        final byte[] original = v23Frame(NON_CANONICAL_TITLE_BODY);
+
+        ID3v23Frame frame = readV23Frame(original);
+        ((FrameBodyTIT2)frame.getBody()).setText("title");
+        assertThat(frame.isModified(), is(true));
+
+        final byte[] encoded = writeFrame(frame);
+        assertThat(encoded, is(not(equalTo(original))));
+        assertThat(encoded.length, is(original.length - 2));
+        assertThat(readV23Frame(encoded).getContent(), is(equalTo("title")));
+    }
+
+    @Test
+    public void testSettingFieldLeavesOtherFramesOfTheTypeUnmodified() throws Exception {
+        ID3v24Tag tag = new ID3v24Tag();
+        ID3v24Frame first = readFrame(writeFrame(makeUserFrame("first", "1")));
+        ID3v24Frame second = readFrame(writeFrame(makeUserFrame("second", "2")));
+        tag.setFrame(ID3v24Frames.FRAME_ID_USER_DEFINED_INFO, Lists.<AbstractID3v2Frame>newArrayList(first, second));
+
+        tag.setField(makeUserFrame("third", "3"));
+        assertThat(tag.getFields(ID3v24Frames.FRAME_ID_USER_DEFINED_INFO).size(), is(3));
+        assertThat(first.isModified(), is(false));
+        assertThat(second.isModified(), is(false));
+    }
+
+    @Test
+    public void testV23GenreFrameUnmodifiedWhenLoaded() throws Exception {
+        ID3v23Frame frame = readV23Frame(new Buffer().writeUtf8("TCON")
+                                                     .writeInt(5)
+                                                     .writeShort(0)
+                                                     .writeByte(0)
+                                                     .writeUtf8("(17)")
+                                                     .readByteArray());
+        ID3v23Tag tag = new ID3v23Tag();
+        tag.loadFrameIntoMap(frame.getIdentifier(), frame);
+        assertThat(frame.isModified(), is(false));
+    }
+
+    private ID3v24Frame makeTitleFrame(String title) {
+        ID3v24Frame frame = new ID3v24Frame(ID3v24Frames.FRAME_ID_TITLE);
+        ((FrameBodyTIT2)frame.getBody()).setText(title);
+        return frame;
+    }
+
+    private ID3v24Frame makeUserFrame(String description, String value) {
+        ID3v24Frame frame = new ID3v24Frame(ID3v24Frames.FRAME_ID_USER_DEFINED_INFO);
+        frame.setBody(new FrameBodyTXXX(TextEncoding.ISO_8859_1, description, value));
+        return frame;
+    }
+
+    private ID3v24Frame readFrame(byte[] bytes) throws Exception {
+        return new ID3v24Frame(new Buffer().write(bytes), "test", false);
+    }
+
+    private ID3v23Frame readV23Frame(byte[] bytes) throws Exception {
+        return new ID3v23Frame(new Buffer().write(bytes), "test", false);
+    }
+
+    private byte[] writeFrame(AbstractID3v2Frame frame) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        frame.write(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /** A TIT2 frame with a sync safe size and no flags */
+    private static byte[] v24Frame(byte[] body) {
+        return new Buffer().writeUtf8("TIT2")
+                           .write(ID3SyncSafeInteger.valueToBuffer(body.length))
+                           .writeShort(0)
+                           .write(body)
+                           .readByteArray();
+    }
+
+    /** A TIT2 frame with a plain size and no flags */
+    private static byte[] v23Frame(byte[] body) {
+        return new Buffer().writeUtf8("TIT2").writeInt(body.length).writeShort(0).write(body).readByteArray();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.id3;
+
+import okio.Buffer;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Test packing frame identifiers and resolving them to canonical instances with {@link Id3FrameIds}
+ */
+public class Id3FrameIdsTest {
+
+    @Test
+    public void packIsBigEndian() throws Exception {
+        assertThat(Id3FrameIds.pack("TIT2"), is(equalTo(0x54495432)));
+        assertThat(Id3FrameIds.pack("TT2"), is(equalTo(0x00545432)));
+    }
+
+    @Test
+    public void unpackableIds() throws Exception {
+        assertThat(Id3FrameIds.pack(""), is(equalTo(Id3FrameIds.NOT_PACKABLE)));
+        assertThat(Id3FrameIds.pack("TITLE"), is(equalTo(Id3FrameIds.NOT_PACKABLE)));
+        assertThat(Id3FrameIds.pack("\0PIC"), is(equalTo(Id3FrameIds.NOT_PACKABLE)));
+        assertThat(Id3FrameIds.get(Id3FrameIds.NOT_PACKABLE), is(nullValue()));
+    }
+
+    @Test
+    public void peekDoesNotConsume() throws Exception {
+        Buffer buffer = new Buffer().writeUtf8("TALB1234");
+        assertThat(Id3FrameIds.peek(buffer, 4), is(equalTo(Id3FrameIds.pack("TALB"))));
+        assertThat(buffer.size(), is(equalTo(8L)));
+
+        ByteBuffer byteBuffer = ByteBuffer.wrap("xxTAL".getBytes(Charset.forName("US-ASCII")));
+        byteBuffer.position(2);
+        assertThat(Id3FrameIds.peek(byteBuffer, 3), is(equalTo(Id3FrameIds.pack("TAL"))));
+        assertThat(byteBuffer.position(), is(equalTo(2)));
+        assertThat(Id3FrameIds.peek(byteBuffer, 4), is(equalTo(Id3FrameIds.NOT_PACKABLE)));
+    }
+
+    @Test
+    public void knownIdsAreCanonical() throws Exception {
+        String decoded = new String("TIT2".toCharArray());
+        assertThat(Id3FrameIds.intern(decoded), is(sameInstance(ID3v24Frames.FRAME_ID_TITLE)));
+        assertThat(Id3FrameIds.get(Id3FrameIds.pack("CHAP")), is(sameInstance(ID3v2ChapterFrames.FRAME_ID_CHAPTER)));
+        assertThat(Id3FrameIds.get(Id3FrameIds.pack("TT2")), is(sameInstance(ID3v22Frames.FRAME_ID_V2_TITLE)));
+    }
+
+    @Test
+    public void unknownIdsAreUnchanged() throws Exception {
+        String unknown = "ZZZZ";
+        assertThat(Id3FrameIds.get(Id3FrameIds.pack(unknown)), is(nullValue()));
+        assertThat(Id3FrameIds.intern(unknown), is(sameInstance(unknown)));
+    }
+}
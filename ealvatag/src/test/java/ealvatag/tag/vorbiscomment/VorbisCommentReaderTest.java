@@ -0,0 +1,171 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.vorbiscomment;
+
+import ealvatag.tag.TagField;
+import ealvatag.tag.TagTextField;
+import ealvatag.tag.vorbiscomment.util.Base64Coder;
+import ealvatag.utils.StandardCharsets;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test parsing a raw comment packet with {@link VorbisCommentReader}
+ */
+public class VorbisCommentReaderTest {
+
+    @Test
+    public void readPacket() throws Exception {
+        byte[] packet = makePacket("ealvatag vendor",
+                                   "title=A Title",
+                                   "Artist=B\u00e4r",
+                                   "custom_key=custom",
+                                   "EMPTY=",
+                                   "no separator");
+
+        VorbisCommentTag tag = new VorbisCommentReader().read(packet, true);
+
+        assertThat(tag.getVendor(), is(equalTo("ealvatag vendor")));
+        assertThat(tag.getFieldCount(), is(equalTo(6)));    // vendor is held as a field
+        assertThat(tag.getFirst(VorbisCommentFieldKey.TITLE), is(equalTo("A Title")));
+        assertThat(tag.getFirst(VorbisCommentFieldKey.ARTIST), is(equalTo("B\u00e4r")));
+        assertThat(onlyField(tag, "CUSTOM_KEY").getContent(), is(equalTo("custom")));
+        assertThat(onlyField(tag, "EMPTY").isEmpty(), is(true));
+        assertThat(onlyField(tag, "ERRONEOUS").getContent(), is(equalTo("no separator")));
+    }
+
+    @Test
+    public void knownKeysAreShared() throws Exception {
+        byte[] packet = makePacket("v", "tItLe=x");
+        VorbisCommentTag tag = new VorbisCommentReader().read(packet, false);
+        TagField field = tag.getFields(VorbisCommentFieldKey.TITLE.getFieldName()).get(0);
+        assertThat(field.getId(), is(sameInstance(VorbisCommentFieldKey.TITLE.getFieldName())));
+    }
+
+    @Test
+    public void rawContentRoundTrip() throws Exception {
+        byte[] comment = "ALBUM=Some Album".getBytes(StandardCharsets.UTF_8);
+        VorbisCommentTagField field = new VorbisCommentTagField(comment);
+        byte[] raw = field.getRawContent();
+        assertThat(raw.length, is(equalTo(4 + comment.length)));
+        assertThat(ByteBuffer.wrap(raw).order(ByteOrder.LITTLE_ENDIAN).getInt(), is(equalTo(comment.length)));
+    }
+
+    @Test
+    public void ignoreArtworkSkipsPictureFields() throws Exception {
+        byte[] packet = makePacket("v", "TITLE=x", "METADATA_BLOCK_PICTURE=AAAA", "COVERART=AAAA", "COVERARTMIME=image/png");
+
+        VorbisCommentTag tag = new VorbisCommentReader().read(packet, false, true);
+        assertThat(tag.getFirst(VorbisCommentFieldKey.TITLE), is(equalTo("x")));
+        assertThat(tag.get(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE).isEmpty(), is(true));
+        assertThat(tag.get(VorbisCommentFieldKey.COVERART).isEmpty(), is(true));
+        assertThat(tag.get(VorbisCommentFieldKey.COVERARTMIME).isEmpty(), is(true));
+        assertThat(tag.isReadOnly(), is(true));
+
+        assertThat(new VorbisCommentReader().read(packet, false, false).isReadOnly(), is(false));
+    }
+
+    @Test
+    public void packetNotRetainedAfterIgnoringArtwork() throws Exception {
+        byte[] packet = makePacket("v", "TITLE=A Title", "METADATA_BLOCK_PICTURE=AAAA", "ARTIST=An Artist");
+
+        VorbisCommentTag tag = new VorbisCommentReader().read(packet, false, true);
+        // fields hold copies of their own bytes, so overwriting the packet can't reach them
+        Arrays.fill(packet, (byte)'x');
+        assertThat(tag.getFirst(VorbisCommentFieldKey.TITLE), is(equalTo("A Title")));
+        assertThat(tag.getFirst(VorbisCommentFieldKey.ARTIST), is(equalTo("An Artist")));
+        assertThat(tag.getFieldCount(), is(equalTo(3)));    // vendor is held as a field
+    }
+
+    @Test
+    public void pictureDecodedFromPacket() throws Exception {
+        byte[] image = new byte[300];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte)i;
+        }
+        String base64 = new String(Base64Coder.encode(image));
+        byte[] packet = makePacket("v", "COVERART=" + base64, "COVERARTMIME=image/png");
+
+        VorbisCommentTag tag = new VorbisCommentReader().read(packet, false);
+        assertThat(tag.getArtworkBinaryData(), is(equalTo(image)));
+        assertThat(Base64Coder.decode(base64.getBytes(StandardCharsets.US_ASCII), 0, base64.length()),
+                   is(equalTo(Base64Coder.decode(base64))));
+    }
+
+    @Test
+    public void settingNullReplacesUndecodedContent() throws Exception {
+        VorbisCommentTagField field = new VorbisCommentTagField("TITLE=A Title".getBytes(StandardCharsets.UTF_8));
+        field.setContent(null);
+        assertThat(field.getContent(), is(nullValue()));
+        assertThat(field.isEmpty(), is(true));
+
+        field.setContent("x");
+        assertThat(field.isEmpty(), is(false));
+        field.setContent(null);
+        assertThat(field.getContent(), is(nullValue()));
+    }
+
+    @Test
+    public void isEmptyFollowsContent() throws Exception {
+        VorbisCommentTagField field = new VorbisCommentTagField("TITLE=".getBytes(StandardCharsets.UTF_8));
+        assertThat(field.isEmpty(), is(true));
+        field.setContent("x");
+        assertThat(field.isEmpty(), is(false));
+
+        field = new VorbisCommentTagField("TITLE=A Title".getBytes(StandardCharsets.UTF_8));
+        assertThat(field.isEmpty(), is(false));
+        field.setContent("");
+        assertThat(field.isEmpty(), is(true));
+        assertThat(field.getContent(), is(equalTo("")));
+    }
+
+    private static TagTextField onlyField(VorbisCommentTag tag, String id) {
+        List<TagField> fields = tag.getFields(id);
+        assertThat(fields.size(), is(equalTo(1)));
+        return (TagTextField)fields.get(0);
+    }
+
+    private static byte[] makePacket(String vendor, String... comments) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVector(out, vendor.getBytes(StandardCharsets.UTF_8));
+        out.write(intLE(comments.length));
+        for (String comment : comments) {
+            writeVector(out, comment.getBytes(StandardCharsets.UTF_8));
+        }
+        out.write(1);    // framing bit
+        return out.toByteArray();
+    }
+
+    private static void writeVector(ByteArrayOutputStream out, byte[] bytes) throws Exception {
+        out.write(intLE(bytes.length));
+        out.write(bytes);
+    }
+
+    private static byte[] intLE(int value) {
+        return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array();
+    }
+}
@@ -22,6 +22,12 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * User: paul
@@ -1560,4 +1566,210 @@ public class WavMetadataTest {
         }
         Assert.assertTrue(exceptionCaught instanceof CannotReadException);
     }
+
+    /**
+     * LIST chunk followed by another chunk is rewritten in place while it fits, otherwise blanked out and moved to the
+     * end of the file, the chunk after it never moves
+     */
+    @Test public void testModifyInfoNotAtEndOfFileDoesNotMoveOtherChunks() throws Exception {
+        TagOptionSingleton.getInstance().setWavOptions(WavOptions.READ_INFO_ONLY);
+        TagOptionSingleton.getInstance().setWavSaveOptions(WavSaveOptions.SAVE_ACTIVE);
+        File testFile = TestUtil.copyAudioToTmp("test123.wav", new File("test123InfoNotAtEnd.wav"));
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try {
+            raf.seek(raf.length());
+            raf.write(new byte[]{'a', 'f', 's', 'p', 4, 0, 0, 0, 1, 2, 3, 4});
+            raf.seek(4);
+            raf.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt((int)raf.length() - 8).array());
+        } finally {
+            raf.close();
+        }
+        final long originalLength = testFile.length();
+        final long afspLocation = originalLength - 12;
+
+        //Smaller tag fits into the existing chunk
+        AudioFile f = AudioFileIO.read(testFile);
+        final String title = f.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.TITLE);
+        f.getTag().or(NullTag.INSTANCE).setField(FieldKey.ARTIST, "fred");
+        f.save();
+        Assert.assertEquals(originalLength, testFile.length());
+        Assert.assertEquals("[fmt , fact, data, LIST, JUNK, afsp]", readChunkIds(testFile).toString());
+        f = AudioFileIO.read(testFile);
+        Assert.assertEquals("fred", f.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.ARTIST));
+        Assert.assertEquals(title, f.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.TITLE));
+
+        //Larger tag does not fit so old chunk becomes filler and new one goes to the end
+        StringBuilder artist = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            artist.append("artist");
+        }
+        f.getTag().or(NullTag.INSTANCE).setField(FieldKey.ARTIST, artist.toString());
+        f.save();
+        Assert.assertTrue(testFile.length() > originalLength);
+        Assert.assertEquals("[fmt , fact, data, JUNK, afsp, LIST]", readChunkIds(testFile).toString());
+        Assert.assertEquals(afspLocation, chunkLocation(testFile, "afsp"));
+        f = AudioFileIO.read(testFile);
+        Assert.assertEquals(artist.toString(), f.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.ARTIST));
+        Assert.assertEquals(title, f.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.TITLE));
+        Assert.assertEquals("22050", String.valueOf(f.getAudioHeader().getSampleRate()));
+    }
+
+    /**
+     * id3 chunk followed by a LIST/adtl chunk of cue labels is rewritten in place while it fits, otherwise blanked out
+     * and moved to the end of the file, the cue labels are never touched
+     */
+    @Test public void testModifyId3NotAtEndOfFileKeepsFollowingListChunk() throws Exception {
+        TagOptionSingleton.getInstance().setWavOptions(WavOptions.READ_ID3_ONLY);
+        TagOptionSingleton.getInstance().setWavSaveOptions(WavSaveOptions.SAVE_ACTIVE);
+        File testFile = TestUtil.copyAudioToTmp("test126.wav", new File("test126Id3NotAtEnd.wav"));
+        final long adtlLocation = appendChunks(testFile, ADTL_CHUNK);
+        final long originalLength = testFile.length();
+
+        //Smaller tag fits into the existing chunk
+        AudioFile f = AudioFileIO.read(testFile);
+        f.getTag().or(NullTag.INSTANCE).setField(FieldKey.ARTIST, "fred");
+        f.save();
+        Assert.assertEquals(originalLength, testFile.length());
+        //the tag may keep its size through ID3 padding, so there may be no JUNK chunk
+        Assert.assertEquals("[fmt , fact, data, id3 ]", readChunkIds(testFile).subList(0, 4).toString());
+        Assert.assertArrayEquals(ADTL_CHUNK, readBytes(testFile, adtlLocation, ADTL_CHUNK.length));
+        f = AudioFileIO.read(testFile);
+        Assert.assertEquals("fred", f.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.ARTIST));
+
+        //Larger tag does not fit so old chunk becomes filler and new one goes to the end
+        f.getTag().or(NullTag.INSTANCE).setField(FieldKey.ARTIST, longText("artist"));
+        f.save();
+        Assert.assertEquals("[fmt , fact, data, JUNK, LIST, id3 ]", readChunkIds(testFile).toString());
+        Assert.assertArrayEquals(ADTL_CHUNK, readBytes(testFile, adtlLocation, ADTL_CHUNK.length));
+    }
+
+    /**
+     * Contiguous id3 and LIST/INFO chunks only reuse their own space and filler, never a second id3 chunk or a LIST/adtl
+     * chunk following them
+     */
+    @Test public void testModifyBothTagsNotAtEndOfFileKeepsFollowingMetadataChunks() throws Exception {
+        TagOptionSingleton.getInstance().setWavOptions(WavOptions.READ_ID3_ONLY);
+        TagOptionSingleton.getInstance().setWavSaveOptions(WavSaveOptions.SAVE_BOTH);
+        File testFile = TestUtil.copyAudioToTmp("test125.wav", new File("test125BothNotAtEnd.wav"));
+        final byte[] following = concat(SECOND_ID3_CHUNK, ADTL_CHUNK);
+        final long followingLocation = appendChunks(testFile, following);
+        final long originalLength = testFile.length();
+
+        //Smaller tags fit into the existing chunks
+        AudioFile f = AudioFileIO.read(testFile);
+        f.getTag().or(NullTag.INSTANCE).setField(FieldKey.ARTIST, "fred");
+        f.save();
+        Assert.assertEquals(originalLength, testFile.length());
+        Assert.assertArrayEquals(following, readBytes(testFile, followingLocation, following.length));
+        List<String> ids = readChunkIds(testFile);
+        Assert.assertEquals("[id3 , LIST]", ids.subList(ids.size() - 2, ids.size()).toString());
+        f = AudioFileIO.read(testFile);
+        Assert.assertEquals("fred", f.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.ARTIST));
+
+        //Larger tags do not fit so they go to the end of the file, after the chunks which were kept
+        f.getTag().or(NullTag.INSTANCE).setField(FieldKey.ARTIST, longText("artist"));
+        f.save();
+        Assert.assertTrue(testFile.length() > originalLength);
+        Assert.assertArrayEquals(following, readBytes(testFile, followingLocation, following.length));
+        ids = readChunkIds(testFile);
+        Assert.assertEquals("[id3 , LIST]", ids.subList(ids.size() - 4, ids.size() - 2).toString());
+        Assert.assertTrue(ids.subList(ids.size() - 2, ids.size()).containsAll(Arrays.asList("id3 ", "LIST")));
+    }
+
+    /** LIST/adtl chunk holding one cue label */
+    private static final byte[] ADTL_CHUNK = {'L', 'I', 'S', 'T', 20, 0, 0, 0, 'a', 'd', 't', 'l',
+                                              'l', 'a', 'b', 'l', 8, 0, 0, 0, 1, 0, 0, 0, 'c', 'u', 'e', 0};
+
+    /** id3 chunk holding an empty ID3v2.3 tag */
+    private static final byte[] SECOND_ID3_CHUNK = {'i', 'd', '3', ' ', 10, 0, 0, 0, 'I', 'D', '3', 3, 0, 0, 0, 0, 0, 0};
+
+    private static String longText(String word) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            text.append(word);
+        }
+        return text.toString();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] both = new byte[first.length + second.length];
+        System.arraycopy(first, 0, both, 0, first.length);
+        System.arraycopy(second, 0, both, first.length, second.length);
+        return both;
+    }
+
+    /**
+     * Append whole chunks to the end of a wav file and update the RIFF size
+     *
+     * @return location of the appended chunks
+     */
+    private static long appendChunks(File file, byte[] chunks) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            //chunks start on an even boundary
+            final long location = raf.length() + (raf.length() & 1);
+            raf.setLength(location);
+            raf.seek(location);
+            raf.write(chunks);
+            raf.seek(4);
+            raf.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt((int)raf.length() - 8).array());
+            return location;
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static byte[] readBytes(File file, long position, int length) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            byte[] bytes = new byte[length];
+            raf.seek(position);
+            raf.readFully(bytes);
+            return bytes;
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static List<String> readChunkIds(File file) throws Exception {
+        List<String> ids = new ArrayList<>();
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            byte[] header = new byte[8];
+            raf.seek(4);
+            raf.readFully(header, 0, 4);
+            Assert.assertEquals(raf.length() - 8, ByteBuffer.wrap(header, 0, 4).order(ByteOrder.LITTLE_ENDIAN).getInt());
+            long position = 12;
+            while (position + 8 <= raf.length()) {
+                raf.seek(position);
+                raf.readFully(header);
+                ids.add(new String(header, 0, 4, "US-ASCII"));
+                long size = ByteBuffer.wrap(header, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0xFFFFFFFFL;
+                position += 8 + size + (size & 1);
+            }
+        } finally {
+            raf.close();
+        }
+        return ids;
+    }
+
+    private static long chunkLocation(File file, String id) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            byte[] header = new byte[8];
+            long position = 12;
+            while (position + 8 <= raf.length()) {
+                raf.seek(position);
+                raf.readFully(header);
+                if (new String(header, 0, 4, "US-ASCII").equals(id)) {
+                    return position;
+                }
+                long size = ByteBuffer.wrap(header, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0xFFFFFFFFL;
+                position += 8 + size + (size & 1);
+            }
+        } finally {
+            raf.close();
+        }
+        return -1;
+    }
 }
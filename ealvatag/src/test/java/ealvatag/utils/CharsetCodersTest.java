@@ -0,0 +1,78 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.utils;
+
+import okio.Buffer;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.EOFException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Test the cached coders and ASCII fast path of {@link CharsetCoders}
+ */
+public class CharsetCodersTest {
+
+    @Test
+    public void decoderIsCachedPerThreadAndReset() throws Exception {
+        CharsetDecoder decoder = CharsetCoders.decoder(StandardCharsets.UTF_16LE);
+        decoder.onMalformedInput(CodingErrorAction.IGNORE);
+        CharsetDecoder again = CharsetCoders.decoder(StandardCharsets.UTF_16LE);
+        assertThat(again, is(sameInstance(decoder)));
+        assertThat(again.malformedInputAction(), is(equalTo(CodingErrorAction.REPORT)));
+        assertThat(CharsetCoders.decoder(StandardCharsets.UTF_16BE), is(not(sameInstance(decoder))));
+    }
+
+    @Test
+    public void asciiFastPath() throws Exception {
+        byte[] bytes = "xxHello".getBytes(StandardCharsets.US_ASCII);
+        assertThat(CharsetCoders.decodeAscii(bytes, 2, 5, StandardCharsets.UTF_8), is(equalTo("Hello")));
+        assertThat(CharsetCoders.decodeAscii(bytes, 2, 5, StandardCharsets.ISO_8859_1), is(equalTo("Hello")));
+        assertThat(CharsetCoders.decodeAscii(bytes, 2, 5, StandardCharsets.UTF_16LE), is(nullValue()));
+    }
+
+    @Test
+    public void nonAsciiFallsBack() throws Exception {
+        byte[] utf8 = "caf\u00e9".getBytes(StandardCharsets.UTF_8);
+        assertThat(CharsetCoders.decodeAscii(utf8, 0, utf8.length, StandardCharsets.UTF_8), is(nullValue()));
+        assertThat(CharsetCoders.decode(utf8, 0, utf8.length, StandardCharsets.UTF_8), is(equalTo("caf\u00e9")));
+
+        byte[] latin1 = "caf\u00e9".getBytes(StandardCharsets.ISO_8859_1);
+        assertThat(CharsetCoders.decode(latin1, 0, latin1.length, StandardCharsets.ISO_8859_1), is(equalTo("caf\u00e9")));
+    }
+
+    @Test
+    public void readStringFromBuffer() throws Exception {
+        Buffer buffer = new Buffer().writeUtf8("Hello").writeUtf8("caf\u00e9").writeString("\u00e9t\u00e9", StandardCharsets.UTF_16LE);
+        assertThat(CharsetCoders.readString(buffer, 5, StandardCharsets.ISO_8859_1), is(equalTo("Hello")));
+        assertThat(CharsetCoders.readString(buffer, 5, StandardCharsets.UTF_8), is(equalTo("caf\u00e9")));
+        assertThat(CharsetCoders.readString(buffer, 6, StandardCharsets.UTF_16LE), is(equalTo("\u00e9t\u00e9")));
+        assertThat(buffer.size(), is(0L));
+    }
+
+    @Test(expected = EOFException.class)
+    public void readStringPastEndThrows() throws Exception {
+        CharsetCoders.readString(new Buffer().writeUtf8("abc"), 4, StandardCharsets.UTF_8);
+    }
+}
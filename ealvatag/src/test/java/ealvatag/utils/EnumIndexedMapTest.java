@@ -0,0 +1,48 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.utils;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+public class EnumIndexedMapTest {
+
+    @Test
+    public void lookupByOrdinal() throws Exception {
+        EnumIndexedMap<TimeUnit, String> map = EnumIndexedMap.of(TimeUnit.class,
+                                                                 ImmutableMap.of(TimeUnit.SECONDS, "s", TimeUnit.DAYS, "d"));
+        assertThat(map.get(TimeUnit.SECONDS), is("s"));
+        assertThat(map.get(TimeUnit.DAYS), is("d"));
+        assertThat(map.get(TimeUnit.HOURS), nullValue());
+        assertThat(map.get(null), nullValue());
+        assertThat(map.containsKey(TimeUnit.DAYS), is(true));
+        assertThat(map.containsKey(TimeUnit.MINUTES), is(false));
+    }
+
+    @Test
+    public void keySetKeepsDeclarationOrder() throws Exception {
+        EnumIndexedMap<TimeUnit, String> map = EnumIndexedMap.of(TimeUnit.class,
+                                                                 ImmutableMap.of(TimeUnit.DAYS, "d", TimeUnit.SECONDS, "s"));
+        assertThat(map.keySet().asList().toString(), equalTo("[DAYS, SECONDS]"));
+    }
+}
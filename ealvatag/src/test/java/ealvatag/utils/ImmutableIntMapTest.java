@@ -0,0 +1,59 @@
+/*
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.utils;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ImmutableIntMapTest {
+
+    @Test
+    public void lookup() throws Exception {
+        final ImmutableIntMap<String> map = ImmutableIntMap.<String>builder().put(1, "one").put(-7, "minus seven").build();
+        assertThat(map.size(), is(2));
+        assertThat(map.get(1), is("one"));
+        assertThat(map.get(-7), is("minus seven"));
+        assertThat(map.get(2), nullValue());
+        assertThat(map.containsKey(0), is(false));
+    }
+
+    @Test
+    public void laterPutReplacesEarlier() throws Exception {
+        final ImmutableIntMap<String> map = ImmutableIntMap.<String>builder().put(5, "a").put(6, "b").put(5, "c").build();
+        assertThat(map.size(), is(2));
+        assertThat(map.get(5), is("c"));
+        assertThat(map.get(6), is("b"));
+    }
+
+    @Test
+    public void manyKeys() throws Exception {
+        final ImmutableIntMap.Builder<Integer> builder = ImmutableIntMap.builder();
+        for (int i = 0; i < 10000; i++) {
+            builder.put(i * 31, i);
+        }
+        for (int i = 0; i < 10000; i += 2) {
+            builder.put(i * 31, -i);
+        }
+        final ImmutableIntMap<Integer> map = builder.build();
+        assertThat(map.size(), is(10000));
+        for (int i = 0; i < 10000; i++) {
+            assertThat(map.get(i * 31), is(i % 2 == 0 ? -i : i));
+        }
+    }
+}